@@ -0,0 +1,12 @@
+package com.inventory.system.cache;
+
+/**
+ * Point-in-time counters for one {@link BoundedCache}
+ */
+public record CacheStats(String name, int size, int maximumSize, long hits, long misses, long evictions) {
+
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
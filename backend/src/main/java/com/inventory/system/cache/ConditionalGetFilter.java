@@ -0,0 +1,101 @@
+package com.inventory.system.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conditional GET for catalogue and analytics reads. Every GET under a versioned collection carries
+ * the collection's ETag from {@link ResourceVersions}; a request whose If-None-Match still matches is
+ * answered 304 here, before the controller, so no query runs and nothing is serialized.
+ * Responses are marked no-cache so browsers always revalidate instead of serving stale copies.
+ *
+ * Only the analytics endpoints served from the in-memory snapshot are versioned; aging, age-range
+ * and export queries read live asset data that no single write path observes.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    // Longest prefix first: /api/os must not capture /api/os-versions
+    private static final Map<String, String> COLLECTIONS_BY_PATH = new LinkedHashMap<>();
+    static {
+        COLLECTIONS_BY_PATH.put("/api/asset-types", ResourceVersions.ASSET_TYPES);
+        COLLECTIONS_BY_PATH.put("/api/asset-makes", ResourceVersions.ASSET_MAKES);
+        COLLECTIONS_BY_PATH.put("/api/asset-models", ResourceVersions.ASSET_MODELS);
+        COLLECTIONS_BY_PATH.put("/api/os-versions", ResourceVersions.OS_VERSIONS);
+        COLLECTIONS_BY_PATH.put("/api/os", ResourceVersions.OS);
+        COLLECTIONS_BY_PATH.put("/api/vendors", ResourceVersions.VENDORS);
+    }
+
+    private static final Set<String> SNAPSHOT_PATHS = Set.of(
+        "/api/analytics/summary",
+        "/api/analytics/status-summary",
+        "/api/analytics/os-summary",
+        "/api/analytics/warranty-summary",
+        "/api/analytics/department-type-summary");
+
+    private final ResourceVersions resourceVersions;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("GET".equals(method) || "HEAD".equals(method)) || collectionOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        // Read the version before the data: a concurrent bump can only make this ETag older than the body
+        String etag = resourceVersions.etag(collectionOf(request));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        filterChain.doFilter(request, response);
+    }
+
+    private String collectionOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (SNAPSHOT_PATHS.contains(path)) {
+            // ?refresh=true forces a reconcile and must reach the controller
+            return request.getParameter("refresh") == null ? ResourceVersions.ANALYTICS : null;
+        }
+        for (Map.Entry<String, String> entry : COLLECTIONS_BY_PATH.entrySet()) {
+            String prefix = entry.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package com.inventory.system.cache;
+
+import com.inventory.system.model.AssetMake;
+import com.inventory.system.model.AssetModel;
+import com.inventory.system.model.AssetType;
+import com.inventory.system.model.OS;
+import com.inventory.system.model.OSVersion;
+import com.inventory.system.model.Vendor;
+import com.inventory.system.repository.AssetMakeRepository;
+import com.inventory.system.repository.AssetModelRepository;
+import com.inventory.system.repository.AssetTypeRepository;
+import com.inventory.system.repository.OSRepository;
+import com.inventory.system.repository.OSVersionRepository;
+import com.inventory.system.repository.VendorRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Read-through cache of the reference data every asset write resolves: asset types, makes,
+ * models, operating systems, OS versions and vendors.
+ *
+ * Cached entities are detached and loaded with the associations the asset paths read already
+ * initialized (model -> make -> type, version -> OS), so a model lookup resolves the whole
+ * hierarchy from memory. Callers must treat them as read-only; they are only ever used as
+ * association targets or for their names.
+ *
+ * The reference-data services evict on every write. Eviction happens immediately and again when the
+ * transaction completes, so a concurrent reader cannot re-cache the pre-commit row. Changes made by other
+ * instances or directly in the database are picked up when entries expire (reference.cache.ttl-seconds).
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final AssetTypeRepository assetTypeRepository;
+    private final AssetMakeRepository assetMakeRepository;
+    private final AssetModelRepository assetModelRepository;
+    private final OSRepository osRepository;
+    private final OSVersionRepository osVersionRepository;
+    private final VendorRepository vendorRepository;
+
+    private final BoundedCache<Long, AssetType> assetTypes;
+    private final BoundedCache<Long, AssetMake> assetMakes;
+    private final BoundedCache<Long, AssetModel> assetModels;
+    private final BoundedCache<Long, OS> operatingSystems;
+    private final BoundedCache<Long, OSVersion> osVersions;
+    private final BoundedCache<Long, Vendor> vendors;
+
+    public ReferenceDataCache(AssetTypeRepository assetTypeRepository,
+                              AssetMakeRepository assetMakeRepository,
+                              AssetModelRepository assetModelRepository,
+                              OSRepository osRepository,
+                              OSVersionRepository osVersionRepository,
+                              VendorRepository vendorRepository,
+                              @Value("${reference.cache.max-size:10000}") int maxSize,
+                              @Value("${reference.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.assetTypeRepository = assetTypeRepository;
+        this.assetMakeRepository = assetMakeRepository;
+        this.assetModelRepository = assetModelRepository;
+        this.osRepository = osRepository;
+        this.osVersionRepository = osVersionRepository;
+        this.vendorRepository = vendorRepository;
+
+        long ttlMillis = ttlSeconds * 1000;
+        this.assetTypes = new BoundedCache<>("assetTypes", maxSize, ttlMillis);
+        this.assetMakes = new BoundedCache<>("assetMakes", maxSize, ttlMillis);
+        this.assetModels = new BoundedCache<>("assetModels", maxSize, ttlMillis);
+        this.operatingSystems = new BoundedCache<>("operatingSystems", maxSize, ttlMillis);
+        this.osVersions = new BoundedCache<>("osVersions", maxSize, ttlMillis);
+        this.vendors = new BoundedCache<>("vendors", maxSize, ttlMillis);
+    }
+
+    /**
+     * @return the asset type, or null if it does not exist
+     */
+    public AssetType getAssetType(Long id) {
+        return id == null ? null : assetTypes.get(id, key -> assetTypeRepository.findById(key).orElse(null));
+    }
+
+    /**
+     * @return the make with its asset type loaded, or null if it does not exist
+     */
+    public AssetMake getAssetMake(Long id) {
+        return id == null ? null : assetMakes.get(id, key -> assetMakeRepository.findByIdWithType(key).orElse(null));
+    }
+
+    /**
+     * @return the model with its make and the make's asset type loaded, or null if it does not exist
+     */
+    public AssetModel getAssetModel(Long id) {
+        return id == null ? null : assetModels.get(id, key -> assetModelRepository.findByIdWithHierarchy(key).orElse(null));
+    }
+
+    /**
+     * @return the operating system, or null if it does not exist
+     */
+    public OS getOs(Long id) {
+        return id == null ? null : operatingSystems.get(id, key -> osRepository.findById(key).orElse(null));
+    }
+
+    /**
+     * @return the OS version with its OS loaded, or null if it does not exist
+     */
+    public OSVersion getOsVersion(Long id) {
+        return id == null ? null : osVersions.get(id, key -> osVersionRepository.findByIdWithOs(key).orElse(null));
+    }
+
+    /**
+     * @return the vendor, or null if it does not exist
+     */
+    public Vendor getVendor(Long id) {
+        return id == null ? null : vendors.get(id, key -> vendorRepository.findById(key).orElse(null));
+    }
+
+    // Makes and models embed their parents, so a parent change drops the dependent entries too
+
+    public void evictAssetType(Long id) {
+        afterWrite(() -> {
+            assetTypes.invalidate(id);
+            assetMakes.invalidateAll();
+            assetModels.invalidateAll();
+        });
+    }
+
+    public void evictAssetMake(Long id) {
+        afterWrite(() -> {
+            assetMakes.invalidate(id);
+            assetModels.invalidateAll();
+        });
+    }
+
+    public void evictAssetModel(Long id) {
+        afterWrite(() -> assetModels.invalidate(id));
+    }
+
+    public void evictOs(Long id) {
+        afterWrite(() -> {
+            operatingSystems.invalidate(id);
+            osVersions.invalidateAll();
+        });
+    }
+
+    public void evictOsVersion(Long id) {
+        afterWrite(() -> osVersions.invalidate(id));
+    }
+
+    public void evictVendor(Long id) {
+        afterWrite(() -> vendors.invalidate(id));
+    }
+
+    public void evictAll() {
+        afterWrite(() -> caches().forEach(BoundedCache::invalidateAll));
+    }
+
+    public List<CacheStats> stats() {
+        return caches().stream().map(BoundedCache::stats).toList();
+    }
+
+    private List<BoundedCache<Long, ?>> caches() {
+        return List.of(assetTypes, assetMakes, assetModels, operatingSystems, osVersions, vendors);
+    }
+
+    private static void afterWrite(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
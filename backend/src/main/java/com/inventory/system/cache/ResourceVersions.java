@@ -0,0 +1,94 @@
+package com.inventory.system.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counter per cacheable resource collection, used by {@link ConditionalGetFilter} to issue
+ * strong ETags. The write methods of the matching services bump the collection; any bump changes
+ * the ETag of every URL under it.
+ *
+ * Like {@link ReferenceDataCache} eviction, a bump happens immediately and again when the transaction
+ * completes, so a reader that saw pre-commit data can never hold the post-commit ETag. Collections whose
+ * responses embed another collection's names (makes and models embed their type, OS versions their OS)
+ * are bumped together.
+ *
+ * Counters are per instance, so a bump on one instance is invisible to the others. The epoch makes ETags
+ * from an earlier process or another instance never match, and every ETag also carries a time bucket of
+ * reference.cache.ttl-seconds: an instance that missed a write made elsewhere stops answering 304 for the
+ * old data within one TTL, the same bound {@link ReferenceDataCache} gives its entries.
+ */
+@Component
+public class ResourceVersions {
+
+    public static final String ASSET_TYPES = "asset-types";
+    public static final String ASSET_MAKES = "asset-makes";
+    public static final String ASSET_MODELS = "asset-models";
+    public static final String OS = "os";
+    public static final String OS_VERSIONS = "os-versions";
+    public static final String VENDORS = "vendors";
+    public static final String ANALYTICS = "analytics";
+
+    private static final Map<String, List<String>> DEPENDENTS = Map.of(
+        ASSET_TYPES, List.of(ASSET_MAKES, ASSET_MODELS),
+        ASSET_MAKES, List.of(ASSET_MODELS),
+        OS, List.of(OS_VERSIONS));
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final long bucketMillis;
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public ResourceVersions(@Value("${reference.cache.ttl-seconds:600}") long ttlSeconds) {
+        // A TTL of zero disables reference caching; the bucket then changes every millisecond
+        this.bucketMillis = Math.max(1, ttlSeconds * 1000);
+        for (String collection : Set.of(ASSET_TYPES, ASSET_MAKES, ASSET_MODELS, OS, OS_VERSIONS, VENDORS, ANALYTICS)) {
+            versions.put(collection, new AtomicLong());
+        }
+    }
+
+    /**
+     * Strong ETag for the current version of a collection within the current time bucket
+     */
+    public String etag(String collection) {
+        long bucket = System.currentTimeMillis() / bucketMillis;
+        return "\"" + collection + "-" + epoch + "-" + bucket + "-" + counter(collection).get() + "\"";
+    }
+
+    /**
+     * Mark a collection (and the collections that embed it) as changed
+     */
+    public void bump(String... collections) {
+        Runnable increment = () -> Arrays.stream(collections).forEach(this::increment);
+        increment.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    increment.run();
+                }
+            });
+        }
+    }
+
+    private void increment(String collection) {
+        counter(collection).incrementAndGet();
+        DEPENDENTS.getOrDefault(collection, List.of()).forEach(dependent -> counter(dependent).incrementAndGet());
+    }
+
+    private AtomicLong counter(String collection) {
+        AtomicLong counter = versions.get(collection);
+        if (counter == null) {
+            throw new IllegalArgumentException("Unknown resource collection: " + collection);
+        }
+        return counter;
+    }
+}
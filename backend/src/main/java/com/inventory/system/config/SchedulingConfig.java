@@ -0,0 +1,13 @@
+package com.inventory.system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs (analytics snapshot reconcile, expiry status bucket refresh,
+ * read replica lag checks, history partition maintenance, background job polling and heartbeats)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
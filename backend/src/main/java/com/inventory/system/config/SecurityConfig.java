@@ -53,6 +53,9 @@ public class SecurityConfig {
             "GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD", "PATCH"
         ));
         
+        // Let the frontend read validators for conditional requests
+        configuration.setExposedHeaders(Arrays.asList("ETag"));
+
         // Allow credentials
         configuration.setAllowCredentials(true);
         
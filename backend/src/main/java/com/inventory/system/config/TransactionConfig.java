@@ -0,0 +1,30 @@
+package com.inventory.system.config;
+
+import com.inventory.system.datasource.ReplicaRead;
+import com.inventory.system.datasource.ReplicaTransactionManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * The default JPA transaction manager, declared explicitly because a second one exists: the
+ * {@link ReplicaTransactionManager} that {@link ReplicaRead} transactions start with. Both manage the
+ * same EntityManagerFactory, so either kind of transaction joins the other when nested.
+ * Without a configured replica the two behave the same.
+ */
+@Configuration
+public class TransactionConfig {
+
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean(name = ReplicaTransactionManager.BEAN_NAME)
+    public ReplicaTransactionManager replicaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        return new ReplicaTransactionManager(entityManagerFactory);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -28,11 +29,14 @@ public class AssetAnalyticsController {
     private final AssetAnalyticsService analyticsService;
     
     @GetMapping("/summary")
-    public ResponseEntity<AssetAnalyticsSummaryDTO> getAnalyticsSummary() {
-        log.info("Fetching comprehensive analytics summary");
+    public ResponseEntity<AssetAnalyticsSummaryDTO> getAnalyticsSummary(
+            @RequestParam(defaultValue = "false") boolean refresh) {
+        log.info("Fetching comprehensive analytics summary (refresh: {})", refresh);
         
         try {
-            AssetAnalyticsSummaryDTO summary = analyticsService.getAnalyticsSummary();
+            AssetAnalyticsSummaryDTO summary = refresh
+                ? analyticsService.refreshAnalyticsSummary()
+                : analyticsService.getAnalyticsSummary();
             log.info("Successfully retrieved analytics summary");
             return ResponseEntity.ok(summary);
             
@@ -113,30 +117,31 @@ public class AssetAnalyticsController {
     }
     
     @GetMapping("/export/csv/full")
-    public ResponseEntity<ByteArrayResource> generateFullCSVReport() {
-        log.info("Generating full CSV report");
+    public ResponseEntity<StreamingResponseBody> generateFullCSVReport() {
+        log.info("Streaming full CSV report");
         
-        try {
-            ByteArrayResource csvData = analyticsService.generateFullCSVReport();
-            
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String filename = "full_asset_report_" + timestamp + ".csv";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
-            headers.add(HttpHeaders.CONTENT_TYPE, "text/csv; charset=UTF-8");
-            
-            log.info("Successfully generated full CSV report: {}", filename);
-            return ResponseEntity.ok()
-                .headers(headers)
-                .contentLength(csvData.contentLength())
-                .contentType(MediaType.parseMediaType("text/csv"))
-                .body(csvData);
-                
-        } catch (Exception e) {
-            log.error("Error generating full CSV report: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        String filename = "full_asset_report_" + timestamp + ".csv";
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename);
+        headers.add(HttpHeaders.CONTENT_TYPE, "text/csv; charset=UTF-8");
+        
+        // Rows are written to the response as they are read; no Content-Length is known up front
+        StreamingResponseBody body = outputStream -> {
+            try {
+                analyticsService.streamFullCSVReport(outputStream);
+                log.info("Successfully streamed full CSV report: {}", filename);
+            } catch (Exception e) {
+                log.error("Error streaming full CSV report {}: {}", filename, e.getMessage(), e);
+                throw e;
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .headers(headers)
+            .contentType(MediaType.parseMediaType("text/csv"))
+            .body(body);
     }
     
     @GetMapping("/status-summary")
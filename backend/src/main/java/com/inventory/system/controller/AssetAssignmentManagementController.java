@@ -1,6 +1,7 @@
 package com.inventory.system.controller;
 
 import com.inventory.system.dto.*;
+import com.inventory.system.exception.ResourceNotFoundException;
 import com.inventory.system.service.AssetAssignmentManagementService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,25 +28,34 @@ public class AssetAssignmentManagementController {
     /**
      * Get Asset Dashboard - Fetch all assets with current user and tag information
      * GET /api/asset-assignment/dashboard
+     * Pass cursor (empty for the first page, then nextCursor) for keyset paging instead of page numbers
      */
     @GetMapping("/dashboard")
     public ResponseEntity<PageResponse<AssetDashboardDTO>> getAssetDashboard(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "assetId") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
         
-        log.info("Fetching asset dashboard: page={}, size={}, sortBy={}, sortDir={}", page, size, sortBy, sortDir);
+        log.info("Fetching asset dashboard: page={}, size={}, sortBy={}, sortDir={}, cursor={}", page, size, sortBy, sortDir, cursor != null);
         
         try {
             Sort.Direction direction = Sort.Direction.fromString(sortDir.toUpperCase());
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
             
-            PageResponse<AssetDashboardDTO> dashboard = assignmentService.getAssetDashboard(pageable);
+            PageResponse<AssetDashboardDTO> dashboard = cursor != null
+                ? assignmentService.getAssetDashboardByCursor(null, cursor, pageable, withTotal)
+                : assignmentService.getAssetDashboard(pageable);
             
             log.info("Successfully fetched {} assets for dashboard", dashboard.getTotalElements());
             return ResponseEntity.ok(dashboard);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid dashboard paging request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("Error fetching asset dashboard: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -62,19 +72,27 @@ public class AssetAssignmentManagementController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "assetId") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
         
-        log.info("Searching asset dashboard with term: '{}', page={}, size={}", searchTerm, page, size);
+        log.info("Searching asset dashboard with term: '{}', page={}, size={}, cursor={}", searchTerm, page, size, cursor != null);
         
         try {
             Sort.Direction direction = Sort.Direction.fromString(sortDir.toUpperCase());
             Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
             
-            PageResponse<AssetDashboardDTO> dashboard = assignmentService.searchAssetDashboard(searchTerm, pageable);
+            PageResponse<AssetDashboardDTO> dashboard = cursor != null
+                ? assignmentService.getAssetDashboardByCursor(searchTerm, cursor, pageable, withTotal)
+                : assignmentService.searchAssetDashboard(searchTerm, pageable);
             
             log.info("Search returned {} assets for term: '{}'", dashboard.getTotalElements(), searchTerm);
             return ResponseEntity.ok(dashboard);
             
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid dashboard paging request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
         } catch (Exception e) {
             log.error("Error searching asset dashboard: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -164,6 +182,84 @@ public class AssetAssignmentManagementController {
         }
     }
     
+    /**
+     * Assign User to many Assets
+     * POST /api/asset-assignment/assign-user/bulk
+     */
+    @PostMapping("/assign-user/bulk")
+    public ResponseEntity<BulkAssignmentResponseDTO> assignUserToAssets(@Valid @RequestBody BulkUserAssignmentDTO assignmentDTO) {
+        log.info("Assigning user {} to {} assets", assignmentDTO.getUserId(), assignmentDTO.getAssetIds().size());
+        
+        try {
+            BulkAssignmentResponseDTO response = assignmentService.assignUserToAssets(assignmentDTO);
+            log.info("Bulk user assignment completed - Reassigned: {}, Unchanged: {}, Failures: {}",
+                    response.getReassignedCount(), response.getUnchangedCount(), response.getFailureCount());
+            return ResponseEntity.ok(response);
+            
+        } catch (ResourceNotFoundException e) {
+            log.warn("Bulk user assignment rejected: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk user assignment request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
+        } catch (Exception e) {
+            log.error("Error assigning user {} to assets: {}", assignmentDTO.getUserId(), e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Transfer all Assets of one User to another User
+     * POST /api/asset-assignment/users/{fromUserId}/transfer/{toUserId}
+     */
+    @PostMapping("/users/{fromUserId}/transfer/{toUserId}")
+    public ResponseEntity<BulkAssignmentResponseDTO> transferUserAssets(@PathVariable Long fromUserId, @PathVariable Long toUserId) {
+        log.info("Transferring all assets of user {} to user {}", fromUserId, toUserId);
+        
+        try {
+            BulkAssignmentResponseDTO response = assignmentService.transferUserAssets(fromUserId, toUserId);
+            log.info("Transferred {} assets from user {} to user {}", response.getReassignedCount(), fromUserId, toUserId);
+            return ResponseEntity.ok(response);
+            
+        } catch (ResourceNotFoundException e) {
+            log.warn("Asset transfer rejected: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid asset transfer request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
+        } catch (Exception e) {
+            log.error("Error transferring assets from user {} to user {}: {}", fromUserId, toUserId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Unassign all Assets from a User (offboarding)
+     * DELETE /api/asset-assignment/users/{userId}/assets
+     */
+    @DeleteMapping("/users/{userId}/assets")
+    public ResponseEntity<BulkAssignmentResponseDTO> unassignAllFromUser(@PathVariable Long userId) {
+        log.info("Unassigning all assets from user {}", userId);
+        
+        try {
+            BulkAssignmentResponseDTO response = assignmentService.unassignAllFromUser(userId);
+            log.info("Unassigned {} assets from user {}", response.getReassignedCount(), userId);
+            return ResponseEntity.ok(response);
+            
+        } catch (ResourceNotFoundException e) {
+            log.warn("Offboarding rejected: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+            
+        } catch (Exception e) {
+            log.error("Error unassigning assets from user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     /**
      * Assign Tag to Asset
      * POST /api/asset-assignment/assign-tag
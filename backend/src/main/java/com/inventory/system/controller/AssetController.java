@@ -1,7 +1,10 @@
 package com.inventory.system.controller;
 
 import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetFacetsDTO;
+import com.inventory.system.dto.AssetFilterDTO;
 import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.AssetTimelineEventDTO;
 import com.inventory.system.dto.AssetUpdateDTO;
 import com.inventory.system.dto.AssetStatusHistoryDTO;
 import com.inventory.system.dto.BulkAssetResponse;
@@ -9,6 +12,8 @@ import com.inventory.system.dto.BulkAssetByPOResponse;
 import com.inventory.system.dto.BulkAssetByPORequest;
 import com.inventory.system.dto.BulkUpdateResponse;
 import com.inventory.system.dto.AssetBulkUpdateDTO;
+import com.inventory.system.dto.BulkStatusUpdateDTO;
+import com.inventory.system.dto.BulkStatusUpdateResponse;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.service.AssetService;
 import com.inventory.system.service.AssetStatusHistoryService;
@@ -16,6 +21,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import java.util.List;
+import java.util.Set;
 import org.springframework.dao.DataIntegrityViolationException;
 
 @Slf4j
@@ -169,17 +176,74 @@ public class AssetController {
         return ResponseEntity.ok(asset);
     }
 
+    /**
+     * Audit log, status changes and assignments of one asset merged into one chronological stream.
+     * Keyset paged: pass each response's nextCursor as cursor; direction=DESC lists newest first.
+     */
+    @GetMapping("/{assetId}/timeline")
+    public ResponseEntity<PageResponse<AssetTimelineEventDTO>> getAssetTimeline(
+            @PathVariable Long assetId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "ASC") String direction) {
+        return ResponseEntity.ok(assetService.getAssetTimeline(assetId, cursor, size, Sort.Direction.fromString(direction)));
+    }
+
+    /**
+     * Offset paging by default. Passing cursor (empty for the first page, then each response's
+     * nextCursor) switches to keyset paging; withTotal=true adds the total count to cursor pages.
+     * Filter criteria (status, assetCategory, assetTypeId, makeId, modelId, currentUserId, department,
+     * inventoryLocation, vendorId, poNumber, warrantyStatus, licenseStatus and the *From/*To date
+     * ranges, see AssetFilterDTO) are applied in the database and use offset paging.
+     */
     @GetMapping
-    public ResponseEntity<PageResponse<AssetDTO>> getAllAssets(Pageable pageable) {
-        PageResponse<AssetDTO> assets = assetService.getAllAssets(pageable);
+    public ResponseEntity<PageResponse<AssetDTO>> getAllAssets(
+            Pageable pageable,
+            @ModelAttribute AssetFilterDTO filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (cursor != null && !filter.isEmpty()) {
+            throw new IllegalArgumentException("Cursor paging cannot be combined with filter criteria");
+        }
+        PageResponse<AssetDTO> assets = cursor != null
+            ? assetService.getAllAssetsByCursor(cursor, pageable, withTotal)
+            : assetService.filterAssets(filter, pageable);
         return ResponseEntity.ok(assets);
     }
 
+    /**
+     * Facet counts for the filter sidebar, for the same filter criteria as GET /api/assets.
+     * facets selects which of status, type, make, department, location, vendor, warrantyStatus
+     * to return (all by default); every facet comes from a single query.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<AssetFacetsDTO> getAssetFacets(
+            @ModelAttribute AssetFilterDTO filter,
+            @RequestParam(required = false) Set<String> facets) {
+        return ResponseEntity.ok(assetService.getAssetFacets(filter, facets));
+    }
+
+    /**
+     * Active assets by persisted warranty/licence status bucket (ACTIVE, WARNING, EXPIRED,
+     * NO_WARRANTY / NOT_APPLICABLE), filtered in the database
+     */
+    @GetMapping("/by-expiry-status")
+    public ResponseEntity<PageResponse<AssetDTO>> getAssetsByExpiryStatus(
+            @RequestParam(required = false) String warrantyStatus,
+            @RequestParam(required = false) String licenseStatus,
+            Pageable pageable) {
+        return ResponseEntity.ok(assetService.getAssetsByExpiryStatus(warrantyStatus, licenseStatus, pageable));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<PageResponse<AssetDTO>> searchAssets(
             @RequestParam String search,
-            Pageable pageable) {
-        PageResponse<AssetDTO> assets = assetService.searchAssets(search, pageable);
+            Pageable pageable,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        PageResponse<AssetDTO> assets = cursor != null
+            ? assetService.searchAssetsByCursor(search, cursor, pageable, withTotal)
+            : assetService.searchAssets(search, pageable);
         return ResponseEntity.ok(assets);
     }
 
@@ -189,8 +253,6 @@ public class AssetController {
         return ResponseEntity.noContent().build();
     }
 
-    // Removed filtering endpoints - use frontend filtering with GET /api/assets
-
     // Soft delete management endpoints
     @GetMapping("/deleted")
     public ResponseEntity<PageResponse<AssetDTO>> getDeletedAssets(Pageable pageable) {
@@ -334,6 +396,23 @@ public class AssetController {
         }
     }
 
+    // Bulk status transition endpoint
+    @PutMapping(value = "/status/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkStatusUpdateResponse> updateAssetStatusInBulk(
+            @Valid @RequestBody BulkStatusUpdateDTO request) {
+        log.info("Received bulk status update request to {} for {}", request.getStatus(),
+            request.getAssetIds() != null ? request.getAssetIds().size() + " assets" : "filter " + request.getFilter());
+        try {
+            BulkStatusUpdateResponse response = assetService.updateAssetStatusInBulk(request);
+            log.info("Successfully completed bulk status update - Updated: {}, Unchanged: {}, Failures: {}",
+                response.getUpdatedCount(), response.getUnchangedCount(), response.getFailureCount());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("Error in bulk status update", e);
+            throw e;
+        }
+    }
+
     /**
      * NEW ENDPOINT: Bulk Asset Creation by PO Number
      * POST /api/assets/by-po/{poNumber}
@@ -1,5 +1,6 @@
 package com.inventory.system.controller;
 
+import com.inventory.system.dto.AssetDTO;
 import com.inventory.system.dto.AssetTagAssignmentDTO;
 import com.inventory.system.dto.AssetTagAssignmentByNameDTO;
 import com.inventory.system.dto.PageResponse;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.CrossOrigin;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/asset-tag-assignments")
@@ -92,6 +94,20 @@ public class AssetTagAssignmentController {
         return ResponseEntity.ok(assignmentService.getAssignmentsByTagId(tagId, pageRequest));
     }
 
+    /**
+     * Active assets by tag membership, e.g. tags 1 AND 2 but NOT 3: ?allTags=1,2&noneTags=3
+     */
+    @GetMapping("/assets")
+    public ResponseEntity<PageResponse<AssetDTO>> findAssetsByTags(
+            @RequestParam(required = false) Set<Long> allTags,
+            @RequestParam(required = false) Set<Long> anyTags,
+            @RequestParam(required = false) Set<Long> noneTags,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        return ResponseEntity.ok(assignmentService.findAssetsByTags(allTags, anyTags, noneTags, PageRequest.of(page, size)));
+    }
+
     @DeleteMapping("/asset/{assetId}")
     public ResponseEntity<Void> deleteAssignmentsByAssetId(@PathVariable Long assetId) {
         assignmentService.deleteAssignmentsByAssetId(assetId);
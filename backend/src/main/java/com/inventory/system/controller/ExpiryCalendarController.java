@@ -0,0 +1,48 @@
+package com.inventory.system.controller;
+
+import com.inventory.system.dto.ExpiryCalendarDTO;
+import com.inventory.system.service.ExpiryCalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/expiries")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000", "http://172.27.112.1:4200"}, 
+             allowedHeaders = "*", 
+             methods = {RequestMethod.GET})
+public class ExpiryCalendarController {
+    
+    private final ExpiryCalendarService expiryCalendarService;
+    
+    /**
+     * Warranty, extended warranty, licence and lease expiries in the next N days, grouped by week
+     * GET /api/expiries/upcoming?days=90&kinds=WARRANTY,LICENSE
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<ExpiryCalendarDTO> getUpcomingExpiries(
+            @RequestParam(defaultValue = "90") int days,
+            @RequestParam(required = false) Set<String> kinds) {
+        log.info("Fetching expiries for the next {} days (kinds: {})", days, kinds);
+        
+        try {
+            ExpiryCalendarDTO calendar = expiryCalendarService.getUpcomingExpiries(days, kinds);
+            log.info("Found {} expiries in {} weeks", calendar.getTotalCount(), calendar.getWeeks().size());
+            return ResponseEntity.ok(calendar);
+            
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid expiry calendar request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+            
+        } catch (Exception e) {
+            log.error("Error fetching expiry calendar: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
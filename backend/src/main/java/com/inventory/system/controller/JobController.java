@@ -0,0 +1,106 @@
+package com.inventory.system.controller;
+
+import com.inventory.system.dto.AssetBulkUpdateDTO;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.BulkAssetByPORequest;
+import com.inventory.system.dto.JobDTO;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.jobs.AssetBulkCreateByPOJobHandler;
+import com.inventory.system.jobs.AssetReportExportJobHandler;
+import com.inventory.system.jobs.PoCascadeDeleteJobHandler;
+import com.inventory.system.jobs.PoNumberMigrationJobHandler;
+import com.inventory.system.service.JobService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background versions of the long-running bulk, PO and export endpoints. Submitting returns
+ * 202 Accepted with the job; poll GET /api/jobs/{jobId} (also the Location header) for progress
+ * and download the result from GET /api/jobs/{jobId}/result once the job has finished.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/jobs")
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000", "http://172.27.112.1:4200"}, 
+             allowedHeaders = "*", 
+             allowCredentials = "true",
+             methods = {RequestMethod.GET, RequestMethod.POST, RequestMethod.OPTIONS})
+@RequiredArgsConstructor
+public class JobController {
+    private final JobService jobService;
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<JobDTO> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(jobService.getJob(jobId));
+    }
+
+    @GetMapping("/{jobId}/result")
+    public ResponseEntity<Resource> getJobResult(@PathVariable Long jobId) {
+        Resource result = jobService.getResult(jobId);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + jobService.getResultFilename(jobId))
+            .contentType(MediaType.parseMediaType(jobService.getResultContentType(jobId)))
+            .body(result);
+    }
+
+    @PostMapping("/assets/bulk")
+    public ResponseEntity<JobDTO> createAssetsInBulk(@Valid @RequestBody List<AssetRequestDTO> requests) {
+        log.info("Queueing bulk asset creation of {} assets", requests.size());
+        return accepted(jobService.submit(JobType.ASSET_BULK_CREATE, requests));
+    }
+
+    @PostMapping("/assets/by-po/{poNumber}")
+    public ResponseEntity<JobDTO> createAssetsByPO(@PathVariable String poNumber,
+                                                   @Valid @RequestBody BulkAssetByPORequest request) {
+        log.info("Queueing creation of {} assets for PO {}", request.getAssets().size(), poNumber);
+        return accepted(jobService.submit(JobType.ASSET_BULK_CREATE_BY_PO,
+            new AssetBulkCreateByPOJobHandler.Request(poNumber, request.getAssets())));
+    }
+
+    @PostMapping("/assets/bulk-update")
+    public ResponseEntity<JobDTO> updateAssetsInBulk(@Valid @RequestBody AssetBulkUpdateDTO bulkUpdate) {
+        log.info("Queueing bulk update of {} assets", bulkUpdate.getAssets().size());
+        return accepted(jobService.submit(JobType.ASSET_BULK_UPDATE, bulkUpdate));
+    }
+
+    @PostMapping("/purchase-orders/migrate")
+    public ResponseEntity<JobDTO> migratePoNumber(@RequestBody Map<String, String> request) {
+        return accepted(jobService.submit(JobType.PO_NUMBER_MIGRATION,
+            new PoNumberMigrationJobHandler.Request(request.get("oldPoNumber"), request.get("newPoNumber"))));
+    }
+
+    @PostMapping("/purchase-orders/{poNumber}/cascade-delete")
+    public ResponseEntity<JobDTO> deleteAssetPOWithCascade(@PathVariable String poNumber) {
+        return accepted(jobService.submit(JobType.PO_CASCADE_DELETE, new PoCascadeDeleteJobHandler.Request(poNumber)));
+    }
+
+    @PostMapping("/exports/assets")
+    public ResponseEntity<JobDTO> exportAssets() {
+        return accepted(jobService.submit(JobType.ASSET_EXPORT, Map.of()));
+    }
+
+    @PostMapping("/exports/assets/report")
+    public ResponseEntity<JobDTO> exportAssetReport(
+            @RequestParam(required = false) String ageRange,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String assetType) {
+        return accepted(jobService.submit(JobType.ASSET_REPORT_EXPORT,
+            new AssetReportExportJobHandler.Request(ageRange, department, assetType)));
+    }
+
+    private ResponseEntity<JobDTO> accepted(JobDTO job) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/jobs/" + job.getId()))
+            .body(job);
+    }
+}
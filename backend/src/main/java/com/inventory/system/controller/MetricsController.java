@@ -0,0 +1,38 @@
+package com.inventory.system.controller;
+
+import com.inventory.system.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000", "http://172.27.112.1:4200"}, 
+             allowedHeaders = "*", 
+             methods = {RequestMethod.GET})
+public class MetricsController {
+    
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private final MetricsRegistry metricsRegistry;
+    
+    /**
+     * Request latency, Hibernate statements per request, connection pool wait, bulk throughput
+     * and reference cache counters in the Prometheus text format
+     * GET /api/metrics
+     */
+    @GetMapping(produces = PROMETHEUS_CONTENT_TYPE)
+    public ResponseEntity<String> scrape() {
+        try {
+            return ResponseEntity.ok(metricsRegistry.scrape());
+            
+        } catch (Exception e) {
+            log.error("Error rendering metrics: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.inventory.system.controller;
+
+import com.inventory.system.dto.SearchSuggestionDTO;
+import com.inventory.system.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Typeahead endpoints backed by the prefix and trigram search indexes
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000", "http://172.27.112.1:4200"}, 
+             allowedHeaders = "*", 
+             methods = {RequestMethod.GET})
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping(value = "/assets", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<SearchSuggestionDTO>> suggestAssets(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.suggestAssets(query, limit));
+    }
+
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<SearchSuggestionDTO>> suggestUsers(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.suggestUsers(query, limit));
+    }
+
+    @GetMapping(value = "/vendors", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<SearchSuggestionDTO>> suggestVendors(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.suggestVendors(query, limit));
+    }
+}
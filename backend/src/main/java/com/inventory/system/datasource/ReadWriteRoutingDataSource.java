@@ -0,0 +1,73 @@
+package com.inventory.system.datasource;
+
+import com.inventory.system.metrics.MetricsRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends connections for {@link ReplicaRead} transactions to the read replica and everything else
+ * (writes, other read-only transactions, non-transactional access, Flyway) to the primary. Routing is
+ * opt-in so that single-record lookups and Spring Data's implicit read-only repository transactions
+ * keep reading their own writes.
+ *
+ * The transaction's flags are only known once it has started, so this must sit behind a
+ * LazyConnectionDataSourceProxy that defers fetching the physical connection to the first statement.
+ * When the replica lags beyond tolerance or refuses a connection, reads fall back to the primary.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+    private final MetricsRegistry metricsRegistry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MetricsRegistry metricsRegistry) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        this.metricsRegistry = metricsRegistry;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ReplicaTransactionManager.isReplicaRead()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.isReplicaUsable()
+            ? Route.REPLICA
+            : Route.PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = (Route) determineCurrentLookupKey();
+        if (route == Route.REPLICA) {
+            try {
+                Connection connection = resolvedReplica().getConnection();
+                count(Route.REPLICA);
+                return connection;
+            } catch (SQLException e) {
+                lagMonitor.markUnavailable(e);
+            }
+        }
+        count(Route.PRIMARY);
+        return primary.getConnection();
+    }
+
+    private DataSource resolvedReplica() {
+        return getResolvedDataSources().get(Route.REPLICA);
+    }
+
+    private void count(Route route) {
+        metricsRegistry.counter("datasource_route_total", "Connections handed out per routing target",
+                "target", route.name().toLowerCase())
+            .increment();
+    }
+}
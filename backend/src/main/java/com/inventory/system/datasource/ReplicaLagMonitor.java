@@ -0,0 +1,86 @@
+package com.inventory.system.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Polls the read replica's replay lag and decides whether read-only transactions may use it.
+ *
+ * The replica is usable only while its last measured lag is within the configured staleness
+ * tolerance. It starts out unusable until the first check succeeds, and a failed check or a
+ * failed connection attempt ({@link #markUnavailable}) sends reads back to the primary until the
+ * next successful check.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // A replica that has replayed everything it received is current even if the primary has been idle
+    private static final String LAG_SQL = """
+        SELECT CASE
+            WHEN NOT pg_is_in_recovery() THEN 0
+            WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+            ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+        END
+        """;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, double maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(5);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:2000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : Double.NaN;
+            usable = lag != null && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Read replica check failed, routing reads to primary: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (wasUsable != usable) {
+            if (usable) {
+                log.info("Read replica lag {}s within {}s, routing read-only transactions to replica", lagSeconds, maxLagSeconds);
+            } else {
+                log.warn("Read replica lag {}s exceeds {}s, routing reads to primary", lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * Last measured replay lag in seconds; NaN when unknown or unreachable
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * Stop routing to the replica until the next successful check
+     */
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            log.warn("Read replica connection failed, routing reads to primary: {}", cause.getMessage());
+        }
+        usable = false;
+    }
+}
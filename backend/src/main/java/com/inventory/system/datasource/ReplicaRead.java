@@ -0,0 +1,29 @@
+package com.inventory.system.datasource;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A read-only transaction that may be served by the read replica. Only transactions started this way
+ * are routed to the replica; a plain {@code @Transactional(readOnly = true)} (including Spring Data's
+ * own repository methods) stays on the primary, so read-your-writes holds unless a caller opts in.
+ *
+ * Use it for list, search, report and export reads that tolerate up to
+ * {@code datasource.replica.max-lag-seconds} of staleness. Called inside an existing transaction it
+ * joins that transaction and uses its connection.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Transactional(transactionManager = ReplicaTransactionManager.BEAN_NAME, readOnly = true)
+public @interface ReplicaRead {
+
+    @AliasFor(annotation = Transactional.class, attribute = "timeout")
+    int timeout() default -1;
+}
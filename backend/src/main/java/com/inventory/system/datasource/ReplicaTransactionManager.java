@@ -0,0 +1,64 @@
+package com.inventory.system.datasource;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager behind {@link ReplicaRead}. It marks the transactions it starts, and
+ * {@link ReadWriteRoutingDataSource} sends only marked read-only transactions to the replica.
+ */
+public class ReplicaTransactionManager extends JpaTransactionManager {
+
+    public static final String BEAN_NAME = "replicaTransactionManager";
+
+    private static final Object REPLICA_READ = new Object();
+
+    public ReplicaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    /**
+     * Whether the current transaction was started by {@link ReplicaRead}
+     */
+    public static boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        // Bound before the connection is requested; the lazy connection proxy resolves it at the first statement
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            throw e;
+        }
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        boolean replicaRead = TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ) != null;
+        return new SuspendedResources(super.doSuspend(transaction), replicaRead);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        SuspendedResources suspended = (SuspendedResources) suspendedResources;
+        super.doResume(transaction, suspended.resources());
+        if (suspended.replicaRead()) {
+            TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    private record SuspendedResources(Object resources, boolean replicaRead) {
+    }
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,11 @@ public class AssetAnalyticsSummaryDTO {
     // Asset count by category (Hardware/Software classification)
     private Map<String, Long> assetCountByCategory;
     
+    // Snapshot freshness: last full rebuild from the database, last incremental change, and age in seconds
+    private LocalDateTime snapshotReconciledAt;
+    private LocalDateTime snapshotUpdatedAt;
+    private Long snapshotAgeSeconds;
+    
     @Data
     @Builder
     @NoArgsConstructor
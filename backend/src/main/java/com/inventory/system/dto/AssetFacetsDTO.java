@@ -0,0 +1,32 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet counts of the active assets matching a filter, keyed by facet name
+ * (status, type, make, department, location, vendor, warrantyStatus)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetFacetsDTO {
+    private long totalCount;
+    private Map<String, List<FacetValueDTO>> facets;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetValueDTO {
+        private Long id; // type, make and vendor facets; use as the filter value
+        private String value; // null for assets without a value
+        private long count;
+    }
+}
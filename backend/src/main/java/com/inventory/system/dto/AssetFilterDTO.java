@@ -0,0 +1,68 @@
+package com.inventory.system.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Server-side filter for GET /api/assets, bound from query parameters. Every criterion is optional and
+ * criteria combine with AND; list criteria (e.g. status=ACTIVE&status=IN_REPAIR) match any of their values.
+ */
+@Data
+public class AssetFilterDTO {
+    private List<String> status;
+    private List<String> assetCategory;
+    private List<Long> assetTypeId;
+    private List<Long> makeId;
+    private List<Long> modelId;
+    private List<Long> currentUserId;
+    private List<String> department;
+    private List<String> inventoryLocation;
+    private List<Long> vendorId;
+    private List<String> poNumber;
+    private List<String> warrantyStatus;
+    private List<String> licenseStatus;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate acquisitionDateFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate acquisitionDateTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate warrantyExpiryFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate warrantyExpiryTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate licenseValidityFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate licenseValidityTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate leaseEndFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate leaseEndTo;
+
+    /**
+     * True when no criterion is set, i.e. the plain active asset listing
+     */
+    public boolean isEmpty() {
+        return isEmpty(status) && isEmpty(assetCategory) && isEmpty(assetTypeId) && isEmpty(makeId)
+            && isEmpty(modelId) && isEmpty(currentUserId) && isEmpty(department) && isEmpty(inventoryLocation)
+            && isEmpty(vendorId) && isEmpty(poNumber) && isEmpty(warrantyStatus) && isEmpty(licenseStatus)
+            && acquisitionDateFrom == null && acquisitionDateTo == null
+            && warrantyExpiryFrom == null && warrantyExpiryTo == null
+            && licenseValidityFrom == null && licenseValidityTo == null
+            && leaseEndFrom == null && leaseEndTo == null;
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
+}
@@ -61,4 +61,10 @@ public class AssetPODTO {
     
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate warrantyExpiryDate;
+    
+    // Fulfilment from the PO ledger (read-only, filled on list and search pages)
+    private Integer linkedAssetsCount;
+    private Integer activeAssetsCount;
+    private Integer remainingDevices;
+    private String fulfilmentStatus; // NOT_STARTED, PARTIAL, FULFILLED, OVER_FULFILLED
 } 
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of an asset's lifecycle timeline, taken from audit_log, asset_status_history or
+ * asset_assignment_history (which contributes an ASSIGNED and, once closed, an UNASSIGNED event)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetTimelineEventDTO {
+
+    public static final String TYPE_AUDIT = "AUDIT";
+    public static final String TYPE_STATUS = "STATUS";
+    public static final String TYPE_ASSIGNED = "ASSIGNED";
+    public static final String TYPE_UNASSIGNED = "UNASSIGNED";
+
+    private String type;
+    private LocalDateTime timestamp;
+    // log_id, history_id or assignment_id of the source row
+    private Long sourceId;
+    // Audit action or new status; null for assignment events
+    private String title;
+    // Audit details or status remarks
+    private String details;
+    // Acting user for audit/status events, assignee for assignment events
+    private Long userId;
+    private String userName;
+}
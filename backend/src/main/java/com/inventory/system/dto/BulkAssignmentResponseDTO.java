@@ -0,0 +1,39 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAssignmentResponseDTO {
+
+    public static final String REASSIGNED = "REASSIGNED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String DELETED = "DELETED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    private Long fromUserId; // set for user transfers and offboarding
+    private Long toUserId; // null when assets are unassigned
+    private int totalProcessed;
+    private int reassignedCount;
+    private int unchangedCount;
+    private int failureCount;
+    private List<AssetAssignmentOutcome> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssetAssignmentOutcome {
+        private Long assetId;
+        private String outcome; // REASSIGNED, UNCHANGED, DELETED, NOT_FOUND
+        private Long previousUserId;
+        private String message;
+    }
+}
@@ -0,0 +1,44 @@
+package com.inventory.system.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Move a set of assets to one status. Targets are either an explicit list of asset IDs or a filter
+ * over active assets, not both.
+ */
+@Data
+public class BulkStatusUpdateDTO {
+
+    private List<Long> assetIds;
+
+    @Valid
+    private Filter filter;
+
+    @NotBlank(message = "Status is required")
+    @Pattern(regexp = "^(IN_STOCK|IN_REPAIR|BROKEN|CEASED|ACTIVE|In stock|In repair|Active|Broken|Ceased)$",
+             flags = Pattern.Flag.CASE_INSENSITIVE,
+             message = "Status must be one of: IN_STOCK, IN_REPAIR, BROKEN, CEASED, ACTIVE")
+    private String status;
+
+    @NotNull(message = "Changed by user ID is required")
+    private Long changedById;
+
+    private String remarks;
+
+    /**
+     * Active assets matching every given criterion
+     */
+    @Data
+    public static class Filter {
+        private String status;
+        private String poNumber;
+        private Long assetTypeId;
+        private Long currentUserId;
+    }
+}
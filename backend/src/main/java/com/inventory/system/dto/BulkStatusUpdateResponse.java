@@ -0,0 +1,38 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponse {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String DELETED = "DELETED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    private String targetStatus;
+    private int totalProcessed;
+    private int updatedCount;
+    private int unchangedCount;
+    private int failureCount;
+    private List<AssetStatusOutcome> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AssetStatusOutcome {
+        private Long assetId;
+        private String outcome; // UPDATED, UNCHANGED, DELETED, NOT_FOUND
+        private String previousStatus;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.inventory.system.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserAssignmentDTO {
+    @NotEmpty(message = "At least one asset ID is required")
+    private List<Long> assetIds;
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    private String remarks;
+}
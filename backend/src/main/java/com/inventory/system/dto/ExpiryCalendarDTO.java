@@ -0,0 +1,51 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Upcoming expiries (warranty, extended warranty, licence, lease) between two dates grouped by week
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpiryCalendarDTO {
+    private LocalDate from;
+    private LocalDate to;
+    private long totalCount;
+    private boolean truncated; // true when entries were capped; counts are always complete
+    private List<ExpiryWeekDTO> weeks;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExpiryWeekDTO {
+        private LocalDate weekStart;
+        private LocalDate weekEnd;
+        private long totalCount;
+        private Map<String, Long> countByKind;
+        private List<ExpiryEntryDTO> entries;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExpiryEntryDTO {
+        private LocalDate expiryDate;
+        private String kind; // WARRANTY, EXTENDED_WARRANTY, LICENSE, LEASE
+        private Long assetId; // set for asset expiries
+        private String assetName;
+        private String serialNumber;
+        private Long poId; // set for rented PO lease ends
+        private String poNumber;
+    }
+}
@@ -0,0 +1,35 @@
+package com.inventory.system.dto;
+
+import com.inventory.system.enums.JobStatus;
+import com.inventory.system.enums.JobType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status and progress of a background job. Progress counts cover committed chunks only, so they
+ * never go backwards when a job is resumed after a restart.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobDTO {
+    private Long id;
+    private JobType type;
+    private JobStatus status;
+    private long totalItems; // estimated for exports: active assets when the job was submitted
+    private long processedItems;
+    private long succeededItems;
+    private long failedItems;
+    private int progressPercent;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // Download link for the result file once the job has finished; null before
+    private String resultUrl;
+}
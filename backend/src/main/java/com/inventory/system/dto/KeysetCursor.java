@@ -0,0 +1,53 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Continuation token for keyset pagination: the sort key and direction of the listing plus the
+ * (sort value, asset_id) of the last row returned. Clients treat the encoded form as opaque.
+ */
+@Data
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private String sortBy;
+    private Sort.Direction direction;
+    private Long lastAssetId;
+    // Sort value of the last row as text; null when that row had no value for the sort key
+    private String lastValue;
+
+    public String encode() {
+        StringBuilder token = new StringBuilder()
+            .append(VERSION).append(SEPARATOR)
+            .append(sortBy).append(SEPARATOR)
+            .append(direction.name()).append(SEPARATOR)
+            .append(lastAssetId).append(SEPARATOR);
+        // Value goes last so it may contain the separator itself
+        token.append(lastValue == null ? "n" : "v" + lastValue);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || parts[4].isEmpty()) {
+                throw new IllegalArgumentException("Invalid pagination cursor");
+            }
+            String lastValue = parts[4].charAt(0) == 'v' ? parts[4].substring(1) : null;
+            return new KeysetCursor(parts[1], Sort.Direction.valueOf(parts[2]), Long.valueOf(parts[3]), lastValue);
+        } catch (IllegalArgumentException e) {
+            // Also covers bad Base64, unknown direction and non-numeric IDs
+            throw new IllegalArgumentException("Invalid pagination cursor", e);
+        }
+    }
+}
@@ -19,17 +19,21 @@ public class PODeletionWarningDTO {
     private List<AssetDTO> linkedAssets; // Optional: preview of assets that will be deleted
     
     public static PODeletionWarningDTO createWarning(String poNumber, List<AssetDTO> linkedAssets) {
-        boolean hasLinkedAssets = linkedAssets != null && !linkedAssets.isEmpty();
+        return createWarning(poNumber, linkedAssets != null ? linkedAssets.size() : 0, linkedAssets);
+    }
+    
+    public static PODeletionWarningDTO createWarning(String poNumber, int linkedAssetsCount, List<AssetDTO> preview) {
+        boolean hasLinkedAssets = linkedAssetsCount > 0;
         String warningMessage = hasLinkedAssets 
-            ? String.format("Warning: This PO has %d linked assets that will also be deleted. This action cannot be undone.", linkedAssets.size())
+            ? String.format("Warning: This PO has %d linked assets that will also be deleted. This action cannot be undone.", linkedAssetsCount)
             : "This PO has no linked assets and can be safely deleted.";
             
         return PODeletionWarningDTO.builder()
             .poNumber(poNumber)
-            .linkedAssetsCount(hasLinkedAssets ? linkedAssets.size() : 0)
+            .linkedAssetsCount(linkedAssetsCount)
             .hasLinkedAssets(hasLinkedAssets)
             .warningMessage(warningMessage)
-            .linkedAssets(linkedAssets)
+            .linkedAssets(preview)
             .build();
     }
 } 
\ No newline at end of file
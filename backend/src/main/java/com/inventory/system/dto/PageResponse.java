@@ -26,6 +26,11 @@ public class PageResponse<T> {
     
     @JsonProperty("first")
     private boolean first;
+    
+    // Continuation token for cursor pagination; null for offset pages and on the last page.
+    // Cursor pages report totalElements/totalPages as -1 unless the total was requested.
+    @JsonProperty("nextCursor")
+    private String nextCursor;
 
     public PageResponse(List<T> content, int pageNumber, int pageSize, long totalElements, int totalPages, boolean last, boolean first) {
         this.content = content;
@@ -36,4 +41,12 @@ public class PageResponse<T> {
         this.last = last;
         this.first = first;
     }
-} 
\ No newline at end of file
+    
+    public static <T> PageResponse<T> ofCursor(List<T> content, int pageSize, String nextCursor, boolean first, Long totalElements) {
+        long total = totalElements != null ? totalElements : -1;
+        int totalPages = totalElements != null && pageSize > 0 ? (int) Math.ceil((double) totalElements / pageSize) : -1;
+        PageResponse<T> response = new PageResponse<>(content, 0, pageSize, total, totalPages, nextCursor == null, first);
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+}
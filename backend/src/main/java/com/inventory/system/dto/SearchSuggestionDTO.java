@@ -0,0 +1,20 @@
+package com.inventory.system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestionDTO {
+    private Long id;
+    private String label;
+    private String detail;
+    
+    // PREFIX for prefix matches (listed first), FUZZY for trigram matches ranked by similarity
+    private String matchType;
+    private Double score;
+}
@@ -0,0 +1,8 @@
+package com.inventory.system.enums;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
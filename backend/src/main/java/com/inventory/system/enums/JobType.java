@@ -0,0 +1,11 @@
+package com.inventory.system.enums;
+
+public enum JobType {
+    ASSET_BULK_CREATE,
+    ASSET_BULK_CREATE_BY_PO,
+    ASSET_BULK_UPDATE,
+    PO_NUMBER_MIGRATION,
+    PO_CASCADE_DELETE,
+    ASSET_EXPORT,
+    ASSET_REPORT_EXPORT
+}
@@ -0,0 +1,95 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.BulkAssetByPOResponse;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.exception.ResourceNotFoundException;
+import com.inventory.system.repository.AssetPORepository;
+import com.inventory.system.service.AssetService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AssetService#createAssetsByPO} one chunk at a time
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetBulkCreateByPOJobHandler
+        extends ListJobHandler<AssetBulkCreateByPOJobHandler.Request, AssetRequestDTO> {
+
+    private final AssetService assetService;
+    private final AssetPORepository assetPORepository;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private String poNumber;
+        private List<AssetRequestDTO> assets;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ASSET_BULK_CREATE_BY_PO;
+    }
+
+    @Override
+    public TypeReference<Request> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public void validate(Request payload) {
+        if (payload.getAssets() == null || payload.getAssets().isEmpty()) {
+            throw new IllegalArgumentException("Asset request list cannot be null or empty");
+        }
+        if (payload.getPoNumber() == null || payload.getPoNumber().trim().isEmpty()) {
+            throw new IllegalArgumentException("PO Number cannot be null or empty");
+        }
+        assetPORepository.findByPoNumber(payload.getPoNumber())
+            .orElseThrow(() -> new ResourceNotFoundException("Purchase Order not found with PO Number: " + payload.getPoNumber()));
+    }
+
+    @Override
+    protected List<AssetRequestDTO> items(Request payload) {
+        return payload.getAssets();
+    }
+
+    @Override
+    protected long processItems(Request payload, List<AssetRequestDTO> items, int offset, Writer output) throws IOException {
+        BulkAssetByPOResponse response = assetService.createAssetsByPO(payload.getPoNumber(), items);
+
+        List<BulkAssetByPOResponse.BulkAssetError> errorList =
+            response.getErrors() != null ? response.getErrors() : List.of();
+        Map<Integer, BulkAssetByPOResponse.BulkAssetError> errors = errorList.stream()
+            .collect(Collectors.toMap(BulkAssetByPOResponse.BulkAssetError::getIndex, error -> error, (a, b) -> a));
+        // Created assets come back in request order, skipping the failed rows
+        Iterator<AssetDTO> created = response.getCreatedAssets() != null
+            ? response.getCreatedAssets().iterator()
+            : List.<AssetDTO>of().iterator();
+        for (int i = 0; i < items.size(); i++) {
+            BulkAssetByPOResponse.BulkAssetError error = errors.get(i);
+            if (error != null) {
+                writeLine(output, new JobItemResult(offset + i, null, JobItemResult.FAILED,
+                    error.getField(), error.getMessage(), error.getAssetIdentifier()));
+            } else if (created.hasNext()) {
+                AssetDTO asset = created.next();
+                writeLine(output, new JobItemResult(offset + i, asset.getAssetId(), JobItemResult.CREATED,
+                    null, null, asset.getSerialNumber() != null ? asset.getSerialNumber() : asset.getName()));
+            }
+        }
+        return response.getCreatedCount();
+    }
+}
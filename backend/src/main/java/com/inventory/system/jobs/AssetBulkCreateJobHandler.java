@@ -0,0 +1,72 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.BulkAssetResponse;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.service.AssetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link AssetService#createAssetsInBulk} one chunk at a time
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetBulkCreateJobHandler extends ListJobHandler<List<AssetRequestDTO>, AssetRequestDTO> {
+
+    private final AssetService assetService;
+
+    @Override
+    public JobType getType() {
+        return JobType.ASSET_BULK_CREATE;
+    }
+
+    @Override
+    public TypeReference<List<AssetRequestDTO>> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public void validate(List<AssetRequestDTO> payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new IllegalArgumentException("Asset request list cannot be null or empty");
+        }
+    }
+
+    @Override
+    protected List<AssetRequestDTO> items(List<AssetRequestDTO> payload) {
+        return payload;
+    }
+
+    @Override
+    protected long processItems(List<AssetRequestDTO> payload, List<AssetRequestDTO> items, int offset,
+                                Writer output) throws IOException {
+        BulkAssetResponse response = assetService.createAssetsInBulk(items);
+
+        Map<Integer, BulkAssetResponse.BulkAssetError> errors = response.getErrors().stream()
+            .collect(Collectors.toMap(BulkAssetResponse.BulkAssetError::getIndex, error -> error, (a, b) -> a));
+        // Created assets come back in request order, skipping the failed rows
+        Iterator<AssetDTO> created = response.getSuccessfulAssets().iterator();
+        for (int i = 0; i < items.size(); i++) {
+            BulkAssetResponse.BulkAssetError error = errors.get(i);
+            if (error != null) {
+                writeLine(output, new JobItemResult(offset + i, null, JobItemResult.FAILED,
+                    error.getField(), error.getMessage(), error.getAssetIdentifier()));
+            } else if (created.hasNext()) {
+                AssetDTO asset = created.next();
+                writeLine(output, new JobItemResult(offset + i, asset.getAssetId(), JobItemResult.CREATED,
+                    null, null, asset.getSerialNumber() != null ? asset.getSerialNumber() : asset.getName()));
+            }
+        }
+        return response.getSuccessCount();
+    }
+}
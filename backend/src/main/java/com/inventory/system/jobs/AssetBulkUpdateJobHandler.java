@@ -0,0 +1,71 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.dto.AssetBulkUpdateDTO;
+import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetIndividualUpdateDTO;
+import com.inventory.system.dto.BulkUpdateResponse;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.service.AssetService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * {@link AssetService#updateAssetsInBulk} one chunk at a time; result lines are keyed by asset ID
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetBulkUpdateJobHandler extends ListJobHandler<AssetBulkUpdateDTO, AssetIndividualUpdateDTO> {
+
+    private final AssetService assetService;
+
+    @Override
+    public JobType getType() {
+        return JobType.ASSET_BULK_UPDATE;
+    }
+
+    @Override
+    public TypeReference<AssetBulkUpdateDTO> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public void validate(AssetBulkUpdateDTO payload) {
+        if (payload.getAssets() == null || payload.getAssets().isEmpty()) {
+            throw new IllegalArgumentException("Asset list cannot be empty");
+        }
+    }
+
+    @Override
+    protected List<AssetIndividualUpdateDTO> items(AssetBulkUpdateDTO payload) {
+        return payload.getAssets();
+    }
+
+    @Override
+    protected long processItems(AssetBulkUpdateDTO payload, List<AssetIndividualUpdateDTO> items, int offset,
+                                Writer output) throws IOException {
+        AssetBulkUpdateDTO chunk = new AssetBulkUpdateDTO();
+        chunk.setAssets(items);
+        chunk.setBatchId(payload.getBatchId());
+        chunk.setNotes(payload.getNotes());
+        BulkUpdateResponse response = assetService.updateAssetsInBulk(chunk);
+
+        if (response.getUpdatedAssets() != null) {
+            for (AssetDTO asset : response.getUpdatedAssets()) {
+                writeLine(output, new JobItemResult(null, asset.getAssetId(), JobItemResult.UPDATED,
+                    null, null, asset.getSerialNumber() != null ? asset.getSerialNumber() : asset.getName()));
+            }
+        }
+        if (response.getErrors() != null) {
+            for (BulkUpdateResponse.BulkUpdateError error : response.getErrors()) {
+                writeLine(output, new JobItemResult(null, error.getAssetId(), JobItemResult.FAILED,
+                    error.getField(), error.getMessage(), error.getAssetIdentifier()));
+            }
+        }
+        return response.getSuccessCount();
+    }
+}
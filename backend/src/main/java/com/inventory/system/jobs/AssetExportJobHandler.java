@@ -0,0 +1,67 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.repository.AssetAnalyticsRepository;
+import com.inventory.system.service.AssetAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Full CSV export of active assets. Chunks walk the assets by ID, so the checkpoint is the last
+ * exported asset ID and a resumed export continues after it without repeating rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetExportJobHandler implements JobHandler<Map<String, Object>> {
+
+    private final AssetAnalyticsService assetAnalyticsService;
+    private final AssetAnalyticsRepository assetAnalyticsRepository;
+
+    @Override
+    public JobType getType() {
+        return JobType.ASSET_EXPORT;
+    }
+
+    @Override
+    public TypeReference<Map<String, Object>> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public long countItems(Map<String, Object> payload) {
+        return assetAnalyticsRepository.countActiveAssets();
+    }
+
+    @Override
+    public ChunkResult processChunk(Map<String, Object> payload, long checkpoint, int chunkSize, Writer output)
+            throws IOException {
+        if (checkpoint == 0) {
+            assetAnalyticsService.writeFullCSVHeader(output);
+        }
+        AssetAnalyticsService.ExportChunk chunk = assetAnalyticsService.writeFullCSVRowsAfter(output, checkpoint, chunkSize);
+        if (chunk == null) {
+            return new ChunkResult(checkpoint, 0, 0, 0, true);
+        }
+        return new ChunkResult(chunk.lastAssetId(), chunk.rows(), chunk.rows(), 0, chunk.rows() < chunkSize);
+    }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
+
+    @Override
+    public String getResultContentType() {
+        return "text/csv";
+    }
+
+    @Override
+    public String getResultExtension() {
+        return "csv";
+    }
+}
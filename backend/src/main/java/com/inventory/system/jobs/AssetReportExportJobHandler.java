@@ -0,0 +1,72 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.service.AssetAnalyticsService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Filtered CSV report as a job. The filters narrow the report enough to build it in one chunk,
+ * the same way the synchronous report endpoint does.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetReportExportJobHandler implements JobHandler<AssetReportExportJobHandler.Request> {
+
+    private final AssetAnalyticsService assetAnalyticsService;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private String ageRange;
+        private String department;
+        private String assetType;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.ASSET_REPORT_EXPORT;
+    }
+
+    @Override
+    public TypeReference<Request> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public long countItems(Request payload) {
+        return 1;
+    }
+
+    @Override
+    public ChunkResult processChunk(Request payload, long checkpoint, int chunkSize, Writer output) throws IOException {
+        byte[] csv = assetAnalyticsService.generateCSVReport(
+            payload.getAgeRange(), payload.getDepartment(), payload.getAssetType()).getByteArray();
+        output.write(new String(csv, StandardCharsets.UTF_8));
+        return new ChunkResult(1, 1, 1, 0, true);
+    }
+
+    @Override
+    public boolean isRestartable() {
+        return true;
+    }
+
+    @Override
+    public String getResultContentType() {
+        return "text/csv";
+    }
+
+    @Override
+    public String getResultExtension() {
+        return "csv";
+    }
+}
@@ -0,0 +1,9 @@
+package com.inventory.system.jobs;
+
+/**
+ * Outcome of one chunk of a job
+ * @param checkpoint Position to resume after, passed to the next chunk
+ * @param last True if no work is left after this chunk
+ */
+public record ChunkResult(long checkpoint, long processed, long succeeded, long failed, boolean last) {
+}
@@ -0,0 +1,52 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.enums.JobType;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * One kind of background job. The runner calls {@link #processChunk} repeatedly, each call in its own
+ * transaction together with the job's progress update, until a chunk reports that it was the last.
+ *
+ * @param <P> Type of the submitted request, stored with the job as JSON
+ */
+public interface JobHandler<P> {
+
+    JobType getType();
+
+    TypeReference<P> getPayloadType();
+
+    /**
+     * Reject a request at submission time, before a job is created
+     */
+    default void validate(P payload) {
+    }
+
+    /**
+     * Number of work items in the request, for progress reporting
+     */
+    long countItems(P payload);
+
+    /**
+     * Process the work that follows {@code checkpoint}, at most {@code chunkSize} items, and write
+     * its part of the result file to {@code output}. Runs inside the chunk transaction, so database
+     * work done here commits or rolls back together with the new checkpoint.
+     * @param checkpoint 0 for the first chunk, otherwise the value returned by the previous chunk
+     */
+    ChunkResult processChunk(P payload, long checkpoint, int chunkSize, Writer output) throws IOException;
+
+    /**
+     * Whether the job may start over from the first chunk when its result file is lost. Only true for
+     * jobs that read the database without changing it; replaying a committed chunk of a bulk change
+     * would apply it twice.
+     */
+    default boolean isRestartable() {
+        return false;
+    }
+
+    String getResultContentType();
+
+    String getResultExtension();
+}
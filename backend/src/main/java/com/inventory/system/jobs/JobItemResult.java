@@ -0,0 +1,17 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of a bulk job's result file
+ * @param index Position of the item in the submitted list; null where items are keyed by asset ID
+ * @param status CREATED, UPDATED or FAILED
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JobItemResult(Integer index, Long assetId, String status, String field, String message,
+                            String assetIdentifier) {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String FAILED = "FAILED";
+}
@@ -0,0 +1,365 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.system.enums.JobStatus;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.metrics.Histogram;
+import com.inventory.system.metrics.MetricsRegistry;
+import com.inventory.system.model.AsyncJob;
+import com.inventory.system.repository.AsyncJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the jobs of the async_job table (V31) on a small worker pool.
+ *
+ * Jobs are claimed with a conditional UPDATE, so several instances can poll the same table. Each chunk
+ * runs in one transaction that also records the new checkpoint and the committed length of the result
+ * file ({@code <result-dir>/<jobId>.result}); bytes past that length belong to a chunk that did not
+ * commit and are cut off before the job continues. A job is resumed by the next poll when its worker
+ * stops heartbeating, or right away when the worker handed it back on a graceful shutdown.
+ *
+ * With more than one instance, jobs.result-dir must be a directory shared by all of them: a job can be
+ * resumed by another instance and its result downloaded from any. A resumed job whose result file is
+ * missing or shorter than the committed length is restarted from scratch if its handler is
+ * {@linkplain JobHandler#isRestartable() restartable} (exports) and failed otherwise, since replaying
+ * committed chunks of a bulk change would apply them twice.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    private final AsyncJobRepository asyncJobRepository;
+    private final ObjectMapper objectMapper;
+    private final MetricsRegistry metricsRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<JobType, JobHandler<?>> handlers = new EnumMap<>(JobType.class);
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore freeWorkers;
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+    private final String owner;
+    private final int chunkSize;
+    private final long staleAfterSeconds;
+    private final int retentionDays;
+    private final Path resultDir;
+    private volatile boolean stopping;
+
+    public JobRunner(AsyncJobRepository asyncJobRepository,
+                     List<JobHandler<?>> handlers,
+                     ObjectMapper objectMapper,
+                     MetricsRegistry metricsRegistry,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${jobs.worker-threads:2}") int workerThreads,
+                     @Value("${jobs.chunk-size:500}") int chunkSize,
+                     @Value("${jobs.heartbeat-interval-ms:30000}") long heartbeatIntervalMs,
+                     @Value("${jobs.stale-after-seconds:120}") long staleAfterSeconds,
+                     @Value("${jobs.retention-days:7}") int retentionDays,
+                     @Value("${jobs.result-dir:jobs/results}") String resultDir) {
+        if (workerThreads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("jobs.worker-threads and jobs.chunk-size must be at least 1");
+        }
+        if (staleAfterSeconds * 1000 <= 2 * heartbeatIntervalMs) {
+            throw new IllegalArgumentException("jobs.stale-after-seconds must cover at least two heartbeat intervals");
+        }
+        this.asyncJobRepository = asyncJobRepository;
+        this.objectMapper = objectMapper;
+        this.metricsRegistry = metricsRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (JobHandler<?> handler : handlers) {
+            this.handlers.put(handler.getType(), handler);
+        }
+        this.chunkSize = chunkSize;
+        this.staleAfterSeconds = staleAfterSeconds;
+        this.retentionDays = retentionDays;
+        this.resultDir = Paths.get(resultDir);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+        this.freeWorkers = new Semaphore(workerThreads);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setThreadNamePrefix("job-worker-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        metricsRegistry.gauge("jobs_running", "Background jobs running on this instance", runningJobs::size);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <P> JobHandler<P> getHandler(JobType type) {
+        JobHandler<?> handler = handlers.get(type);
+        if (handler == null) {
+            throw new IllegalStateException("No handler registered for job type " + type);
+        }
+        return (JobHandler<P>) handler;
+    }
+
+    public Path resultFile(Long jobId) {
+        return resultDir.resolve(jobId + ".result");
+    }
+
+    /**
+     * Pick up jobs left queued or orphaned by an instance that went away
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        dispatch();
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.poll-interval-ms:5000}", initialDelayString = "${jobs.poll-interval-ms:5000}")
+    public void poll() {
+        dispatch();
+    }
+
+    /**
+     * Claim runnable jobs for the free workers and start them
+     */
+    public synchronized void dispatch() {
+        if (stopping || freeWorkers.availablePermits() == 0) {
+            return;
+        }
+        try {
+            LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+            for (Long jobId : asyncJobRepository.findRunnableJobIds(staleBefore, freeWorkers.availablePermits())) {
+                if (!freeWorkers.tryAcquire()) {
+                    break;
+                }
+                if (!claim(jobId, staleBefore)) {
+                    freeWorkers.release(); // another instance got there first
+                    continue;
+                }
+                runningJobs.add(jobId);
+                executor.execute(() -> {
+                    try {
+                        run(jobId, Integer.MAX_VALUE);
+                    } finally {
+                        runningJobs.remove(jobId);
+                        freeWorkers.release();
+                    }
+                    dispatch();
+                });
+            }
+        } catch (Exception e) {
+            log.error("Failed to dispatch background jobs: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        List<Long> jobIds = new ArrayList<>(runningJobs);
+        transactionTemplate.executeWithoutResult(status ->
+            asyncJobRepository.heartbeat(jobIds, owner, LocalDateTime.now()));
+    }
+
+    /**
+     * Drop finished jobs and their result files after jobs.retention-days
+     */
+    @Scheduled(cron = "${jobs.purge-cron:0 45 1 * * *}")
+    public void purgeFinishedJobs() {
+        List<Long> jobIds = asyncJobRepository.findFinishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        for (Long jobId : jobIds) {
+            try {
+                Files.deleteIfExists(resultFile(jobId));
+            } catch (IOException e) {
+                log.warn("Failed to delete result file of job {}: {}", jobId, e.getMessage());
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> asyncJobRepository.deleteJobs(jobIds));
+        log.info("Purged {} finished background jobs", jobIds.size());
+    }
+
+    /**
+     * Let running chunks finish, then hand unfinished jobs back to the queue
+     */
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdown();
+        if (!runningJobs.isEmpty()) {
+            List<Long> jobIds = new ArrayList<>(runningJobs);
+            transactionTemplate.executeWithoutResult(status -> asyncJobRepository.release(jobIds, owner));
+            log.info("Released background jobs {} still running at shutdown", jobIds);
+        }
+    }
+
+    /**
+     * Take ownership of a queued job, or of a running one whose worker stopped heartbeating
+     */
+    boolean claim(Long jobId, LocalDateTime staleBefore) {
+        Integer claimed = transactionTemplate.execute(status ->
+            asyncJobRepository.claim(jobId, owner, LocalDateTime.now(), staleBefore));
+        return claimed != null && claimed > 0;
+    }
+
+    /**
+     * Run a claimed job until it finishes, or hand it back after {@code maxChunks} chunks or on shutdown
+     */
+    void run(Long jobId, int maxChunks) {
+        // Read-write transaction, so the job row comes from the primary with its latest committed checkpoint
+        AsyncJob job = transactionTemplate.execute(status -> asyncJobRepository.findById(jobId).orElse(null));
+        if (job == null) {
+            log.warn("Claimed job {} no longer exists", jobId);
+            return;
+        }
+        Path file = resultFile(jobId);
+        long checkpoint = job.getCheckpoint();
+        long resultBytes = job.getResultBytes();
+        log.info("Running job {} ({}) from checkpoint {}", jobId, job.getJobType(), checkpoint);
+
+        try {
+            JobHandler<Object> handler = getHandler(job.getJobType());
+            Object payload = objectMapper.readValue(job.getPayload(), handler.getPayloadType());
+            Files.createDirectories(resultDir);
+
+            long fileBytes = Files.exists(file) ? Files.size(file) : 0;
+            if (fileBytes < resultBytes) {
+                if (!handler.isRestartable()) {
+                    throw new IllegalStateException("Result file of job " + jobId + " has " + fileBytes +
+                        " of " + resultBytes + " committed bytes; jobs.result-dir must be shared by all instances");
+                }
+                Integer reset = transactionTemplate.execute(status -> asyncJobRepository.restart(jobId, owner));
+                if (reset == null || reset == 0) {
+                    log.warn("Job {} was taken over by another worker; stopping", jobId);
+                    return;
+                }
+                log.warn("Result file of job {} is missing or short ({} of {} bytes); restarting it", jobId, fileBytes, resultBytes);
+                checkpoint = 0;
+                resultBytes = 0;
+            }
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                channel.truncate(resultBytes);
+
+                boolean last = false;
+                int chunks = 0;
+                while (!last) {
+                    if (stopping || chunks == maxChunks) {
+                        transactionTemplate.executeWithoutResult(status ->
+                            asyncJobRepository.release(List.of(jobId), owner));
+                        log.info("Job {} handed back at checkpoint {}", jobId, checkpoint);
+                        return;
+                    }
+                    long startNanos = System.nanoTime();
+                    long fromCheckpoint = checkpoint;
+                    long fromBytes = resultBytes;
+                    WrittenChunk written = transactionTemplate.execute(status ->
+                        runChunk(status, jobId, handler, payload, fromCheckpoint, fromBytes, channel));
+                    metricsRegistry.histogram("job_chunk_seconds", "Background job chunk duration",
+                            Histogram.SECONDS, "type", job.getJobType().name())
+                        .observeNanos(System.nanoTime() - startNanos);
+                    if (written == null) {
+                        log.warn("Job {} was taken over by another worker; stopping", jobId);
+                        return;
+                    }
+                    checkpoint = written.chunk().checkpoint();
+                    resultBytes += written.bytes();
+                    last = written.chunk().last();
+                    chunks++;
+                }
+            }
+            finish(job, JobStatus.SUCCEEDED, null);
+        } catch (Exception e) {
+            log.error("Job {} ({}) failed: {}", jobId, job.getJobType(), e.getMessage(), e);
+            if (Files.exists(file)) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(resultBytes); // keep the results of the chunks that committed
+                } catch (IOException truncateFailure) {
+                    log.warn("Failed to truncate result file of job {}: {}", jobId, truncateFailure.getMessage());
+                }
+            }
+            finish(job, JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * One chunk, inside its transaction. Progress is recorded before the file is touched, so a worker
+     * that lost the job never writes to a result file that is now someone else's.
+     * @return null if the job is no longer owned by this worker (the transaction is rolled back)
+     */
+    private WrittenChunk runChunk(TransactionStatus status, Long jobId, JobHandler<Object> handler, Object payload,
+                                  long checkpoint, long resultBytes, FileChannel channel) {
+        try {
+            StringWriter buffer = new StringWriter();
+            ChunkResult chunk = handler.processChunk(payload, checkpoint, chunkSize, buffer);
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+
+            int updated = asyncJobRepository.recordChunk(jobId, owner, chunk.checkpoint(), resultBytes + bytes.length,
+                chunk.processed(), chunk.succeeded(), chunk.failed(), LocalDateTime.now());
+            if (updated == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+
+            ByteBuffer data = ByteBuffer.wrap(bytes);
+            long position = resultBytes;
+            while (data.hasRemaining()) {
+                position += channel.write(data, position);
+            }
+            channel.force(false);
+            return new WrittenChunk(chunk, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void finish(AsyncJob job, JobStatus status, String errorMessage) {
+        Integer updated = transactionTemplate.execute(tx ->
+            asyncJobRepository.finish(job.getId(), owner, status.name(), errorMessage, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            log.warn("Job {} was taken over before it could be marked {}", job.getId(), status);
+            return;
+        }
+        metricsRegistry.counter("jobs_completed_total", "Background jobs completed",
+                "type", job.getJobType().name(), "status", status.name())
+            .increment();
+        log.info("Job {} ({}) {}", job.getId(), job.getJobType(), status);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+
+    private record WrittenChunk(ChunkResult chunk, int bytes) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Base for jobs over a list of request items: a chunk is the next {@code chunkSize} items, the
+ * checkpoint is the index of the first unprocessed item, and the result file has one JSON line
+ * per item (NDJSON) in item order.
+ *
+ * @param <P> Type of the submitted request
+ * @param <T> Type of one item of the request
+ */
+public abstract class ListJobHandler<P, T> implements JobHandler<P> {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    protected abstract List<T> items(P payload);
+
+    /**
+     * Process one chunk of items and write a result line for each
+     * @param offset Index of the first item of the chunk in the whole request
+     * @return Number of items that succeeded
+     */
+    protected abstract long processItems(P payload, List<T> items, int offset, Writer output) throws IOException;
+
+    @Override
+    public long countItems(P payload) {
+        return items(payload).size();
+    }
+
+    @Override
+    public ChunkResult processChunk(P payload, long checkpoint, int chunkSize, Writer output) throws IOException {
+        List<T> all = items(payload);
+        int from = (int) checkpoint;
+        int to = Math.min(all.size(), from + chunkSize);
+        long succeeded = to > from ? processItems(payload, all.subList(from, to), from, output) : 0;
+        return new ChunkResult(to, to - from, succeeded, (to - from) - succeeded, to >= all.size());
+    }
+
+    protected void writeLine(Writer output, Object line) throws IOException {
+        output.write(objectMapper.writeValueAsString(line));
+        output.write('\n');
+    }
+
+    @Override
+    public String getResultContentType() {
+        return "application/x-ndjson";
+    }
+
+    @Override
+    public String getResultExtension() {
+        return "ndjson";
+    }
+}
@@ -0,0 +1,70 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.dto.PODeletionConflictDTO;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.exception.ConflictException;
+import com.inventory.system.service.AssetPOService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link AssetPOService#deleteAssetPOWithCascade} as a job. Conflicts are checked at submission so a
+ * blocked delete is rejected with 409 instead of queued; the delete itself is one atomic item.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoCascadeDeleteJobHandler
+        extends ListJobHandler<PoCascadeDeleteJobHandler.Request, PoCascadeDeleteJobHandler.Request> {
+
+    private final AssetPOService assetPOService;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private String poNumber;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.PO_CASCADE_DELETE;
+    }
+
+    @Override
+    public TypeReference<Request> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public void validate(Request payload) {
+        PODeletionConflictDTO conflicts = assetPOService.checkPODeletionConflicts(payload.getPoNumber());
+        if (conflicts != null) {
+            throw new ConflictException(conflicts.getMessage());
+        }
+    }
+
+    @Override
+    protected List<Request> items(Request payload) {
+        return List.of(payload);
+    }
+
+    @Override
+    protected long processItems(Request payload, List<Request> items, int offset, Writer output) throws IOException {
+        int deletedAssetsCount = assetPOService.deleteAssetPOWithCascade(payload.getPoNumber());
+        writeLine(output, Map.of(
+            "message", "PO and linked assets deleted successfully",
+            "poNumber", payload.getPoNumber(),
+            "deletedAssetsCount", deletedAssetsCount
+        ));
+        return 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inventory.system.dto.AssetPOMigrationResponse;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.service.AssetPOService;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * {@link AssetPOService#migratePoNumber} as a job. The migration is a few set-based statements that
+ * must be atomic, so the whole request is a single item and the result file holds the migration response.
+ */
+@Component
+@RequiredArgsConstructor
+public class PoNumberMigrationJobHandler
+        extends ListJobHandler<PoNumberMigrationJobHandler.Request, PoNumberMigrationJobHandler.Request> {
+
+    private final AssetPOService assetPOService;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        private String oldPoNumber;
+        private String newPoNumber;
+    }
+
+    @Override
+    public JobType getType() {
+        return JobType.PO_NUMBER_MIGRATION;
+    }
+
+    @Override
+    public TypeReference<Request> getPayloadType() {
+        return new TypeReference<>() {};
+    }
+
+    @Override
+    public void validate(Request payload) {
+        if (payload.getOldPoNumber() == null || payload.getOldPoNumber().trim().isEmpty()
+                || payload.getNewPoNumber() == null || payload.getNewPoNumber().trim().isEmpty()) {
+            throw new IllegalArgumentException("Both oldPoNumber and newPoNumber are required");
+        }
+    }
+
+    @Override
+    protected List<Request> items(Request payload) {
+        return List.of(payload);
+    }
+
+    @Override
+    protected long processItems(Request payload, List<Request> items, int offset, Writer output) throws IOException {
+        AssetPOMigrationResponse response = assetPOService.migratePoNumber(payload.getOldPoNumber(), payload.getNewPoNumber());
+        writeLine(output, response);
+        return "SUCCESS".equals(response.getStatus()) ? 1 : 0;
+    }
+}
@@ -1,11 +1,13 @@
 package com.inventory.system.mapper;
 
+import com.inventory.system.cache.ReferenceDataCache;
 import com.inventory.system.dto.AssetDTO;
 import com.inventory.system.dto.AssetRequestDTO;
 import com.inventory.system.dto.AssetTagDTO;
 import com.inventory.system.exception.ResourceNotFoundException;
 import com.inventory.system.model.*;
 import com.inventory.system.repository.*;
+import com.inventory.system.validation.AssetBatchValidationService;
 import com.inventory.system.validation.AssetValidationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,13 +24,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AssetMapper {
     
-    private final AssetTypeRepository assetTypeRepository;
-    private final AssetMakeRepository assetMakeRepository;
-    private final AssetModelRepository assetModelRepository;
     private final UserRepository userRepository;
-    private final OSRepository osRepository;
-    private final OSVersionRepository osVersionRepository;
-    private final VendorRepository vendorRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Convert AssetRequestDTO to Asset entity for bulk operations
@@ -104,7 +101,59 @@ public class AssetMapper {
         log.debug("Converting AssetRequestDTO to Asset entity with context: {}", dto.getSerialNumber());
         
         Asset asset = new Asset();
+        applyRequestFields(asset, dto);
         
+        // Set foreign key relationships with context resolution
+        setForeignKeysWithContext(asset, dto, context);
+        
+        // Set audit fields
+        asset.setDeleted(false);
+        
+        return asset;
+    }
+
+    /**
+     * Convert AssetRequestDTO to Asset entity for bulk imports, taking related entities from
+     * reference data pre-loaded for the whole batch instead of looking each one up
+     */
+    public Asset toEntityWithReferences(AssetRequestDTO dto, AssetValidationService.AssetValidationContext context,
+                                        AssetBatchValidationService.BatchReferenceData references) {
+        if (dto == null) {
+            return null;
+        }
+        
+        Asset asset = new Asset();
+        applyRequestFields(asset, dto);
+        
+        Long assetTypeId = context.getResolvedTypeId() != null ? context.getResolvedTypeId() : dto.getAssetTypeId();
+        asset.setAssetType(requireReference(references.getAssetType(assetTypeId), "AssetType", assetTypeId));
+        
+        Long makeId = context.getResolvedMakeId() != null ? context.getResolvedMakeId() : dto.getMakeId();
+        asset.setMake(requireReference(references.getMake(makeId), "AssetMake", makeId));
+        
+        asset.setModel(requireReference(references.getModel(dto.getModelId()), "AssetModel", dto.getModelId()));
+        asset.setCurrentUser(requireReference(references.getUser(dto.getCurrentUserId()), "User", dto.getCurrentUserId()));
+        
+        Long osId = context.getResolvedOsId() != null ? context.getResolvedOsId() : dto.getOsId();
+        asset.setOs(requireReference(references.getOs(osId), "OS", osId));
+        
+        asset.setOsVersion(requireReference(references.getOsVersion(dto.getOsVersionId()), "OSVersion", dto.getOsVersionId()));
+        
+        Long vendorId = context.getResolvedVendorId() != null ? context.getResolvedVendorId() : dto.getVendorId();
+        asset.setVendor(requireReference(references.getVendor(vendorId), "Vendor", vendorId));
+        
+        Long extendedWarrantyVendorId = context.getResolvedExtendedWarrantyVendorId() != null ? 
+            context.getResolvedExtendedWarrantyVendorId() : dto.getExtendedWarrantyVendorId();
+        asset.setExtendedWarrantyVendor(requireReference(references.getVendor(extendedWarrantyVendorId),
+            "ExtendedWarrantyVendor", extendedWarrantyVendorId));
+        
+        // Set audit fields
+        asset.setDeleted(false);
+        
+        return asset;
+    }
+    
+    private void applyRequestFields(Asset asset, AssetRequestDTO dto) {
         // Basic fields
         asset.setName(dto.getName());
         asset.setSerialNumber(dto.getSerialNumber());
@@ -139,14 +188,6 @@ public class AssetMapper {
         asset.setDepreciationPct(convertToBigDecimal(dto.getDepreciationPct()));
         asset.setCurrentPrice(convertToBigDecimal(dto.getCurrentPrice()));
         asset.setMinContractPeriod(dto.getMinContractPeriod());
-        
-        // Set foreign key relationships with context resolution
-        setForeignKeysWithContext(asset, dto, context);
-        
-        // Set audit fields
-        asset.setDeleted(false);
-        
-        return asset;
     }
     
     private void setForeignKeysWithContext(Asset asset, AssetRequestDTO dto, AssetValidationService.AssetValidationContext context) {
@@ -439,24 +480,21 @@ public class AssetMapper {
     // Foreign key relationship setters with error handling
     private void setAssetType(Asset asset, Long assetTypeId) {
         if (assetTypeId != null) {
-            AssetType assetType = assetTypeRepository.findById(assetTypeId)
-                .orElseThrow(() -> new ResourceNotFoundException("AssetType", "id", assetTypeId));
+            AssetType assetType = requireReference(referenceDataCache.getAssetType(assetTypeId), "AssetType", assetTypeId);
             asset.setAssetType(assetType);
         }
     }
     
     private void setAssetMake(Asset asset, Long makeId) {
         if (makeId != null) {
-            AssetMake assetMake = assetMakeRepository.findById(makeId)
-                .orElseThrow(() -> new ResourceNotFoundException("AssetMake", "id", makeId));
+            AssetMake assetMake = requireReference(referenceDataCache.getAssetMake(makeId), "AssetMake", makeId);
             asset.setMake(assetMake);
         }
     }
     
     private void setAssetModel(Asset asset, Long modelId) {
         if (modelId != null) {
-            AssetModel assetModel = assetModelRepository.findById(modelId)
-                .orElseThrow(() -> new ResourceNotFoundException("AssetModel", "id", modelId));
+            AssetModel assetModel = requireReference(referenceDataCache.getAssetModel(modelId), "AssetModel", modelId);
             asset.setModel(assetModel);
         }
     }
@@ -471,36 +509,39 @@ public class AssetMapper {
     
     private void setOS(Asset asset, Long osId) {
         if (osId != null) {
-            OS os = osRepository.findById(osId)
-                .orElseThrow(() -> new ResourceNotFoundException("OS", "id", osId));
+            OS os = requireReference(referenceDataCache.getOs(osId), "OS", osId);
             asset.setOs(os);
         }
     }
     
     private void setOSVersion(Asset asset, Long osVersionId) {
         if (osVersionId != null) {
-            OSVersion osVersion = osVersionRepository.findById(osVersionId)
-                .orElseThrow(() -> new ResourceNotFoundException("OSVersion", "id", osVersionId));
+            OSVersion osVersion = requireReference(referenceDataCache.getOsVersion(osVersionId), "OSVersion", osVersionId);
             asset.setOsVersion(osVersion);
         }
     }
     
     private void setVendor(Asset asset, Long vendorId) {
         if (vendorId != null) {
-            Vendor vendor = vendorRepository.findById(vendorId)
-                .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", vendorId));
+            Vendor vendor = requireReference(referenceDataCache.getVendor(vendorId), "Vendor", vendorId);
             asset.setVendor(vendor);
         }
     }
     
     private void setExtendedWarrantyVendor(Asset asset, Long vendorId) {
         if (vendorId != null) {
-            Vendor vendor = vendorRepository.findById(vendorId)
-                .orElseThrow(() -> new ResourceNotFoundException("ExtendedWarrantyVendor", "id", vendorId));
+            Vendor vendor = requireReference(referenceDataCache.getVendor(vendorId), "ExtendedWarrantyVendor", vendorId);
             asset.setExtendedWarrantyVendor(vendor);
         }
     }
     
+    private <T> T requireReference(T entity, String resourceName, Long id) {
+        if (id != null && entity == null) {
+            throw new ResourceNotFoundException(resourceName, "id", id);
+        }
+        return entity;
+    }
+    
     // Helper method to convert AssetTag to AssetTagDTO
     private AssetTagDTO convertTagToDTO(AssetTag assetTag) {
         if (assetTag == null) {
@@ -0,0 +1,77 @@
+package com.inventory.system.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Installs a Hikari metrics tracker on every HikariDataSource before its pool starts, exporting
+ * connection acquire (pool wait) and usage time, timeouts and the pool's occupancy.
+ */
+@Component
+@RequiredArgsConstructor
+public class HikariMetricsPostProcessor implements BeanPostProcessor {
+
+    // Resolved lazily: post-processors are created before ordinary beans
+    private final ObjectProvider<MetricsRegistry> metricsRegistry;
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+                && dataSource.getMetricsTrackerFactory() == null
+                && dataSource.getMetricRegistry() == null) {
+            dataSource.setMetricsTrackerFactory(new TrackerFactory(metricsRegistry.getObject()));
+        }
+        return bean;
+    }
+
+    private record TrackerFactory(MetricsRegistry registry) implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            registry.gauge("hikari_connections_active", "Connections in use", poolStats::getActiveConnections, "pool", poolName);
+            registry.gauge("hikari_connections_idle", "Idle connections", poolStats::getIdleConnections, "pool", poolName);
+            registry.gauge("hikari_connections_pending", "Threads waiting for a connection", poolStats::getPendingThreads, "pool", poolName);
+            registry.gauge("hikari_connections_max", "Maximum pool size", poolStats::getMaxConnections, "pool", poolName);
+
+            Histogram acquire = registry.histogram("hikari_connection_acquire_seconds",
+                "Time spent waiting for a pooled connection", Histogram.SECONDS, "pool", poolName);
+            Histogram usage = registry.histogram("hikari_connection_usage_seconds",
+                "Time a connection was held before being returned", Histogram.SECONDS, "pool", poolName);
+            Histogram creation = registry.histogram("hikari_connection_creation_seconds",
+                "Time to open a new physical connection", Histogram.SECONDS, "pool", poolName);
+            LongAdder timeouts = registry.counter("hikari_connection_timeouts_total",
+                "Connection requests that timed out", "pool", poolName);
+
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    acquire.observeNanos(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                    usage.observe(elapsedBorrowedMillis / 1000.0);
+                }
+
+                @Override
+                public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                    creation.observe(connectionCreatedMillis / 1000.0);
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    timeouts.increment();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.inventory.system.metrics;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket histogram. Observations are lock-free; quantiles are estimated by linear
+ * interpolation inside the bucket that holds the requested rank, the same way
+ * Prometheus' histogram_quantile does on the scraped buckets.
+ */
+public final class Histogram {
+
+    /** Latency buckets in seconds, 1 ms .. 30 s */
+    public static final double[] SECONDS = {
+        0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    /** Buckets for per-request counts (statements, rows) */
+    public static final double[] COUNTS = {0, 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 5000};
+
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram(double[] bounds) {
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(double value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        count.increment();
+        sum.add(value);
+    }
+
+    public void observeNanos(long nanos) {
+        observe(nanos / 1_000_000_000.0);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double sum() {
+        return sum.sum();
+    }
+
+    double[] bounds() {
+        return bounds;
+    }
+
+    /**
+     * Cumulative bucket counts; the last entry is the +Inf bucket
+     */
+    long[] cumulativeCounts() {
+        long[] cumulative = new long[buckets.length];
+        long running = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            running += buckets[i].sum();
+            cumulative[i] = running;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Estimated value at quantile {@code q} (0..1); NaN while empty. Values in the overflow
+     * bucket are reported as the largest finite bound.
+     */
+    public double quantile(double q) {
+        long[] cumulative = cumulativeCounts();
+        long total = cumulative[cumulative.length - 1];
+        if (total == 0) {
+            return Double.NaN;
+        }
+        double rank = q * total;
+        for (int i = 0; i < cumulative.length; i++) {
+            if (cumulative[i] >= rank) {
+                if (i == bounds.length) {
+                    return bounds[bounds.length - 1];
+                }
+                double lower = i == 0 ? Math.min(0, bounds[0]) : bounds[i - 1];
+                long below = i == 0 ? 0 : cumulative[i - 1];
+                long inBucket = cumulative[i] - below;
+                return inBucket == 0 ? bounds[i] : lower + (bounds[i] - lower) * (rank - below) / inBucket;
+            }
+        }
+        return bounds[bounds.length - 1];
+    }
+}
@@ -0,0 +1,158 @@
+package com.inventory.system.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * In-process metric registry rendered in the Prometheus text exposition format by
+ * {@code GET /api/metrics}.
+ *
+ * Metrics are identified by name plus label pairs ({@code "key", "value", ...}); asking for the
+ * same name and labels again returns the same instance, so callers can look metrics up on the hot
+ * path instead of holding references. Histograms are also exported as {@code <name>_quantile}
+ * gauges (p50, p90, p99) so the numbers are readable without a Prometheus server.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    public Histogram histogram(String name, String help, double[] bounds, String... labels) {
+        return (Histogram) family(name, help, Type.HISTOGRAM).metrics
+            .computeIfAbsent(labelString(labels), key -> new Histogram(bounds));
+    }
+
+    public LongAdder counter(String name, String help, String... labels) {
+        return (LongAdder) family(name, help, Type.COUNTER).metrics
+            .computeIfAbsent(labelString(labels), key -> new LongAdder());
+    }
+
+    /**
+     * Register a value read at scrape time; registering the same name and labels again replaces the supplier
+     */
+    public void gauge(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.GAUGE).metrics.put(labelString(labels), value);
+    }
+
+    /**
+     * Register a monotonically increasing value owned by someone else (e.g. cache hit counters)
+     */
+    public void functionCounter(String name, String help, DoubleSupplier value, String... labels) {
+        family(name, help, Type.COUNTER).metrics.put(labelString(labels), value);
+    }
+
+    /**
+     * Render every metric in the Prometheus text format (version 0.0.4)
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        families.forEach((name, family) -> {
+            out.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type.name().toLowerCase()).append('\n');
+            family.metrics.forEach((labels, metric) -> writeSamples(out, name, labels, metric));
+
+            if (family.type == Type.HISTOGRAM) {
+                out.append("# HELP ").append(name).append("_quantile Estimated quantiles of ").append(name).append('\n');
+                out.append("# TYPE ").append(name).append("_quantile gauge\n");
+                family.metrics.forEach((labels, metric) -> {
+                    Histogram histogram = (Histogram) metric;
+                    for (double q : QUANTILES) {
+                        sample(out, name + "_quantile", withLabel(labels, "quantile", format(q)), histogram.quantile(q));
+                    }
+                });
+            }
+        });
+        return out.toString();
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> new Family(type, help));
+        if (family.type != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    private static void writeSamples(StringBuilder out, String name, String labels, Object metric) {
+        if (metric instanceof Histogram histogram) {
+            long[] cumulative = histogram.cumulativeCounts();
+            double[] bounds = histogram.bounds();
+            for (int i = 0; i < bounds.length; i++) {
+                sample(out, name + "_bucket", withLabel(labels, "le", format(bounds[i])), cumulative[i]);
+            }
+            sample(out, name + "_bucket", withLabel(labels, "le", "+Inf"), cumulative[bounds.length]);
+            sample(out, name + "_sum", labels, histogram.sum());
+            sample(out, name + "_count", labels, cumulative[bounds.length]);
+        } else if (metric instanceof LongAdder counter) {
+            sample(out, name, labels, counter.sum());
+        } else if (metric instanceof DoubleSupplier supplier) {
+            sample(out, name, labels, supplier.getAsDouble());
+        }
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(format(value)).append('\n');
+    }
+
+    private static String labelString(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be key/value pairs");
+        }
+        // Sorted so the same labels in a different order resolve to the same metric
+        Map<String, String> sorted = new TreeMap<>();
+        for (int i = 0; i < labels.length; i += 2) {
+            sorted.put(labels[i], labels[i + 1] != null ? labels[i + 1] : "");
+        }
+        StringBuilder out = new StringBuilder();
+        sorted.forEach((key, value) -> {
+            if (!out.isEmpty()) {
+                out.append(',');
+            }
+            out.append(key).append("=\"").append(escape(value)).append('"');
+        });
+        return out.toString();
+    }
+
+    private static String withLabel(String labels, String key, String value) {
+        String label = key + "=\"" + value + "\"";
+        return labels.isEmpty() ? label : labels + "," + label;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private enum Type { COUNTER, GAUGE, HISTOGRAM }
+
+    private static final class Family {
+        private final Type type;
+        private final String help;
+        private final Map<String, Object> metrics = new ConcurrentSkipListMap<>();
+
+        private Family(Type type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+}
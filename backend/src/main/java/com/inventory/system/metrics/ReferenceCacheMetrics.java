@@ -0,0 +1,41 @@
+package com.inventory.system.metrics;
+
+import com.inventory.system.cache.CacheStats;
+import com.inventory.system.cache.ReferenceDataCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.DoubleSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exports the {@link ReferenceDataCache} counters; values are read from {@link ReferenceDataCache#stats()} at scrape time
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceCacheMetrics {
+
+    private final ReferenceDataCache referenceDataCache;
+    private final MetricsRegistry metricsRegistry;
+
+    @PostConstruct
+    void register() {
+        for (CacheStats stats : referenceDataCache.stats()) {
+            String cache = stats.name();
+            metricsRegistry.gauge("reference_cache_size", "Entries held", value(cache, CacheStats::size), "cache", cache);
+            metricsRegistry.gauge("reference_cache_hit_ratio", "Hits over lookups since startup", value(cache, CacheStats::hitRate), "cache", cache);
+            metricsRegistry.functionCounter("reference_cache_hits_total", "Cache hits", value(cache, CacheStats::hits), "cache", cache);
+            metricsRegistry.functionCounter("reference_cache_misses_total", "Cache misses", value(cache, CacheStats::misses), "cache", cache);
+            metricsRegistry.functionCounter("reference_cache_evictions_total", "Entries evicted", value(cache, CacheStats::evictions), "cache", cache);
+        }
+    }
+
+    private DoubleSupplier value(String cache, ToDoubleFunction<CacheStats> field) {
+        return () -> referenceDataCache.stats().stream()
+            .filter(stats -> stats.name().equals(cache))
+            .mapToDouble(field)
+            .findFirst()
+            .orElse(Double.NaN);
+    }
+}
@@ -0,0 +1,58 @@
+package com.inventory.system.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Records latency and Hibernate statement count/time per controller method. Handlers are labelled
+ * {@code Controller.method} rather than by URL so path variables do not explode the label space.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+
+    private final MetricsRegistry metricsRegistry;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            RequestStatements.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        long[] statements = RequestStatements.end();
+        if (!(handler instanceof HandlerMethod method) || !(start instanceof Long startNanos)) {
+            return;
+        }
+
+        String name = method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        String status = Integer.toString(response.getStatus());
+
+        metricsRegistry.histogram("http_server_requests_seconds", "Controller method latency",
+                Histogram.SECONDS, "handler", name, "method", request.getMethod(), "status", status)
+            .observeNanos(System.nanoTime() - startNanos);
+
+        if (statements != null) {
+            metricsRegistry.histogram("http_server_requests_statements", "Hibernate JDBC statements per request",
+                    Histogram.COUNTS, "handler", name)
+                .observe(statements[0]);
+            metricsRegistry.histogram("http_server_requests_statement_seconds", "Time spent in Hibernate JDBC statements per request",
+                    Histogram.SECONDS, "handler", name)
+                .observeNanos(statements[1]);
+        }
+    }
+}
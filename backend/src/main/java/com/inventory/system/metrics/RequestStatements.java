@@ -0,0 +1,34 @@
+package com.inventory.system.metrics;
+
+/**
+ * Per-thread tally of the JDBC statements Hibernate executes while a request is being handled.
+ * {@link RequestMetricsInterceptor} opens the tally, {@link StatementTimingListener} feeds it.
+ */
+public final class RequestStatements {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private RequestStatements() {
+    }
+
+    static void begin() {
+        CURRENT.set(new long[2]);
+    }
+
+    static void record(long nanos) {
+        long[] tally = CURRENT.get();
+        if (tally != null) {
+            tally[0]++;
+            tally[1] += nanos;
+        }
+    }
+
+    /**
+     * Close the tally; returns {statement count, total nanos}, or null if none was open
+     */
+    static long[] end() {
+        long[] tally = CURRENT.get();
+        CURRENT.remove();
+        return tally;
+    }
+}
@@ -0,0 +1,34 @@
+package com.inventory.system.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times every statement and batch Hibernate sends to the database and adds it to the current
+ * request's {@link RequestStatements} tally. Hibernate creates one instance per session
+ * ({@code hibernate.session.events.auto}), so the start timestamp needs no synchronization.
+ * Statements issued through JdbcTemplate bypass the session and are not counted.
+ */
+public class StatementTimingListener implements SessionEventListener {
+
+    private long startNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStatements.record(System.nanoTime() - startNanos);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStatements.record(System.nanoTime() - startNanos);
+    }
+}
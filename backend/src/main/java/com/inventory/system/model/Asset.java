@@ -14,7 +14,8 @@ import java.util.HashSet;
 @Table(name = "asset")
 public class Asset {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_asset_id_seq")
+    @SequenceGenerator(name = "asset_asset_id_seq", sequenceName = "asset_asset_id_seq", allocationSize = 50)
     @Column(name = "asset_id")
     private Long assetId;
 
@@ -35,10 +36,13 @@ public class Asset {
 
     private String name;
 
-    @Column(name = "serial_number", unique = true)
+    // Serial number, IT asset code and MAC address are unique among active assets, ignoring case:
+    // partial LOWER() indexes uq_asset_serial_number_active, uq_asset_it_asset_code_active and
+    // uq_asset_mac_address_active (V30, see AssetJdbcRepository.UniqueKey), not column constraints
+    @Column(name = "serial_number")
     private String serialNumber;
 
-    @Column(name = "it_asset_code", unique = true)
+    @Column(name = "it_asset_code")
     private String itAssetCode;
 
     @Column(name = "mac_address")
@@ -95,6 +99,13 @@ public class Asset {
     @Column(name = "license_validity_period")
     private LocalDate licenseValidityPeriod;
 
+    // Status buckets persisted for server-side filtering; recomputed on write and rolled forward nightly
+    @Column(name = "warranty_status")
+    private String warrantyStatus;
+
+    @Column(name = "license_status")
+    private String licenseStatus;
+
 
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -146,6 +157,8 @@ public class Asset {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        refreshExpiryStatus();
+        normalizeUniqueKeys();
         if (deleted == null) {
             deleted = false;
         }
@@ -154,6 +167,19 @@ public class Asset {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        refreshExpiryStatus();
+        normalizeUniqueKeys();
+    }
+
+    // Blank keys are stored as NULL so the unique indexes on them (V30) only compare real values
+    public void normalizeUniqueKeys() {
+        serialNumber = blankToNull(serialNumber);
+        itAssetCode = blankToNull(itAssetCode);
+        macAddress = blankToNull(macAddress);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     // Helper method to determine if this is a software asset
@@ -166,13 +192,47 @@ public class Asset {
         return "HARDWARE".equalsIgnoreCase(this.assetCategory);
     }
 
-    // Helper method to calculate warranty status
+    // Date and category changes invalidate the persisted buckets until the next flush recomputes them
+    public void setWarrantyExpiry(LocalDate warrantyExpiry) {
+        this.warrantyExpiry = warrantyExpiry;
+        this.warrantyStatus = null;
+    }
+
+    public void setLicenseValidityPeriod(LocalDate licenseValidityPeriod) {
+        this.licenseValidityPeriod = licenseValidityPeriod;
+        this.licenseStatus = null;
+    }
+
+    public void setAssetCategory(String assetCategory) {
+        this.assetCategory = assetCategory;
+        this.licenseStatus = null;
+    }
+
+    // Warranty status bucket: the persisted value when loaded, otherwise computed for today
     public String getWarrantyStatus() {
+        return warrantyStatus != null ? warrantyStatus : warrantyStatusOn(LocalDate.now());
+    }
+
+    // License validity status bucket: the persisted value when loaded, otherwise computed for today
+    public String getLicenseStatus() {
+        return licenseStatus != null ? licenseStatus : licenseStatusOn(LocalDate.now());
+    }
+
+    /**
+     * Recompute the persisted status buckets from the current dates; the database trigger and the
+     * nightly job in ExpiryCalendarServiceImpl apply the same thresholds
+     */
+    public void refreshExpiryStatus() {
+        LocalDate today = LocalDate.now();
+        warrantyStatus = warrantyStatusOn(today);
+        licenseStatus = licenseStatusOn(today);
+    }
+
+    private String warrantyStatusOn(LocalDate today) {
         if (warrantyExpiry == null) {
             return "NO_WARRANTY";
         }
         
-        LocalDate today = LocalDate.now();
         LocalDate warningDate = warrantyExpiry.minusMonths(3); // 3 months warning
         
         if (today.isAfter(warrantyExpiry)) {
@@ -184,13 +244,11 @@ public class Asset {
         }
     }
 
-    // Helper method to calculate license validity status
-    public String getLicenseStatus() {
+    private String licenseStatusOn(LocalDate today) {
         if (!isSoftwareAsset() || licenseValidityPeriod == null) {
             return "NOT_APPLICABLE";
         }
         
-        LocalDate today = LocalDate.now();
         LocalDate warningDate = licenseValidityPeriod.minusMonths(1); // 1 month warning for licenses
         
         if (today.isAfter(licenseValidityPeriod)) {
@@ -201,4 +259,4 @@ public class Asset {
             return "ACTIVE"; // Green
         }
     }
-} 
\ No newline at end of file
+}
@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "asset_assignment_history")
 public class AssetAssignmentHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_assignment_history_assignment_id_seq")
+    @SequenceGenerator(name = "asset_assignment_history_assignment_id_seq", sequenceName = "asset_assignment_history_assignment_id_seq", allocationSize = 50)
     @Column(name = "assignment_id")
     private Long id;
 
@@ -26,4 +27,12 @@ public class AssetAssignmentHistory {
 
     @Column(name = "unassigned_date")
     private LocalDateTime unassignedDate;
-} 
\ No newline at end of file
+
+    // Partition key of the table (V28), so it can never be null; defaults to the time of the insert
+    @PrePersist
+    protected void onCreate() {
+        if (assignedDate == null) {
+            assignedDate = LocalDateTime.now();
+        }
+    }
+}
\ No newline at end of file
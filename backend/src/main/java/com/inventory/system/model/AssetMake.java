@@ -2,13 +2,18 @@ package com.inventory.system.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
 @Table(name = "asset_make")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AssetMake {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_make_make_id_seq")
+    @SequenceGenerator(name = "asset_make_make_id_seq", sequenceName = "asset_make_make_id_seq", allocationSize = 50)
     @Column(name = "make_id")
     private Long id;
 
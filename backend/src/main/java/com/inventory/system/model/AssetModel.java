@@ -2,13 +2,18 @@ package com.inventory.system.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
 @Table(name = "asset_model")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AssetModel {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_model_model_id_seq")
+    @SequenceGenerator(name = "asset_model_model_id_seq", sequenceName = "asset_model_model_id_seq", allocationSize = 50)
     @Column(name = "model_id")
     private Long id;
 
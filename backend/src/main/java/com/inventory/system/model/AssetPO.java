@@ -21,7 +21,8 @@ import java.time.LocalDate;
 public class AssetPO {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_po_po_id_seq")
+    @SequenceGenerator(name = "asset_po_po_id_seq", sequenceName = "asset_po_po_id_seq", allocationSize = 50)
     @Column(name = "po_id")
     private Long poId;
     
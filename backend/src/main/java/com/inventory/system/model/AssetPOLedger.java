@@ -0,0 +1,32 @@
+package com.inventory.system.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fulfilment counters of one purchase order. Maintained by database triggers on the asset table
+ * (see V23__Create_PO_Fulfilment_Ledger.sql), so it is read-only here.
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "asset_po_ledger")
+public class AssetPOLedger {
+    @Id
+    @Column(name = "po_id")
+    private Long poId;
+
+    // Assets referencing the PO, including soft-deleted ones
+    @Column(name = "linked_count", nullable = false)
+    private Integer linkedCount;
+
+    // Assets referencing the PO that are not soft-deleted
+    @Column(name = "active_count", nullable = false)
+    private Integer activeCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
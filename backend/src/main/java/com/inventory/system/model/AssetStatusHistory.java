@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Table(name = "asset_status_history")
 public class AssetStatusHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_status_history_history_id_seq")
+    @SequenceGenerator(name = "asset_status_history_history_id_seq", sequenceName = "asset_status_history_history_id_seq", allocationSize = 50)
     @Column(name = "history_id")
     private Long id;
 
@@ -11,7 +11,8 @@ import java.util.HashSet;
 @Table(name = "asset_tag")
 public class AssetTag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_tag_tag_id_seq")
+    @SequenceGenerator(name = "asset_tag_tag_id_seq", sequenceName = "asset_tag_tag_id_seq", allocationSize = 50)
     @Column(name = "tag_id")
     private Long id;
 
@@ -3,14 +3,19 @@ package com.inventory.system.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Data
 @Entity
 @Table(name = "asset_type")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class AssetType {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_type_asset_type_id_seq")
+    @SequenceGenerator(name = "asset_type_asset_type_id_seq", sequenceName = "asset_type_asset_type_id_seq", allocationSize = 50)
     @Column(name = "type_id")
     private Long id;
 
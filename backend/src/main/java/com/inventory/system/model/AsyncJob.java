@@ -0,0 +1,77 @@
+package com.inventory.system.model;
+
+import com.inventory.system.enums.JobStatus;
+import com.inventory.system.enums.JobType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "async_job")
+public class AsyncJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "async_job_job_id_seq")
+    @SequenceGenerator(name = "async_job_job_id_seq", sequenceName = "async_job_job_id_seq", allocationSize = 1)
+    @Column(name = "job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status;
+
+    // The submitted request as JSON; can be large, so kept out of toString
+    @ToString.Exclude
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "total_items")
+    private long totalItems;
+
+    @Column(name = "processed_items")
+    private long processedItems;
+
+    @Column(name = "succeeded_items")
+    private long succeededItems;
+
+    @Column(name = "failed_items")
+    private long failedItems;
+
+    // Resume position after the last committed chunk, interpreted by the job's handler
+    private long checkpoint;
+
+    // Length of the result file as of the last committed chunk
+    @Column(name = "result_bytes")
+    private long resultBytes;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) {
+            status = JobStatus.QUEUED;
+        }
+    }
+}
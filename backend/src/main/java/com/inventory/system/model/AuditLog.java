@@ -10,7 +10,8 @@ import java.time.LocalDateTime;
 @Table(name = "audit_log")
 public class AuditLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_log_id_seq")
+    @SequenceGenerator(name = "audit_log_log_id_seq", sequenceName = "audit_log_log_id_seq", allocationSize = 50)
     @Column(name = "log_id")
     private Long id;
 
@@ -2,13 +2,18 @@ package com.inventory.system.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
 @Table(name = "os_version")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class OSVersion {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "os_version_os_version_id_seq")
+    @SequenceGenerator(name = "os_version_os_version_id_seq", sequenceName = "os_version_os_version_id_seq", allocationSize = 50)
     @Column(name = "os_version_id")
     private Long id;
 
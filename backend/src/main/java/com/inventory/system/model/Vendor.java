@@ -2,13 +2,18 @@ package com.inventory.system.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity
 @Table(name = "vendor")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Vendor {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vendor_vendor_id_seq")
+    @SequenceGenerator(name = "vendor_vendor_id_seq", sequenceName = "vendor_vendor_id_seq", allocationSize = 50)
     @Column(name = "vendor_id")
     private Long id;
 
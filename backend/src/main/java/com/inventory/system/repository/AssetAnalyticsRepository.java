@@ -1,13 +1,19 @@
 package com.inventory.system.repository;
 
 import com.inventory.system.model.Asset;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface AssetAnalyticsRepository extends JpaRepository<Asset, Long> {
@@ -170,4 +176,43 @@ public interface AssetAnalyticsRepository extends JpaRepository<Asset, Long> {
            "FROM Asset a WHERE a.deleted = false " +
            "GROUP BY a.assetCategory ORDER BY COUNT(a) DESC")
     List<Object[]> countAssetsByCategory();
-} 
\ No newline at end of file
+    
+    // Forward-only cursor over all active assets for the streaming full export
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Asset a " +
+           "LEFT JOIN FETCH a.assetType " +
+           "LEFT JOIN FETCH a.make " +
+           "LEFT JOIN FETCH a.model " +
+           "LEFT JOIN FETCH a.currentUser " +
+           "LEFT JOIN FETCH a.os " +
+           "LEFT JOIN FETCH a.osVersion " +
+           "LEFT JOIN FETCH a.vendor " +
+           "WHERE a.deleted = false " +
+           "ORDER BY a.assetId")
+    Stream<Asset> streamActiveAssetsForExport();
+    
+    // One keyset page of the same export, for export jobs that resume after the last asset written
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT a FROM Asset a " +
+           "LEFT JOIN FETCH a.assetType " +
+           "LEFT JOIN FETCH a.make " +
+           "LEFT JOIN FETCH a.model " +
+           "LEFT JOIN FETCH a.currentUser " +
+           "LEFT JOIN FETCH a.os " +
+           "LEFT JOIN FETCH a.osVersion " +
+           "LEFT JOIN FETCH a.vendor " +
+           "WHERE a.deleted = false AND a.assetId > :afterAssetId " +
+           "ORDER BY a.assetId")
+    List<Asset> findActiveAssetsForExportAfter(@Param("afterAssetId") Long afterAssetId, Pageable pageable);
+    
+    @Query("SELECT COUNT(a) FROM Asset a WHERE a.deleted = false")
+    long countActiveAssets();
+    
+    // Tag names for a chunk of exported assets
+    @Query("SELECT a.assetId, t.name FROM Asset a JOIN a.assignedTags t " +
+           "WHERE a.assetId IN :assetIds ORDER BY a.assetId, t.name")
+    List<Object[]> findTagNamesByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+}
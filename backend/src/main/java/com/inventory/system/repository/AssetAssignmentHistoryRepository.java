@@ -4,6 +4,8 @@ import com.inventory.system.model.AssetAssignmentHistory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,7 +18,12 @@ public interface AssetAssignmentHistoryRepository extends JpaRepository<AssetAss
     List<AssetAssignmentHistory> findByUser_Id(Long userId);
     Page<AssetAssignmentHistory> findByUser_Id(Long userId, Pageable pageable);
     Page<AssetAssignmentHistory> findByAssignedDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
-    Page<AssetAssignmentHistory> findByUnassignedDateBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+    // An assignment cannot end before it starts, so the assigned_date bound lets the partitions after endDate be pruned
+    @Query("SELECT h FROM AssetAssignmentHistory h " +
+           "WHERE h.unassignedDate BETWEEN :startDate AND :endDate AND h.assignedDate <= :endDate")
+    Page<AssetAssignmentHistory> findByUnassignedDateBetween(@Param("startDate") LocalDateTime startDate,
+                                                             @Param("endDate") LocalDateTime endDate,
+                                                             Pageable pageable);
     Page<AssetAssignmentHistory> findByUnassignedDateIsNull(Pageable pageable);
     List<AssetAssignmentHistory> findByAsset_AssetIdOrderByAssignedDateDesc(Long assetId);
     List<AssetAssignmentHistory> findByAsset_AssetIdAndUnassignedDateIsNull(Long assetId);
@@ -0,0 +1,114 @@
+package com.inventory.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based user assignment changes: one UPDATE moves the selected assets to a new user (or none)
+ * and returns who held each one, then one statement closes the open asset_assignment_history rows of
+ * those assets and one INSERT ... SELECT unnest(...) opens the new rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetAssignmentJdbcRepository {
+
+    private static final String ASSIGNMENT_ID_SEQUENCE = "asset_assignment_history_assignment_id_seq";
+
+    // Soft-deleted assets and assets already held by the target user are left alone; FOR UPDATE keeps the
+    // captured previous user consistent with concurrent single-asset assignments.
+    private static final String REASSIGN_SQL_TEMPLATE =
+        "WITH previous AS (" +
+        "SELECT asset_id, current_user_id FROM asset " +
+        "WHERE %s AND deleted = false AND current_user_id IS DISTINCT FROM CAST(? AS bigint) " +
+        "FOR UPDATE) " +
+        "UPDATE asset a SET current_user_id = ?, updated_at = ? " +
+        "FROM previous p WHERE a.asset_id = p.asset_id " +
+        "RETURNING a.asset_id, p.current_user_id";
+
+    private static final String REASSIGN_BY_IDS_SQL =
+        String.format(REASSIGN_SQL_TEMPLATE, "asset_id = ANY(CAST(? AS bigint[]))");
+
+    private static final String REASSIGN_BY_USER_SQL =
+        String.format(REASSIGN_SQL_TEMPLATE, "current_user_id = ?");
+
+    private static final String CLOSE_OPEN_ASSIGNMENTS_SQL =
+        "UPDATE asset_assignment_history SET unassigned_date = ? " +
+        "WHERE asset_id = ANY(CAST(? AS bigint[])) AND unassigned_date IS NULL";
+
+    private static final String OPEN_ASSIGNMENTS_SQL =
+        "INSERT INTO asset_assignment_history (assignment_id, asset_id, user_id, assigned_date) " +
+        "SELECT ids.assignment_id, ids.asset_id, ?, ? " +
+        "FROM unnest(CAST(? AS bigint[]), CAST(? AS bigint[])) AS ids(assignment_id, asset_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockRepository sequenceBlockRepository;
+
+    /**
+     * Move the given active assets to {@code toUserId}, or unassign them when it is null. Returns only
+     * the assets that actually changed hands.
+     */
+    public List<AssignmentChange> reassignAssets(Collection<Long> assetIds, Long toUserId, LocalDateTime changedAt) {
+        if (assetIds.isEmpty()) {
+            return List.of();
+        }
+        return reassign(REASSIGN_BY_IDS_SQL, assetIds.toArray(new Long[0]), toUserId, changedAt);
+    }
+
+    /**
+     * Move every active asset currently held by {@code fromUserId} to {@code toUserId}, or unassign
+     * them when it is null
+     */
+    public List<AssignmentChange> reassignAssetsOfUser(Long fromUserId, Long toUserId, LocalDateTime changedAt) {
+        return reassign(REASSIGN_BY_USER_SQL, fromUserId, toUserId, changedAt);
+    }
+
+    /**
+     * End every open assignment of the given assets
+     */
+    public int closeOpenAssignments(Collection<Long> assetIds, LocalDateTime unassignedAt) {
+        if (assetIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(CLOSE_OPEN_ASSIGNMENTS_SQL,
+            Timestamp.valueOf(unassignedAt), assetIds.toArray(new Long[0]));
+    }
+
+    /**
+     * Open one assignment row per asset for {@code userId} in a single statement
+     */
+    public int openAssignments(List<Long> assetIds, Long userId, LocalDateTime assignedAt) {
+        if (assetIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> assignmentIds = sequenceBlockRepository.reserve(ASSIGNMENT_ID_SEQUENCE, assetIds.size());
+        return jdbcTemplate.update(OPEN_ASSIGNMENTS_SQL,
+            userId, Timestamp.valueOf(assignedAt),
+            assignmentIds.toArray(new Long[0]), assetIds.toArray(new Long[0]));
+    }
+
+    private List<AssignmentChange> reassign(String sql, Object selector, Long toUserId, LocalDateTime changedAt) {
+        return jdbcTemplate.query(sql,
+            ps -> {
+                ps.setObject(1, selector);
+                ps.setObject(2, toUserId, Types.BIGINT);
+                ps.setObject(3, toUserId, Types.BIGINT);
+                ps.setTimestamp(4, Timestamp.valueOf(changedAt));
+            },
+            (rs, rowNum) -> new AssignmentChange(
+                rs.getLong(1),
+                rs.getObject(2) != null ? rs.getLong(2) : null));
+    }
+
+    /**
+     * One asset moved by a reassignment, with the user that held it before (null if unassigned)
+     */
+    public record AssignmentChange(Long assetId, Long previousUserId) {
+    }
+}
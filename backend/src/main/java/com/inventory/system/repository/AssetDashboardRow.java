@@ -0,0 +1,28 @@
+package com.inventory.system.repository;
+
+/**
+ * Projection for the asset dashboard: the asset columns plus the names of its type, make, model
+ * and current user, read in one joined query instead of through the entity's lazy associations
+ */
+public interface AssetDashboardRow {
+    Long getAssetId();
+    String getName();
+    String getStatus();
+    String getSerialNumber();
+    String getItAssetCode();
+    String getPoNumber();
+    String getInvoiceNumber();
+    String getInventoryLocation();
+    String getOwnerType();
+    String getAcquisitionType();
+    Long getAssetTypeId();
+    String getAssetTypeName();
+    Long getMakeId();
+    String getMakeName();
+    Long getModelId();
+    String getModelName();
+    Long getCurrentUserId();
+    String getCurrentUserName();
+    String getCurrentUserEmail();
+    String getCurrentUserDepartment();
+}
@@ -0,0 +1,141 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.dto.AssetFilterDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Facet counts for the asset filter sidebar. All requested facets come from one GROUP BY GROUPING SETS
+ * query over the filtered active assets, so the table is read once however many facets are asked for.
+ * The WHERE clause applies the same criteria, with the same normalization, as {@link AssetSpecifications}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetFacetRepository {
+
+    public static final String FACET_STATUS = "status";
+    public static final String FACET_TYPE = "type";
+    public static final String FACET_MAKE = "make";
+    public static final String FACET_DEPARTMENT = "department";
+    public static final String FACET_LOCATION = "location";
+    public static final String FACET_VENDOR = "vendor";
+    public static final String FACET_WARRANTY_STATUS = "warrantyStatus";
+
+    public static final List<String> FACETS = List.of(FACET_STATUS, FACET_TYPE, FACET_MAKE, FACET_DEPARTMENT,
+        FACET_LOCATION, FACET_VENDOR, FACET_WARRANTY_STATUS);
+
+    // Select columns 1-10 are the facet keys, 11 the GROUPING() bitmask, 12 the count
+    private static final String FACET_COLUMNS =
+        "a.status, a.asset_type_id, t.asset_type_name, a.make_id, mk.make_name, u.department, " +
+        "a.inventory_location, a.vendor_id, v.vendor_name, a.warranty_status";
+
+    private static final String GROUPING_BITS =
+        "GROUPING(a.status, a.asset_type_id, a.make_id, u.department, a.inventory_location, a.vendor_id, a.warranty_status)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Count the filtered active assets per value of each requested facet, plus the total
+     */
+    public List<FacetCount> countFacets(AssetFilterDTO filter, Set<String> facets) {
+        List<Object> params = new ArrayList<>();
+        List<String> groupingSets = new ArrayList<>();
+        groupingSets.add("()");
+        if (facets.contains(FACET_STATUS)) groupingSets.add("(a.status)");
+        if (facets.contains(FACET_TYPE)) groupingSets.add("(a.asset_type_id, t.asset_type_name)");
+        if (facets.contains(FACET_MAKE)) groupingSets.add("(a.make_id, mk.make_name)");
+        if (facets.contains(FACET_DEPARTMENT)) groupingSets.add("(u.department)");
+        if (facets.contains(FACET_LOCATION)) groupingSets.add("(a.inventory_location)");
+        if (facets.contains(FACET_VENDOR)) groupingSets.add("(a.vendor_id, v.vendor_name)");
+        if (facets.contains(FACET_WARRANTY_STATUS)) groupingSets.add("(a.warranty_status)");
+
+        String sql = "SELECT " + FACET_COLUMNS + ", " + GROUPING_BITS + ", COUNT(*) " +
+            "FROM asset a " +
+            "LEFT JOIN asset_type t ON t.type_id = a.asset_type_id " +
+            "LEFT JOIN asset_make mk ON mk.make_id = a.make_id " +
+            "LEFT JOIN \"user\" u ON u.user_id = a.current_user_id " +
+            "LEFT JOIN vendor v ON v.vendor_id = a.vendor_id " +
+            "WHERE " + whereClause(filter, params) + " " +
+            "GROUP BY GROUPING SETS (" + String.join(", ", groupingSets) + ")";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            int grouping = rs.getInt(11);
+            long count = rs.getLong(12);
+            // GROUPING() sets a bit for every column not grouped in the row; bit 6 is a.status
+            if ((grouping & 0b1000000) == 0) return new FacetCount(FACET_STATUS, rs.getString(1), null, count);
+            if ((grouping & 0b0100000) == 0) return new FacetCount(FACET_TYPE, rs.getString(3), longOrNull(rs.getObject(2)), count);
+            if ((grouping & 0b0010000) == 0) return new FacetCount(FACET_MAKE, rs.getString(5), longOrNull(rs.getObject(4)), count);
+            if ((grouping & 0b0001000) == 0) return new FacetCount(FACET_DEPARTMENT, rs.getString(6), null, count);
+            if ((grouping & 0b0000100) == 0) return new FacetCount(FACET_LOCATION, rs.getString(7), null, count);
+            if ((grouping & 0b0000010) == 0) return new FacetCount(FACET_VENDOR, rs.getString(9), longOrNull(rs.getObject(8)), count);
+            if ((grouping & 0b0000001) == 0) return new FacetCount(FACET_WARRANTY_STATUS, rs.getString(10), null, count);
+            return new FacetCount(null, null, null, count);
+        }, params.toArray());
+    }
+
+    private String whereClause(AssetFilterDTO filter, List<Object> params) {
+        List<String> predicates = new ArrayList<>();
+        predicates.add("a.deleted = false");
+        if (filter != null) {
+            anyOf(predicates, params, "a.status", "varchar", AssetSpecifications.upperCase(filter.getStatus()));
+            anyOf(predicates, params, "a.asset_category", "varchar", AssetSpecifications.upperCase(filter.getAssetCategory()));
+            anyOf(predicates, params, "a.asset_type_id", "bigint", filter.getAssetTypeId());
+            anyOf(predicates, params, "a.make_id", "bigint", filter.getMakeId());
+            anyOf(predicates, params, "a.model_id", "bigint", filter.getModelId());
+            anyOf(predicates, params, "a.current_user_id", "bigint", filter.getCurrentUserId());
+            anyOf(predicates, params, "a.vendor_id", "bigint", filter.getVendorId());
+            anyOf(predicates, params, "a.inventory_location", "varchar", filter.getInventoryLocation());
+            anyOf(predicates, params, "a.po_number", "varchar", filter.getPoNumber());
+            anyOf(predicates, params, "a.warranty_status", "varchar", AssetSpecifications.upperCase(filter.getWarrantyStatus()));
+            anyOf(predicates, params, "a.license_status", "varchar", AssetSpecifications.upperCase(filter.getLicenseStatus()));
+            anyOf(predicates, params, "u.department", "varchar", filter.getDepartment());
+            between(predicates, params, "a.acquisition_date", filter.getAcquisitionDateFrom(), filter.getAcquisitionDateTo());
+            between(predicates, params, "a.warranty_expiry", filter.getWarrantyExpiryFrom(), filter.getWarrantyExpiryTo());
+            between(predicates, params, "a.license_validity_period", filter.getLicenseValidityFrom(), filter.getLicenseValidityTo());
+            between(predicates, params, "a.lease_end_date", filter.getLeaseEndFrom(), filter.getLeaseEndTo());
+        }
+        return String.join(" AND ", predicates);
+    }
+
+    private static void anyOf(List<String> predicates, List<Object> params, String column, String sqlType,
+                              Collection<?> values) {
+        List<?> present = AssetSpecifications.present(values);
+        if (present.isEmpty()) {
+            return;
+        }
+        predicates.add(column + " = ANY(CAST(? AS " + sqlType + "[]))");
+        params.add("bigint".equals(sqlType) ? present.toArray(new Long[0]) : present.toArray(new String[0]));
+    }
+
+    private static void between(List<String> predicates, List<Object> params, String column, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(column + " range start " + from + " is after its end " + to);
+        }
+        if (from != null) {
+            predicates.add(column + " >= ?");
+            params.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            predicates.add(column + " <= ?");
+            params.add(Date.valueOf(to));
+        }
+    }
+
+    private static Long longOrNull(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * One facet value and its count; facet is null for the total row. label is null for assets without a value.
+     */
+    public record FacetCount(String facet, String label, Long id, long count) {
+    }
+}
@@ -0,0 +1,225 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.model.Asset;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * JDBC access for high-volume asset writes that bypass the persistence context.
+ * Runs inside the caller's JPA transaction through the shared DataSource.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetJdbcRepository {
+
+    private static final String ASSET_ID_SEQUENCE = "asset_asset_id_seq";
+
+    private static final String INSERT_ASSET_SQL =
+        "INSERT INTO asset (asset_id, asset_type_id, asset_category, make_id, model_id, name, serial_number, " +
+        "it_asset_code, mac_address, ipv4_address, status, owner_type, acquisition_type, current_user_id, " +
+        "inventory_location, os_id, os_version_id, po_number, invoice_number, acquisition_date, warranty_expiry, " +
+        "extended_warranty_expiry, lease_end_date, license_name, license_validity_period, vendor_id, " +
+        "extended_warranty_vendor_id, rental_amount, acquisition_price, depreciation_pct, current_price, " +
+        "min_contract_period, tags, created_at, updated_at, deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT DO NOTHING";
+
+    private static final String SELECT_STORED_IDS_SQL = "SELECT asset_id FROM asset WHERE asset_id = ANY (?)";
+
+    // One BitmapOr over the three unique key indexes
+    private static final String SELECT_ACTIVE_KEYS_SQL =
+        "SELECT LOWER(serial_number), LOWER(it_asset_code), LOWER(mac_address) FROM asset " +
+        "WHERE deleted = false AND (LOWER(serial_number) = ANY (?) OR LOWER(it_asset_code) = ANY (?) OR LOWER(mac_address) = ANY (?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockRepository sequenceBlockRepository;
+
+    /**
+     * Reserve a block of asset IDs from the asset sequence in a single round trip
+     */
+    public List<Long> reserveAssetIds(int count) {
+        return sequenceBlockRepository.reserve(ASSET_ID_SEQUENCE, count);
+    }
+
+    /**
+     * Insert assets that already carry their IDs and timestamps using JDBC batches. A row whose serial
+     * number, IT asset code or MAC address is already held by an active asset is skipped instead of
+     * failing the batch; that includes keys taken by a concurrent writer that commits first.
+     * @return IDs of the skipped assets
+     */
+    public Set<Long> batchInsertSkippingConflicts(List<Asset> assets, int batchSize) {
+        assets.forEach(Asset::normalizeUniqueKeys);
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_ASSET_SQL, assets, batchSize, this::bindAsset);
+
+        Set<Long> skipped = new HashSet<>();
+        boolean countsKnown = true;
+        int row = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    countsKnown = false;
+                } else if (count == 0) {
+                    skipped.add(assets.get(row).getAssetId());
+                }
+                row++;
+            }
+        }
+        if (countsKnown) {
+            return skipped;
+        }
+
+        // Batches rewritten into multi-row INSERTs (reWriteBatchedInserts) carry no per-row counts,
+        // so look up which of the reserved IDs made it into the table
+        Set<Long> stored = new HashSet<>(jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_STORED_IDS_SQL);
+            ps.setArray(1, con.createArrayOf("bigint", assets.stream().map(Asset::getAssetId).toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1)));
+
+        skipped.clear();
+        assets.stream()
+            .map(Asset::getAssetId)
+            .filter(assetId -> !stored.contains(assetId))
+            .forEach(skipped::add);
+        return skipped;
+    }
+
+    /**
+     * The unique keys of each given asset that an active asset already holds, keyed by asset ID.
+     * Used to explain rows skipped by {@link #batchInsertSkippingConflicts}.
+     */
+    public Map<Long, List<UniqueKey>> findConflictingKeys(Collection<Asset> assets) {
+        Map<UniqueKey, Set<String>> taken = new EnumMap<>(UniqueKey.class);
+        Map<UniqueKey, Object[]> wanted = new EnumMap<>(UniqueKey.class);
+        for (UniqueKey key : UniqueKey.values()) {
+            taken.put(key, new HashSet<>());
+            wanted.put(key, assets.stream().map(key::lowerValue).filter(Objects::nonNull).distinct().toArray());
+        }
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_ACTIVE_KEYS_SQL);
+            int i = 1;
+            for (UniqueKey key : UniqueKey.values()) {
+                ps.setArray(i++, con.createArrayOf("text", wanted.get(key)));
+            }
+            return ps;
+        }, rs -> {
+            int column = 1;
+            for (UniqueKey key : UniqueKey.values()) {
+                String value = rs.getString(column++);
+                if (value != null) {
+                    taken.get(key).add(value);
+                }
+            }
+        });
+
+        Map<Long, List<UniqueKey>> conflicts = new HashMap<>();
+        for (Asset asset : assets) {
+            List<UniqueKey> keys = new ArrayList<>();
+            for (UniqueKey key : UniqueKey.values()) {
+                String value = key.lowerValue(asset);
+                if (value != null && taken.get(key).contains(value)) {
+                    keys.add(key);
+                }
+            }
+            conflicts.put(asset.getAssetId(), keys);
+        }
+        return conflicts;
+    }
+
+    private void bindAsset(PreparedStatement ps, Asset asset) throws SQLException {
+        int i = 1;
+        ps.setLong(i++, asset.getAssetId());
+        ps.setObject(i++, asset.getAssetType() != null ? asset.getAssetType().getId() : null);
+        ps.setString(i++, asset.getAssetCategory());
+        ps.setObject(i++, asset.getMake() != null ? asset.getMake().getId() : null);
+        ps.setObject(i++, asset.getModel() != null ? asset.getModel().getId() : null);
+        ps.setString(i++, asset.getName());
+        ps.setString(i++, asset.getSerialNumber());
+        ps.setString(i++, asset.getItAssetCode());
+        ps.setString(i++, asset.getMacAddress());
+        ps.setString(i++, asset.getIpv4Address());
+        ps.setString(i++, asset.getStatus());
+        ps.setString(i++, asset.getOwnerType());
+        ps.setString(i++, asset.getAcquisitionType());
+        ps.setObject(i++, asset.getCurrentUser() != null ? asset.getCurrentUser().getId() : null);
+        ps.setString(i++, asset.getInventoryLocation());
+        ps.setObject(i++, asset.getOs() != null ? asset.getOs().getId() : null);
+        ps.setObject(i++, asset.getOsVersion() != null ? asset.getOsVersion().getId() : null);
+        ps.setString(i++, asset.getPoNumber());
+        ps.setString(i++, asset.getInvoiceNumber());
+        ps.setObject(i++, asset.getAcquisitionDate());
+        ps.setObject(i++, asset.getWarrantyExpiry());
+        ps.setObject(i++, asset.getExtendedWarrantyExpiry());
+        ps.setObject(i++, asset.getLeaseEndDate());
+        ps.setString(i++, asset.getLicenseName());
+        ps.setObject(i++, asset.getLicenseValidityPeriod());
+        ps.setObject(i++, asset.getVendor() != null ? asset.getVendor().getId() : null);
+        ps.setObject(i++, asset.getExtendedWarrantyVendor() != null ? asset.getExtendedWarrantyVendor().getId() : null);
+        ps.setBigDecimal(i++, asset.getRentalAmount());
+        ps.setBigDecimal(i++, asset.getAcquisitionPrice());
+        ps.setBigDecimal(i++, asset.getDepreciationPct());
+        ps.setBigDecimal(i++, asset.getCurrentPrice());
+        ps.setObject(i++, asset.getMinContractPeriod());
+        ps.setString(i++, asset.getTags());
+        ps.setTimestamp(i++, asset.getCreatedAt() != null ? Timestamp.valueOf(asset.getCreatedAt()) : null);
+        ps.setTimestamp(i++, asset.getUpdatedAt() != null ? Timestamp.valueOf(asset.getUpdatedAt()) : null);
+        ps.setBoolean(i, Boolean.TRUE.equals(asset.getDeleted()));
+    }
+
+    /**
+     * Case-insensitive unique keys of active assets and the V30 indexes that enforce them
+     */
+    public enum UniqueKey {
+        SERIAL_NUMBER("uq_asset_serial_number_active", "serialNumber", "Serial number", Asset::getSerialNumber),
+        IT_ASSET_CODE("uq_asset_it_asset_code_active", "itAssetCode", "IT Asset Code", Asset::getItAssetCode),
+        MAC_ADDRESS("uq_asset_mac_address_active", "macAddress", "MAC Address", Asset::getMacAddress);
+
+        @Getter
+        private final String indexName;
+        @Getter
+        private final String field;
+        @Getter
+        private final String label;
+        private final Function<Asset, String> getter;
+
+        UniqueKey(String indexName, String field, String label, Function<Asset, String> getter) {
+            this.indexName = indexName;
+            this.field = field;
+            this.label = label;
+            this.getter = getter;
+        }
+
+        public String duplicateMessage(Asset asset) {
+            return label + " already exists (case-insensitive): " + getter.apply(asset);
+        }
+
+        private String lowerValue(Asset asset) {
+            String value = getter.apply(asset);
+            return value != null ? value.toLowerCase(Locale.ROOT) : null;
+        }
+
+        /**
+         * The key whose index rejected a write, if the violation came from one of them
+         */
+        public static Optional<UniqueKey> violatedBy(DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            if (message == null) {
+                return Optional.empty();
+            }
+            return Arrays.stream(values())
+                .filter(key -> message.contains(key.indexName))
+                .findFirst();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.dto.KeysetCursor;
+import com.inventory.system.model.Asset;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination over active assets. Each page continues from the (sort value, asset_id)
+ * of the previous page's last row instead of an OFFSET, so every page costs the same index range
+ * scan, and no COUNT query is issued unless the caller asks for one.
+ *
+ * NULL sort values follow PostgreSQL's default ordering (last for ASC, first for DESC), which lets
+ * the (sort key, asset_id) indexes serve both directions.
+ */
+@Repository
+public class AssetKeysetRepository {
+
+    public static final String DEFAULT_SORT = "assetId";
+
+    private static final String SEARCH_PREDICATE =
+        " AND (LOWER(a.name) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+        "LOWER(a.serialNumber) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+        "LOWER(a.itAssetCode) LIKE LOWER(CONCAT('%', :search, '%')))";
+
+    private static final Map<String, SortKey> SORT_KEYS = Map.of(
+        "assetId", new SortKey(Long.class, Asset::getAssetId),
+        "name", new SortKey(String.class, Asset::getName),
+        "serialNumber", new SortKey(String.class, Asset::getSerialNumber),
+        "itAssetCode", new SortKey(String.class, Asset::getItAssetCode),
+        "status", new SortKey(String.class, Asset::getStatus),
+        "createdAt", new SortKey(LocalDateTime.class, Asset::getCreatedAt),
+        "updatedAt", new SortKey(LocalDateTime.class, Asset::getUpdatedAt)
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Fetch one page of active assets, optionally filtered by a name/serial/IT code search term
+     * @param after Cursor of the previous page, or null for the first page
+     */
+    public KeysetWindow findActive(String search, String sortBy, Sort.Direction direction, KeysetCursor after, int size) {
+        if (after != null) {
+            sortBy = after.getSortBy();
+            direction = after.getDirection();
+        }
+        SortKey sortKey = sortKey(sortBy);
+        boolean ascending = direction.isAscending();
+        boolean byId = DEFAULT_SORT.equals(sortBy);
+        boolean hasSearch = search != null && !search.isBlank();
+
+        StringBuilder base = new StringBuilder("SELECT a FROM Asset a WHERE a.deleted = false");
+        if (hasSearch) {
+            base.append(SEARCH_PREDICATE);
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        if (!byId) {
+            orderBy.append("a.").append(sortBy).append(ascending ? " ASC NULLS LAST, " : " DESC NULLS FIRST, ");
+        }
+        orderBy.append("a.assetId ").append(ascending ? "ASC" : "DESC");
+
+        // Each seek range is its own index range scan; the next one is only read once the previous is exhausted.
+        // One extra row tells us whether another page exists.
+        List<String> seeks = after == null ? List.of("") : seekPredicates(sortBy, byId, ascending, after.getLastValue() == null);
+        List<Asset> rows = new ArrayList<>(size + 1);
+        for (String seek : seeks) {
+            if (rows.size() > size) {
+                break;
+            }
+            String jpql = base + seek + orderBy;
+            TypedQuery<Asset> query = entityManager.createQuery(jpql, Asset.class);
+            if (hasSearch) {
+                query.setParameter("search", search);
+            }
+            if (jpql.contains(":lastId")) {
+                query.setParameter("lastId", after.getLastAssetId());
+            }
+            if (jpql.contains(":lastValue")) {
+                query.setParameter("lastValue", sortKey.parse(after.getLastValue()));
+            }
+            rows.addAll(query.setMaxResults(size + 1 - rows.size()).getResultList());
+        }
+
+        if (rows.size() <= size) {
+            return new KeysetWindow(rows, null);
+        }
+        List<Asset> content = rows.subList(0, size);
+        Asset last = content.get(size - 1);
+        Object lastValue = sortKey.extractor().apply(last);
+        KeysetCursor next = new KeysetCursor(sortBy, direction, last.getAssetId(),
+            lastValue != null ? lastValue.toString() : null);
+        return new KeysetWindow(content, next.encode());
+    }
+
+    /**
+     * Total active assets matching the search term; only run when the client asks for it
+     */
+    public long countActive(String search) {
+        boolean hasSearch = search != null && !search.isBlank();
+        String jpql = "SELECT COUNT(a) FROM Asset a WHERE a.deleted = false" + (hasSearch ? SEARCH_PREDICATE : "");
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        if (hasSearch) {
+            query.setParameter("search", search);
+        }
+        return query.getSingleResult();
+    }
+
+    /**
+     * Seek ranges that follow the cursor, in page order. A row-value comparison on (sort key, asset_id)
+     * starts an index range scan at the cursor; an OR-expanded form would make PostgreSQL walk the index
+     * from the start and filter. NULL sort values are a separate range, since a row comparison with a
+     * NULL key never matches.
+     */
+    private static List<String> seekPredicates(String sortBy, boolean byId, boolean ascending, boolean lastValueNull) {
+        String op = ascending ? ">" : "<";
+        if (byId) {
+            return List.of(" AND a.assetId " + op + " :lastId");
+        }
+        String key = "a." + sortBy;
+        if (ascending) {
+            // ASC NULLS LAST: after a value come larger values, ties by id, then all NULLs
+            return lastValueNull
+                ? List.of(" AND " + key + " IS NULL AND a.assetId > :lastId")
+                : List.of(" AND (" + key + ", a.assetId) > (:lastValue, :lastId)", " AND " + key + " IS NULL");
+        }
+        // DESC NULLS FIRST: after a NULL come the remaining NULLs by id, then every value
+        return lastValueNull
+            ? List.of(" AND " + key + " IS NULL AND a.assetId < :lastId", " AND " + key + " IS NOT NULL")
+            : List.of(" AND (" + key + ", a.assetId) < (:lastValue, :lastId)");
+    }
+
+    private static SortKey sortKey(String sortBy) {
+        SortKey sortKey = SORT_KEYS.get(sortBy);
+        if (sortKey == null) {
+            throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + sortBy +
+                ". Supported fields: " + String.join(", ", SORT_KEYS.keySet()));
+        }
+        return sortKey;
+    }
+
+    private record SortKey(Class<?> type, Function<Asset, Object> extractor) {
+        Object parse(String value) {
+            if (type == Long.class) {
+                return Long.valueOf(value);
+            }
+            if (type == LocalDateTime.class) {
+                try {
+                    return LocalDateTime.parse(value);
+                } catch (DateTimeParseException e) {
+                    throw new IllegalArgumentException("Invalid pagination cursor", e);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * One page of results and the cursor for the next page (null on the last page)
+     */
+    public record KeysetWindow(List<Asset> content, String nextCursor) {
+    }
+}
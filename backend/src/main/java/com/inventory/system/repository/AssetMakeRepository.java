@@ -4,9 +4,12 @@ import com.inventory.system.model.AssetMake;
 import com.inventory.system.model.AssetType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AssetMakeRepository extends BaseRepository<AssetMake, Long> {
@@ -34,4 +37,10 @@ public interface AssetMakeRepository extends BaseRepository<AssetMake, Long> {
     List<AssetMake> findByStatusAndAssetTypeId(String status, Long typeId);
     Page<AssetMake> findByStatusAndAssetTypeId(String status, Long typeId, Pageable pageable);
     List<AssetMake> findByStatusOrderByNameAsc(String status);
-} 
\ No newline at end of file
+
+    /**
+     * Load a make with its asset type initialized, for the reference-data cache
+     */
+    @Query("SELECT mk FROM AssetMake mk LEFT JOIN FETCH mk.assetType WHERE mk.id = :id")
+    Optional<AssetMake> findByIdWithType(@Param("id") Long id);
+}
@@ -4,9 +4,12 @@ import com.inventory.system.model.AssetModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AssetModelRepository extends JpaRepository<AssetModel, Long> {
@@ -21,4 +24,10 @@ public interface AssetModelRepository extends JpaRepository<AssetModel, Long> {
     List<AssetModel> findByStatusAndMakeId(String status, Long makeId);
     Page<AssetModel> findByStatusAndMakeId(String status, Long makeId, Pageable pageable);
     List<AssetModel> findByStatusOrderByNameAsc(String status);
-} 
\ No newline at end of file
+
+    /**
+     * Load a model with its make and the make's asset type initialized, for the reference-data cache
+     */
+    @Query("SELECT m FROM AssetModel m LEFT JOIN FETCH m.make mk LEFT JOIN FETCH mk.assetType WHERE m.id = :id")
+    Optional<AssetModel> findByIdWithHierarchy(@Param("id") Long id);
+}
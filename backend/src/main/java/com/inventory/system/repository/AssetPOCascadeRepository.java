@@ -0,0 +1,133 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.model.AssetPO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Set-based propagation of purchase order changes to the assets bought on it. Assets are touched
+ * with UPDATE statements over chunks of asset IDs, so no asset entity is loaded and each statement
+ * (its ID array, plan and WAL burst) stays bounded in size.
+ *
+ * Chunking does not bound lock time: every chunk runs in the caller's transaction, so the row locks
+ * of all chunks are held until it commits. That is deliberate. A PO change and its propagation, or a
+ * PO delete and its asset soft deletes, must commit or roll back together; committing chunks on their
+ * own would leave assets half-updated, or soft-deleted under a PO that still exists, when a later step fails.
+ *
+ * PO number renames need no statement here: asset.po_number references asset_po.po_number with
+ * ON UPDATE CASCADE, so renaming the PO row moves its assets in the same statement.
+ *
+ * Runs inside the caller's JPA transaction; flush pending PO changes before calling.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetPOCascadeRepository {
+
+    private static final String COUNT_LINKED_SQL =
+        "SELECT COUNT(*) FROM asset WHERE po_number = ?";
+
+    private static final String COUNT_ACTIVE_LINKED_SQL =
+        "SELECT COUNT(*) FROM asset WHERE po_number = ? AND deleted = false";
+
+    private static final String NEXT_CHUNK_SQL =
+        "SELECT asset_id FROM asset WHERE po_number = ? AND deleted = false AND asset_id > ? " +
+        "ORDER BY asset_id LIMIT ?";
+
+    // Only rows whose values actually differ are rewritten and counted
+    private static final String PROPAGATE_FIELDS_SQL =
+        "UPDATE asset SET invoice_number = ?, acquisition_date = ?, owner_type = ?, acquisition_type = ?, " +
+        "lease_end_date = ?, rental_amount = ?, acquisition_price = ?, depreciation_pct = ?, current_price = ?, " +
+        "min_contract_period = ?, updated_at = now() " +
+        "WHERE asset_id = ANY(?) AND (invoice_number IS DISTINCT FROM ? OR acquisition_date IS DISTINCT FROM ? OR " +
+        "owner_type IS DISTINCT FROM ? OR acquisition_type IS DISTINCT FROM ? OR lease_end_date IS DISTINCT FROM ? OR " +
+        "rental_amount IS DISTINCT FROM ? OR acquisition_price IS DISTINCT FROM ? OR depreciation_pct IS DISTINCT FROM ? OR " +
+        "current_price IS DISTINCT FROM ? OR min_contract_period IS DISTINCT FROM ?)";
+
+    private static final String SOFT_DELETE_SQL =
+        "UPDATE asset SET deleted = true, updated_at = now() WHERE asset_id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of assets (including soft-deleted ones) that reference the PO number
+     */
+    public long countLinkedAssets(String poNumber) {
+        Long count = jdbcTemplate.queryForObject(COUNT_LINKED_SQL, Long.class, poNumber);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Number of active (not soft-deleted) assets on the PO
+     */
+    public long countActiveLinkedAssets(String poNumber) {
+        Long count = jdbcTemplate.queryForObject(COUNT_ACTIVE_LINKED_SQL, Long.class, poNumber);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Copy the PO's acquisition fields onto its active assets
+     * @return number of assets whose values changed
+     */
+    public int propagatePoFields(AssetPO po, int chunkSize) {
+        BigDecimal depreciationPct = po.getDepreciationPct() != null ? BigDecimal.valueOf(po.getDepreciationPct()) : null;
+        Object[] values = {
+            po.getInvoiceNumber(), po.getAcquisitionDate(), po.getOwnerType(), po.getAcquisitionType(),
+            po.getLeaseEndDate(), po.getRentalAmount(), po.getAcquisitionPrice(), depreciationPct,
+            po.getCurrentPrice(), po.getMinContractPeriod()
+        };
+
+        int updated = 0;
+        for (List<Long> chunk = nextChunk(po.getPoNumber(), 0L, chunkSize); !chunk.isEmpty();
+             chunk = nextChunk(po.getPoNumber(), chunk.get(chunk.size() - 1), chunkSize)) {
+            List<Long> ids = chunk;
+            updated += jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(PROPAGATE_FIELDS_SQL);
+                int i = 1;
+                for (Object value : values) {
+                    ps.setObject(i++, value);
+                }
+                ps.setArray(i++, idArray(connection, ids));
+                for (Object value : values) {
+                    ps.setObject(i++, value);
+                }
+                return ps;
+            });
+        }
+        return updated;
+    }
+
+    /**
+     * Soft delete every active asset on the PO
+     * @return number of assets deleted
+     */
+    public int softDeleteByPoNumber(String poNumber, int chunkSize) {
+        int deleted = 0;
+        // Deleted rows drop out of the chunk query, so the cursor only has to skip past the last ID seen
+        for (List<Long> chunk = nextChunk(poNumber, 0L, chunkSize); !chunk.isEmpty();
+             chunk = nextChunk(poNumber, chunk.get(chunk.size() - 1), chunkSize)) {
+            List<Long> ids = chunk;
+            deleted += jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SOFT_DELETE_SQL);
+                ps.setArray(1, idArray(connection, ids));
+                return ps;
+            });
+        }
+        return deleted;
+    }
+
+    private List<Long> nextChunk(String poNumber, Long afterAssetId, int chunkSize) {
+        return jdbcTemplate.queryForList(NEXT_CHUNK_SQL, Long.class, poNumber, afterAssetId, chunkSize);
+    }
+
+    private static Array idArray(Connection connection, List<Long> ids) throws SQLException {
+        return connection.createArrayOf("bigint", ids.toArray());
+    }
+}
@@ -0,0 +1,21 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.model.AssetPOLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AssetPOLedgerRepository extends JpaRepository<AssetPOLedger, Long> {
+
+    @Query("SELECT l FROM AssetPOLedger l WHERE l.poId IN :poIds")
+    List<AssetPOLedger> findByPoIdIn(@Param("poIds") Collection<Long> poIds);
+
+    @Query("SELECT l FROM AssetPOLedger l, AssetPO p WHERE p.poId = l.poId AND p.poNumber = :poNumber")
+    Optional<AssetPOLedger> findByPoNumber(@Param("poNumber") String poNumber);
+}
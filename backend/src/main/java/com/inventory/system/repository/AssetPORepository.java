@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,9 @@ public interface AssetPORepository extends JpaRepository<AssetPO, Long> {
     @Query("SELECT a FROM AssetPO a WHERE a.poNumber = :poNumber")
     Optional<AssetPO> findByPoNumber(@Param("poNumber") String poNumber);
     
+    @Query("SELECT a FROM AssetPO a WHERE a.poNumber IN :poNumbers")
+    List<AssetPO> findByPoNumberIn(@Param("poNumbers") Collection<String> poNumbers);
+    
     @Query("SELECT COUNT(a) > 0 FROM AssetPO a WHERE a.poNumber = :poNumber AND a.id != :id")
     boolean existsByPoNumberAndIdNot(@Param("poNumber") String poNumber, @Param("id") Long id);
     
@@ -30,10 +34,6 @@ public interface AssetPORepository extends JpaRepository<AssetPO, Long> {
     
     // Removed filtering methods - use frontend filtering instead
     
-    // Rented items expiring soon (updated to use 'Rented' instead of 'Leased')
-    @Query("SELECT a FROM AssetPO a WHERE a.acquisitionType = 'Rented' AND a.leaseEndDate BETWEEN :startDate AND :endDate")
-    List<AssetPO> findRentalsExpiringBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
-    
     // Removed complex filtering query - use frontend filtering instead
     
     // Get distinct PO numbers
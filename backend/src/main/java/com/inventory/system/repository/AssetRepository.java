@@ -3,6 +3,7 @@ package com.inventory.system.repository;
 import com.inventory.system.model.Asset;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,10 +12,24 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface AssetRepository extends BaseRepository<Asset, Long> {
+public interface AssetRepository extends BaseRepository<Asset, Long>, JpaSpecificationExecutor<Asset> {
+    String DASHBOARD_ROW_SELECT = "SELECT a.assetId AS assetId, a.name AS name, a.status AS status, " +
+           "a.serialNumber AS serialNumber, a.itAssetCode AS itAssetCode, a.poNumber AS poNumber, " +
+           "a.invoiceNumber AS invoiceNumber, a.inventoryLocation AS inventoryLocation, " +
+           "a.ownerType AS ownerType, a.acquisitionType AS acquisitionType, " +
+           "t.id AS assetTypeId, t.name AS assetTypeName, mk.id AS makeId, mk.name AS makeName, " +
+           "md.id AS modelId, md.name AS modelName, u.id AS currentUserId, " +
+           "u.fullNameOrOfficeName AS currentUserName, u.email AS currentUserEmail, u.department AS currentUserDepartment " +
+           "FROM Asset a LEFT JOIN a.assetType t LEFT JOIN a.make mk LEFT JOIN a.model md LEFT JOIN a.currentUser u ";
+
+    String DASHBOARD_SEARCH_PREDICATE = " AND (LOWER(a.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(a.serialNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(a.itAssetCode) LIKE LOWER(CONCAT('%', :searchTerm, '%')))";
+
     @Query("SELECT a FROM Asset a WHERE a.deleted = false")
     Page<Asset> findAllActive(Pageable pageable);
 
@@ -24,7 +39,27 @@ public interface AssetRepository extends BaseRepository<Asset, Long> {
            "LOWER(a.itAssetCode) LIKE LOWER(CONCAT('%', :search, '%')))")
     Page<Asset> searchAssets(@Param("search") String search, Pageable pageable);
     
-    // Removed filtering queries - use frontend filtering instead
+    // Dynamic filtering: JpaSpecificationExecutor with AssetSpecifications
+    
+    // Typeahead: prefix matches served by the text_pattern_ops indexes (pattern is lower-cased, escaped, ending in %)
+    @Query(value = "SELECT a.asset_id AS id, a.name AS label, " +
+           "CONCAT_WS(' / ', a.serial_number, a.it_asset_code) AS detail, 1.0 AS score " +
+           "FROM asset a WHERE a.deleted = false AND " +
+           "(LOWER(a.name) LIKE :prefix OR LOWER(a.serial_number) LIKE :prefix OR LOWER(a.it_asset_code) LIKE :prefix) " +
+           "ORDER BY LOWER(a.name), a.asset_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestByPrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+    
+    // Typeahead: substring matches served by the trigram GIN indexes, ranked by best column similarity
+    @Query(value = "SELECT a.asset_id AS id, a.name AS label, " +
+           "CONCAT_WS(' / ', a.serial_number, a.it_asset_code) AS detail, " +
+           "GREATEST(similarity(LOWER(COALESCE(a.name, '')), :term), " +
+           "similarity(LOWER(COALESCE(a.serial_number, '')), :term), " +
+           "similarity(LOWER(COALESCE(a.it_asset_code, '')), :term)) AS score " +
+           "FROM asset a WHERE a.deleted = false AND " +
+           "(LOWER(a.name) LIKE :contains OR LOWER(a.serial_number) LIKE :contains OR LOWER(a.it_asset_code) LIKE :contains) " +
+           "ORDER BY score DESC, a.asset_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestBySimilarity(@Param("term") String term, @Param("contains") String contains, @Param("limit") int limit);
+    
     
     @Query("SELECT COUNT(a) > 0 FROM Asset a WHERE a.deleted = false AND a.serialNumber = :serialNumber")
     boolean existsBySerialNumber(@Param("serialNumber") String serialNumber);
@@ -32,6 +67,7 @@ public interface AssetRepository extends BaseRepository<Asset, Long> {
     @Query("SELECT COUNT(a) > 0 FROM Asset a WHERE a.deleted = false AND a.itAssetCode = :itAssetCode")
     boolean existsByItAssetCode(@Param("itAssetCode") String itAssetCode);
     
+    // Case-insensitive lookups are served by the unique LOWER(col) indexes (V30)
     @Query("SELECT COUNT(a) > 0 FROM Asset a WHERE a.deleted = false AND LOWER(a.serialNumber) = LOWER(:serialNumber)")
     boolean existsBySerialNumberIgnoreCase(@Param("serialNumber") String serialNumber);
     
@@ -41,8 +77,6 @@ public interface AssetRepository extends BaseRepository<Asset, Long> {
     @Query("SELECT COUNT(a) > 0 FROM Asset a WHERE a.deleted = false AND LOWER(a.macAddress) = LOWER(:macAddress)")
     boolean existsByMacAddressIgnoreCase(@Param("macAddress") String macAddress);
     
-    // Removed warranty filtering queries - use frontend filtering instead
-    
     @Query("SELECT a FROM Asset a WHERE a.deleted = true")
     Page<Asset> findAllDeleted(Pageable pageable);
     
@@ -62,6 +96,9 @@ public interface AssetRepository extends BaseRepository<Asset, Long> {
     // Bulk operations by PO number
     @Query("SELECT a FROM Asset a WHERE a.deleted = false AND a.poNumber = :poNumber")
     List<Asset> findByPoNumber(@Param("poNumber") String poNumber);
+
+    @Query("SELECT a FROM Asset a WHERE a.deleted = false AND a.poNumber = :poNumber ORDER BY a.assetId")
+    List<Asset> findByPoNumber(@Param("poNumber") String poNumber, Pageable pageable);
     
     @Modifying
     @Query("UPDATE Asset a SET a.poNumber = :newPoNumber WHERE a.poNumber = :oldPoNumber")
@@ -105,12 +142,22 @@ public interface AssetRepository extends BaseRepository<Asset, Long> {
     boolean existsByMacAddressIgnoreCaseAndAssetIdNot(@Param("macAddress") String macAddress, @Param("assetId") Long assetId);
     
     // Additional methods for Asset Assignment Management
-    @Query("SELECT a FROM Asset a WHERE a.deleted = false")
-    Page<Asset> findByDeletedFalse(Pageable pageable);
-    
-    @Query("SELECT a FROM Asset a WHERE a.deleted = false AND " +
-           "(LOWER(a.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(a.serialNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(a.itAssetCode) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    Page<Asset> findByDeletedFalseAndSearchTerm(@Param("searchTerm") String searchTerm, Pageable pageable);
-} 
\ No newline at end of file
+    // Dashboard read model: a page costs one query for the rows, one for the count and one for the tags
+    @Query(value = DASHBOARD_ROW_SELECT + "WHERE a.deleted = false",
+           countQuery = "SELECT COUNT(a) FROM Asset a WHERE a.deleted = false")
+    Page<AssetDashboardRow> findDashboardRows(Pageable pageable);
+
+    @Query(value = DASHBOARD_ROW_SELECT + "WHERE a.deleted = false" + DASHBOARD_SEARCH_PREDICATE,
+           countQuery = "SELECT COUNT(a) FROM Asset a WHERE a.deleted = false" + DASHBOARD_SEARCH_PREDICATE)
+    Page<AssetDashboardRow> searchDashboardRows(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query(DASHBOARD_ROW_SELECT + "WHERE a.assetId IN :assetIds")
+    List<AssetDashboardRow> findDashboardRowsByIds(@Param("assetIds") Collection<Long> assetIds);
+
+    /**
+     * (asset_id, tag_id, tag_name) for every tag assigned to the given assets, lowest tag id first
+     */
+    @Query("SELECT a.assetId, t.id, t.name FROM Asset a JOIN a.assignedTags t " +
+           "WHERE a.assetId IN :assetIds ORDER BY a.assetId, t.id")
+    List<Object[]> findTagsByAssetIds(@Param("assetIds") Collection<Long> assetIds);
+}
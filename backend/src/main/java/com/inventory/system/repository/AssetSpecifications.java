@@ -0,0 +1,140 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.dto.AssetFilterDTO;
+import com.inventory.system.model.Asset;
+import com.inventory.system.model.User;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Composable JPA Specifications over active assets. Each criterion compares a plain column so the
+ * partial (column, asset_id) indexes of V19/V27 can serve the filter and the asset_id tiebreak order.
+ */
+public final class AssetSpecifications {
+
+    private AssetSpecifications() {
+    }
+
+    /**
+     * Combine every criterion set on the filter with AND, always restricted to active assets
+     */
+    public static Specification<Asset> fromFilter(AssetFilterDTO filter) {
+        Specification<Asset> spec = active();
+        if (filter == null) {
+            return spec;
+        }
+        spec = spec
+            .and(in("status", upperCase(filter.getStatus())))
+            .and(in("assetCategory", upperCase(filter.getAssetCategory())))
+            .and(idIn("assetType", filter.getAssetTypeId()))
+            .and(idIn("make", filter.getMakeId()))
+            .and(idIn("model", filter.getModelId()))
+            .and(idIn("currentUser", filter.getCurrentUserId()))
+            .and(idIn("vendor", filter.getVendorId()))
+            .and(in("inventoryLocation", filter.getInventoryLocation()))
+            .and(in("poNumber", filter.getPoNumber()))
+            .and(in("warrantyStatus", upperCase(filter.getWarrantyStatus())))
+            .and(in("licenseStatus", upperCase(filter.getLicenseStatus())))
+            .and(userDepartmentIn(filter.getDepartment()))
+            .and(between("acquisitionDate", filter.getAcquisitionDateFrom(), filter.getAcquisitionDateTo()))
+            .and(between("warrantyExpiry", filter.getWarrantyExpiryFrom(), filter.getWarrantyExpiryTo()))
+            .and(between("licenseValidityPeriod", filter.getLicenseValidityFrom(), filter.getLicenseValidityTo()))
+            .and(between("leaseEndDate", filter.getLeaseEndFrom(), filter.getLeaseEndTo()));
+        return spec;
+    }
+
+    public static Specification<Asset> active() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+
+    /**
+     * Attribute equals one of the values; no restriction when values is empty
+     */
+    public static Specification<Asset> in(String attribute, Collection<?> values) {
+        List<?> present = present(values);
+        if (present.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> present.size() == 1
+            ? cb.equal(root.get(attribute), present.get(0))
+            : root.get(attribute).in(present);
+    }
+
+    /**
+     * Many-to-one association id equals one of the values; compares the foreign key column without a join
+     */
+    public static Specification<Asset> idIn(String association, Collection<Long> ids) {
+        List<?> present = present(ids);
+        if (present.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> root.get(association).get("id").in(present);
+    }
+
+    /**
+     * Current user's department is one of the values (inner join to the user table)
+     */
+    public static Specification<Asset> userDepartmentIn(Collection<String> departments) {
+        List<?> present = present(departments);
+        if (present.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Join<Asset, User> user = root.join("currentUser", JoinType.INNER);
+            return user.get("department").in(present);
+        };
+    }
+
+    /**
+     * Date attribute within [from, to], either bound optional
+     */
+    public static Specification<Asset> between(String attribute, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(attribute + " range start " + from + " is after its end " + to);
+        }
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get(attribute), from, to);
+            }
+            return from != null
+                ? cb.greaterThanOrEqualTo(root.get(attribute), from)
+                : cb.lessThanOrEqualTo(root.get(attribute), to);
+        };
+    }
+
+    /**
+     * Code values (status, category, buckets) compare upper-case with underscores, e.g. "In stock" -> IN_STOCK
+     */
+    static List<String> upperCase(Collection<String> values) {
+        if (values == null) {
+            return null;
+        }
+        return values.stream()
+            .filter(Objects::nonNull)
+            .map(value -> value.trim().toUpperCase(Locale.ROOT).replace(' ', '_'))
+            .toList();
+    }
+
+    /**
+     * Non-null, non-blank distinct values; empty means the criterion is not set
+     */
+    static List<?> present(Collection<?> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+            .filter(value -> value != null && !(value instanceof String s && s.isBlank()))
+            .distinct()
+            .toList();
+    }
+}
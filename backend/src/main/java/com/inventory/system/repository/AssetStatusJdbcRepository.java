@@ -0,0 +1,133 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.dto.BulkStatusUpdateDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based status transitions: one UPDATE moves every targeted asset and returns the status each
+ * row had before, and the matching asset_status_history rows are written as JDBC batches.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetStatusJdbcRepository {
+
+    private static final String HISTORY_ID_SEQUENCE = "asset_status_history_history_id_seq";
+
+    // Rows already in the target status and soft-deleted rows are left alone; FOR UPDATE keeps the
+    // captured previous status consistent with concurrent single-asset updates.
+    private static final String UPDATE_STATUS_SQL =
+        "WITH previous AS (" +
+        "SELECT asset_id, status FROM asset " +
+        "WHERE asset_id = ANY(CAST(? AS bigint[])) AND deleted = false AND status IS DISTINCT FROM ? " +
+        "FOR UPDATE) " +
+        "UPDATE asset a SET status = ?, updated_at = ? " +
+        "FROM previous p WHERE a.asset_id = p.asset_id " +
+        "RETURNING a.asset_id, p.status, a.current_user_id";
+
+    private static final String DELETED_FLAGS_SQL =
+        "SELECT asset_id, deleted FROM asset WHERE asset_id = ANY(CAST(? AS bigint[]))";
+
+    private static final String INSERT_HISTORY_SQL =
+        "INSERT INTO asset_status_history (history_id, asset_id, status, changed_by, change_date, remarks) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockRepository sequenceBlockRepository;
+
+    /**
+     * IDs of active assets matching every criterion set on the filter, in asset ID order
+     */
+    public List<Long> findActiveIdsByFilter(BulkStatusUpdateDTO.Filter filter, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT asset_id FROM asset WHERE deleted = false");
+        List<Object> params = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            params.add(filter.getStatus());
+        }
+        if (filter.getPoNumber() != null) {
+            sql.append(" AND po_number = ?");
+            params.add(filter.getPoNumber());
+        }
+        if (filter.getAssetTypeId() != null) {
+            sql.append(" AND asset_type_id = ?");
+            params.add(filter.getAssetTypeId());
+        }
+        if (filter.getCurrentUserId() != null) {
+            sql.append(" AND current_user_id = ?");
+            params.add(filter.getCurrentUserId());
+        }
+        sql.append(" ORDER BY asset_id LIMIT ?");
+        params.add(limit);
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+
+    /**
+     * Move the given active assets to {@code status} in one statement. Returns only the rows that
+     * actually changed, with their previous status.
+     */
+    public List<StatusChange> updateStatus(Collection<Long> assetIds, String status, LocalDateTime changedAt) {
+        if (assetIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(UPDATE_STATUS_SQL,
+            (rs, rowNum) -> new StatusChange(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getObject(3) != null ? rs.getLong(3) : null),
+            assetIds.toArray(new Long[0]), status, status, Timestamp.valueOf(changedAt));
+    }
+
+    /**
+     * Soft-delete flag of each existing asset; IDs that do not exist are absent from the map
+     */
+    public Map<Long, Boolean> findDeletedFlags(Collection<Long> assetIds) {
+        Map<Long, Boolean> flags = new HashMap<>();
+        if (assetIds.isEmpty()) {
+            return flags;
+        }
+        jdbcTemplate.query(DELETED_FLAGS_SQL,
+            rs -> {
+                flags.put(rs.getLong(1), rs.getBoolean(2));
+            },
+            (Object) assetIds.toArray(new Long[0]));
+        return flags;
+    }
+
+    /**
+     * Write one history row per changed asset using JDBC batches
+     */
+    public void batchInsertHistory(List<StatusChange> changes, String status, Long changedById, String remarks,
+                                   LocalDateTime changedAt, int batchSize) {
+        List<Long> historyIds = sequenceBlockRepository.reserve(HISTORY_ID_SEQUENCE, changes.size());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            rows.add(new Object[] { historyIds.get(i), changes.get(i).assetId() });
+        }
+        Timestamp changeDate = Timestamp.valueOf(changedAt);
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, (Long) row[0]);
+            ps.setLong(2, (Long) row[1]);
+            ps.setString(3, status);
+            ps.setObject(4, changedById, Types.BIGINT);
+            ps.setTimestamp(5, changeDate);
+            ps.setString(6, remarks);
+        });
+    }
+
+    /**
+     * One asset moved by {@link #updateStatus}
+     */
+    public record StatusChange(Long assetId, String previousStatus, Long currentUserId) {
+    }
+}
@@ -2,6 +2,8 @@ package com.inventory.system.repository;
 
 import com.inventory.system.model.AssetTagAssignment;
 import com.inventory.system.model.AssetTagAssignmentId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,6 +15,16 @@ import java.util.List;
 public interface AssetTagAssignmentRepository extends JpaRepository<AssetTagAssignment, AssetTagAssignmentId> {
     List<AssetTagAssignment> findByAsset_AssetId(Long assetId);
     List<AssetTagAssignment> findByTag_Id(Long tagId);
+    
+    // Paged in the database; asset and tag are fetched with the page so DTO conversion issues no further queries
+    @Query(value = "SELECT ata FROM AssetTagAssignment ata JOIN FETCH ata.asset JOIN FETCH ata.tag WHERE ata.asset.assetId = :assetId",
+           countQuery = "SELECT COUNT(ata) FROM AssetTagAssignment ata WHERE ata.asset.assetId = :assetId")
+    Page<AssetTagAssignment> findPageByAssetId(@Param("assetId") Long assetId, Pageable pageable);
+    
+    @Query(value = "SELECT ata FROM AssetTagAssignment ata JOIN FETCH ata.asset JOIN FETCH ata.tag WHERE ata.tag.id = :tagId",
+           countQuery = "SELECT COUNT(ata) FROM AssetTagAssignment ata WHERE ata.tag.id = :tagId")
+    Page<AssetTagAssignment> findPageByTagId(@Param("tagId") Long tagId, Pageable pageable);
+    
     void deleteByAsset_AssetId(Long assetId);
     void deleteByTag_Id(Long tagId);
     
@@ -0,0 +1,76 @@
+package com.inventory.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tag membership queries over asset_tag_assignment used as an inverted index: the asset IDs of each
+ * tag are read from the (tag_id, asset_id) index and combined with INTERSECT / UNION / EXCEPT in the
+ * database, so only the requested page of matching asset IDs comes back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetTagIndexRepository {
+
+    private static final String POSTINGS_SQL = "SELECT asset_id FROM asset_tag_assignment WHERE tag_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Active asset IDs that carry every tag in {@code allTagIds}, at least one tag in {@code anyTagIds}
+     * (when given) and none of {@code noneTagIds}, in asset ID order
+     */
+    public List<Long> findAssetIds(Collection<Long> allTagIds, Collection<Long> anyTagIds, Collection<Long> noneTagIds,
+                                   long offset, int limit) {
+        List<Object> params = new ArrayList<>();
+        String sql = "WITH matches AS (" + matchExpression(allTagIds, anyTagIds, noneTagIds, params) + ") " +
+            "SELECT a.asset_id FROM asset a JOIN matches m ON m.asset_id = a.asset_id " +
+            "WHERE a.deleted = false ORDER BY a.asset_id LIMIT ? OFFSET ?";
+        params.add(limit);
+        params.add(offset);
+        return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    public long countAssets(Collection<Long> allTagIds, Collection<Long> anyTagIds, Collection<Long> noneTagIds) {
+        List<Object> params = new ArrayList<>();
+        String sql = "WITH matches AS (" + matchExpression(allTagIds, anyTagIds, noneTagIds, params) + ") " +
+            "SELECT COUNT(*) FROM asset a JOIN matches m ON m.asset_id = a.asset_id WHERE a.deleted = false";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, params.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * (all_1 INTERSECT all_2 ... INTERSECT (any_1 UNION any_2 ...)) EXCEPT (none_1 UNION none_2 ...)
+     */
+    private static String matchExpression(Collection<Long> allTagIds, Collection<Long> anyTagIds,
+                                          Collection<Long> noneTagIds, List<Object> params) {
+        List<String> required = new ArrayList<>();
+        for (Long tagId : allTagIds) {
+            required.add(POSTINGS_SQL);
+            params.add(tagId);
+        }
+        if (!anyTagIds.isEmpty()) {
+            required.add("(" + union(anyTagIds, params) + ")");
+        }
+        if (required.isEmpty()) {
+            throw new IllegalArgumentException("At least one tag to match is required");
+        }
+
+        String expression = "(" + String.join(" INTERSECT ", required) + ")";
+        if (!noneTagIds.isEmpty()) {
+            expression += " EXCEPT (" + union(noneTagIds, params) + ")";
+        }
+        return expression;
+    }
+
+    private static String union(Collection<Long> tagIds, List<Object> params) {
+        params.addAll(tagIds);
+        return String.join(" UNION ", Collections.nCopies(tagIds.size(), POSTINGS_SQL));
+    }
+}
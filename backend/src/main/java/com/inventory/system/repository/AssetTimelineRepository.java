@@ -0,0 +1,151 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.dto.AssetTimelineEventDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One asset's history from audit_log, asset_status_history and asset_assignment_history as a single
+ * chronological stream with keyset pagination.
+ *
+ * The four event sources are UNION ALL branches that are each ordered by the (asset_id, timestamp)
+ * indexes (V28, V29), so PostgreSQL answers a page with a Merge Append over four index scans and
+ * stops after {@code limit} rows: a k-way merge in the database, one round trip per page, and memory
+ * bounded by the page size however long the history is. Ties on the timestamp are broken by
+ * (source, source_id), which makes the order total and the cursor exact.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssetTimelineRepository {
+
+    // Position of each source in the tie-break; also encoded in cursors
+    private static final String[] SOURCE_TYPES = {
+        AssetTimelineEventDTO.TYPE_AUDIT,
+        AssetTimelineEventDTO.TYPE_STATUS,
+        AssetTimelineEventDTO.TYPE_ASSIGNED,
+        AssetTimelineEventDTO.TYPE_UNASSIGNED
+    };
+
+    // %1$s: timestamp bound against the cursor ("AND <column> >= ?"), empty on the first page
+    private static final String[] BRANCHES = {
+        "SELECT l.action_date AS event_time, 0 AS source, l.log_id AS source_id, " +
+        "l.action AS title, l.details AS details, l.user_id AS user_id, u.fullname_or_officename AS user_name " +
+        "FROM audit_log l LEFT JOIN \"user\" u ON u.user_id = l.user_id " +
+        "WHERE l.asset_id = ?%s",
+
+        "SELECT s.change_date, 1, s.history_id, s.status, s.remarks, s.changed_by, u.fullname_or_officename " +
+        "FROM asset_status_history s LEFT JOIN \"user\" u ON u.user_id = s.changed_by " +
+        "WHERE s.asset_id = ?%s",
+
+        "SELECT h.assigned_date, 2, h.assignment_id, NULL, NULL, h.user_id, u.fullname_or_officename " +
+        "FROM asset_assignment_history h LEFT JOIN \"user\" u ON u.user_id = h.user_id " +
+        "WHERE h.asset_id = ?%s",
+
+        "SELECT h.unassigned_date, 3, h.assignment_id, NULL, NULL, h.user_id, u.fullname_or_officename " +
+        "FROM asset_assignment_history h LEFT JOIN \"user\" u ON u.user_id = h.user_id " +
+        "WHERE h.asset_id = ? AND h.unassigned_date IS NOT NULL%s"
+    };
+
+    private static final String[] BRANCH_TIME_COLUMNS = {"l.action_date", "s.change_date", "h.assigned_date", "h.unassigned_date"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to {@code limit} events of an asset in timestamp order, starting after {@code after}
+     * @param after Position of the previous page's last event, or null for the first page
+     */
+    public List<TimelineRow> findEvents(Long assetId, Sort.Direction direction, Position after, int limit) {
+        boolean ascending = direction.isAscending();
+        List<Object> params = new ArrayList<>();
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM (");
+        for (int i = 0; i < BRANCHES.length; i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            // The redundant timestamp bound turns the seek into an index range start in every branch
+            String bound = after == null ? "" : " AND " + BRANCH_TIME_COLUMNS[i] + (ascending ? " >= ?" : " <= ?");
+            sql.append(String.format(BRANCHES[i], bound));
+            params.add(assetId);
+            if (after != null) {
+                params.add(Timestamp.valueOf(after.timestamp()));
+            }
+        }
+        sql.append(") e");
+
+        if (after != null) {
+            sql.append(" WHERE (e.event_time, e.source, e.source_id) ").append(ascending ? ">" : "<").append(" (?, ?, ?)");
+            params.add(Timestamp.valueOf(after.timestamp()));
+            params.add(after.source());
+            params.add(after.sourceId());
+        }
+
+        String order = ascending ? "ASC" : "DESC";
+        sql.append(" ORDER BY e.event_time ").append(order)
+            .append(", e.source ").append(order)
+            .append(", e.source_id ").append(order)
+            .append(" LIMIT ?");
+        params.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TimelineRow(
+            rs.getTimestamp("event_time").toLocalDateTime(),
+            rs.getInt("source"),
+            rs.getLong("source_id"),
+            rs.getString("title"),
+            rs.getString("details"),
+            rs.getObject("user_id") != null ? rs.getLong("user_id") : null,
+            rs.getString("user_name")), params.toArray());
+    }
+
+    public record TimelineRow(LocalDateTime timestamp, int source, long sourceId, String title, String details,
+                              Long userId, String userName) {
+
+        public String type() {
+            return SOURCE_TYPES[source];
+        }
+
+        public Position position() {
+            return new Position(timestamp, source, sourceId);
+        }
+    }
+
+    /**
+     * Sort key of one event: (timestamp, source, source_id). Encoded as an opaque cursor token.
+     */
+    public record Position(LocalDateTime timestamp, int source, long sourceId) {
+
+        private static final String VERSION = "t1";
+
+        public String encode() {
+            String token = VERSION + "|" + timestamp + "|" + source + "|" + sourceId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Position decode(String token) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                    throw new IllegalArgumentException("Invalid timeline cursor");
+                }
+                int source = Integer.parseInt(parts[2]);
+                if (source < 0 || source >= SOURCE_TYPES.length) {
+                    throw new IllegalArgumentException("Invalid timeline cursor");
+                }
+                return new Position(LocalDateTime.parse(parts[1]), source, Long.parseLong(parts[3]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                // Also covers bad Base64 and non-numeric parts
+                throw new IllegalArgumentException("Invalid timeline cursor", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.model.AsyncJob;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Job rows of the background job runner. Every state change after submission is a conditional
+ * UPDATE on (status, owner), so two workers can never both run or complete the same job.
+ */
+@Repository
+public interface AsyncJobRepository extends BaseRepository<AsyncJob, Long> {
+
+    // Queued jobs and jobs whose worker stopped heartbeating, oldest first
+    @Query(value = "SELECT job_id FROM async_job " +
+                   "WHERE status IN ('QUEUED', 'RUNNING') AND (status = 'QUEUED' OR heartbeat_at < :staleBefore) " +
+                   "ORDER BY job_id LIMIT :limit", nativeQuery = true)
+    List<Long> findRunnableJobIds(@Param("staleBefore") LocalDateTime staleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE async_job SET status = 'RUNNING', owner = :owner, heartbeat_at = :now, " +
+                   "started_at = COALESCE(started_at, :now) " +
+                   "WHERE job_id = :jobId AND (status = 'QUEUED' OR (status = 'RUNNING' AND heartbeat_at < :staleBefore))",
+           nativeQuery = true)
+    int claim(@Param("jobId") Long jobId, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query(value = "UPDATE async_job SET heartbeat_at = :now " +
+                   "WHERE job_id IN (:jobIds) AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int heartbeat(@Param("jobIds") Collection<Long> jobIds, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // Progress of one committed chunk; 0 rows means the job was taken over and the chunk must roll back
+    @Modifying
+    @Query(value = "UPDATE async_job SET checkpoint = :checkpoint, result_bytes = :resultBytes, heartbeat_at = :now, " +
+                   "processed_items = processed_items + :processed, succeeded_items = succeeded_items + :succeeded, " +
+                   "failed_items = failed_items + :failed " +
+                   "WHERE job_id = :jobId AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int recordChunk(@Param("jobId") Long jobId, @Param("owner") String owner,
+                    @Param("checkpoint") long checkpoint, @Param("resultBytes") long resultBytes,
+                    @Param("processed") long processed, @Param("succeeded") long succeeded, @Param("failed") long failed,
+                    @Param("now") LocalDateTime now);
+
+    // Start over from the first chunk, for a restartable job whose result file was lost
+    @Modifying
+    @Query(value = "UPDATE async_job SET checkpoint = 0, result_bytes = 0, processed_items = 0, " +
+                   "succeeded_items = 0, failed_items = 0 " +
+                   "WHERE job_id = :jobId AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int restart(@Param("jobId") Long jobId, @Param("owner") String owner);
+
+    @Modifying
+    @Query(value = "UPDATE async_job SET status = :status, error_message = :errorMessage, finished_at = :now " +
+                   "WHERE job_id = :jobId AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int finish(@Param("jobId") Long jobId, @Param("owner") String owner, @Param("status") String status,
+               @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    // Hand a job back on shutdown so the next poll resumes it without waiting for the heartbeat to go stale
+    @Modifying
+    @Query(value = "UPDATE async_job SET status = 'QUEUED', owner = NULL " +
+                   "WHERE job_id IN (:jobIds) AND owner = :owner AND status = 'RUNNING'", nativeQuery = true)
+    int release(@Param("jobIds") Collection<Long> jobIds, @Param("owner") String owner);
+
+    @Query(value = "SELECT job_id FROM async_job WHERE finished_at < :cutoff", nativeQuery = true)
+    List<Long> findFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "DELETE FROM async_job WHERE job_id IN (:jobIds)", nativeQuery = true)
+    int deleteJobs(@Param("jobIds") Collection<Long> jobIds);
+}
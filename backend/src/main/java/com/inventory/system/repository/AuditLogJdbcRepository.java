@@ -0,0 +1,53 @@
+package com.inventory.system.repository;
+
+import com.inventory.system.model.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch writer for audit_log rows. Rows reference assets and users by ID only, so no entity
+ * is loaded to write them.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogJdbcRepository {
+
+    // Rows are written after the change they describe, possibly from a background flush, so skip rows
+    // whose asset has since been hard-deleted (audit_log cascades on asset delete anyway) and drop a
+    // user reference that no longer resolves instead of failing the whole batch on a foreign key.
+    private static final String INSERT_AUDIT_LOG_SQL =
+        "INSERT INTO audit_log (log_id, asset_id, user_id, action, action_date, details) " +
+        "SELECT ?, ?, (SELECT u.user_id FROM \"user\" u WHERE u.user_id = ?), ?, ?, ? " +
+        "WHERE CAST(? AS BIGINT) IS NULL OR EXISTS (SELECT 1 FROM asset a WHERE a.asset_id = ?)";
+
+    private static final String LOG_ID_SEQUENCE = "audit_log_log_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceBlockRepository sequenceBlockRepository;
+
+    public void batchInsert(List<AuditLog> logs, int batchSize) {
+        List<Long> logIds = sequenceBlockRepository.reserve(LOG_ID_SEQUENCE, logs.size());
+        for (int i = 0; i < logs.size(); i++) {
+            logs.get(i).setId(logIds.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_AUDIT_LOG_SQL, logs, batchSize, (ps, log) -> {
+            Long assetId = log.getAsset() != null ? log.getAsset().getAssetId() : null;
+            Long userId = log.getUser() != null ? log.getUser().getId() : null;
+            LocalDateTime actionDate = log.getActionDate() != null ? log.getActionDate() : LocalDateTime.now();
+            ps.setLong(1, log.getId());
+            ps.setObject(2, assetId, Types.BIGINT);
+            ps.setObject(3, userId, Types.BIGINT);
+            ps.setString(4, log.getAction());
+            ps.setTimestamp(5, Timestamp.valueOf(actionDate));
+            ps.setString(6, log.getDetails());
+            ps.setObject(7, assetId, Types.BIGINT);
+            ps.setObject(8, assetId, Types.BIGINT);
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.inventory.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads the expiry_calendar table (V26), which holds every upcoming expiry date of active assets and
+ * rented POs in date order. All lookups are range scans on idx_expiry_calendar_date.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpiryCalendarRepository {
+
+    public static final String KIND_WARRANTY = "WARRANTY";
+    public static final String KIND_EXTENDED_WARRANTY = "EXTENDED_WARRANTY";
+    public static final String KIND_LICENSE = "LICENSE";
+    public static final String KIND_LEASE = "LEASE";
+
+    public static final List<String> KINDS = List.of(KIND_WARRANTY, KIND_EXTENDED_WARRANTY, KIND_LICENSE, KIND_LEASE);
+
+    private static final String WEEKLY_COUNTS_SQL =
+        "SELECT CAST(date_trunc('week', c.expiry_date) AS DATE) AS week_start, c.kind, COUNT(*) " +
+        "FROM expiry_calendar c " +
+        "WHERE c.expiry_date BETWEEN ? AND ? AND c.kind = ANY(CAST(? AS varchar[])) " +
+        "GROUP BY 1, 2 ORDER BY 1, 2";
+
+    private static final String ENTRIES_SQL =
+        "SELECT c.expiry_date, c.kind, c.asset_id, a.name, a.serial_number, c.po_id, COALESCE(p.po_number, a.po_number) " +
+        "FROM expiry_calendar c " +
+        "LEFT JOIN asset a ON a.asset_id = c.asset_id " +
+        "LEFT JOIN asset_po p ON p.po_id = c.po_id " +
+        "WHERE c.expiry_date BETWEEN ? AND ? AND c.kind = ANY(CAST(? AS varchar[])) " +
+        "ORDER BY c.expiry_date, c.kind, c.asset_id, c.po_id " +
+        "LIMIT ?";
+
+    private static final String PO_IDS_SQL =
+        "SELECT po_id FROM expiry_calendar " +
+        "WHERE expiry_date BETWEEN ? AND ? AND kind = ? AND po_id IS NOT NULL " +
+        "ORDER BY expiry_date, po_id";
+
+    // Only rows whose bucket moved are written, so the nightly run touches the assets crossing a threshold
+    private static final String REFRESH_WARRANTY_STATUS_SQL =
+        "UPDATE asset SET warranty_status = asset_warranty_status(warranty_expiry, ?) " +
+        "WHERE warranty_status IS DISTINCT FROM asset_warranty_status(warranty_expiry, ?)";
+
+    private static final String REFRESH_LICENSE_STATUS_SQL =
+        "UPDATE asset SET license_status = asset_license_status(asset_category, license_validity_period, ?) " +
+        "WHERE license_status IS DISTINCT FROM asset_license_status(asset_category, license_validity_period, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Number of expiries per ISO week (Monday start) and kind between two dates, inclusive
+     */
+    public List<WeeklyCount> countByWeek(LocalDate from, LocalDate to, Collection<String> kinds) {
+        return jdbcTemplate.query(WEEKLY_COUNTS_SQL,
+            (rs, rowNum) -> new WeeklyCount(rs.getDate(1).toLocalDate(), rs.getString(2), rs.getLong(3)),
+            Date.valueOf(from), Date.valueOf(to), kinds.toArray(new String[0]));
+    }
+
+    /**
+     * The first {@code limit} expiries between two dates, inclusive, in date order
+     */
+    public List<Entry> findEntries(LocalDate from, LocalDate to, Collection<String> kinds, int limit) {
+        return jdbcTemplate.query(ENTRIES_SQL,
+            (rs, rowNum) -> new Entry(
+                rs.getDate(1).toLocalDate(),
+                rs.getString(2),
+                rs.getObject(3) != null ? rs.getLong(3) : null,
+                rs.getString(4),
+                rs.getString(5),
+                rs.getObject(6) != null ? rs.getLong(6) : null,
+                rs.getString(7)),
+            Date.valueOf(from), Date.valueOf(to), kinds.toArray(new String[0]), limit);
+    }
+
+    /**
+     * IDs of the rented POs whose lease ends between two dates, inclusive, in date order
+     */
+    public List<Long> findLeasePoIds(LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForList(PO_IDS_SQL, Long.class, Date.valueOf(from), Date.valueOf(to), KIND_LEASE);
+    }
+
+    /**
+     * Roll the persisted warranty and licence status buckets forward to {@code today}
+     * @return number of asset rows whose warranty or licence bucket changed
+     */
+    public int refreshStatusBuckets(LocalDate today) {
+        Date day = Date.valueOf(today);
+        return jdbcTemplate.update(REFRESH_WARRANTY_STATUS_SQL, day, day)
+            + jdbcTemplate.update(REFRESH_LICENSE_STATUS_SQL, day, day);
+    }
+
+    public record WeeklyCount(LocalDate weekStart, String kind, long count) {
+    }
+
+    public record Entry(LocalDate expiryDate, String kind, Long assetId, String assetName, String serialNumber,
+                        Long poId, String poNumber) {
+    }
+}
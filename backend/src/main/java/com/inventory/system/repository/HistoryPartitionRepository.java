@@ -0,0 +1,160 @@
+package com.inventory.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of the history tables (V28): creates upcoming months through
+ * create_monthly_partitions(), lists existing months, exports a month as CSV and detaches and drops it.
+ * Table and partition names only ever come from {@link #TABLES} and the catalog, never from input.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HistoryPartitionRepository {
+
+    public static final PartitionedTable AUDIT_LOG =
+        new PartitionedTable("audit_log", "action_date", null);
+    public static final PartitionedTable STATUS_HISTORY =
+        new PartitionedTable("asset_status_history", "change_date", null);
+    // An assignment that is still open is the asset's current assignment and must outlive retention
+    public static final PartitionedTable ASSIGNMENT_HISTORY =
+        new PartitionedTable("asset_assignment_history", "assigned_date", "unassigned_date IS NULL");
+
+    public static final List<PartitionedTable> TABLES = List.of(AUDIT_LOG, STATUS_HISTORY, ASSIGNMENT_HISTORY);
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("_p(\\d{4}_\\d{2})$");
+
+    private static final String CREATE_PARTITIONS_SQL = "SELECT create_monthly_partitions(?, ?, ?, ?)";
+
+    private static final String PARTITIONS_SQL =
+        "SELECT c.relname FROM pg_inherits i " +
+        "JOIN pg_class c ON c.oid = i.inhrelid " +
+        "WHERE i.inhparent = CAST(? AS regclass)";
+
+    private static final int EXPORT_FETCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Make sure a partition exists for every month from {@code from} through {@code to}
+     * @return Number of partitions created
+     */
+    public int createMonthlyPartitions(PartitionedTable table, YearMonth from, YearMonth to) {
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Integer.class,
+            table.name(), table.keyColumn(), Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+        return created != null ? created : 0;
+    }
+
+    /**
+     * Monthly partitions of a table, oldest first; the DEFAULT partition is not included
+     */
+    public List<Partition> findMonthlyPartitions(PartitionedTable table) {
+        List<Partition> partitions = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table.name())) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (name.startsWith(table.name() + "_p") && matcher.find()) {
+                partitions.add(new Partition(table, name, YearMonth.parse(matcher.group(1), PARTITION_SUFFIX)));
+            }
+        }
+        partitions.sort(Comparator.comparing(Partition::month));
+        return partitions;
+    }
+
+    /**
+     * Whether the partition holds rows that must not be archived yet
+     */
+    public boolean hasRetainedRows(Partition partition) {
+        if (partition.table().retainWhere() == null) {
+            return false;
+        }
+        Boolean retained = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + quote(partition.name()) + " WHERE " + partition.table().retainWhere() + ")",
+            Boolean.class);
+        return Boolean.TRUE.equals(retained);
+    }
+
+    /**
+     * Write every row of the partition as CSV with a header line, streamed with a server-side cursor.
+     * Follows the PostgreSQL CSV convention so the file can be loaded back with COPY: NULL is an
+     * unquoted empty field and an empty string is written as {@code ""}.
+     * Must run inside a transaction for the fetch size to take effect.
+     * @return Number of rows written
+     */
+    public long exportCsv(Partition partition, Writer writer) {
+        String sql = "SELECT * FROM " + quote(partition.name()) + " ORDER BY " + quote(partition.table().keyColumn());
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, resultSet -> {
+            try {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int columns = metaData.getColumnCount();
+                if (rows[0] == 0) {
+                    for (int i = 1; i <= columns; i++) {
+                        writer.write((i > 1 ? "," : "") + csv(metaData.getColumnName(i)));
+                    }
+                    writer.write('\n');
+                }
+                for (int i = 1; i <= columns; i++) {
+                    writer.write((i > 1 ? "," : "") + csv(resultSet.getString(i)));
+                }
+                writer.write('\n');
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows[0];
+    }
+
+    /**
+     * Detach the partition from its table and drop it
+     */
+    public void detachAndDrop(Partition partition) {
+        jdbcTemplate.execute("ALTER TABLE " + quote(partition.table().name()) + " DETACH PARTITION " + quote(partition.name()));
+        jdbcTemplate.execute("DROP TABLE " + quote(partition.name()));
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && !value.equals("\\.")
+                && value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * A history table partitioned by month on {@code keyColumn}; rows matching {@code retainWhere}
+     * (SQL predicate, optional) keep their partition from being archived
+     */
+    public record PartitionedTable(String name, String keyColumn, String retainWhere) {
+    }
+
+    public record Partition(PartitionedTable table, String name, YearMonth month) {
+    }
+}
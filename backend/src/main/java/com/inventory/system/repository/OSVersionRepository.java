@@ -4,9 +4,12 @@ import com.inventory.system.model.OSVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OSVersionRepository extends JpaRepository<OSVersion, Long> {
@@ -21,4 +24,10 @@ public interface OSVersionRepository extends JpaRepository<OSVersion, Long> {
     List<OSVersion> findByStatusAndOsId(String status, Long osId);
     Page<OSVersion> findByStatusAndOsId(String status, Long osId, Pageable pageable);
     List<OSVersion> findByStatusOrderByVersionNumberAsc(String status);
-} 
\ No newline at end of file
+
+    /**
+     * Load a version with its OS initialized, for the reference-data cache
+     */
+    @Query("SELECT v FROM OSVersion v LEFT JOIN FETCH v.os WHERE v.id = :id")
+    Optional<OSVersion> findByIdWithOs(@Param("id") Long id);
+}
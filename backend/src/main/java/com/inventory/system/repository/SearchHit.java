@@ -0,0 +1,11 @@
+package com.inventory.system.repository;
+
+/**
+ * Projection for typeahead search queries: one row per matching entity with its relevance score
+ */
+public interface SearchHit {
+    Long getId();
+    String getLabel();
+    String getDetail();
+    Double getScore();
+}
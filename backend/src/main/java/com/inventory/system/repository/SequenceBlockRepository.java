@@ -0,0 +1,45 @@
+package com.inventory.system.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out IDs from the pooled entity sequences to the JDBC insert paths. Every nextval reserves
+ * the block (value - 49 .. value), read the same way as Hibernate's pooled optimizer does, so IDs
+ * assigned here never collide with IDs assigned by the entity @SequenceGenerators.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SequenceBlockRepository {
+
+    // Must match INCREMENT BY of the sequences (V22) and allocationSize of the entity @SequenceGenerators
+    public static final int BLOCK_SIZE = 50;
+
+    private static final String NEXT_BLOCKS_SQL =
+        "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserve {@code count} IDs from the sequence in a single round trip
+     */
+    public List<Long> reserve(String sequenceName, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(NEXT_BLOCKS_SQL, Long.class, sequenceName, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : blockEnds) {
+            for (long id = blockEnd - BLOCK_SIZE + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
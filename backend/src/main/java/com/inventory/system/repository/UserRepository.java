@@ -55,6 +55,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "LOWER(u.country) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
     Page<User> searchUsersByStatus(@Param("searchTerm") String searchTerm, @Param("status") String status, Pageable pageable);
     
+    // Typeahead: prefix matches on name, email and employee code (pattern is lower-cased, escaped, ending in %)
+    @Query(value = "SELECT u.user_id AS id, u.fullname_or_officename AS label, " +
+           "CONCAT_WS(' / ', u.email, u.employee_code) AS detail, 1.0 AS score " +
+           "FROM \"user\" u WHERE " +
+           "LOWER(u.fullname_or_officename) LIKE :prefix OR LOWER(u.email) LIKE :prefix OR LOWER(u.employee_code) LIKE :prefix " +
+           "ORDER BY LOWER(u.fullname_or_officename), u.user_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestByPrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+    
+    // Typeahead: substring matches on name, email and employee code ranked by trigram similarity
+    @Query(value = "SELECT u.user_id AS id, u.fullname_or_officename AS label, " +
+           "CONCAT_WS(' / ', u.email, u.employee_code) AS detail, " +
+           "GREATEST(similarity(LOWER(COALESCE(u.fullname_or_officename, '')), :term), " +
+           "similarity(LOWER(COALESCE(u.email, '')), :term), " +
+           "similarity(LOWER(u.employee_code), :term)) AS score " +
+           "FROM \"user\" u WHERE " +
+           "LOWER(u.fullname_or_officename) LIKE :contains OR LOWER(u.email) LIKE :contains OR LOWER(u.employee_code) LIKE :contains " +
+           "ORDER BY score DESC, u.user_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestBySimilarity(@Param("term") String term, @Param("contains") String contains, @Param("limit") int limit);
+    
     // Status-related methods
     List<User> findByStatus(String status);
     Page<User> findByStatus(String status, Pageable pageable);
@@ -14,6 +14,30 @@ import java.util.List;
 public interface VendorRepository extends JpaRepository<Vendor, Long> {
     Page<Vendor> findByNameContainingIgnoreCaseOrContactInfoContainingIgnoreCase(String name, String contactInfo, Pageable pageable);
     
+    // LOWER(...) rather than derived IgnoreCase (which renders UPPER) so the trigram indexes apply
+    @Query("SELECT v FROM Vendor v WHERE " +
+           "LOWER(v.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(v.contactInfo) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Page<Vendor> searchVendors(@Param("searchTerm") String searchTerm, Pageable pageable);
+    
+    @Query("SELECT v FROM Vendor v WHERE v.status = :status AND " +
+           "(LOWER(v.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(v.contactInfo) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
+    Page<Vendor> searchVendorsByStatus(@Param("searchTerm") String searchTerm, @Param("status") String status, Pageable pageable);
+    
+    // Typeahead: prefix matches on vendor name (pattern is lower-cased, escaped, ending in %)
+    @Query(value = "SELECT v.vendor_id AS id, v.vendor_name AS label, v.contact_info AS detail, 1.0 AS score " +
+           "FROM vendor v WHERE LOWER(v.vendor_name) LIKE :prefix " +
+           "ORDER BY LOWER(v.vendor_name), v.vendor_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestByPrefix(@Param("prefix") String prefix, @Param("limit") int limit);
+    
+    // Typeahead: substring matches on name and contact info ranked by trigram similarity
+    @Query(value = "SELECT v.vendor_id AS id, v.vendor_name AS label, v.contact_info AS detail, " +
+           "GREATEST(similarity(LOWER(v.vendor_name), :term), similarity(LOWER(COALESCE(v.contact_info, '')), :term)) AS score " +
+           "FROM vendor v WHERE LOWER(v.vendor_name) LIKE :contains OR LOWER(v.contact_info) LIKE :contains " +
+           "ORDER BY score DESC, v.vendor_id LIMIT :limit", nativeQuery = true)
+    List<SearchHit> suggestBySimilarity(@Param("term") String term, @Param("contains") String contains, @Param("limit") int limit);
+    
     // Status-related methods
     List<Vendor> findByStatus(String status);
     Page<Vendor> findByStatus(String status, Pageable pageable);
@@ -4,6 +4,9 @@ import com.inventory.system.dto.AssetAnalyticsSummaryDTO;
 import com.inventory.system.dto.AssetReportDTO;
 import org.springframework.core.io.ByteArrayResource;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
 
 public interface AssetAnalyticsService {
@@ -14,6 +17,12 @@ public interface AssetAnalyticsService {
      */
     AssetAnalyticsSummaryDTO getAnalyticsSummary();
     
+    /**
+     * Rebuild the analytics snapshot from the database and return the fresh summary
+     * @return Analytics summary computed from a full reconcile
+     */
+    AssetAnalyticsSummaryDTO refreshAnalyticsSummary();
+    
     /**
      * Get asset aging data with optional filters
      * @param department Optional department filter
@@ -45,4 +54,26 @@ public interface AssetAnalyticsService {
      * @return ByteArrayResource containing CSV data
      */
     ByteArrayResource generateFullCSVReport();
-} 
\ No newline at end of file
+    
+    /**
+     * Stream all active assets as CSV directly to the given output stream.
+     * Rows are read through a database cursor and written as they arrive.
+     * @param outputStream Destination for the CSV bytes (not closed by this method)
+     */
+    void streamFullCSVReport(OutputStream outputStream) throws IOException;
+    
+    /**
+     * Write the CSV header of the full report
+     */
+    void writeFullCSVHeader(Writer writer) throws IOException;
+    
+    /**
+     * Write the full report rows of up to {@code limit} active assets with IDs above
+     * {@code afterAssetId}, in asset ID order. Lets export jobs write the report in resumable chunks.
+     * @return ID of the last asset written and the number of rows, or null if there were none left
+     */
+    ExportChunk writeFullCSVRowsAfter(Writer writer, long afterAssetId, int limit) throws IOException;
+    
+    record ExportChunk(long lastAssetId, int rows) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.inventory.system.service;
 
 import com.inventory.system.dto.AssetDashboardDTO;
+import com.inventory.system.dto.BulkAssignmentResponseDTO;
+import com.inventory.system.dto.BulkUserAssignmentDTO;
 import com.inventory.system.dto.AssetUserAssignmentDTO;
 import com.inventory.system.dto.AssetTagAssignmentRequestDTO;
 import com.inventory.system.dto.AssignmentResponseDTO;
@@ -30,6 +32,28 @@ public interface AssetAssignmentManagementService {
      */
     AssignmentResponseDTO unassignUserFromAsset(Long assetId);
     
+    /**
+     * Assign one user to many assets, closing the previous open assignment of each asset
+     * @param assignmentDTO Asset IDs and the user to assign
+     * @return Per-asset outcomes
+     */
+    BulkAssignmentResponseDTO assignUserToAssets(BulkUserAssignmentDTO assignmentDTO);
+    
+    /**
+     * Move every active asset of one user to another user
+     * @param fromUserId User whose assets are moved
+     * @param toUserId User receiving the assets
+     * @return Per-asset outcomes for the moved assets
+     */
+    BulkAssignmentResponseDTO transferUserAssets(Long fromUserId, Long toUserId);
+    
+    /**
+     * Unassign every active asset from a user, e.g. when the user leaves
+     * @param userId User to offboard
+     * @return Per-asset outcomes for the unassigned assets
+     */
+    BulkAssignmentResponseDTO unassignAllFromUser(Long userId);
+    
     /**
      * Assign a tag to an asset
      * @param assignmentDTO Tag assignment details
@@ -58,4 +82,14 @@ public interface AssetAssignmentManagementService {
      * @return Filtered paginated list of assets
      */
     PageResponse<AssetDashboardDTO> searchAssetDashboard(String searchTerm, Pageable pageable);
+    
+    /**
+     * Keyset-paginated dashboard listing; cost per page is independent of how deep the client has scrolled
+     * @param searchTerm Optional search term for asset name, serial number, or asset code
+     * @param cursor nextCursor from the previous page, or empty for the first page
+     * @param pageable Page size and sort (sort is ignored once a cursor is supplied)
+     * @param includeTotal Whether to run the COUNT query for totalElements
+     * @return Page of assets with the cursor for the next page
+     */
+    PageResponse<AssetDashboardDTO> getAssetDashboardByCursor(String searchTerm, String cursor, Pageable pageable, boolean includeTotal);
 } 
\ No newline at end of file
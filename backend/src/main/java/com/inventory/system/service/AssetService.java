@@ -1,7 +1,10 @@
 package com.inventory.system.service;
 
 import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetFacetsDTO;
+import com.inventory.system.dto.AssetFilterDTO;
 import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.AssetTimelineEventDTO;
 import com.inventory.system.dto.AssetUpdateDTO;
 import com.inventory.system.dto.AssetStatusHistoryDTO;
 import com.inventory.system.dto.BulkAssetResponse;
@@ -9,9 +12,13 @@ import com.inventory.system.dto.BulkUpdateResponse;
 import com.inventory.system.dto.AssetBulkUpdateDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.dto.BulkAssetByPOResponse;
+import com.inventory.system.dto.BulkStatusUpdateDTO;
+import com.inventory.system.dto.BulkStatusUpdateResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface AssetService {
     AssetDTO createAsset(AssetDTO assetDTO);
@@ -20,10 +27,19 @@ public interface AssetService {
     AssetDTO getAsset(Long assetId);
     PageResponse<AssetDTO> getAllAssets(Pageable pageable);
     PageResponse<AssetDTO> searchAssets(String search, Pageable pageable);
+    
+    // Keyset pagination: cursor is the nextCursor of the previous page ("" or null for the first page)
+    PageResponse<AssetDTO> getAllAssetsByCursor(String cursor, Pageable pageable, boolean includeTotal);
+    PageResponse<AssetDTO> searchAssetsByCursor(String search, String cursor, Pageable pageable, boolean includeTotal);
     void deleteAsset(Long assetId);
     
-    // Removed filtering methods - use frontend filtering instead
+    // Server-side filtering over active assets; an empty filter is the plain listing
+    PageResponse<AssetDTO> filterAssets(AssetFilterDTO filter, Pageable pageable);
+    AssetFacetsDTO getAssetFacets(AssetFilterDTO filter, Set<String> facets);
     
+    // Audit, status and assignment history of one asset as a single keyset-paginated stream
+    PageResponse<AssetTimelineEventDTO> getAssetTimeline(Long assetId, String cursor, int size, Sort.Direction direction);
+    PageResponse<AssetDTO> getAssetsByExpiryStatus(String warrantyStatus, String licenseStatus, Pageable pageable);
     PageResponse<AssetDTO> getDeletedAssets(Pageable pageable);
     PageResponse<AssetDTO> getAllAssetsIncludingDeleted(Pageable pageable);
     void restoreAsset(Long assetId);
@@ -38,4 +54,5 @@ public interface AssetService {
     
     // Individual asset bulk updates
     BulkUpdateResponse updateAssetsInBulk(AssetBulkUpdateDTO bulkUpdate);
+    BulkStatusUpdateResponse updateAssetStatusInBulk(BulkStatusUpdateDTO request);
 } 
\ No newline at end of file
@@ -1,10 +1,12 @@
 package com.inventory.system.service;
 
+import com.inventory.system.dto.AssetDTO;
 import com.inventory.system.dto.AssetTagAssignmentDTO;
 import com.inventory.system.dto.AssetTagAssignmentByNameDTO;
 import com.inventory.system.dto.PageResponse;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
+import java.util.Set;
 
 public interface AssetTagAssignmentService {
     AssetTagAssignmentDTO assignTag(AssetTagAssignmentDTO assignmentDTO);
@@ -16,6 +18,7 @@ public interface AssetTagAssignmentService {
     PageResponse<AssetTagAssignmentDTO> getAllAssignments(Pageable pageable);
     PageResponse<AssetTagAssignmentDTO> getAssignmentsByAssetId(Long assetId, Pageable pageable);
     PageResponse<AssetTagAssignmentDTO> getAssignmentsByTagId(Long tagId, Pageable pageable);
+    PageResponse<AssetDTO> findAssetsByTags(Set<Long> allTagIds, Set<Long> anyTagIds, Set<Long> noneTagIds, Pageable pageable);
     void deleteAssignment(Long id);
     void deleteAssignmentsByAssetId(Long assetId);
     void deleteAssignmentsByTagId(Long tagId);
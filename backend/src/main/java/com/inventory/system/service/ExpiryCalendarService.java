@@ -0,0 +1,22 @@
+package com.inventory.system.service;
+
+import com.inventory.system.dto.ExpiryCalendarDTO;
+
+import java.util.Set;
+
+public interface ExpiryCalendarService {
+
+    /**
+     * Expiries from today through the next {@code days} days, grouped by week
+     * @param days Number of days ahead to include
+     * @param kinds Expiry kinds to include; all kinds when empty
+     * @return Weekly counts and the earliest entries of the window
+     */
+    ExpiryCalendarDTO getUpcomingExpiries(int days, Set<String> kinds);
+
+    /**
+     * Roll the persisted warranty and licence status buckets forward to today
+     * @return Number of asset rows whose bucket changed
+     */
+    int refreshStatusBuckets();
+}
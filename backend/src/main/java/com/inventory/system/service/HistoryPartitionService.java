@@ -0,0 +1,16 @@
+package com.inventory.system.service;
+
+public interface HistoryPartitionService {
+
+    /**
+     * Create the monthly partitions of the history tables for the current month and the configured months ahead
+     * @return Number of partitions created
+     */
+    int createUpcomingPartitions();
+
+    /**
+     * Archive the months older than the retention period to compressed CSV files and drop their partitions
+     * @return Number of partitions dropped
+     */
+    int applyRetention();
+}
@@ -0,0 +1,30 @@
+package com.inventory.system.service;
+
+import com.inventory.system.dto.JobDTO;
+import com.inventory.system.enums.JobType;
+import org.springframework.core.io.Resource;
+
+public interface JobService {
+
+    /**
+     * Validate a request and queue it as a background job; a worker picks it up once the job is committed
+     * @param payload Request of the job type's handler, stored as JSON
+     * @return The queued job
+     */
+    JobDTO submit(JobType type, Object payload);
+
+    JobDTO getJob(Long jobId);
+
+    /**
+     * Result file of a finished job
+     * @throws IllegalStateException if the job has not finished yet
+     */
+    Resource getResult(Long jobId);
+
+    String getResultContentType(Long jobId);
+
+    /**
+     * Download name of a job's result, e.g. job-42.csv
+     */
+    String getResultFilename(Long jobId);
+}
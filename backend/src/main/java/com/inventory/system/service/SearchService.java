@@ -0,0 +1,15 @@
+package com.inventory.system.service;
+
+import com.inventory.system.dto.SearchSuggestionDTO;
+
+import java.util.List;
+
+/**
+ * Index-backed typeahead search. Prefix matches come first, followed by substring matches
+ * ranked by trigram similarity.
+ */
+public interface SearchService {
+    List<SearchSuggestionDTO> suggestAssets(String query, int limit);
+    List<SearchSuggestionDTO> suggestUsers(String query, int limit);
+    List<SearchSuggestionDTO> suggestVendors(String query, int limit);
+}
@@ -1,127 +1,56 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.datasource.ReplicaRead;
 import com.inventory.system.dto.AssetAnalyticsSummaryDTO;
 import com.inventory.system.dto.AssetReportDTO;
 import com.inventory.system.model.Asset;
 import com.inventory.system.repository.AssetAnalyticsRepository;
 import com.inventory.system.service.AssetAnalyticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@ReplicaRead
 public class AssetAnalyticsServiceImpl implements AssetAnalyticsService {
     
+    private static final int EXPORT_CHUNK_SIZE = 500;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    
     private final AssetAnalyticsRepository analyticsRepository;
+    private final AssetAnalyticsSnapshot analyticsSnapshot;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Override
     public AssetAnalyticsSummaryDTO getAnalyticsSummary() {
         log.info("Generating comprehensive analytics summary");
         
         try {
-            // Get asset count by status
-            Map<String, Long> assetCountByStatus = new HashMap<>();
-            List<Object[]> statusResults = analyticsRepository.countAssetsByStatus();
-            for (Object[] result : statusResults) {
-                String status = (String) result[0];
-                Long count = (Long) result[1];
-                assetCountByStatus.put(status != null ? status : "Unknown", count);
-            }
+            // Served from the incrementally maintained rollup instead of six GROUP BY scans
+            AssetAnalyticsSummaryDTO summary = analyticsSnapshot.getSummary();
             
-            // Get asset count by OS
-            Map<String, Long> assetCountByOS = new HashMap<>();
-            List<Object[]> osResults = analyticsRepository.countAssetsByOS();
-            for (Object[] result : osResults) {
-                String osName = (String) result[0];
-                Long count = (Long) result[1];
-                assetCountByOS.put(osName, count);
-            }
-            
-            // Get asset count by department and type
-            Map<String, Map<String, Long>> assetCountByDepartmentAndType = new HashMap<>();
-            List<Object[]> deptTypeResults = analyticsRepository.countAssetsByDepartmentAndType();
-            for (Object[] result : deptTypeResults) {
-                String department = (String) result[0];
-                String assetType = (String) result[1];
-                Long count = (Long) result[2];
-                
-                assetCountByDepartmentAndType
-                    .computeIfAbsent(department, k -> new HashMap<>())
-                    .put(assetType, count);
-            }
-            
-            // Get warranty status by asset type
-            Map<String, AssetAnalyticsSummaryDTO.WarrantySummaryDTO> warrantyStatusByAssetType = new HashMap<>();
-            List<Object[]> warrantyResults = analyticsRepository.getWarrantyStatusByAssetType();
-            for (Object[] result : warrantyResults) {
-                String assetType = (String) result[0];
-                Long inWarranty = (Long) result[1];
-                Long outOfWarranty = (Long) result[2];
-                Long noWarranty = (Long) result[3];
-                Long totalAssets = (Long) result[4];
-                
-                AssetAnalyticsSummaryDTO.WarrantySummaryDTO warrantySummary = 
-                    AssetAnalyticsSummaryDTO.WarrantySummaryDTO.builder()
-                        .assetType(assetType != null ? assetType : "Unknown")
-                        .inWarranty(inWarranty)
-                        .outOfWarranty(outOfWarranty)
-                        .noWarranty(noWarranty)
-                        .totalAssets(totalAssets)
-                        .build();
-                
-                warrantyStatusByAssetType.put(assetType != null ? assetType : "Unknown", warrantySummary);
-            }
-            
-            // Get asset aging
-            List<AssetAnalyticsSummaryDTO.AssetAgingDTO> assetAging = new ArrayList<>();
-            List<Object[]> agingResults = analyticsRepository.getAssetAging();
-            for (Object[] result : agingResults) {
-                String ageRange = (String) result[0];
-                Long count = (Long) result[1];
-                
-                AssetAnalyticsSummaryDTO.AssetAgingDTO agingDTO = 
-                    AssetAnalyticsSummaryDTO.AssetAgingDTO.builder()
-                        .ageRange(ageRange)
-                        .count(count)
-                        .build();
-                
-                assetAging.add(agingDTO);
-            }
-            
-            // Get asset count by category (Hardware/Software classification)
-            Map<String, Long> assetCountByCategory = new HashMap<>();
-            List<Object[]> categoryResults = analyticsRepository.countAssetsByCategory();
-            for (Object[] result : categoryResults) {
-                String category = (String) result[0];
-                Long count = (Long) result[1];
-                assetCountByCategory.put(category != null ? category : "Unknown", count);
-            }
-            
-            AssetAnalyticsSummaryDTO summary = AssetAnalyticsSummaryDTO.builder()
-                .assetCountByStatus(assetCountByStatus)
-                .assetCountByOS(assetCountByOS)
-                .assetCountByDepartmentAndType(assetCountByDepartmentAndType)
-                .warrantyStatusByAssetType(warrantyStatusByAssetType)
-                .assetAging(assetAging)
-                .assetCountByCategory(assetCountByCategory)
-                .build();
-            
-            log.info("Successfully generated analytics summary");
+            log.info("Successfully generated analytics summary (snapshot age {}s)", summary.getSnapshotAgeSeconds());
             return summary;
             
         } catch (Exception e) {
@@ -130,6 +59,13 @@ public class AssetAnalyticsServiceImpl implements AssetAnalyticsService {
         }
     }
     
+    @Override
+    public AssetAnalyticsSummaryDTO refreshAnalyticsSummary() {
+        log.info("Refreshing analytics snapshot on request");
+        analyticsSnapshot.reconcile();
+        return analyticsSnapshot.getSummary();
+    }
+    
     @Override
     public List<AssetAnalyticsSummaryDTO.AssetAgingDTO> getAssetAging(String department, String assetType) {
         log.info("Getting asset aging data with filters - department: {}, assetType: {}", department, assetType);
@@ -242,15 +178,9 @@ public class AssetAnalyticsServiceImpl implements AssetAnalyticsService {
         log.info("Generating full CSV report");
         
         try {
-            List<Asset> assets = analyticsRepository.findAll().stream()
-                .filter(asset -> !asset.getDeleted())
-                .collect(Collectors.toList());
-            
-            List<AssetReportDTO> reportDTOs = assets.stream()
-                .map(this::convertToReportDTO)
-                .collect(Collectors.toList());
-            
-            return generateCSVFromAssets(reportDTOs);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            streamFullCSVReport(outputStream);
+            return new ByteArrayResource(outputStream.toByteArray());
             
         } catch (Exception e) {
             log.error("Error generating full CSV report: {}", e.getMessage(), e);
@@ -258,7 +188,98 @@ public class AssetAnalyticsServiceImpl implements AssetAnalyticsService {
         }
     }
     
-    private AssetReportDTO convertToReportDTO(Asset asset) {
+    @Override
+    public void streamFullCSVReport(OutputStream outputStream) throws IOException {
+        log.info("Streaming full CSV report");
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        AssetCsvWriter csvWriter = new AssetCsvWriter(writer);
+        
+        // Send the header immediately so the client sees the download start
+        csvWriter.writeHeader();
+        writer.flush();
+        
+        long rowCount = 0;
+        List<Asset> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<Asset> assets = analyticsRepository.streamActiveAssetsForExport()) {
+            Iterator<Asset> iterator = assets.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    rowCount += writeExportChunk(chunk, csvWriter, writer);
+                }
+            }
+            rowCount += writeExportChunk(chunk, csvWriter, writer);
+        }
+        
+        log.info("Streamed {} assets to full CSV report", rowCount);
+    }
+    
+    @Override
+    public void writeFullCSVHeader(Writer writer) throws IOException {
+        new AssetCsvWriter(writer).writeHeader();
+    }
+    
+    @Override
+    public ExportChunk writeFullCSVRowsAfter(Writer writer, long afterAssetId, int limit) throws IOException {
+        List<Asset> chunk = new ArrayList<>(
+            analyticsRepository.findActiveAssetsForExportAfter(afterAssetId, PageRequest.of(0, limit)));
+        if (chunk.isEmpty()) {
+            return null;
+        }
+        
+        Long lastAssetId = chunk.get(chunk.size() - 1).getAssetId();
+        int rows = writeExportChunk(chunk, new AssetCsvWriter(writer), writer);
+        return new ExportChunk(lastAssetId, rows);
+    }
+    
+    /**
+     * Write one chunk of streamed assets, loading their tags in a single query, then
+     * detach the chunk so the persistence context does not grow with the export.
+     */
+    private int writeExportChunk(List<Asset> chunk, AssetCsvWriter csvWriter, Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        
+        List<Long> assetIds = new ArrayList<>(chunk.size());
+        for (Asset asset : chunk) {
+            assetIds.add(asset.getAssetId());
+        }
+        
+        Map<Long, String> tagsByAssetId = new HashMap<>();
+        for (Object[] row : analyticsRepository.findTagNamesByAssetIds(assetIds)) {
+            tagsByAssetId.merge((Long) row[0], (String) row[1], (existing, name) -> existing + ", " + name);
+        }
+        
+        for (Asset asset : chunk) {
+            csvWriter.writeRow(reportBuilder(asset)
+                .assignedTags(tagsByAssetId.get(asset.getAssetId()))
+                .build());
+        }
+        writer.flush();
+        
+        int written = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return written;
+    }
+    
+    AssetReportDTO convertToReportDTO(Asset asset) {
+        AssetReportDTO.AssetReportDTOBuilder builder = reportBuilder(asset);
+        
+        // Set assigned tags
+        if (asset.getAssignedTags() != null && !asset.getAssignedTags().isEmpty()) {
+            String tags = asset.getAssignedTags().stream()
+                .map(tag -> tag.getName())
+                .collect(Collectors.joining(", "));
+            builder.assignedTags(tags);
+        }
+        
+        return builder.build();
+    }
+    
+    private AssetReportDTO.AssetReportDTOBuilder reportBuilder(Asset asset) {
         AssetReportDTO.AssetReportDTOBuilder builder = AssetReportDTO.builder()
             .assetId(asset.getAssetId())
             .name(asset.getName())
@@ -344,91 +365,20 @@ public class AssetAnalyticsServiceImpl implements AssetAnalyticsService {
             builder.ageInDays(0L);
         }
         
-        // Set assigned tags
-        if (asset.getAssignedTags() != null && !asset.getAssignedTags().isEmpty()) {
-            String tags = asset.getAssignedTags().stream()
-                .map(tag -> tag.getName())
-                .collect(Collectors.joining(", "));
-            builder.assignedTags(tags);
-        }
-        
-        return builder.build();
+        return builder;
     }
     
     private ByteArrayResource generateCSVFromAssets(List<AssetReportDTO> assets) throws IOException {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         
-        try (OutputStreamWriter writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)) {
-            // Write CSV header
-            writer.write("Asset ID,Name,Serial Number,IT Asset Code,Status,Category,Asset Type,Make,Model,");
-            writer.write("Current User,Department,Designation,Location,OS,OS Version,PO Number,Invoice Number,");
-            writer.write("Acquisition Date,Acquisition Price,Current Price,Owner Type,Acquisition Type,");
-            writer.write("Warranty Expiry,Extended Warranty Expiry,Warranty Status,Vendor,MAC Address,IPv4 Address,");
-            writer.write("Age Range,Age in Days,Assigned Tags,License Name,License Validity,");
-            writer.write("License Status,Lease End Date,Rental Amount,Min Contract Period,Created At,Updated At\n");
-            
-            // Write data rows
-            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-            DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            AssetCsvWriter csvWriter = new AssetCsvWriter(writer);
+            csvWriter.writeHeader();
             for (AssetReportDTO asset : assets) {
-                writer.write(String.format("%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s,%s\n",
-                    escapeCsvValue(asset.getAssetId()),
-                    escapeCsvValue(asset.getName()),
-                    escapeCsvValue(asset.getSerialNumber()),
-                    escapeCsvValue(asset.getItAssetCode()),
-                    escapeCsvValue(asset.getStatus()),
-                    escapeCsvValue(asset.getAssetCategory()),
-                    escapeCsvValue(asset.getAssetTypeName()),
-                    escapeCsvValue(asset.getMakeName()),
-                    escapeCsvValue(asset.getModelName()),
-                    escapeCsvValue(asset.getCurrentUserName()),
-                    escapeCsvValue(asset.getCurrentUserDepartment()),
-                    escapeCsvValue(asset.getCurrentUserDesignation()),
-                    escapeCsvValue(asset.getInventoryLocation()),
-                    escapeCsvValue(asset.getOsName()),
-                    escapeCsvValue(asset.getOsVersion()),
-                    escapeCsvValue(asset.getPoNumber()),
-                    escapeCsvValue(asset.getInvoiceNumber()),
-                    escapeCsvValue(asset.getAcquisitionDate() != null ? asset.getAcquisitionDate().format(dateFormatter) : ""),
-                    escapeCsvValue(asset.getAcquisitionPrice()),
-                    escapeCsvValue(asset.getCurrentPrice()),
-                    escapeCsvValue(asset.getOwnerType()),
-                    escapeCsvValue(asset.getAcquisitionType()),
-                    escapeCsvValue(asset.getWarrantyExpiry() != null ? asset.getWarrantyExpiry().format(dateFormatter) : ""),
-                    escapeCsvValue(asset.getExtendedWarrantyExpiry() != null ? asset.getExtendedWarrantyExpiry().format(dateFormatter) : ""),
-                    escapeCsvValue(asset.getWarrantyStatus()),
-                    escapeCsvValue(asset.getVendorName()),
-                    escapeCsvValue(asset.getMacAddress()),
-                    escapeCsvValue(asset.getIpv4Address()),
-                    escapeCsvValue(asset.getAgeRange()),
-                    escapeCsvValue(asset.getAgeInDays()),
-                    escapeCsvValue(asset.getAssignedTags()),
-                    escapeCsvValue(asset.getLicenseName()),
-                    escapeCsvValue(asset.getLicenseValidityPeriod() != null ? asset.getLicenseValidityPeriod().format(dateFormatter) : ""),
-    
-                    escapeCsvValue(asset.getLicenseStatus()),
-                    escapeCsvValue(asset.getLeaseEndDate() != null ? asset.getLeaseEndDate().format(dateFormatter) : ""),
-                    escapeCsvValue(asset.getRentalAmount()),
-                    escapeCsvValue(asset.getMinContractPeriod()),
-                    escapeCsvValue(asset.getCreatedAt() != null ? asset.getCreatedAt().format(dateTimeFormatter) : ""),
-                    escapeCsvValue(asset.getUpdatedAt() != null ? asset.getUpdatedAt().format(dateTimeFormatter) : "")
-                ));
+                csvWriter.writeRow(asset);
             }
         }
         
         return new ByteArrayResource(outputStream.toByteArray());
     }
-    
-    private String escapeCsvValue(Object value) {
-        if (value == null) {
-            return "";
-        }
-        
-        String str = value.toString();
-        if (str.contains(",") || str.contains("\"") || str.contains("\n")) {
-            return "\"" + str.replace("\"", "\"\"") + "\"";
-        }
-        return str;
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,348 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.cache.ResourceVersions;
+import com.inventory.system.dto.AssetAnalyticsSummaryDTO;
+import com.inventory.system.model.Asset;
+import com.inventory.system.repository.AssetAnalyticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory rollup of the dashboard counters served by /api/analytics/summary.
+ *
+ * The rollup is seeded from the six GROUP BY queries in {@link AssetAnalyticsRepository} and then
+ * kept current by {@link #recordChange(AssetFacts, AssetFacts)}, which {@link AssetServiceImpl} calls
+ * with the before/after state of every asset it creates, updates, deletes or restores. Deltas are
+ * applied only after the surrounding transaction commits.
+ *
+ * Age and warranty buckets depend on the current date, and edits made outside the asset service
+ * (user department changes, direct SQL) are not observed, so a scheduled reconcile rebuilds the
+ * rollup from the database every night.
+ *
+ * Every change to the rollup bumps {@link ResourceVersions#ANALYTICS}, the ETag of the summary endpoints.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetAnalyticsSnapshot {
+
+    static final String AGE_UNKNOWN = "Unknown";
+    static final String AGE_UNDER_ONE_YEAR = "<1 year";
+    static final String AGE_ONE_TO_TWO_YEARS = "1-2 years";
+    static final String AGE_TWO_TO_THREE_YEARS = "2-3 years";
+    static final String AGE_OVER_THREE_YEARS = ">3 years";
+
+    private static final List<String> AGE_RANGES = List.of(
+        AGE_UNDER_ONE_YEAR, AGE_ONE_TO_TWO_YEARS, AGE_TWO_TO_THREE_YEARS, AGE_OVER_THREE_YEARS, AGE_UNKNOWN);
+
+    private final AssetAnalyticsRepository analyticsRepository;
+    private final ResourceVersions resourceVersions;
+    private final PlatformTransactionManager transactionManager;
+
+    private Counters counters;
+    private LocalDateTime reconciledAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Current counters as a summary DTO. The first call after startup seeds the rollup from the database.
+     */
+    public AssetAnalyticsSummaryDTO getSummary() {
+        synchronized (this) {
+            if (counters != null) {
+                return toSummary();
+            }
+        }
+        reconcile();
+        synchronized (this) {
+            return toSummary();
+        }
+    }
+
+    /**
+     * Record that an asset moved from {@code before} to {@code after}. Either side may be null
+     * (created, hard-deleted, soft-deleted or restored assets). Applied after commit when called
+     * inside a transaction so rolled-back changes never reach the rollup.
+     */
+    public void recordChange(AssetFacts before, AssetFacts after) {
+        if (before == null && after == null) {
+            return;
+        }
+        if (before != null && before.equals(after)) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyChange(before, after);
+                }
+            });
+        } else {
+            applyChange(before, after);
+        }
+    }
+
+    /**
+     * Discard the rollup after a set-based change whose per-asset deltas are not known (PO cascades);
+     * the next read reseeds it from the database. Applied after commit like {@link #recordChange}.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard();
+                }
+            });
+        } else {
+            discard();
+        }
+    }
+
+    /**
+     * Rebuild the rollup from the database, discarding any accumulated drift. The counters are read in
+     * a read-write transaction of their own, so they come from the primary even when the caller is a
+     * replica read; seeding from a lagging replica would drop deltas already applied after commit.
+     */
+    @Scheduled(cron = "${analytics.snapshot.reconcile-cron:0 5 0 * * *}")
+    public void reconcile() {
+        log.info("Reconciling analytics snapshot from database");
+        long start = System.nanoTime();
+
+        TransactionTemplate primaryRead = new TransactionTemplate(transactionManager);
+        primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Counters fresh = primaryRead.execute(status -> loadCounters());
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (this) {
+            if (counters != null) {
+                long drift = counters.totalAssets() - fresh.totalAssets();
+                if (drift != 0) {
+                    log.warn("Analytics snapshot drifted by {} assets since last reconcile", drift);
+                }
+            }
+            counters = fresh;
+            reconciledAt = now;
+            updatedAt = now;
+        }
+        resourceVersions.bump(ResourceVersions.ANALYTICS);
+
+        log.info("Analytics snapshot reconciled in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void discard() {
+        counters = null;
+        resourceVersions.bump(ResourceVersions.ANALYTICS);
+    }
+
+    private synchronized void applyChange(AssetFacts before, AssetFacts after) {
+        if (counters == null) {
+            // Not seeded yet; the first read loads everything from the database
+            return;
+        }
+        if (before != null) {
+            counters.add(before, -1);
+        }
+        if (after != null) {
+            counters.add(after, 1);
+        }
+        updatedAt = LocalDateTime.now();
+        resourceVersions.bump(ResourceVersions.ANALYTICS);
+    }
+
+    private AssetAnalyticsSummaryDTO toSummary() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<String, Map<String, Long>> byDepartmentAndType = new HashMap<>();
+        counters.byDepartmentAndType.forEach((department, byType) ->
+            byDepartmentAndType.put(department, new HashMap<>(byType)));
+
+        Map<String, AssetAnalyticsSummaryDTO.WarrantySummaryDTO> warrantyByType = new HashMap<>();
+        counters.warrantyByType.forEach((assetType, buckets) ->
+            warrantyByType.put(assetType, AssetAnalyticsSummaryDTO.WarrantySummaryDTO.builder()
+                .assetType(assetType)
+                .inWarranty(buckets[0])
+                .outOfWarranty(buckets[1])
+                .noWarranty(buckets[2])
+                .totalAssets(buckets[0] + buckets[1] + buckets[2])
+                .build()));
+
+        List<AssetAnalyticsSummaryDTO.AssetAgingDTO> aging = new ArrayList<>();
+        for (String ageRange : AGE_RANGES) {
+            Long count = counters.byAgeRange.get(ageRange);
+            if (count != null) {
+                aging.add(AssetAnalyticsSummaryDTO.AssetAgingDTO.builder()
+                    .ageRange(ageRange)
+                    .count(count)
+                    .build());
+            }
+        }
+
+        return AssetAnalyticsSummaryDTO.builder()
+            .assetCountByStatus(new HashMap<>(counters.byStatus))
+            .assetCountByOS(new HashMap<>(counters.byOs))
+            .assetCountByDepartmentAndType(byDepartmentAndType)
+            .warrantyStatusByAssetType(warrantyByType)
+            .assetAging(aging)
+            .assetCountByCategory(new HashMap<>(counters.byCategory))
+            .snapshotReconciledAt(reconciledAt)
+            .snapshotUpdatedAt(updatedAt)
+            .snapshotAgeSeconds(Duration.between(reconciledAt, now).getSeconds())
+            .build();
+    }
+
+    private Counters loadCounters() {
+        Counters loaded = new Counters();
+
+        for (Object[] result : analyticsRepository.countAssetsByStatus()) {
+            String status = (String) result[0];
+            loaded.byStatus.put(status != null ? status : "Unknown", (Long) result[1]);
+        }
+
+        for (Object[] result : analyticsRepository.countAssetsByOS()) {
+            loaded.byOs.put((String) result[0], (Long) result[1]);
+        }
+
+        for (Object[] result : analyticsRepository.countAssetsByDepartmentAndType()) {
+            loaded.byDepartmentAndType
+                .computeIfAbsent((String) result[0], k -> new HashMap<>())
+                .put((String) result[1], (Long) result[2]);
+        }
+
+        for (Object[] result : analyticsRepository.getWarrantyStatusByAssetType()) {
+            String assetType = result[0] != null ? (String) result[0] : "Unknown";
+            long[] buckets = loaded.warrantyByType.computeIfAbsent(assetType, k -> new long[3]);
+            buckets[0] += (Long) result[1];
+            buckets[1] += (Long) result[2];
+            buckets[2] += (Long) result[3];
+        }
+
+        for (Object[] result : analyticsRepository.getAssetAging()) {
+            loaded.byAgeRange.put((String) result[0], (Long) result[1]);
+        }
+
+        for (Object[] result : analyticsRepository.countAssetsByCategory()) {
+            String category = (String) result[0];
+            loaded.byCategory.put(category != null ? category : "Unknown", (Long) result[1]);
+        }
+
+        return loaded;
+    }
+
+    /**
+     * The grouping keys of one active asset, resolved the same way as the analytics queries
+     */
+    public record AssetFacts(String status, String osType, String department, String assetType,
+                             String category, String ageRange, int warrantyBucket) {
+
+        /**
+         * Capture the grouping keys of an asset; returns null for soft-deleted assets, which the
+         * analytics queries exclude. Must be called while lazy associations can still be loaded.
+         */
+        public static AssetFacts of(Asset asset) {
+            if (asset == null || Boolean.TRUE.equals(asset.getDeleted())) {
+                return null;
+            }
+
+            LocalDate today = LocalDate.now();
+            String osType = asset.getOs() != null && asset.getOs().getOsType() != null
+                ? asset.getOs().getOsType() : "No OS";
+            String department = asset.getCurrentUser() != null && asset.getCurrentUser().getDepartment() != null
+                ? asset.getCurrentUser().getDepartment() : "Unassigned";
+            String assetType = asset.getAssetType() != null && asset.getAssetType().getName() != null
+                ? asset.getAssetType().getName() : "Unknown";
+
+            int warrantyBucket;
+            if (asset.getWarrantyExpiry() == null) {
+                warrantyBucket = 2;
+            } else if (asset.getWarrantyExpiry().isAfter(today)) {
+                warrantyBucket = 0;
+            } else {
+                warrantyBucket = 1;
+            }
+
+            return new AssetFacts(
+                asset.getStatus() != null ? asset.getStatus() : "Unknown",
+                osType,
+                department,
+                assetType,
+                asset.getAssetCategory() != null ? asset.getAssetCategory() : "Unknown",
+                ageRange(asset.getAcquisitionDate(), today),
+                warrantyBucket);
+        }
+
+        private static String ageRange(LocalDate acquisitionDate, LocalDate today) {
+            if (acquisitionDate == null) {
+                return AGE_UNKNOWN;
+            }
+            long days = ChronoUnit.DAYS.between(acquisitionDate, today);
+            if (days < 365) {
+                return AGE_UNDER_ONE_YEAR;
+            } else if (days < 730) {
+                return AGE_ONE_TO_TWO_YEARS;
+            } else if (days < 1095) {
+                return AGE_TWO_TO_THREE_YEARS;
+            }
+            return AGE_OVER_THREE_YEARS;
+        }
+    }
+
+    private static final class Counters {
+        private final Map<String, Long> byStatus = new HashMap<>();
+        private final Map<String, Long> byOs = new HashMap<>();
+        private final Map<String, Map<String, Long>> byDepartmentAndType = new HashMap<>();
+        private final Map<String, long[]> warrantyByType = new HashMap<>();
+        private final Map<String, Long> byAgeRange = new HashMap<>();
+        private final Map<String, Long> byCategory = new HashMap<>();
+
+        void add(AssetFacts facts, long delta) {
+            adjust(byStatus, facts.status(), delta);
+            adjust(byOs, facts.osType(), delta);
+            adjust(byAgeRange, facts.ageRange(), delta);
+            adjust(byCategory, facts.category(), delta);
+
+            Map<String, Long> byType = byDepartmentAndType.computeIfAbsent(facts.department(), k -> new HashMap<>());
+            adjust(byType, facts.assetType(), delta);
+            if (byType.isEmpty()) {
+                byDepartmentAndType.remove(facts.department());
+            }
+
+            long[] buckets = warrantyByType.computeIfAbsent(facts.assetType(), k -> new long[3]);
+            buckets[facts.warrantyBucket()] += delta;
+            if (buckets[0] + buckets[1] + buckets[2] <= 0) {
+                warrantyByType.remove(facts.assetType());
+            }
+        }
+
+        long totalAssets() {
+            return byStatus.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        // Drop keys that reach zero so the output matches what GROUP BY would return
+        private static void adjust(Map<String, Long> counts, String key, long delta) {
+            long updated = counts.getOrDefault(key, 0L) + delta;
+            if (updated > 0) {
+                counts.put(key, updated);
+            } else {
+                counts.remove(key);
+            }
+        }
+    }
+}
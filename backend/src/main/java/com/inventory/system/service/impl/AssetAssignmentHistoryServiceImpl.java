@@ -113,7 +113,10 @@ public class AssetAssignmentHistoryServiceImpl implements AssetAssignmentHistory
 
         assignmentHistory.setAsset(asset);
         assignmentHistory.setUser(user);
-        assignmentHistory.setAssignedDate(dto.getAssignedDate());
+        // Optional in the request; an update without it keeps the stored date (the partition key cannot be null)
+        if (dto.getAssignedDate() != null) {
+            assignmentHistory.setAssignedDate(dto.getAssignedDate());
+        }
         assignmentHistory.setUnassignedDate(dto.getUnassignedDate());
     }
 
@@ -1,5 +1,6 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.datasource.ReplicaRead;
 import com.inventory.system.dto.*;
 import com.inventory.system.exception.ResourceNotFoundException;
 import com.inventory.system.model.*;
@@ -9,11 +10,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,47 +35,55 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
     private final AssetTagRepository assetTagRepository;
     private final AssetAssignmentHistoryRepository assignmentHistoryRepository;
     private final AssetTagAssignmentRepository tagAssignmentRepository;
+    private final AssetKeysetRepository assetKeysetRepository;
+    private final AssetAssignmentJdbcRepository assignmentJdbcRepository;
+    private final AssetStatusJdbcRepository assetStatusJdbcRepository;
+    private final AssetAnalyticsSnapshot analyticsSnapshot;
+
+    private static final int MAX_BULK_ASSIGNMENT_ASSETS = 10000;
 
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public PageResponse<AssetDashboardDTO> getAssetDashboard(Pageable pageable) {
         log.info("Fetching asset dashboard with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         
-        Page<Asset> assetPage = assetRepository.findByDeletedFalse(pageable);
-        List<AssetDashboardDTO> dashboardDTOs = assetPage.getContent().stream()
-                .map(this::convertToAssetDashboardDTO)
-                .collect(Collectors.toList());
-        
-        return new PageResponse<>(
-                dashboardDTOs,
-                assetPage.getNumber(),
-                assetPage.getSize(),
-                assetPage.getTotalElements(),
-                assetPage.getTotalPages(),
-                assetPage.isLast(),
-                assetPage.isFirst()
-        );
+        Page<AssetDashboardRow> rowPage = assetRepository.findDashboardRows(pageable);
+        return toDashboardPage(rowPage);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public PageResponse<AssetDashboardDTO> searchAssetDashboard(String searchTerm, Pageable pageable) {
         log.info("Searching asset dashboard with term: '{}', page={}, size={}", searchTerm, pageable.getPageNumber(), pageable.getPageSize());
         
-        Page<Asset> assetPage = assetRepository.findByDeletedFalseAndSearchTerm(searchTerm, pageable);
-        List<AssetDashboardDTO> dashboardDTOs = assetPage.getContent().stream()
-                .map(this::convertToAssetDashboardDTO)
-                .collect(Collectors.toList());
+        Page<AssetDashboardRow> rowPage = assetRepository.searchDashboardRows(searchTerm, pageable);
+        return toDashboardPage(rowPage);
+    }
+
+    @Override
+    @ReplicaRead
+    public PageResponse<AssetDashboardDTO> getAssetDashboardByCursor(String searchTerm, String cursor, Pageable pageable, boolean includeTotal) {
+        log.info("Fetching asset dashboard by cursor: search='{}', size={}, firstPage={}",
+                searchTerm, pageable.getPageSize(), cursor == null || cursor.isBlank());
+        
+        boolean firstPage = cursor == null || cursor.isBlank();
+        KeysetCursor after = firstPage ? null : KeysetCursor.decode(cursor);
+        Sort.Order order = pageable.getSort().stream().findFirst()
+                .orElse(Sort.Order.asc(AssetKeysetRepository.DEFAULT_SORT));
         
-        return new PageResponse<>(
-                dashboardDTOs,
-                assetPage.getNumber(),
-                assetPage.getSize(),
-                assetPage.getTotalElements(),
-                assetPage.getTotalPages(),
-                assetPage.isLast(),
-                assetPage.isFirst()
-        );
+        AssetKeysetRepository.KeysetWindow window = assetKeysetRepository.findActive(
+                searchTerm, order.getProperty(), order.getDirection(), after, pageable.getPageSize());
+        Long total = includeTotal ? assetKeysetRepository.countActive(searchTerm) : null;
+        
+        // The window only decides which assets are on the page; the dashboard columns come from the projection
+        List<Long> assetIds = window.content().stream().map(Asset::getAssetId).toList();
+        Map<Long, AssetDashboardRow> rowsById = assetIds.isEmpty() ? Map.of() :
+                assetRepository.findDashboardRowsByIds(assetIds).stream()
+                        .collect(Collectors.toMap(AssetDashboardRow::getAssetId, Function.identity()));
+        List<AssetDashboardRow> rows = assetIds.stream().map(rowsById::get).toList();
+        List<AssetDashboardDTO> dashboardDTOs = convertToAssetDashboardDTOs(rows);
+        
+        return PageResponse.ofCursor(dashboardDTOs, pageable.getPageSize(), window.nextCursor(), firstPage, total);
     }
 
     @Override
@@ -83,6 +99,8 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
             User user = userRepository.findById(assignmentDTO.getUserId())
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", assignmentDTO.getUserId()));
             
+            AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
+            
             // End previous assignment if exists
             if (asset.getCurrentUser() != null) {
                 endCurrentUserAssignment(asset.getAssetId());
@@ -90,7 +108,9 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
             
             // Set new current user
             asset.setCurrentUser(user);
-            assetRepository.save(asset);
+            Asset updatedAsset = assetRepository.save(asset);
+            // The current user decides the asset's department in the dashboard rollup
+            analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
             
             // Create assignment history record
             AssetAssignmentHistory history = new AssetAssignmentHistory();
@@ -130,13 +150,15 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
             }
             
             String userName = asset.getCurrentUser().getFullNameOrOfficeName();
+            AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
             
             // End current assignment
             endCurrentUserAssignment(assetId);
             
             // Remove current user
             asset.setCurrentUser(null);
-            assetRepository.save(asset);
+            Asset updatedAsset = assetRepository.save(asset);
+            analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
             
             log.info("Successfully unassigned user from asset {}", assetId);
             
@@ -156,6 +178,52 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
         }
     }
 
+    @Override
+    public BulkAssignmentResponseDTO assignUserToAssets(BulkUserAssignmentDTO assignmentDTO) {
+        List<Long> assetIds = new ArrayList<>(new LinkedHashSet<>(assignmentDTO.getAssetIds()));
+        assetIds.removeIf(Objects::isNull);
+        if (assetIds.size() > MAX_BULK_ASSIGNMENT_ASSETS) {
+            throw new IllegalArgumentException(
+                    "A bulk assignment can target at most " + MAX_BULK_ASSIGNMENT_ASSETS + " assets");
+        }
+        requireUser(assignmentDTO.getUserId());
+        log.info("Assigning user {} to {} assets", assignmentDTO.getUserId(), assetIds.size());
+        
+        List<AssetAssignmentJdbcRepository.AssignmentChange> changes = applyReassignment(
+                now -> assignmentJdbcRepository.reassignAssets(assetIds, assignmentDTO.getUserId(), now),
+                assignmentDTO.getUserId());
+        
+        return toBulkResponse(assetIds, changes, null, assignmentDTO.getUserId());
+    }
+
+    @Override
+    public BulkAssignmentResponseDTO transferUserAssets(Long fromUserId, Long toUserId) {
+        if (fromUserId.equals(toUserId)) {
+            throw new IllegalArgumentException("Source and target user must be different");
+        }
+        requireUser(fromUserId);
+        requireUser(toUserId);
+        log.info("Transferring all assets of user {} to user {}", fromUserId, toUserId);
+        
+        List<AssetAssignmentJdbcRepository.AssignmentChange> changes = applyReassignment(
+                now -> assignmentJdbcRepository.reassignAssetsOfUser(fromUserId, toUserId, now), toUserId);
+        
+        List<Long> assetIds = changes.stream().map(AssetAssignmentJdbcRepository.AssignmentChange::assetId).toList();
+        return toBulkResponse(assetIds, changes, fromUserId, toUserId);
+    }
+
+    @Override
+    public BulkAssignmentResponseDTO unassignAllFromUser(Long userId) {
+        requireUser(userId);
+        log.info("Unassigning all assets from user {}", userId);
+        
+        List<AssetAssignmentJdbcRepository.AssignmentChange> changes = applyReassignment(
+                now -> assignmentJdbcRepository.reassignAssetsOfUser(userId, null, now), null);
+        
+        List<Long> assetIds = changes.stream().map(AssetAssignmentJdbcRepository.AssignmentChange::assetId).toList();
+        return toBulkResponse(assetIds, changes, userId, null);
+    }
+
     @Override
     @Transactional
     public AssignmentResponseDTO assignTagToAsset(AssetTagAssignmentRequestDTO assignmentDTO) {
@@ -291,6 +359,78 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
         }
     }
 
+    private void requireUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+
+    /**
+     * Run one set-based reassignment, then close the open history rows of the moved assets and open new
+     * ones for {@code toUserId} (none when unassigning). Everything runs in the caller's transaction.
+     */
+    private List<AssetAssignmentJdbcRepository.AssignmentChange> applyReassignment(
+            Function<LocalDateTime, List<AssetAssignmentJdbcRepository.AssignmentChange>> reassignment, Long toUserId) {
+        // The statements bypass the persistence context, so push pending entity changes first
+        assetRepository.flush();
+        LocalDateTime now = LocalDateTime.now();
+        
+        List<AssetAssignmentJdbcRepository.AssignmentChange> changes = reassignment.apply(now);
+        if (changes.isEmpty()) {
+            return changes;
+        }
+        
+        List<Long> movedIds = changes.stream().map(AssetAssignmentJdbcRepository.AssignmentChange::assetId).toList();
+        int closed = assignmentJdbcRepository.closeOpenAssignments(movedIds, now);
+        int opened = toUserId != null ? assignmentJdbcRepository.openAssignments(movedIds, toUserId, now) : 0;
+        
+        // Department counters depend on the current user; reseed the rollup on next read
+        analyticsSnapshot.invalidate();
+        
+        log.info("Reassigned {} assets: closed {} and opened {} assignment history rows", changes.size(), closed, opened);
+        return changes;
+    }
+
+    private BulkAssignmentResponseDTO toBulkResponse(List<Long> assetIds,
+                                                     List<AssetAssignmentJdbcRepository.AssignmentChange> changes,
+                                                     Long fromUserId, Long toUserId) {
+        Map<Long, AssetAssignmentJdbcRepository.AssignmentChange> changesByAssetId = changes.stream()
+                .collect(Collectors.toMap(AssetAssignmentJdbcRepository.AssignmentChange::assetId, Function.identity()));
+        List<Long> untouchedIds = assetIds.stream().filter(id -> !changesByAssetId.containsKey(id)).toList();
+        Map<Long, Boolean> deletedFlags = assetStatusJdbcRepository.findDeletedFlags(untouchedIds);
+        
+        List<BulkAssignmentResponseDTO.AssetAssignmentOutcome> results = new ArrayList<>(assetIds.size());
+        int unchanged = 0;
+        for (Long assetId : assetIds) {
+            AssetAssignmentJdbcRepository.AssignmentChange change = changesByAssetId.get(assetId);
+            Boolean deleted = deletedFlags.get(assetId);
+            BulkAssignmentResponseDTO.AssetAssignmentOutcome.AssetAssignmentOutcomeBuilder outcome =
+                    BulkAssignmentResponseDTO.AssetAssignmentOutcome.builder().assetId(assetId);
+            if (change != null) {
+                outcome.outcome(BulkAssignmentResponseDTO.REASSIGNED).previousUserId(change.previousUserId());
+            } else if (deleted == null) {
+                outcome.outcome(BulkAssignmentResponseDTO.NOT_FOUND).message("Asset not found with ID: " + assetId);
+            } else if (deleted) {
+                outcome.outcome(BulkAssignmentResponseDTO.DELETED).message("Cannot assign deleted asset with ID: " + assetId);
+            } else {
+                unchanged++;
+                outcome.outcome(BulkAssignmentResponseDTO.UNCHANGED).previousUserId(toUserId)
+                        .message("Asset is already assigned to user " + toUserId);
+            }
+            results.add(outcome.build());
+        }
+        
+        return BulkAssignmentResponseDTO.builder()
+                .fromUserId(fromUserId)
+                .toUserId(toUserId)
+                .totalProcessed(assetIds.size())
+                .reassignedCount(changes.size())
+                .unchangedCount(unchanged)
+                .failureCount(assetIds.size() - changes.size() - unchanged)
+                .results(results)
+                .build();
+    }
+
     private void removeCurrentTagAssignment(Long assetId) {
         List<AssetTagAssignment> currentTagAssignments = tagAssignmentRepository.findByAsset_AssetId(assetId);
         tagAssignmentRepository.deleteAll(currentTagAssignments);
@@ -340,53 +480,61 @@ public class AssetAssignmentManagementServiceImpl implements AssetAssignmentMana
         }
     }
 
-    private AssetDashboardDTO convertToAssetDashboardDTO(Asset asset) {
-        AssetDashboardDTO.AssetDashboardDTOBuilder builder = AssetDashboardDTO.builder()
-                .assetId(asset.getAssetId())
-                .name(asset.getName())
-                .status(asset.getStatus())
-                .serialNumber(asset.getSerialNumber())
-                .itAssetCode(asset.getItAssetCode())
-                .poNumber(asset.getPoNumber())
-                .invoiceNumber(asset.getInvoiceNumber())
-                .inventoryLocation(asset.getInventoryLocation())
-                .ownerType(asset.getOwnerType())
-                .acquisitionType(asset.getAcquisitionType());
-
-        // Asset Type Information
-        if (asset.getAssetType() != null) {
-            builder.assetTypeId(asset.getAssetType().getId())
-                   .assetTypeName(asset.getAssetType().getName());
-        }
-
-        // Make Information
-        if (asset.getMake() != null) {
-            builder.makeId(asset.getMake().getId())
-                   .makeName(asset.getMake().getName());
-        }
+    private PageResponse<AssetDashboardDTO> toDashboardPage(Page<AssetDashboardRow> rowPage) {
+        return new PageResponse<>(
+                convertToAssetDashboardDTOs(rowPage.getContent()),
+                rowPage.getNumber(),
+                rowPage.getSize(),
+                rowPage.getTotalElements(),
+                rowPage.getTotalPages(),
+                rowPage.isLast(),
+                rowPage.isFirst()
+        );
+    }
 
-        // Model Information
-        if (asset.getModel() != null) {
-            builder.modelId(asset.getModel().getId())
-                   .modelName(asset.getModel().getName());
+    /**
+     * Build dashboard DTOs from projected rows, loading the current tag of every row with one query
+     */
+    private List<AssetDashboardDTO> convertToAssetDashboardDTOs(List<AssetDashboardRow> rows) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        // Current User Information
-        if (asset.getCurrentUser() != null) {
-            User user = asset.getCurrentUser();
-            builder.currentUserId(user.getId())
-                   .currentUserName(user.getFullNameOrOfficeName())
-                   .currentUserEmail(user.getEmail())
-                   .currentUserDepartment(user.getDepartment());
+        // Current Tag Information (the lowest tag id if multiple are assigned)
+        Map<Long, Object[]> firstTagByAssetId = new HashMap<>();
+        List<Long> assetIds = rows.stream().map(AssetDashboardRow::getAssetId).toList();
+        for (Object[] tag : assetRepository.findTagsByAssetIds(assetIds)) {
+            firstTagByAssetId.putIfAbsent((Long) tag[0], tag);
         }
 
-        // Current Tag Information (use first tag if multiple are assigned)
-        if (asset.getAssignedTags() != null && !asset.getAssignedTags().isEmpty()) {
-            AssetTag firstTag = asset.getAssignedTags().iterator().next();
-            builder.currentTagId(firstTag.getId())
-                   .currentTagName(firstTag.getName());
+        List<AssetDashboardDTO> dashboardDTOs = new ArrayList<>(rows.size());
+        for (AssetDashboardRow row : rows) {
+            Object[] tag = firstTagByAssetId.get(row.getAssetId());
+            dashboardDTOs.add(AssetDashboardDTO.builder()
+                    .assetId(row.getAssetId())
+                    .name(row.getName())
+                    .status(row.getStatus())
+                    .serialNumber(row.getSerialNumber())
+                    .itAssetCode(row.getItAssetCode())
+                    .poNumber(row.getPoNumber())
+                    .invoiceNumber(row.getInvoiceNumber())
+                    .inventoryLocation(row.getInventoryLocation())
+                    .ownerType(row.getOwnerType())
+                    .acquisitionType(row.getAcquisitionType())
+                    .assetTypeId(row.getAssetTypeId())
+                    .assetTypeName(row.getAssetTypeName())
+                    .makeId(row.getMakeId())
+                    .makeName(row.getMakeName())
+                    .modelId(row.getModelId())
+                    .modelName(row.getModelName())
+                    .currentUserId(row.getCurrentUserId())
+                    .currentUserName(row.getCurrentUserName())
+                    .currentUserEmail(row.getCurrentUserEmail())
+                    .currentUserDepartment(row.getCurrentUserDepartment())
+                    .currentTagId(tag != null ? (Long) tag[1] : null)
+                    .currentTagName(tag != null ? (String) tag[2] : null)
+                    .build());
         }
-
-        return builder.build();
+        return dashboardDTOs;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.dto.AssetReportDTO;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Row-at-a-time CSV encoder for asset reports. Values are escaped straight into the
+ * underlying writer, so no format string or intermediate row string is built per row.
+ */
+public class AssetCsvWriter {
+
+    static final String HEADER =
+        "Asset ID,Name,Serial Number,IT Asset Code,Status,Category,Asset Type,Make,Model," +
+        "Current User,Department,Designation,Location,OS,OS Version,PO Number,Invoice Number," +
+        "Acquisition Date,Acquisition Price,Current Price,Owner Type,Acquisition Type," +
+        "Warranty Expiry,Extended Warranty Expiry,Warranty Status,Vendor,MAC Address,IPv4 Address," +
+        "Age Range,Age in Days,Assigned Tags,License Name,License Validity," +
+        "License Status,Lease End Date,Rental Amount,Min Contract Period,Created At,Updated At\n";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private boolean firstColumn;
+
+    public AssetCsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+    }
+
+    public void writeRow(AssetReportDTO asset) throws IOException {
+        firstColumn = true;
+        column(asset.getAssetId());
+        column(asset.getName());
+        column(asset.getSerialNumber());
+        column(asset.getItAssetCode());
+        column(asset.getStatus());
+        column(asset.getAssetCategory());
+        column(asset.getAssetTypeName());
+        column(asset.getMakeName());
+        column(asset.getModelName());
+        column(asset.getCurrentUserName());
+        column(asset.getCurrentUserDepartment());
+        column(asset.getCurrentUserDesignation());
+        column(asset.getInventoryLocation());
+        column(asset.getOsName());
+        column(asset.getOsVersion());
+        column(asset.getPoNumber());
+        column(asset.getInvoiceNumber());
+        dateColumn(asset.getAcquisitionDate());
+        column(asset.getAcquisitionPrice());
+        column(asset.getCurrentPrice());
+        column(asset.getOwnerType());
+        column(asset.getAcquisitionType());
+        dateColumn(asset.getWarrantyExpiry());
+        dateColumn(asset.getExtendedWarrantyExpiry());
+        column(asset.getWarrantyStatus());
+        column(asset.getVendorName());
+        column(asset.getMacAddress());
+        column(asset.getIpv4Address());
+        column(asset.getAgeRange());
+        column(asset.getAgeInDays());
+        column(asset.getAssignedTags());
+        column(asset.getLicenseName());
+        dateColumn(asset.getLicenseValidityPeriod());
+        column(asset.getLicenseStatus());
+        dateColumn(asset.getLeaseEndDate());
+        column(asset.getRentalAmount());
+        column(asset.getMinContractPeriod());
+        dateTimeColumn(asset.getCreatedAt());
+        dateTimeColumn(asset.getUpdatedAt());
+        writer.write('\n');
+    }
+
+    private void column(Object value) throws IOException {
+        separator();
+        if (value != null) {
+            escapeCsvValue(value.toString());
+        }
+    }
+
+    private void dateColumn(LocalDate value) throws IOException {
+        separator();
+        if (value != null) {
+            DATE_FORMATTER.formatTo(value, writer);
+        }
+    }
+
+    private void dateTimeColumn(LocalDateTime value) throws IOException {
+        separator();
+        if (value != null) {
+            DATE_TIME_FORMATTER.formatTo(value, writer);
+        }
+    }
+
+    private void separator() throws IOException {
+        if (firstColumn) {
+            firstColumn = false;
+        } else {
+            writer.write(',');
+        }
+    }
+
+    private void escapeCsvValue(String value) throws IOException {
+        if (!needsQuoting(value)) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.AssetMakeDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
@@ -23,6 +25,8 @@ import java.util.List;
 public class AssetMakeServiceImpl implements AssetMakeService {
     private final AssetMakeRepository assetMakeRepository;
     private final AssetTypeRepository assetTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -30,6 +34,7 @@ public class AssetMakeServiceImpl implements AssetMakeService {
         AssetMake assetMake = new AssetMake();
         updateAssetMakeFromDTO(assetMake, assetMakeDTO);
         AssetMake savedAssetMake = assetMakeRepository.save(assetMake);
+        resourceVersions.bump(ResourceVersions.ASSET_MAKES);
         return convertToDTO(savedAssetMake);
     }
 
@@ -51,6 +56,8 @@ public class AssetMakeServiceImpl implements AssetMakeService {
                  assetMake.getName(), assetMake.getStatus());
         
         AssetMake updatedAssetMake = assetMakeRepository.save(assetMake);
+        referenceDataCache.evictAssetMake(id);
+        resourceVersions.bump(ResourceVersions.ASSET_MAKES);
         
         log.info("AssetMake updated successfully with ID: {} - Final state: name={}, status={}", 
                 updatedAssetMake.getId(), updatedAssetMake.getName(), updatedAssetMake.getStatus());
@@ -117,6 +124,8 @@ public class AssetMakeServiceImpl implements AssetMakeService {
             throw new ResourceNotFoundException("AssetMake", "id", id);
         }
         assetMakeRepository.deleteById(id);
+        referenceDataCache.evictAssetMake(id);
+        resourceVersions.bump(ResourceVersions.ASSET_MAKES);
     }
 
     @Override
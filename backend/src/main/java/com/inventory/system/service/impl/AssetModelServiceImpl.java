@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.AssetModelDTO;
 import com.inventory.system.dto.AssetModelDetailsDTO;
 import com.inventory.system.dto.PageResponse;
@@ -25,6 +27,8 @@ import java.util.stream.Collectors;
 public class AssetModelServiceImpl implements AssetModelService {
     private final AssetModelRepository assetModelRepository;
     private final AssetMakeRepository assetMakeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -48,6 +52,7 @@ public class AssetModelServiceImpl implements AssetModelService {
             AssetModel assetModel = new AssetModel();
             updateAssetModelFromDTO(assetModel, assetModelDTO);
             AssetModel savedAssetModel = assetModelRepository.save(assetModel);
+            resourceVersions.bump(ResourceVersions.ASSET_MODELS);
             log.info("Successfully created asset model with ID: {}", savedAssetModel.getId());
             return convertToDTO(savedAssetModel);
         } catch (ResourceNotFoundException e) {
@@ -77,6 +82,8 @@ public class AssetModelServiceImpl implements AssetModelService {
                 .orElseThrow(() -> new ResourceNotFoundException("AssetModel", "id", id));
             updateAssetModelFromDTO(assetModel, assetModelDTO);
             AssetModel updatedAssetModel = assetModelRepository.save(assetModel);
+            referenceDataCache.evictAssetModel(id);
+            resourceVersions.bump(ResourceVersions.ASSET_MODELS);
             log.info("Successfully updated asset model with ID: {}", updatedAssetModel.getId());
             return convertToDTO(updatedAssetModel);
         } catch (ResourceNotFoundException e) {
@@ -180,6 +187,8 @@ public class AssetModelServiceImpl implements AssetModelService {
             throw new ResourceNotFoundException("AssetModel", "id", id);
         }
         assetModelRepository.deleteById(id);
+        referenceDataCache.evictAssetModel(id);
+        resourceVersions.bump(ResourceVersions.ASSET_MODELS);
         log.info("Successfully deleted asset model with ID: {}", id);
     }
 
@@ -1,5 +1,6 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.datasource.ReplicaRead;
 import com.inventory.system.dto.AssetPODTO;
 import com.inventory.system.dto.AssetPOMigrationResponse;
 import com.inventory.system.dto.AssetPOUpdateResponse;
@@ -16,13 +17,18 @@ import com.inventory.system.mapper.AssetPOMapper;
 import com.inventory.system.mapper.AssetMapper;
 import com.inventory.system.model.Asset;
 import com.inventory.system.model.AssetPO;
+import com.inventory.system.model.AssetPOLedger;
+import com.inventory.system.repository.AssetPOCascadeRepository;
+import com.inventory.system.repository.AssetPOLedgerRepository;
 import com.inventory.system.repository.AssetPORepository;
 import com.inventory.system.repository.AssetRepository;
+import com.inventory.system.repository.ExpiryCalendarRepository;
 import com.inventory.system.service.AssetPOService;
 import com.inventory.system.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +37,9 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -39,11 +48,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class AssetPOServiceImpl implements AssetPOService {
     
+    // Assets per UPDATE statement when propagating PO changes
+    private static final int PO_CASCADE_CHUNK_SIZE = 1000;
+    
+    // Assets shown in the PO deletion warning preview
+    private static final int DELETION_WARNING_PREVIEW_SIZE = 20;
+    
     private final AssetPORepository assetPORepository;
+    private final AssetPOCascadeRepository assetPOCascadeRepository;
+    private final AssetPOLedgerRepository assetPOLedgerRepository;
     private final AssetPOMapper assetPOMapper;
     private final AssetRepository assetRepository;
     private final AssetMapper assetMapper;
     private final UserService userService;
+    private final AssetAnalyticsSnapshot analyticsSnapshot;
+    private final ExpiryCalendarRepository expiryCalendarRepository;
     
     @Override
     public AssetPODTO createAssetPO(AssetPODTO assetPODTO) {
@@ -113,62 +132,23 @@ public class AssetPOServiceImpl implements AssetPOService {
         
         log.info("PO Number change detected: {} -> {}", oldPoNumber, newPoNumber);
         
-        // Find all assets linked to the old PO number BEFORE any updates
-        List<Asset> linkedAssets = assetRepository.findByPoNumber(oldPoNumber);
-        log.info("Found {} assets linked to PO: {}", linkedAssets.size(), oldPoNumber);
-        
-        int updatedAssetCount = 0;
-        
-        // PHASE 1: Update foreign key references in assets FIRST (if PO number is changing)
-        if (poNumberChanged && !linkedAssets.isEmpty()) {
-            log.info("PHASE 1: Updating foreign key references in {} assets from '{}' to '{}'", 
-                linkedAssets.size(), oldPoNumber, newPoNumber);
-            
-            // Check if new PO number already exists (prevent conflicts)
-            if (assetPORepository.findByPoNumber(newPoNumber).isPresent()) {
-                throw new IllegalArgumentException("Cannot update PO number to '" + newPoNumber + 
-                    "' - this PO number already exists in another AssetPO record");
-            }
-            
-            // Bulk update asset PO numbers
-            int bulkUpdatedCount = assetRepository.updateAssetPoReferences(oldPoNumber, newPoNumber);
-            log.info("Bulk updated {} asset PO number references", bulkUpdatedCount);
-            updatedAssetCount += bulkUpdatedCount;
+        // Check if new PO number already exists (prevent conflicts)
+        if (poNumberChanged && assetPORepository.findByPoNumber(newPoNumber).isPresent()) {
+            throw new IllegalArgumentException("Cannot update PO number to '" + newPoNumber + 
+                "' - this PO number already exists in another AssetPO record");
         }
         
-        // PHASE 2: Update the AssetPO primary key itself
-        log.info("PHASE 2: Updating AssetPO primary data");
-        AssetPODTO updatedAssetPODTO = updateAssetPO(id, assetPODTO);
+        long linkedAssetCount = assetPOCascadeRepository.countLinkedAssets(oldPoNumber);
+        log.info("Found {} assets linked to PO: {}", linkedAssetCount, oldPoNumber);
         
-        // Get the updated AssetPO entity for field cascading
-        AssetPO updatedAssetPO = assetPORepository.findById(id).get();
+        // PHASE 1: Update the AssetPO; a PO number change moves its assets via ON UPDATE CASCADE
+        log.info("PHASE 1: Updating AssetPO primary data");
+        AssetPODTO updatedAssetPODTO = updateAssetPO(id, assetPODTO);
+        assetPORepository.flush();
         
-        // PHASE 3: Update other fields in linked assets (excluding PO number since it's already done)
-        if (!linkedAssets.isEmpty()) {
-            log.info("PHASE 3: Updating other fields in linked assets");
-            
-            // Reload assets with new PO number if it changed
-            List<Asset> assetsToUpdate;
-            if (poNumberChanged) {
-                assetsToUpdate = assetRepository.findByPoNumber(newPoNumber);
-            } else {
-                assetsToUpdate = linkedAssets;
-            }
-            
-            int fieldUpdatedCount = 0;
-            for (Asset asset : assetsToUpdate) {
-                if (updateAssetFromPO(asset, updatedAssetPO, true)) { // Skip PO number update
-                    fieldUpdatedCount++;
-                }
-            }
-            
-            // Save all field updates
-            if (fieldUpdatedCount > 0) {
-                assetRepository.saveAll(assetsToUpdate);
-                log.info("Updated {} assets with new PO field data", fieldUpdatedCount);
-                updatedAssetCount = Math.max(updatedAssetCount, fieldUpdatedCount);
-            }
-        }
+        // PHASE 2: Copy the remaining PO fields onto linked assets
+        log.info("PHASE 2: Updating other fields in linked assets");
+        int updatedAssetCount = cascadeFieldsToAssets(existingAssetPO, poNumberChanged ? linkedAssetCount : 0);
         
         log.info("Cascade update completed: AssetPO updated, {} assets affected", updatedAssetCount);
         return AssetPOUpdateResponse.of(updatedAssetPODTO, updatedAssetCount);
@@ -199,30 +179,19 @@ public class AssetPOServiceImpl implements AssetPOService {
                 "' - this PO number already exists in another AssetPO record");
         }
         
-        // Find all assets that reference the old PO number
-        List<Asset> linkedAssets = assetRepository.findByPoNumber(oldPoNumber);
-        log.info("Found {} assets referencing PO: '{}'", linkedAssets.size(), oldPoNumber);
-        
-        // === PHASE 1: Update Foreign Key References FIRST ===
-        log.info("PHASE 1: Updating foreign key references in assets");
-        int updatedAssetCount = 0;
-        
-        if (!linkedAssets.isEmpty()) {
-            // Bulk update all asset PO number references
-            updatedAssetCount = assetRepository.updateAssetPoReferences(oldPoNumber, newPoNumber);
-            log.info("✅ Successfully updated {} asset PO number references from '{}' to '{}'", 
-                updatedAssetCount, oldPoNumber, newPoNumber);
-        }
+        long linkedAssetCount = assetPOCascadeRepository.countLinkedAssets(oldPoNumber);
+        log.info("Found {} assets referencing PO: '{}'", linkedAssetCount, oldPoNumber);
         
-        // === PHASE 2: Update Primary Key in AssetPO ===
-        log.info("PHASE 2: Updating AssetPO primary key");
+        // === PHASE 1: Update Primary Key in AssetPO ===
+        // asset.po_number follows the rename in the same statement (ON UPDATE CASCADE)
+        log.info("PHASE 1: Updating AssetPO primary key");
         
         // Validate and normalize acquisition type
         String normalizedAcquisitionType = validateAndNormalizeAcquisitionType(assetPODTO.getAcquisitionType());
         
         // Update the AssetPO with new data
         existingAssetPO.setAcquisitionType(normalizedAcquisitionType);
-        existingAssetPO.setPoNumber(newPoNumber); // This is now safe since FKs are updated
+        existingAssetPO.setPoNumber(newPoNumber);
         existingAssetPO.setInvoiceNumber(assetPODTO.getInvoiceNumber());
         existingAssetPO.setAcquisitionDate(assetPODTO.getAcquisitionDate());
         existingAssetPO.setVendorId(assetPODTO.getVendorId());
@@ -235,29 +204,13 @@ public class AssetPOServiceImpl implements AssetPOService {
         existingAssetPO.setCurrentPrice(assetPODTO.getCurrentPrice());
         existingAssetPO.setTotalDevices(assetPODTO.getTotalDevices());
         
-        AssetPO updatedAssetPO = assetPORepository.save(existingAssetPO);
-        log.info("✅ Successfully updated AssetPO primary key to '{}'", updatedAssetPO.getPoNumber());
+        AssetPO updatedAssetPO = assetPORepository.saveAndFlush(existingAssetPO);
+        log.info("✅ Successfully updated AssetPO primary key to '{}', {} asset references moved", 
+            updatedAssetPO.getPoNumber(), linkedAssetCount);
         
-        // === PHASE 3: Update Other Fields in Assets ===
-        log.info("PHASE 3: Cascading other field updates to assets");
-        
-        if (updatedAssetCount > 0) {
-            // Reload assets with the new PO number
-            List<Asset> assetsToUpdate = assetRepository.findByPoNumber(newPoNumber);
-            
-            int fieldUpdatedCount = 0;
-            for (Asset asset : assetsToUpdate) {
-                // Skip PO number since it's already updated in Phase 1
-                if (updateAssetFromPO(asset, updatedAssetPO, true)) {
-                    fieldUpdatedCount++;
-                }
-            }
-            
-            if (fieldUpdatedCount > 0) {
-                assetRepository.saveAll(assetsToUpdate);
-                log.info("✅ Updated {} assets with cascaded field changes", fieldUpdatedCount);
-            }
-        }
+        // === PHASE 2: Update Other Fields in Assets ===
+        log.info("PHASE 2: Cascading other field updates to assets");
+        int updatedAssetCount = cascadeFieldsToAssets(updatedAssetPO, linkedAssetCount);
         
         AssetPODTO responseDTO = assetPOMapper.toDTO(updatedAssetPO);
         
@@ -289,26 +242,9 @@ public class AssetPOServiceImpl implements AssetPOService {
             BigDecimal depreciationPct = currentPo.getDepreciationPct() != null ? 
                 BigDecimal.valueOf(currentPo.getDepreciationPct()) : null;
 
-            // Phase 1: Synchronize all asset fields with PO data
-            log.info("Phase 1: Synchronizing asset fields with PO data");
-            int updatedAssets = assetRepository.synchronizeAssetFields(
-                oldPoNumber,
-                newPoNumber,
-                currentPo.getInvoiceNumber(),
-                currentPo.getAcquisitionDate(),
-                currentPo.getOwnerType(),
-                currentPo.getLeaseEndDate(),
-                currentPo.getRentalAmount(),
-                currentPo.getMinContractPeriod(),
-                currentPo.getAcquisitionPrice(),
-                depreciationPct,
-                currentPo.getCurrentPrice()
-            );
-            log.info("✅ Updated {} asset records with synchronized fields", updatedAssets);
-            
-            // Phase 2: Update PO number in AssetPO
-            log.info("Phase 2: Updating PO number in AssetPO");
-            int updatedPoRecords = assetPORepository.updateAssetPOFields(
+            // Phase 1: Update PO number in AssetPO; asset references follow via ON UPDATE CASCADE
+            log.info("Phase 1: Updating PO number in AssetPO");
+            assetPORepository.updateAssetPOFields(
                 id,
                 newPoNumber,
                 currentPo.getInvoiceNumber(),
@@ -327,6 +263,11 @@ public class AssetPOServiceImpl implements AssetPOService {
             
             // Update the entity object for consistency
             currentPo.setPoNumber(newPoNumber);
+            
+            // Phase 2: Synchronize asset fields with PO data
+            log.info("Phase 2: Synchronizing asset fields with PO data");
+            int updatedAssets = cascadeFieldsToAssets(currentPo, 0);
+            log.info("✅ Updated {} asset records with synchronized fields", updatedAssets);
         }
 
         // Save to ensure any other changes are persisted and timestamps updated
@@ -334,111 +275,20 @@ public class AssetPOServiceImpl implements AssetPOService {
         log.info("=== SIMPLIFIED CASCADE UPDATE COMPLETED ===");
     }
     
-    private boolean updateAssetFromPO(Asset asset, AssetPO assetPO) {
-        return updateAssetFromPO(asset, assetPO, false);
-    }
-    
-    private boolean updateAssetFromPO(Asset asset, AssetPO assetPO, boolean skipPoNumber) {
-        log.debug("Updating asset {} from PO data (skipPoNumber: {})", asset.getAssetId(), skipPoNumber);
-        
-        boolean hasUpdates = false;
-        
-        // Update PO number only if not skipping and different
-        if (!skipPoNumber && !equals(asset.getPoNumber(), assetPO.getPoNumber())) {
-            log.debug("Updating asset {} poNumber from '{}' to '{}'", 
-                asset.getAssetId(), asset.getPoNumber(), assetPO.getPoNumber());
-            asset.setPoNumber(assetPO.getPoNumber());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getInvoiceNumber(), assetPO.getInvoiceNumber())) {
-            log.debug("Updating asset {} invoiceNumber from '{}' to '{}'", 
-                asset.getAssetId(), asset.getInvoiceNumber(), assetPO.getInvoiceNumber());
-            asset.setInvoiceNumber(assetPO.getInvoiceNumber());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getAcquisitionDate(), assetPO.getAcquisitionDate())) {
-            log.debug("Updating asset {} acquisitionDate from '{}' to '{}'", 
-                asset.getAssetId(), asset.getAcquisitionDate(), assetPO.getAcquisitionDate());
-            asset.setAcquisitionDate(assetPO.getAcquisitionDate());
-            hasUpdates = true;
-        }
-        
-        Long currentVendorId = asset.getVendor() != null ? asset.getVendor().getId() : null;
-        if (!equals(currentVendorId, assetPO.getVendorId())) {
-            log.debug("Updating asset {} vendorId from '{}' to '{}'", 
-                asset.getAssetId(), currentVendorId, assetPO.getVendorId());
-            // Note: We only set the vendorId, not the vendor relationship
-            // The vendor relationship should be set through proper service methods
-            // For now, we'll skip vendor update to avoid complexity
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getOwnerType(), assetPO.getOwnerType())) {
-            log.debug("Updating asset {} ownerType from '{}' to '{}'", 
-                asset.getAssetId(), asset.getOwnerType(), assetPO.getOwnerType());
-            asset.setOwnerType(assetPO.getOwnerType());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getAcquisitionType(), assetPO.getAcquisitionType())) {
-            log.debug("Updating asset {} acquisitionType from '{}' to '{}'", 
-                asset.getAssetId(), asset.getAcquisitionType(), assetPO.getAcquisitionType());
-            asset.setAcquisitionType(assetPO.getAcquisitionType());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getLeaseEndDate(), assetPO.getLeaseEndDate())) {
-            log.debug("Updating asset {} leaseEndDate from '{}' to '{}'", 
-                asset.getAssetId(), asset.getLeaseEndDate(), assetPO.getLeaseEndDate());
-            asset.setLeaseEndDate(assetPO.getLeaseEndDate());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getRentalAmount(), assetPO.getRentalAmount())) {
-            log.debug("Updating asset {} rentalAmount from '{}' to '{}'", 
-                asset.getAssetId(), asset.getRentalAmount(), assetPO.getRentalAmount());
-            asset.setRentalAmount(assetPO.getRentalAmount());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getAcquisitionPrice(), assetPO.getAcquisitionPrice())) {
-            log.debug("Updating asset {} acquisitionPrice from '{}' to '{}'", 
-                asset.getAssetId(), asset.getAcquisitionPrice(), assetPO.getAcquisitionPrice());
-            asset.setAcquisitionPrice(assetPO.getAcquisitionPrice());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getDepreciationPct(), assetPO.getDepreciationPct())) {
-            log.debug("Updating asset {} depreciationPct from '{}' to '{}'", 
-                asset.getAssetId(), asset.getDepreciationPct(), assetPO.getDepreciationPct());
-            // Convert Double to BigDecimal for Asset entity
-            BigDecimal depreciationPct = assetPO.getDepreciationPct() != null ? 
-                BigDecimal.valueOf(assetPO.getDepreciationPct()) : null;
-            asset.setDepreciationPct(depreciationPct);
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getCurrentPrice(), assetPO.getCurrentPrice())) {
-            log.debug("Updating asset {} currentPrice from '{}' to '{}'", 
-                asset.getAssetId(), asset.getCurrentPrice(), assetPO.getCurrentPrice());
-            asset.setCurrentPrice(assetPO.getCurrentPrice());
-            hasUpdates = true;
-        }
-        
-        if (!equals(asset.getMinContractPeriod(), assetPO.getMinContractPeriod())) {
-            log.debug("Updating asset {} minContractPeriod from '{}' to '{}'", 
-                asset.getAssetId(), asset.getMinContractPeriod(), assetPO.getMinContractPeriod());
-            asset.setMinContractPeriod(assetPO.getMinContractPeriod());
-            hasUpdates = true;
-        }
-        
-        return hasUpdates;
-    }
-    
-    private boolean equals(Object a, Object b) {
-        return (a == null && b == null) || (a != null && a.equals(b));
+    /**
+     * Copy the PO's acquisition fields onto its active assets in chunked set-based updates.
+     * The PO row must already be flushed under its current PO number.
+     * @param renamedAssetCount assets moved by a PO number rename, counted as affected
+     * @return number of assets affected
+     */
+    private int cascadeFieldsToAssets(AssetPO assetPO, long renamedAssetCount) {
+        int fieldUpdatedCount = assetPOCascadeRepository.propagatePoFields(assetPO, PO_CASCADE_CHUNK_SIZE);
+        if (fieldUpdatedCount > 0) {
+            log.info("Updated {} assets with new PO field data", fieldUpdatedCount);
+            // Acquisition dates feed the aging buckets
+            analyticsSnapshot.invalidate();
+        }
+        return (int) Math.max(renamedAssetCount, fieldUpdatedCount);
     }
     
     @Override
@@ -464,21 +314,19 @@ public class AssetPOServiceImpl implements AssetPOService {
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public PageResponse<AssetPODTO> getAllAssetPOs(Pageable pageable) {
         log.info("Fetching all AssetPOs with pagination: page={}, size={}", 
                 pageable.getPageNumber(), pageable.getPageSize());
         
         Page<AssetPO> assetPOPage = assetPORepository.findAll(pageable);
-        List<AssetPODTO> assetPODTOs = assetPOPage.getContent().stream()
-                .map(assetPOMapper::toDTO)
-                .collect(Collectors.toList());
+        List<AssetPODTO> assetPODTOs = toDTOsWithFulfilment(assetPOPage.getContent());
         
         return createPageResponse(assetPOPage, assetPODTOs);
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public PageResponse<AssetPODTO> searchAssetPOs(String searchTerm, Pageable pageable) {
         log.info("Searching AssetPOs with term: {}", searchTerm);
         
@@ -486,9 +334,7 @@ public class AssetPOServiceImpl implements AssetPOService {
                 .findByPoNumberContainingIgnoreCaseOrInvoiceNumberContainingIgnoreCase(
                         searchTerm, searchTerm, pageable);
         
-        List<AssetPODTO> assetPODTOs = assetPOPage.getContent().stream()
-                .map(assetPOMapper::toDTO)
-                .collect(Collectors.toList());
+        List<AssetPODTO> assetPODTOs = toDTOsWithFulfilment(assetPOPage.getContent());
         
         return createPageResponse(assetPOPage, assetPODTOs);
     }
@@ -509,18 +355,26 @@ public class AssetPOServiceImpl implements AssetPOService {
     // Removed filtering methods - use frontend filtering instead
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public List<AssetPODTO> getLeasesExpiringBetween(LocalDate startDate, LocalDate endDate) {
         log.info("Fetching rentals expiring between: {} and {}", startDate, endDate);
         
-        List<AssetPO> expiringRentals = assetPORepository.findRentalsExpiringBetween(startDate, endDate);
-        return expiringRentals.stream()
+        // Lease ends come from the date-ordered expiry calendar instead of a scan of asset_po
+        List<Long> poIds = expiryCalendarRepository.findLeasePoIds(startDate, endDate);
+        if (poIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, AssetPO> posById = assetPORepository.findAllById(poIds).stream()
+                .collect(Collectors.toMap(AssetPO::getId, Function.identity()));
+        return poIds.stream()
+                .map(posById::get)
+                .filter(Objects::nonNull)
                 .map(assetPOMapper::toDTO)
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public List<AssetPODTO> getLeasesExpiringSoon(int daysAhead) {
         log.info("Fetching rentals expiring in the next {} days", daysAhead);
         
@@ -543,7 +397,7 @@ public class AssetPOServiceImpl implements AssetPOService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public List<String> getAvailablePONumbers() {
         log.info("Fetching all available PO numbers");
         return assetPORepository.findDistinctPoNumbers();
@@ -638,7 +492,7 @@ public class AssetPOServiceImpl implements AssetPOService {
     // ===== NEW PO-ASSET MANAGEMENT METHODS =====
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         log.info("Fetching all assets for PO number: {}", poNumber);
         
@@ -659,7 +513,7 @@ public class AssetPOServiceImpl implements AssetPOService {
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @ReplicaRead
     public POSummaryDTO getPOSummary(String poNumber) {
         log.info("Getting PO summary for PO number: {}", poNumber);
         
@@ -667,9 +521,8 @@ public class AssetPOServiceImpl implements AssetPOService {
         AssetPO assetPO = assetPORepository.findByPoNumber(poNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("AssetPO not found with PO Number: " + poNumber));
         
-        // Get linked assets count
-        List<Asset> linkedAssets = assetRepository.findByPoNumber(poNumber);
-        int linkedAssetsCount = linkedAssets.size();
+        // Get linked (active) assets count from the fulfilment ledger
+        int linkedAssetsCount = activeAssetCount(assetPO);
         
         // Get total devices from PO
         Integer totalDevices = assetPO.getTotalDevices() != null ? assetPO.getTotalDevices() : 0;
@@ -697,18 +550,19 @@ public class AssetPOServiceImpl implements AssetPOService {
         log.info("Getting deletion warning for PO number: {}", poNumber);
         
         // Validate PO exists
-        assetPORepository.findByPoNumber(poNumber)
+        AssetPO assetPO = assetPORepository.findByPoNumber(poNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("AssetPO not found with PO Number: " + poNumber));
         
-        // Get linked assets
-        List<Asset> linkedAssets = assetRepository.findByPoNumber(poNumber);
-        List<AssetDTO> linkedAssetDTOs = linkedAssets.stream()
+        // Count from the ledger; only a preview of the linked assets is loaded
+        int linkedAssetsCount = activeAssetCount(assetPO);
+        List<AssetDTO> preview = linkedAssetsCount == 0 ? List.of() : assetRepository
+                .findByPoNumber(poNumber, PageRequest.of(0, DELETION_WARNING_PREVIEW_SIZE)).stream()
                 .map(assetMapper::toDTO)
                 .collect(Collectors.toList());
         
-        PODeletionWarningDTO warning = PODeletionWarningDTO.createWarning(poNumber, linkedAssetDTOs);
+        PODeletionWarningDTO warning = PODeletionWarningDTO.createWarning(poNumber, linkedAssetsCount, preview);
         
-        log.info("Deletion warning for PO {}: {} linked assets", poNumber, linkedAssetDTOs.size());
+        log.info("Deletion warning for PO {}: {} linked assets", poNumber, linkedAssetsCount);
         
         return warning;
     }
@@ -719,9 +573,14 @@ public class AssetPOServiceImpl implements AssetPOService {
         log.info("Checking deletion conflicts for PO number: {}", poNumber);
         
         // Validate PO exists
-        assetPORepository.findByPoNumber(poNumber)
+        AssetPO assetPO = assetPORepository.findByPoNumber(poNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("AssetPO not found with PO Number: " + poNumber));
         
+        if (activeAssetCount(assetPO) == 0) {
+            log.info("No assets linked to PO {}, safe to delete", poNumber);
+            return null; // No conflicts, safe to delete
+        }
+        
         // Get all linked assets
         List<Asset> linkedAssets = assetRepository.findByPoNumber(poNumber);
         
@@ -818,27 +677,19 @@ public class AssetPOServiceImpl implements AssetPOService {
         AssetPO assetPO = assetPORepository.findByPoNumber(poNumber)
                 .orElseThrow(() -> new ResourceNotFoundException("AssetPO not found with PO Number: " + poNumber));
         
-        // Get all linked assets BEFORE deletion
-        List<Asset> linkedAssets = assetRepository.findByPoNumber(poNumber);
-        int assetsToDeleteCount = linkedAssets.size();
+        long activeAssetCount = assetPOCascadeRepository.countActiveLinkedAssets(poNumber);
         
-        log.info("Found {} assets linked to PO: {}", assetsToDeleteCount, poNumber);
+        log.info("Found {} active assets linked to PO: {}", activeAssetCount, poNumber);
         
         // Phase 1: Soft delete all linked assets
-        if (!linkedAssets.isEmpty()) {
-            log.info("Phase 1: Soft deleting {} linked assets", assetsToDeleteCount);
-            
-            for (Asset asset : linkedAssets) {
-                try {
-                    asset.setDeleted(true);
-                    assetRepository.save(asset);
-                    log.debug("Soft deleted asset: {}", asset.getAssetId());
-                } catch (Exception e) {
-                    log.error("Error deleting asset {} for PO {}: {}", asset.getAssetId(), poNumber, e.getMessage());
-                }
+        int softDeleted = 0;
+        if (activeAssetCount > 0) {
+            log.info("Phase 1: Soft deleting {} linked assets", activeAssetCount);
+            softDeleted = assetPOCascadeRepository.softDeleteByPoNumber(poNumber, PO_CASCADE_CHUNK_SIZE);
+            if (softDeleted > 0) {
+                analyticsSnapshot.invalidate();
             }
-            
-            log.info("✅ Phase 1 completed: {} assets soft deleted", assetsToDeleteCount);
+            log.info("✅ Phase 1 completed: {} assets soft deleted", softDeleted);
         }
         
         // Phase 2: Delete the PO itself
@@ -847,9 +698,9 @@ public class AssetPOServiceImpl implements AssetPOService {
         log.info("✅ Phase 2 completed: AssetPO deleted");
         
         log.info("=== CASCADING DELETION COMPLETED ===");
-        log.info("Summary: PO '{}' deleted along with {} assets", poNumber, assetsToDeleteCount);
+        log.info("Summary: PO '{}' deleted along with {} assets", poNumber, softDeleted);
         
-        return assetsToDeleteCount;
+        return softDeleted;
     }
     
     @Override
@@ -931,5 +782,52 @@ public class AssetPOServiceImpl implements AssetPOService {
                 "'. Valid values are: Bought, Rented (case-insensitive)");
         }
     }
-
-} 
\ No newline at end of file
+    
+    /**
+     * Map a page of POs to DTOs with their fulfilment counts, read from the ledger in one query
+     */
+    private List<AssetPODTO> toDTOsWithFulfilment(List<AssetPO> assetPOs) {
+        if (assetPOs.isEmpty()) {
+            return List.of();
+        }
+        List<Long> poIds = assetPOs.stream().map(AssetPO::getPoId).collect(Collectors.toList());
+        Map<Long, AssetPOLedger> ledgers = assetPOLedgerRepository.findByPoIdIn(poIds).stream()
+                .collect(Collectors.toMap(AssetPOLedger::getPoId, Function.identity()));
+        
+        return assetPOs.stream()
+                .map(assetPO -> {
+                    AssetPODTO dto = assetPOMapper.toDTO(assetPO);
+                    applyFulfilment(dto, ledgers.get(assetPO.getPoId()));
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+    
+    private static void applyFulfilment(AssetPODTO dto, AssetPOLedger ledger) {
+        int linked = ledger != null ? ledger.getLinkedCount() : 0;
+        int active = ledger != null ? ledger.getActiveCount() : 0;
+        dto.setLinkedAssetsCount(linked);
+        dto.setActiveAssetsCount(active);
+        
+        Integer totalDevices = dto.getTotalDevices();
+        if (totalDevices == null) {
+            return;
+        }
+        dto.setRemainingDevices(Math.max(0, totalDevices - active));
+        if (active == 0) {
+            dto.setFulfilmentStatus("NOT_STARTED");
+        } else if (active < totalDevices) {
+            dto.setFulfilmentStatus("PARTIAL");
+        } else if (active == totalDevices) {
+            dto.setFulfilmentStatus("FULFILLED");
+        } else {
+            dto.setFulfilmentStatus("OVER_FULFILLED");
+        }
+    }
+    
+    private int activeAssetCount(AssetPO assetPO) {
+        return assetPOLedgerRepository.findById(assetPO.getPoId())
+                .map(AssetPOLedger::getActiveCount)
+                .orElse(0);
+    }
+}
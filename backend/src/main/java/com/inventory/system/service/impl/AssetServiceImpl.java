@@ -1,7 +1,12 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.datasource.ReplicaRead;
 import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetFacetsDTO;
+import com.inventory.system.dto.AssetFilterDTO;
 import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.AssetTimelineEventDTO;
 import com.inventory.system.dto.AssetUpdateDTO;
 import com.inventory.system.dto.AssetStatusHistoryDTO;
 import com.inventory.system.dto.BulkAssetResponse;
@@ -9,8 +14,14 @@ import com.inventory.system.dto.BulkUpdateResponse;
 import com.inventory.system.dto.AssetBulkUpdateDTO;
 import com.inventory.system.dto.AssetIndividualUpdateDTO;
 import com.inventory.system.dto.PageResponse;
+import com.inventory.system.dto.KeysetCursor;
 import com.inventory.system.dto.BulkAssetByPOResponse;
+import com.inventory.system.dto.BulkStatusUpdateDTO;
+import com.inventory.system.dto.BulkStatusUpdateResponse;
+import com.inventory.system.exception.ConflictException;
 import com.inventory.system.exception.ResourceNotFoundException;
+import com.inventory.system.metrics.Histogram;
+import com.inventory.system.metrics.MetricsRegistry;
 import com.inventory.system.model.*;
 import com.inventory.system.repository.*;
 import com.inventory.system.service.AssetService;
@@ -18,21 +29,31 @@ import com.inventory.system.service.AssetStatusHistoryService;
 import com.inventory.system.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import org.springframework.dao.DataIntegrityViolationException;
 import com.inventory.system.mapper.AssetMapper;
+import com.inventory.system.validation.AssetBatchValidationService;
 import com.inventory.system.validation.AssetValidationService;
 
 @Slf4j
@@ -40,25 +61,34 @@ import com.inventory.system.validation.AssetValidationService;
 @RequiredArgsConstructor
 public class AssetServiceImpl implements AssetService {
     private final AssetRepository assetRepository;
-    private final AssetTypeRepository assetTypeRepository;
-    private final AssetMakeRepository assetMakeRepository;
-    private final AssetModelRepository assetModelRepository;
     private final UserRepository userRepository;
-    private final OSRepository osRepository;
-    private final OSVersionRepository osVersionRepository;
-    private final VendorRepository vendorRepository;
+    private final ReferenceDataCache referenceDataCache;
     private final AuditLogService auditLogService;
     private final AssetStatusHistoryService assetStatusHistoryService;
     private final Validator validator;
     private final AssetMapper assetMapper;
     private final AssetValidationService assetValidationService;
     private final AssetPORepository assetPORepository;
+    private final AssetBatchValidationService assetBatchValidationService;
+    private final AssetJdbcRepository assetJdbcRepository;
+    private final AuditLogJdbcRepository auditLogJdbcRepository;
+    private final AssetAnalyticsSnapshot analyticsSnapshot;
+    private final AssetKeysetRepository assetKeysetRepository;
+    private final AssetStatusJdbcRepository assetStatusJdbcRepository;
+    private final AssetFacetRepository assetFacetRepository;
+    private final AssetTimelineRepository assetTimelineRepository;
+    private final MetricsRegistry metricsRegistry;
+
+    private static final int BULK_INSERT_BATCH_SIZE = 500;
+    private static final int MAX_BULK_STATUS_ASSETS = 10000;
+    private static final int MAX_TIMELINE_PAGE_SIZE = 200;
 
     @Override
     @Transactional
     public AssetDTO createAsset(AssetDTO assetDTO) {
         Asset asset = assetMapper.toEntity(assetDTO);
-        Asset savedAsset = assetRepository.save(asset);
+        Asset savedAsset = saveEnforcingUniqueKeys(asset);
+        analyticsSnapshot.recordChange(null, AssetAnalyticsSnapshot.AssetFacts.of(savedAsset));
         
         // Log the creation
         auditLogService.logAssetAction(
@@ -90,9 +120,12 @@ public class AssetServiceImpl implements AssetService {
         // Store old values for audit
         String oldStatus = asset.getStatus();
         User oldUser = asset.getCurrentUser();
+        AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
         
         updateAssetFromDTO(asset, assetDTO);
-        Asset updatedAsset = assetRepository.save(asset);
+        // The checks above are index lookups; the unique indexes still decide against a concurrent writer
+        Asset updatedAsset = saveEnforcingUniqueKeys(asset);
+        analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
         
         // Log status change if applicable
         if (!oldStatus.equals(updatedAsset.getStatus())) {
@@ -163,17 +196,55 @@ public class AssetServiceImpl implements AssetService {
     }
 
     @Override
+    @ReplicaRead
     public PageResponse<AssetDTO> getAllAssets(Pageable pageable) {
         Page<Asset> assetPage = assetRepository.findAllActive(pageable);
         return createPageResponse(assetPage);
     }
 
     @Override
+    @ReplicaRead
+    public PageResponse<AssetDTO> getAssetsByExpiryStatus(String warrantyStatus, String licenseStatus, Pageable pageable) {
+        AssetFilterDTO filter = new AssetFilterDTO();
+        filter.setWarrantyStatus(warrantyStatus != null ? List.of(warrantyStatus) : null);
+        filter.setLicenseStatus(licenseStatus != null ? List.of(licenseStatus) : null);
+        return filterAssets(filter, pageable);
+    }
+
+    @Override
+    @ReplicaRead
     public PageResponse<AssetDTO> searchAssets(String search, Pageable pageable) {
         Page<Asset> assetPage = assetRepository.searchAssets(search, pageable);
         return createPageResponse(assetPage);
     }
 
+    @Override
+    @ReplicaRead
+    public PageResponse<AssetDTO> getAllAssetsByCursor(String cursor, Pageable pageable, boolean includeTotal) {
+        return searchAssetsByCursor(null, cursor, pageable, includeTotal);
+    }
+
+    @Override
+    @ReplicaRead
+    public PageResponse<AssetDTO> searchAssetsByCursor(String search, String cursor, Pageable pageable, boolean includeTotal) {
+        boolean firstPage = cursor == null || cursor.isBlank();
+        KeysetCursor after = firstPage ? null : KeysetCursor.decode(cursor);
+        Sort.Order order = pageable.getSort().stream().findFirst()
+            .orElse(Sort.Order.asc(AssetKeysetRepository.DEFAULT_SORT));
+        
+        AssetKeysetRepository.KeysetWindow window = assetKeysetRepository.findActive(
+            search, order.getProperty(), order.getDirection(), after, pageable.getPageSize());
+        Long total = includeTotal ? assetKeysetRepository.countActive(search) : null;
+        
+        return PageResponse.ofCursor(
+            window.content().stream().map(this::convertToDTO).toList(),
+            pageable.getPageSize(),
+            window.nextCursor(),
+            firstPage,
+            total
+        );
+    }
+
     @Override
     @Transactional
     public void deleteAsset(Long assetId) {
@@ -186,8 +257,10 @@ public class AssetServiceImpl implements AssetService {
         }
         
         // Perform soft delete
+        AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
         asset.setDeleted(true);
         assetRepository.save(asset);
+        analyticsSnapshot.recordChange(oldFacts, null);
         
         // Log the soft deletion
         auditLogService.logAssetAction(
@@ -198,7 +271,84 @@ public class AssetServiceImpl implements AssetService {
         );
     }
 
-    // Removed filtering methods - use frontend filtering instead
+    @Override
+    @ReplicaRead
+    public PageResponse<AssetDTO> filterAssets(AssetFilterDTO filter, Pageable pageable) {
+        if (filter == null || filter.isEmpty()) {
+            return getAllAssets(pageable);
+        }
+        log.debug("Filtering assets with {}", filter);
+        Page<Asset> assetPage = assetRepository.findAll(AssetSpecifications.fromFilter(filter), pageable);
+        return createPageResponse(assetPage);
+    }
+
+    @Override
+    @ReplicaRead
+    public AssetFacetsDTO getAssetFacets(AssetFilterDTO filter, Set<String> facets) {
+        Set<String> requested = new LinkedHashSet<>(facets == null || facets.isEmpty() ? AssetFacetRepository.FACETS : facets);
+        for (String facet : requested) {
+            if (!AssetFacetRepository.FACETS.contains(facet)) {
+                throw new IllegalArgumentException("Unknown facet '" + facet + "'. Allowed: " + AssetFacetRepository.FACETS);
+            }
+        }
+        
+        Map<String, List<AssetFacetsDTO.FacetValueDTO>> valuesByFacet = new LinkedHashMap<>();
+        requested.forEach(facet -> valuesByFacet.put(facet, new ArrayList<>()));
+        long total = 0;
+        for (AssetFacetRepository.FacetCount count : assetFacetRepository.countFacets(filter, requested)) {
+            if (count.facet() == null) {
+                total = count.count();
+            } else {
+                valuesByFacet.get(count.facet()).add(AssetFacetsDTO.FacetValueDTO.builder()
+                    .id(count.id())
+                    .value(count.label())
+                    .count(count.count())
+                    .build());
+            }
+        }
+        valuesByFacet.values().forEach(values ->
+            values.sort(Comparator.comparingLong(AssetFacetsDTO.FacetValueDTO::getCount).reversed()));
+        
+        return AssetFacetsDTO.builder()
+            .totalCount(total)
+            .facets(valuesByFacet)
+            .build();
+    }
+
+    @Override
+    public PageResponse<AssetTimelineEventDTO> getAssetTimeline(Long assetId, String cursor, int size, Sort.Direction direction) {
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+        // Deleted assets keep their history, so only a missing asset is an error
+        if (!assetRepository.existsById(assetId)) {
+            throw new ResourceNotFoundException("Asset", "assetId", assetId);
+        }
+        boolean firstPage = cursor == null || cursor.isBlank();
+        AssetTimelineRepository.Position after = firstPage ? null : AssetTimelineRepository.Position.decode(cursor);
+
+        // One extra row tells whether another page follows
+        List<AssetTimelineRepository.TimelineRow> rows =
+            assetTimelineRepository.findEvents(assetId, direction, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        List<AssetTimelineEventDTO> events = rows.stream()
+            .map(row -> AssetTimelineEventDTO.builder()
+                .type(row.type())
+                .timestamp(row.timestamp())
+                .sourceId(row.sourceId())
+                .title(row.title())
+                .details(row.details())
+                .userId(row.userId())
+                .userName(row.userName())
+                .build())
+            .collect(Collectors.toList());
+        String nextCursor = hasNext ? rows.get(rows.size() - 1).position().encode() : null;
+        return PageResponse.ofCursor(events, size, nextCursor, firstPage, null);
+    }
 
     @Override
 public List<AssetDTO> getAssetsByPONumber(String poNumber) {
@@ -209,15 +359,15 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
 }
 
 
-    // Removed remaining filtering methods - use frontend filtering instead
-
     @Override
+    @ReplicaRead
     public PageResponse<AssetDTO> getDeletedAssets(Pageable pageable) {
         Page<Asset> assetPage = assetRepository.findAllDeleted(pageable);
         return createPageResponse(assetPage);
     }
 
     @Override
+    @ReplicaRead
     public PageResponse<AssetDTO> getAllAssetsIncludingDeleted(Pageable pageable) {
         Page<Asset> assetPage = assetRepository.findAll(pageable);
         return createPageResponse(assetPage);
@@ -233,9 +383,10 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
             throw new IllegalStateException("Asset is not deleted: " + assetId);
         }
         
-        // Restore the asset
+        // Restore the asset; fails if an active asset has taken one of its keys in the meantime
         asset.setDeleted(false);
-        assetRepository.save(asset);
+        saveEnforcingUniqueKeys(asset);
+        analyticsSnapshot.recordChange(null, AssetAnalyticsSnapshot.AssetFacts.of(asset));
         
         // Log the restoration
         auditLogService.logAssetAction(
@@ -261,7 +412,9 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         );
         
         // Perform hard delete
+        AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
         assetRepository.delete(asset);
+        analyticsSnapshot.recordChange(oldFacts, null);
     }
 
     @Override
@@ -282,9 +435,11 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         String originalStatusInput = statusHistoryDTO.getStatus();
         
         // Normalize and update asset status
+        AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
         String normalizedStatus = normalizeStatus(statusHistoryDTO.getStatus());
         asset.setStatus(normalizedStatus);
         Asset updatedAsset = assetRepository.save(asset);
+        analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
         
         // Create status history entry with normalized status
         statusHistoryDTO.setAssetId(assetId);
@@ -309,7 +464,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
     /**
      * Normalize status values to handle frontend/backend differences
      */
-    private String normalizeStatus(String status) {
+    String normalizeStatus(String status) {
         if (status == null) return null;
         
         String trimmedStatus = status.trim();
@@ -353,7 +508,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         if (dto.getAssetTypeId() != null) {
             log.debug("Updating assetType from '{}' to '{}'", 
                 asset.getAssetType() != null ? asset.getAssetType().getId() : null, dto.getAssetTypeId());
-            asset.setAssetType(assetTypeRepository.findById(dto.getAssetTypeId())
+            asset.setAssetType(Optional.ofNullable(referenceDataCache.getAssetType(dto.getAssetTypeId()))
                 .orElseThrow(() -> new ResourceNotFoundException("AssetType", "id", dto.getAssetTypeId())));
             hasUpdates = true;
         }
@@ -361,7 +516,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         if (dto.getMakeId() != null) {
             log.debug("Updating make from '{}' to '{}'", 
                 asset.getMake() != null ? asset.getMake().getId() : null, dto.getMakeId());
-            asset.setMake(assetMakeRepository.findById(dto.getMakeId())
+            asset.setMake(Optional.ofNullable(referenceDataCache.getAssetMake(dto.getMakeId()))
                 .orElseThrow(() -> new ResourceNotFoundException("AssetMake", "id", dto.getMakeId())));
             hasUpdates = true;
         }
@@ -369,7 +524,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         if (dto.getModelId() != null) {
             log.debug("Updating model from '{}' to '{}'", 
                 asset.getModel() != null ? asset.getModel().getId() : null, dto.getModelId());
-            asset.setModel(assetModelRepository.findById(dto.getModelId())
+            asset.setModel(Optional.ofNullable(referenceDataCache.getAssetModel(dto.getModelId()))
                 .orElseThrow(() -> new ResourceNotFoundException("AssetModel", "id", dto.getModelId())));
             hasUpdates = true;
         }
@@ -447,25 +602,25 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         }
 
         if (dto.getOsId() != null) {
-            asset.setOs(osRepository.findById(dto.getOsId())
+            asset.setOs(Optional.ofNullable(referenceDataCache.getOs(dto.getOsId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OS", "id", dto.getOsId())));
             hasUpdates = true;
         }
 
         if (dto.getOsVersionId() != null) {
-            asset.setOsVersion(osVersionRepository.findById(dto.getOsVersionId())
+            asset.setOsVersion(Optional.ofNullable(referenceDataCache.getOsVersion(dto.getOsVersionId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OSVersion", "id", dto.getOsVersionId())));
             hasUpdates = true;
         }
 
         if (dto.getVendorId() != null) {
-            asset.setVendor(vendorRepository.findById(dto.getVendorId())
+            asset.setVendor(Optional.ofNullable(referenceDataCache.getVendor(dto.getVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", dto.getVendorId())));
             hasUpdates = true;
         }
 
         if (dto.getExtendedWarrantyVendorId() != null) {
-            asset.setExtendedWarrantyVendor(vendorRepository.findById(dto.getExtendedWarrantyVendorId())
+            asset.setExtendedWarrantyVendor(Optional.ofNullable(referenceDataCache.getVendor(dto.getExtendedWarrantyVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", dto.getExtendedWarrantyVendorId())));
             hasUpdates = true;
         }
@@ -571,7 +726,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         }
     }
 
-    private AssetDTO convertToDTO(Asset asset) {
+    AssetDTO convertToDTO(Asset asset) {
         AssetDTO dto = new AssetDTO();
         dto.setAssetId(asset.getAssetId());
         dto.setAssetTypeId(asset.getAssetType() != null ? asset.getAssetType().getId() : null);
@@ -654,119 +809,95 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
     @Override
     @Transactional
     public BulkAssetResponse createAssetsInBulk(List<AssetRequestDTO> requests) {
-        log.info("=== SERVICE LAYER: Starting bulk asset creation for {} assets ===", requests.size());
-        
         // Validate input
         if (requests == null || requests.isEmpty()) {
             throw new IllegalArgumentException("Asset request list cannot be null or empty");
         }
         
-        BulkAssetResponse.BulkAssetResponseBuilder responseBuilder = BulkAssetResponse.builder()
-            .totalProcessed(requests.size())
-            .successCount(0)
-            .failureCount(0);
+        log.info("=== SERVICE LAYER: Starting bulk asset creation for {} assets ===", requests.size());
+        long start = System.nanoTime();
         
         List<BulkAssetResponse.BulkAssetError> errors = new ArrayList<>();
-        List<AssetDTO> successfulAssets = new ArrayList<>();
         
-        // Process each asset request
+        // Step 1: Validate each request using Bean Validation (in memory, no database access)
+        Map<Integer, AssetRequestDTO> candidates = new LinkedHashMap<>();
         for (int i = 0; i < requests.size(); i++) {
             AssetRequestDTO request = requests.get(i);
+            Set<ConstraintViolation<AssetRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String errorMessage = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElse("Validation failed");
+                
+                log.warn("Validation failed for asset[{}]: {}", i, errorMessage);
+                errors.add(bulkAssetError(i, "validation", errorMessage, request));
+                continue;
+            }
+            candidates.put(i, request);
+        }
+        
+        // Step 2: Resolve references for the whole batch with set-based queries and catch keys repeated
+        // within the batch; keys already held by stored assets are caught by the insert itself
+        AssetBatchValidationService.BatchValidationResult batchValidation = candidates.isEmpty()
+            ? null
+            : assetBatchValidationService.validateBatch(candidates);
+        
+        // Step 3: Map valid rows to entities using the pre-loaded reference data
+        List<Asset> assetsToInsert = new ArrayList<>();
+        List<Integer> insertIndexes = new ArrayList<>();
+        for (Map.Entry<Integer, AssetRequestDTO> entry : candidates.entrySet()) {
+            int i = entry.getKey();
+            AssetRequestDTO request = entry.getValue();
+            AssetValidationService.AssetValidationResult validationResult = batchValidation.getResult(i);
             
-            log.debug("Processing asset[{}]: {}", i, request.getSerialNumber() != null ? request.getSerialNumber() : request.getName());
+            if (!validationResult.isValid()) {
+                String errorMessage = String.join("; ", validationResult.getErrors());
+                log.warn("Validation failed for asset[{}]: {}", i, errorMessage);
+                errors.add(bulkAssetError(i, "validation", errorMessage, request));
+                continue;
+            }
             
             try {
-                // Step 1: Validate the request using Bean Validation
-                Set<ConstraintViolation<AssetRequestDTO>> violations = validator.validate(request);
-                if (!violations.isEmpty()) {
-                    String errorMessage = violations.stream()
-                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
-                        .reduce((a, b) -> a + "; " + b)
-                        .orElse("Validation failed");
-                    
-                    log.warn("Validation failed for asset[{}]: {}", i, errorMessage);
-                    errors.add(BulkAssetResponse.BulkAssetError.builder()
-                        .index(i)
-                        .field("validation")
-                        .message(errorMessage)
-                        .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                        .build());
-                    continue;
-                }
+                assetsToInsert.add(assetMapper.toEntityWithReferences(
+                    request, validationResult.getContext(), batchValidation.getReferences()));
+                insertIndexes.add(i);
                 
-                // Step 2: Comprehensive validation using validation service
-                AssetValidationService.AssetValidationResult validationResult = 
-                    assetValidationService.validateAssetForCreation(request, i);
+            } catch (ResourceNotFoundException e) {
+                log.error("Resource not found for asset[{}]: {}", i, e.getMessage());
+                errors.add(bulkAssetError(i, "resourceNotFound", "Referenced resource not found: " + e.getMessage(), request));
                 
-                if (!validationResult.isValid()) {
-                    String errorMessage = String.join("; ", validationResult.getErrors());
-                    log.warn("Validation failed for asset[{}]: {}", i, errorMessage);
-                    errors.add(BulkAssetResponse.BulkAssetError.builder()
-                        .index(i)
-                        .field("validation")
-                        .message(errorMessage)
-                        .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                        .build());
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid argument for asset[{}]: {}", i, e.getMessage());
+                errors.add(bulkAssetError(i, "invalidArgument", "Invalid data provided: " + e.getMessage(), request));
+            }
+        }
+        
+        // Step 4: Write assets and their audit rows with JDBC batch inserts; rows whose unique keys
+        // are already taken by an active asset are skipped and reported
+        List<AssetDTO> successfulAssets = new ArrayList<>(assetsToInsert.size());
+        if (!assetsToInsert.isEmpty()) {
+            Map<Integer, String> conflicts = insertAssetsInBatches(assetsToInsert, "BULK_CREATE",
+                asset -> "Asset created via bulk operation with name: " + asset.getName());
+            
+            for (int position = 0; position < assetsToInsert.size(); position++) {
+                int i = insertIndexes.get(position);
+                Asset asset = assetsToInsert.get(position);
+                String conflict = conflicts.get(position);
+                if (conflict != null) {
+                    log.warn("Duplicate key for asset[{}]: {}", i, conflict);
+                    errors.add(bulkAssetError(i, "duplicate", conflict, requests.get(i)));
                     continue;
                 }
-                
-                // Step 3: Create the asset using mapper with validation context
-                Asset asset = assetMapper.toEntityWithContext(request, validationResult.getContext());
-                Asset savedAsset = assetRepository.save(asset);
-                
-                log.debug("Successfully created asset[{}] with ID: {}", i, savedAsset.getAssetId());
-                
-                // Log the creation
-                auditLogService.logAssetAction(
-                    savedAsset,
-                    savedAsset.getCurrentUser(),
-                    "BULK_CREATE",
-                    "Asset created via bulk operation with name: " + savedAsset.getName()
-                );
-                
-                successfulAssets.add(assetMapper.toDTO(savedAsset));
-                
-            } catch (DataIntegrityViolationException e) {
-                log.error("Data integrity violation for asset[{}]: {}", i, e.getMessage(), e);
-                
-                String errorMessage = parseDataIntegrityError(e, request);
-                errors.add(BulkAssetResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("dataIntegrity")
-                    .message(errorMessage)
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
-            } catch (ResourceNotFoundException e) {
-                log.error("Resource not found for asset[{}]: {}", i, e.getMessage(), e);
-                errors.add(BulkAssetResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("resourceNotFound")
-                    .message("Referenced resource not found: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
-            } catch (IllegalArgumentException e) {
-                log.error("Invalid argument for asset[{}]: {}", i, e.getMessage(), e);
-                errors.add(BulkAssetResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("invalidArgument")
-                    .message("Invalid data provided: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
-            } catch (Exception e) {
-                log.error("Unexpected error creating asset[{}]: {}", i, e.getMessage(), e);
-                errors.add(BulkAssetResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("unexpected")
-                    .message("Unexpected error: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
+                analyticsSnapshot.recordChange(null, AssetAnalyticsSnapshot.AssetFacts.of(asset));
+                successfulAssets.add(assetMapper.toDTO(asset));
             }
         }
         
-        BulkAssetResponse response = responseBuilder
+        errors.sort(Comparator.comparingInt(BulkAssetResponse.BulkAssetError::getIndex));
+        
+        BulkAssetResponse response = BulkAssetResponse.builder()
+            .totalProcessed(requests.size())
             .successCount(successfulAssets.size())
             .failureCount(errors.size())
             .errors(errors)
@@ -775,39 +906,103 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         
         log.info("=== SERVICE LAYER: Bulk asset creation completed - Success: {}, Failures: {} ===", 
             response.getSuccessCount(), response.getFailureCount());
+        recordBulkOperation("createAssetsInBulk", response.getSuccessCount(), response.getFailureCount(), start);
         
         return response;
     }
     
-
+    /**
+     * Assign IDs from the asset sequence in one round trip, then insert the assets and one audit
+     * row per inserted asset as JDBC batches. Uniqueness of serial number, IT asset code and MAC
+     * address is left to the V30 indexes: a row that collides with an active asset, including one
+     * committed by a concurrent import, is skipped instead of rolling back the whole batch.
+     * @return Conflict message per skipped asset, keyed by its position in {@code assets}
+     */
+    private Map<Integer, String> insertAssetsInBatches(List<Asset> assets, String auditAction,
+                                                       Function<Asset, String> auditDetails) {
+        List<Long> assetIds = assetJdbcRepository.reserveAssetIds(assets.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < assets.size(); i++) {
+            Asset asset = assets.get(i);
+            asset.setAssetId(assetIds.get(i));
+            asset.setCreatedAt(now);
+            asset.setUpdatedAt(now);
+        }
+        
+        Set<Long> skippedIds = assetJdbcRepository.batchInsertSkippingConflicts(assets, BULK_INSERT_BATCH_SIZE);
+        Map<Long, List<AssetJdbcRepository.UniqueKey>> conflictingKeys = skippedIds.isEmpty()
+            ? Map.of()
+            : assetJdbcRepository.findConflictingKeys(assets.stream()
+                .filter(asset -> skippedIds.contains(asset.getAssetId()))
+                .collect(Collectors.toList()));
+        
+        Map<Integer, String> conflicts = new TreeMap<>();
+        List<AuditLog> auditLogs = new ArrayList<>(assets.size() - skippedIds.size());
+        for (int i = 0; i < assets.size(); i++) {
+            Asset asset = assets.get(i);
+            if (skippedIds.contains(asset.getAssetId())) {
+                conflicts.put(i, conflictMessage(asset, conflictingKeys.getOrDefault(asset.getAssetId(), List.of())));
+                continue;
+            }
+            
+            AuditLog auditLog = new AuditLog();
+            auditLog.setAsset(asset);
+            auditLog.setUser(asset.getCurrentUser());
+            auditLog.setAction(auditAction);
+            auditLog.setActionDate(now);
+            auditLog.setDetails(auditDetails.apply(asset));
+            auditLogs.add(auditLog);
+        }
+        auditLogJdbcRepository.batchInsert(auditLogs, BULK_INSERT_BATCH_SIZE);
+        
+        log.debug("Batch-inserted {} assets with their audit rows, skipped {} conflicting assets",
+            auditLogs.size(), conflicts.size());
+        return conflicts;
+    }
     
-    private String parseDataIntegrityError(DataIntegrityViolationException e, AssetRequestDTO request) {
-        String message = e.getMessage();
-        if (message == null) {
-            return "Data integrity constraint violation";
-        }
-        
-        String lowerMessage = message.toLowerCase();
-        
-        if (lowerMessage.contains("serial") && lowerMessage.contains("unique")) {
-            return "Serial number '" + request.getSerialNumber() + "' already exists";
-        }
-        if (lowerMessage.contains("it_asset_code") && lowerMessage.contains("unique")) {
-            return "IT Asset Code '" + request.getItAssetCode() + "' already exists";
-        }
-        if (lowerMessage.contains("foreign key") || lowerMessage.contains("fk_")) {
-            return "Invalid reference to related entity - check asset type, make, model, user, vendor, or OS IDs";
-        }
-        if (lowerMessage.contains("not null") || lowerMessage.contains("null constraint")) {
-            return "Required field is missing - check all mandatory fields";
-        }
-        if (lowerMessage.contains("check constraint")) {
-            return "Data validation failed - check field values and constraints";
+    private String conflictMessage(Asset asset, List<AssetJdbcRepository.UniqueKey> keys) {
+        if (keys.isEmpty()) {
+            // The conflicting asset was deleted or changed again before the lookup
+            return "Conflicts with the unique keys of an active asset";
+        }
+        return keys.stream()
+            .map(key -> key.duplicateMessage(asset))
+            .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Save and flush an asset so a violated unique key index surfaces here as a conflict naming the
+     * field, rather than as an anonymous constraint error at commit
+     */
+    private Asset saveEnforcingUniqueKeys(Asset asset) {
+        try {
+            return assetRepository.saveAndFlush(asset);
+        } catch (DataIntegrityViolationException e) {
+            throw AssetJdbcRepository.UniqueKey.violatedBy(e)
+                .<RuntimeException>map(key -> new ConflictException(key.duplicateMessage(asset), e))
+                .orElse(e);
         }
-        
-        return "Data integrity constraint violation: " + message;
     }
     
+    private BulkAssetByPOResponse.BulkAssetError bulkAssetByPOError(int index, String field, String message, AssetRequestDTO request) {
+        return BulkAssetByPOResponse.BulkAssetError.builder()
+            .index(index)
+            .field(field)
+            .message(message)
+            .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
+            .build();
+    }
+    
+    private BulkAssetResponse.BulkAssetError bulkAssetError(int index, String field, String message, AssetRequestDTO request) {
+        return BulkAssetResponse.BulkAssetError.builder()
+            .index(index)
+            .field(field)
+            .message(message)
+            .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
+            .build();
+    }
+
+    
     @Override
     @Transactional
     public void updateAssetsByPO(String poNumber, AssetUpdateDTO updates) {
@@ -834,9 +1029,11 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
                 
                 // Capture before state for comparison
                 LocalDateTime beforeUpdatedAt = asset.getUpdatedAt();
+                AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
                 
                 updateAssetFromUpdateDTO(asset, updates);
                 Asset updatedAsset = assetRepository.save(asset);
+                analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
                 
                 log.debug("Asset {} saved - after update: name='{}', status='{}', updatedAt changed from '{}' to '{}'", 
                     updatedAsset.getAssetId(), updatedAsset.getName(), updatedAsset.getStatus(), 
@@ -879,8 +1076,10 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         // Perform soft delete on each asset
         for (Asset asset : assets) {
             try {
+                AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
                 asset.setDeleted(true);
                 assetRepository.save(asset);
+                analyticsSnapshot.recordChange(oldFacts, null);
                 
                 // Log the soft deletion
                 auditLogService.logAssetAction(
@@ -939,12 +1138,12 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
             hasUpdates = true;
         }
         if (updateDTO.getOsId() != null) {
-            asset.setOs(osRepository.findById(updateDTO.getOsId())
+            asset.setOs(Optional.ofNullable(referenceDataCache.getOs(updateDTO.getOsId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OS", "id", updateDTO.getOsId())));
             hasUpdates = true;
         }
         if (updateDTO.getOsVersionId() != null) {
-            asset.setOsVersion(osVersionRepository.findById(updateDTO.getOsVersionId())
+            asset.setOsVersion(Optional.ofNullable(referenceDataCache.getOsVersion(updateDTO.getOsVersionId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OSVersion", "id", updateDTO.getOsVersionId())));
             hasUpdates = true;
         }
@@ -979,12 +1178,12 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
             hasUpdates = true;
         }
         if (updateDTO.getVendorId() != null) {
-            asset.setVendor(vendorRepository.findById(updateDTO.getVendorId())
+            asset.setVendor(Optional.ofNullable(referenceDataCache.getVendor(updateDTO.getVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", updateDTO.getVendorId())));
             hasUpdates = true;
         }
         if (updateDTO.getExtendedWarrantyVendorId() != null) {
-            asset.setExtendedWarrantyVendor(vendorRepository.findById(updateDTO.getExtendedWarrantyVendorId())
+            asset.setExtendedWarrantyVendor(Optional.ofNullable(referenceDataCache.getVendor(updateDTO.getExtendedWarrantyVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", updateDTO.getExtendedWarrantyVendorId())));
             hasUpdates = true;
         }
@@ -1030,6 +1229,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
     @Transactional
     public BulkUpdateResponse updateAssetsInBulk(AssetBulkUpdateDTO bulkUpdate) {
         log.info("Starting bulk update for {} assets", bulkUpdate.getAssets().size());
+        long start = System.nanoTime();
         
         BulkUpdateResponse.BulkUpdateResponseBuilder responseBuilder = BulkUpdateResponse.builder()
             .totalProcessed(bulkUpdate.getAssets().size())
@@ -1055,10 +1255,12 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
                 // Store old values for audit
                 String oldStatus = asset.getStatus();
                 User oldUser = asset.getCurrentUser();
+                AssetAnalyticsSnapshot.AssetFacts oldFacts = AssetAnalyticsSnapshot.AssetFacts.of(asset);
                 
                 // Update the asset with individual update data
                 updateAssetFromIndividualUpdateDTO(asset, updateRequest);
                 Asset updatedAsset = assetRepository.save(asset);
+                analyticsSnapshot.recordChange(oldFacts, AssetAnalyticsSnapshot.AssetFacts.of(updatedAsset));
                 
                 log.debug("Successfully updated asset ID: {}", updatedAsset.getAssetId());
                 
@@ -1132,6 +1334,112 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         
         log.info("Bulk update completed - Success: {}, Failures: {}", 
             response.getSuccessCount(), response.getFailureCount());
+        recordBulkOperation("updateAssetsInBulk", response.getSuccessCount(), response.getFailureCount(), start);
+        
+        return response;
+    }
+
+    /**
+     * Move many assets to one status with a single set-based UPDATE, then write the status history
+     * and audit rows as JDBC batches. Assets already in the target status are reported as unchanged,
+     * soft-deleted and unknown IDs as failures; results follow the order of the targeted IDs.
+     */
+    @Override
+    @Transactional
+    public BulkStatusUpdateResponse updateAssetStatusInBulk(BulkStatusUpdateDTO request) {
+        boolean byIds = request.getAssetIds() != null && !request.getAssetIds().isEmpty();
+        if (byIds == (request.getFilter() != null)) {
+            throw new IllegalArgumentException("Provide either assetIds or filter for a bulk status update");
+        }
+        if (!userRepository.existsById(request.getChangedById())) {
+            throw new ResourceNotFoundException("User", "id", request.getChangedById());
+        }
+        String targetStatus = normalizeStatus(request.getStatus());
+        
+        List<Long> targetIds;
+        if (byIds) {
+            targetIds = new ArrayList<>(new LinkedHashSet<>(request.getAssetIds()));
+            targetIds.removeIf(Objects::isNull);
+        } else {
+            BulkStatusUpdateDTO.Filter filter = request.getFilter();
+            if (filter.getStatus() != null) {
+                filter.setStatus(normalizeStatus(filter.getStatus()));
+            }
+            targetIds = assetStatusJdbcRepository.findActiveIdsByFilter(filter, MAX_BULK_STATUS_ASSETS + 1);
+        }
+        if (targetIds.size() > MAX_BULK_STATUS_ASSETS) {
+            throw new IllegalArgumentException(
+                "A bulk status update can target at most " + MAX_BULK_STATUS_ASSETS + " assets");
+        }
+        log.info("Starting bulk status update of {} assets to {}", targetIds.size(), targetStatus);
+        
+        // The UPDATE bypasses the persistence context, so push pending entity changes first
+        assetRepository.flush();
+        LocalDateTime now = LocalDateTime.now();
+        List<AssetStatusJdbcRepository.StatusChange> changes =
+            assetStatusJdbcRepository.updateStatus(targetIds, targetStatus, now);
+        
+        if (!changes.isEmpty()) {
+            assetStatusJdbcRepository.batchInsertHistory(changes, targetStatus, request.getChangedById(),
+                request.getRemarks(), now, BULK_INSERT_BATCH_SIZE);
+            
+            List<AuditLog> auditLogs = new ArrayList<>(changes.size());
+            for (AssetStatusJdbcRepository.StatusChange change : changes) {
+                AuditLog auditLog = new AuditLog();
+                auditLog.setAsset(assetRepository.getReferenceById(change.assetId()));
+                auditLog.setUser(change.currentUserId() != null
+                    ? userRepository.getReferenceById(change.currentUserId()) : null);
+                auditLog.setAction("STATUS_CHANGE");
+                auditLog.setActionDate(now);
+                auditLog.setDetails(String.format("Status changed from %s to %s. Remarks: %s",
+                    change.previousStatus(), targetStatus, request.getRemarks()));
+                auditLogs.add(auditLog);
+            }
+            auditLogJdbcRepository.batchInsert(auditLogs, BULK_INSERT_BATCH_SIZE);
+            
+            // Per-asset facts are not loaded on this path, so reseed the rollup on next read
+            analyticsSnapshot.invalidate();
+        }
+        
+        Map<Long, AssetStatusJdbcRepository.StatusChange> changedById = changes.stream()
+            .collect(Collectors.toMap(AssetStatusJdbcRepository.StatusChange::assetId, change -> change));
+        List<Long> untouchedIds = targetIds.stream()
+            .filter(id -> !changedById.containsKey(id))
+            .collect(Collectors.toList());
+        Map<Long, Boolean> deletedFlags = assetStatusJdbcRepository.findDeletedFlags(untouchedIds);
+        
+        List<BulkStatusUpdateResponse.AssetStatusOutcome> results = new ArrayList<>(targetIds.size());
+        int unchanged = 0;
+        for (Long assetId : targetIds) {
+            AssetStatusJdbcRepository.StatusChange change = changedById.get(assetId);
+            Boolean deleted = deletedFlags.get(assetId);
+            BulkStatusUpdateResponse.AssetStatusOutcome.AssetStatusOutcomeBuilder outcome =
+                BulkStatusUpdateResponse.AssetStatusOutcome.builder().assetId(assetId);
+            if (change != null) {
+                outcome.outcome(BulkStatusUpdateResponse.UPDATED).previousStatus(change.previousStatus());
+            } else if (deleted == null) {
+                outcome.outcome(BulkStatusUpdateResponse.NOT_FOUND).message("Asset not found with ID: " + assetId);
+            } else if (deleted) {
+                outcome.outcome(BulkStatusUpdateResponse.DELETED).message("Cannot update deleted asset with ID: " + assetId);
+            } else {
+                unchanged++;
+                outcome.outcome(BulkStatusUpdateResponse.UNCHANGED).previousStatus(targetStatus)
+                    .message("Asset already has status " + targetStatus);
+            }
+            results.add(outcome.build());
+        }
+        
+        BulkStatusUpdateResponse response = BulkStatusUpdateResponse.builder()
+            .targetStatus(targetStatus)
+            .totalProcessed(targetIds.size())
+            .updatedCount(changes.size())
+            .unchangedCount(unchanged)
+            .failureCount(targetIds.size() - changes.size() - unchanged)
+            .results(results)
+            .build();
+        
+        log.info("Bulk status update completed - Updated: {}, Unchanged: {}, Failures: {}",
+            response.getUpdatedCount(), response.getUnchangedCount(), response.getFailureCount());
         
         return response;
     }
@@ -1197,12 +1505,12 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
             hasUpdates = true;
         }
         if (updateDTO.getOsId() != null) {
-            asset.setOs(osRepository.findById(updateDTO.getOsId())
+            asset.setOs(Optional.ofNullable(referenceDataCache.getOs(updateDTO.getOsId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OS", "id", updateDTO.getOsId())));
             hasUpdates = true;
         }
         if (updateDTO.getOsVersionId() != null) {
-            asset.setOsVersion(osVersionRepository.findById(updateDTO.getOsVersionId())
+            asset.setOsVersion(Optional.ofNullable(referenceDataCache.getOsVersion(updateDTO.getOsVersionId()))
                 .orElseThrow(() -> new ResourceNotFoundException("OSVersion", "id", updateDTO.getOsVersionId())));
             hasUpdates = true;
         }
@@ -1237,12 +1545,12 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
             hasUpdates = true;
         }
         if (updateDTO.getVendorId() != null) {
-            asset.setVendor(vendorRepository.findById(updateDTO.getVendorId())
+            asset.setVendor(Optional.ofNullable(referenceDataCache.getVendor(updateDTO.getVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", updateDTO.getVendorId())));
             hasUpdates = true;
         }
         if (updateDTO.getExtendedWarrantyVendorId() != null) {
-            asset.setExtendedWarrantyVendor(vendorRepository.findById(updateDTO.getExtendedWarrantyVendorId())
+            asset.setExtendedWarrantyVendor(Optional.ofNullable(referenceDataCache.getVendor(updateDTO.getExtendedWarrantyVendorId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Vendor", "id", updateDTO.getExtendedWarrantyVendorId())));
             hasUpdates = true;
         }
@@ -1288,6 +1596,7 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
     @Transactional
     public BulkAssetByPOResponse createAssetsByPO(String poNumber, List<AssetRequestDTO> requests) {
         log.info("=== SERVICE LAYER: Starting bulk asset creation for PO {} with {} assets ===", poNumber, requests.size());
+        long start = System.nanoTime();
         
         // Validate input
         if (requests == null || requests.isEmpty()) {
@@ -1309,87 +1618,68 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         });
         
         List<BulkAssetByPOResponse.BulkAssetError> errors = new ArrayList<>();
-        List<AssetDTO> createdAssets = new ArrayList<>();
         
-        // Process each asset request
+        // Step 1: Resolve references for the whole request with set-based queries and catch keys repeated
+        // within the request; keys already held by stored assets are caught by the insert itself
+        Map<Integer, AssetRequestDTO> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            candidates.put(i, requests.get(i));
+        }
+        AssetBatchValidationService.BatchValidationResult batchValidation = 
+            assetBatchValidationService.validateBatch(candidates);
+        
+        // Step 2: Map valid rows to entities using the pre-loaded reference data
+        List<Asset> assetsToSave = new ArrayList<>();
+        List<Integer> saveIndexes = new ArrayList<>();
         for (int i = 0; i < requests.size(); i++) {
             AssetRequestDTO request = requests.get(i);
+            AssetValidationService.AssetValidationResult validationResult = batchValidation.getResult(i);
+            
+            if (!validationResult.isValid()) {
+                String errorMessage = String.join("; ", validationResult.getErrors());
+                log.warn("Validation failed for asset[{}] in PO {}: {}", i, poNumber, errorMessage);
+                errors.add(bulkAssetByPOError(i, "validation", errorMessage, request));
+                continue;
+            }
             
             try {
-                log.debug("Processing asset[{}] for PO {}: {}", i, poNumber, request.getSerialNumber());
-                
-                // Step 1: Validate the asset request
-                AssetValidationService.AssetValidationResult validationResult = 
-                    assetValidationService.validateAssetForCreation(request, i);
+                assetsToSave.add(assetMapper.toEntityWithReferences(
+                    request, validationResult.getContext(), batchValidation.getReferences()));
+                saveIndexes.add(i);
                 
-                if (!validationResult.isValid()) {
-                    String errorMessage = String.join("; ", validationResult.getErrors());
-                    log.warn("Validation failed for asset[{}] in PO {}: {}", i, poNumber, errorMessage);
-                    errors.add(BulkAssetByPOResponse.BulkAssetError.builder()
-                        .index(i)
-                        .field("validation")
-                        .message(errorMessage)
-                        .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                        .build());
-                    continue;
-                }
-                
-                // Step 2: Create the asset using mapper with validation context
-                Asset asset = assetMapper.toEntityWithContext(request, validationResult.getContext());
-                Asset savedAsset = assetRepository.save(asset);
-                
-                log.debug("Successfully created asset[{}] with ID: {} for PO {}", i, savedAsset.getAssetId(), poNumber);
-                
-                // Log the creation
-                auditLogService.logAssetAction(
-                    savedAsset,
-                    savedAsset.getCurrentUser(),
-                    "BULK_CREATE_BY_PO",
-                    String.format("Asset created via bulk operation for PO %s with name: %s", poNumber, savedAsset.getName())
-                );
-                
-                createdAssets.add(assetMapper.toDTO(savedAsset));
-                
-            } catch (DataIntegrityViolationException e) {
-                log.error("Data integrity violation for asset[{}] in PO {}: {}", i, poNumber, e.getMessage(), e);
-                
-                String errorMessage = parseDataIntegrityError(e, request);
-                errors.add(BulkAssetByPOResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("dataIntegrity")
-                    .message(errorMessage)
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
             } catch (ResourceNotFoundException e) {
                 log.error("Resource not found for asset[{}] in PO {}: {}", i, poNumber, e.getMessage(), e);
-                errors.add(BulkAssetByPOResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("resourceNotFound")
-                    .message("Referenced resource not found: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
+                errors.add(bulkAssetByPOError(i, "resourceNotFound", "Referenced resource not found: " + e.getMessage(), request));
+                
             } catch (IllegalArgumentException e) {
                 log.error("Invalid argument for asset[{}] in PO {}: {}", i, poNumber, e.getMessage(), e);
-                errors.add(BulkAssetByPOResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("invalidArgument")
-                    .message("Invalid data provided: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
-                    
-            } catch (Exception e) {
-                log.error("Unexpected error creating asset[{}] in PO {}: {}", i, poNumber, e.getMessage(), e);
-                errors.add(BulkAssetByPOResponse.BulkAssetError.builder()
-                    .index(i)
-                    .field("unexpected")
-                    .message("Unexpected error: " + e.getMessage())
-                    .assetIdentifier(request.getSerialNumber() != null ? request.getSerialNumber() : request.getName())
-                    .build());
+                errors.add(bulkAssetByPOError(i, "invalidArgument", "Invalid data provided: " + e.getMessage(), request));
             }
         }
         
+        // Step 3: Write assets and their audit rows with JDBC batch inserts; rows whose unique keys
+        // are already taken by an active asset are skipped and reported
+        List<AssetDTO> createdAssets = new ArrayList<>(assetsToSave.size());
+        if (!assetsToSave.isEmpty()) {
+            Map<Integer, String> conflicts = insertAssetsInBatches(assetsToSave, "BULK_CREATE_BY_PO",
+                asset -> String.format("Asset created via bulk operation for PO %s with name: %s", poNumber, asset.getName()));
+            
+            for (int position = 0; position < assetsToSave.size(); position++) {
+                int i = saveIndexes.get(position);
+                Asset savedAsset = assetsToSave.get(position);
+                String conflict = conflicts.get(position);
+                if (conflict != null) {
+                    log.warn("Duplicate key for asset[{}] in PO {}: {}", i, poNumber, conflict);
+                    errors.add(bulkAssetByPOError(i, "duplicate", conflict, requests.get(i)));
+                    continue;
+                }
+                analyticsSnapshot.recordChange(null, AssetAnalyticsSnapshot.AssetFacts.of(savedAsset));
+                createdAssets.add(assetMapper.toDTO(savedAsset));
+            }
+            log.debug("Saved {} assets for PO {}", createdAssets.size(), poNumber);
+        }
+        errors.sort(Comparator.comparingInt(BulkAssetByPOResponse.BulkAssetError::getIndex));
+        
         // Build response based on results
         BulkAssetByPOResponse response;
         if (errors.isEmpty()) {
@@ -1405,7 +1695,24 @@ public List<AssetDTO> getAssetsByPONumber(String poNumber) {
         
         log.info("=== SERVICE LAYER: Bulk asset creation for PO {} completed - Success: {}, Failures: {} ===", 
             poNumber, response.getCreatedCount(), response.getFailedCount());
+        recordBulkOperation("createAssetsByPO", response.getCreatedCount(), response.getFailedCount(), start);
         
         return response;
     }
+
+    /**
+     * Row throughput of a bulk operation: rows by outcome plus duration (excluding the commit), so
+     * rows/s is rate(bulk_operation_rows_total) and per-call cost is visible in the histogram
+     */
+    private void recordBulkOperation(String operation, long succeeded, long failed, long startNanos) {
+        metricsRegistry.histogram("bulk_operation_seconds", "Bulk operation duration",
+                Histogram.SECONDS, "operation", operation)
+            .observeNanos(System.nanoTime() - startNanos);
+        metricsRegistry.counter("bulk_operation_rows_total", "Rows processed by bulk operations",
+                "operation", operation, "outcome", "success")
+            .add(succeeded);
+        metricsRegistry.counter("bulk_operation_rows_total", "Rows processed by bulk operations",
+                "operation", operation, "outcome", "failure")
+            .add(failed);
+    }
 } 
\ No newline at end of file
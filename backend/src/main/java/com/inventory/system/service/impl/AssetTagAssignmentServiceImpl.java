@@ -1,35 +1,48 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.datasource.ReplicaRead;
+import com.inventory.system.dto.AssetDTO;
 import com.inventory.system.dto.AssetTagAssignmentDTO;
 import com.inventory.system.dto.AssetTagAssignmentByNameDTO;
 import com.inventory.system.dto.AssetTagDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
+import com.inventory.system.mapper.AssetMapper;
 import com.inventory.system.model.Asset;
 import com.inventory.system.model.AssetTag;
 import com.inventory.system.model.AssetTagAssignment;
 import com.inventory.system.model.AssetTagAssignmentId;
 import com.inventory.system.repository.AssetRepository;
 import com.inventory.system.repository.AssetTagAssignmentRepository;
+import com.inventory.system.repository.AssetTagIndexRepository;
 import com.inventory.system.repository.AssetTagRepository;
 import com.inventory.system.service.AssetTagAssignmentService;
 import com.inventory.system.service.AssetTagService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AssetTagAssignmentServiceImpl implements AssetTagAssignmentService {
+    private static final int MAX_QUERY_TAGS = 50;
+
     private final AssetTagAssignmentRepository assignmentRepository;
     private final AssetRepository assetRepository;
     private final AssetTagRepository tagRepository;
     private final AssetTagService assetTagService;
+    private final AssetTagIndexRepository tagIndexRepository;
+    private final AssetMapper assetMapper;
 
     @Override
     @Transactional
@@ -120,14 +133,50 @@ public class AssetTagAssignmentServiceImpl implements AssetTagAssignmentService
 
     @Override
     public PageResponse<AssetTagAssignmentDTO> getAssignmentsByAssetId(Long assetId, Pageable pageable) {
-        List<AssetTagAssignment> assignments = assignmentRepository.findByAsset_AssetId(assetId);
-        return createPageResponseFromList(assignments, pageable);
+        return createPageResponse(assignmentRepository.findPageByAssetId(assetId, pageable));
     }
 
     @Override
     public PageResponse<AssetTagAssignmentDTO> getAssignmentsByTagId(Long tagId, Pageable pageable) {
-        List<AssetTagAssignment> assignments = assignmentRepository.findByTag_Id(tagId);
-        return createPageResponseFromList(assignments, pageable);
+        return createPageResponse(assignmentRepository.findPageByTagId(tagId, pageable));
+    }
+
+    @Override
+    @ReplicaRead
+    public PageResponse<AssetDTO> findAssetsByTags(Set<Long> allTagIds, Set<Long> anyTagIds, Set<Long> noneTagIds, Pageable pageable) {
+        Set<Long> all = allTagIds != null ? allTagIds : Set.of();
+        Set<Long> any = anyTagIds != null ? anyTagIds : Set.of();
+        Set<Long> none = noneTagIds != null ? noneTagIds : Set.of();
+        if (all.isEmpty() && any.isEmpty()) {
+            throw new IllegalArgumentException("At least one of allTags or anyTags is required");
+        }
+        if (all.size() + any.size() + none.size() > MAX_QUERY_TAGS) {
+            throw new IllegalArgumentException("A tag query can reference at most " + MAX_QUERY_TAGS + " tags");
+        }
+
+        List<Long> assetIds = tagIndexRepository.findAssetIds(all, any, none, pageable.getOffset(), pageable.getPageSize());
+
+        // Load the page and keep the index order
+        Map<Long, Asset> assetsById = assetRepository.findAllById(assetIds).stream()
+            .collect(Collectors.toMap(Asset::getAssetId, Function.identity()));
+        List<AssetDTO> content = assetIds.stream()
+            .map(assetsById::get)
+            .filter(Objects::nonNull)
+            .map(assetMapper::toDTO)
+            .toList();
+
+        // The count query only runs when the page alone cannot tell the total
+        Page<AssetDTO> page = PageableExecutionUtils.getPage(content, pageable,
+            () -> tagIndexRepository.countAssets(all, any, none));
+        return new PageResponse<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.isLast(),
+            page.isFirst()
+        );
     }
 
     @Override
@@ -174,24 +223,4 @@ public class AssetTagAssignmentServiceImpl implements AssetTagAssignmentService
             page.isFirst()
         );
     }
-
-    private PageResponse<AssetTagAssignmentDTO> createPageResponseFromList(List<AssetTagAssignment> assignments, Pageable pageable) {
-        List<AssetTagAssignmentDTO> dtos = assignments.stream().map(this::convertToDTO).toList();
-        
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), dtos.size());
-        List<AssetTagAssignmentDTO> paginatedDtos = dtos.subList(start, end);
-        
-        Page<AssetTagAssignmentDTO> page = new PageImpl<>(paginatedDtos, pageable, dtos.size());
-        
-        return new PageResponse<>(
-            page.getContent(),
-            page.getNumber(),
-            page.getSize(),
-            page.getTotalElements(),
-            page.getTotalPages(),
-            page.isLast(),
-            page.isFirst()
-        );
-    }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.AssetTypeDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
@@ -18,6 +20,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AssetTypeServiceImpl implements AssetTypeService {
     private final AssetTypeRepository assetTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -25,6 +29,7 @@ public class AssetTypeServiceImpl implements AssetTypeService {
         AssetType assetType = new AssetType();
         updateAssetTypeFromDTO(assetType, assetTypeDTO);
         AssetType savedAssetType = assetTypeRepository.save(assetType);
+        resourceVersions.bump(ResourceVersions.ASSET_TYPES);
         return convertToDTO(savedAssetType);
     }
 
@@ -35,6 +40,8 @@ public class AssetTypeServiceImpl implements AssetTypeService {
             .orElseThrow(() -> new ResourceNotFoundException("AssetType", "id", id));
         updateAssetTypeFromDTO(assetType, assetTypeDTO);
         AssetType updatedAssetType = assetTypeRepository.save(assetType);
+        referenceDataCache.evictAssetType(id);
+        resourceVersions.bump(ResourceVersions.ASSET_TYPES);
         return convertToDTO(updatedAssetType);
     }
 
@@ -64,6 +71,8 @@ public class AssetTypeServiceImpl implements AssetTypeService {
             throw new ResourceNotFoundException("AssetType", "id", id);
         }
         assetTypeRepository.deleteById(id);
+        referenceDataCache.evictAssetType(id);
+        resourceVersions.bump(ResourceVersions.ASSET_TYPES);
     }
 
     @Override
@@ -85,6 +94,8 @@ public class AssetTypeServiceImpl implements AssetTypeService {
             .orElseThrow(() -> new ResourceNotFoundException("AssetType", "id", id));
         assetType.setStatus("Inactive");
         assetTypeRepository.save(assetType);
+        referenceDataCache.evictAssetType(id);
+        resourceVersions.bump(ResourceVersions.ASSET_TYPES);
     }
 
     @Override
@@ -94,6 +105,8 @@ public class AssetTypeServiceImpl implements AssetTypeService {
             .orElseThrow(() -> new ResourceNotFoundException("AssetType", "id", id));
         assetType.setStatus("Active");
         assetTypeRepository.save(assetType);
+        referenceDataCache.evictAssetType(id);
+        resourceVersions.bump(ResourceVersions.ASSET_TYPES);
     }
 
     // Category-related methods implementation
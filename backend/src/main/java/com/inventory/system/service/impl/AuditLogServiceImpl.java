@@ -16,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,7 @@ public class AuditLogServiceImpl implements AuditLogService {
     private final AuditLogRepository auditLogRepository;
     private final AssetRepository assetRepository;
     private final UserRepository userRepository;
+    private final AuditLogWriter auditLogWriter;
 
     @Override
     @Transactional
@@ -83,30 +85,35 @@ public class AuditLogServiceImpl implements AuditLogService {
     }
 
     @Override
-    @Transactional
     public void logAssetAction(Asset asset, User user, String action, String details) {
-        AuditLogDTO logDTO = new AuditLogDTO();
-        logDTO.setAssetId(asset.getAssetId());
-        logDTO.setUserId(user != null ? user.getId() : null);
-        logDTO.setAction(action);
-        logDTO.setDetails(details);
-        createLog(logDTO);
+        // The caller already holds the asset and user, so no lookups are needed; the row is
+        // buffered and written in a batch (see AuditLogWriter)
+        AuditLog log = new AuditLog();
+        log.setAsset(asset);
+        log.setUser(user);
+        log.setAction(action);
+        log.setActionDate(LocalDateTime.now());
+        log.setDetails(details);
+        auditLogWriter.write(log);
     }
 
     private void updateLogFromDTO(AuditLog log, AuditLogDTO dto) {
         log.setAction(dto.getAction());
         log.setDetails(dto.getDetails());
 
+        // An existence probe plus a reference proxy, so unknown IDs are still a 404 without loading the entities
         if (dto.getAssetId() != null) {
-            Asset asset = assetRepository.findById(dto.getAssetId())
-                .orElseThrow(() -> new ResourceNotFoundException("Asset", "assetId", dto.getAssetId()));
-            log.setAsset(asset);
+            if (!assetRepository.existsById(dto.getAssetId())) {
+                throw new ResourceNotFoundException("Asset", "assetId", dto.getAssetId());
+            }
+            log.setAsset(assetRepository.getReferenceById(dto.getAssetId()));
         }
 
         if (dto.getUserId() != null) {
-            User user = userRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", dto.getUserId()));
-            log.setUser(user);
+            if (!userRepository.existsById(dto.getUserId())) {
+                throw new ResourceNotFoundException("User", "id", dto.getUserId());
+            }
+            log.setUser(userRepository.getReferenceById(dto.getUserId()));
         }
     }
 
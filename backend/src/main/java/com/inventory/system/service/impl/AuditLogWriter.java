@@ -0,0 +1,146 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.model.AuditLog;
+import com.inventory.system.repository.AuditLogJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffers audit_log rows and writes them with JDBC batch inserts.
+ *
+ * Modes (audit.log.mode):
+ *   outbox - rows collected during a transaction are written as one batch just before it commits,
+ *            so they become durable atomically with the change they describe (default)
+ *   async  - rows are queued after the transaction commits and flushed by a background job;
+ *            nothing is written on the request path, but queued rows are lost if the process dies
+ *
+ * Outside a transaction rows are written immediately in both modes.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    static final String MODE_OUTBOX = "outbox";
+    static final String MODE_ASYNC = "async";
+
+    private final AuditLogJdbcRepository auditLogJdbcRepository;
+    private final String mode;
+    private final int batchSize;
+    private final int maxQueueSize;
+
+    private final ConcurrentLinkedQueue<AuditLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AuditLogWriter(AuditLogJdbcRepository auditLogJdbcRepository,
+                          @Value("${audit.log.mode:outbox}") String mode,
+                          @Value("${audit.log.batch-size:500}") int batchSize,
+                          @Value("${audit.log.max-queue-size:50000}") int maxQueueSize) {
+        if (!MODE_OUTBOX.equals(mode) && !MODE_ASYNC.equals(mode)) {
+            throw new IllegalArgumentException("Unsupported audit.log.mode: " + mode + " (expected outbox or async)");
+        }
+        this.auditLogJdbcRepository = auditLogJdbcRepository;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public void write(AuditLog entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            auditLogJdbcRepository.batchInsert(List.of(entry), batchSize);
+            return;
+        }
+
+        TransactionBuffer buffer = (TransactionBuffer) TransactionSynchronizationManager.getResource(this);
+        if (buffer == null) {
+            buffer = new TransactionBuffer();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(buffer);
+        }
+        buffer.entries.add(entry);
+    }
+
+    /**
+     * Drain the async queue. Runs on a fixed delay; also called on shutdown.
+     */
+    @Scheduled(fixedDelayString = "${audit.log.flush-interval-ms:1000}")
+    public void flushQueue() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        AuditLog entry;
+        while ((entry = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                insertQueued(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertQueued(batch);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (queued.get() > 0) {
+            log.info("Flushing {} queued audit log entries before shutdown", queued.get());
+            flushQueue();
+        }
+    }
+
+    private void enqueue(List<AuditLog> entries) {
+        queue.addAll(entries);
+        // Back-pressure: if the background flush falls behind, the committing thread drains the queue itself
+        if (queued.addAndGet(entries.size()) > maxQueueSize) {
+            log.warn("Audit log queue exceeded {} entries, flushing on caller thread", maxQueueSize);
+            flushQueue();
+        }
+    }
+
+    private void insertQueued(List<AuditLog> batch) {
+        try {
+            auditLogJdbcRepository.batchInsert(batch, batchSize);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} queued audit log entries: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private class TransactionBuffer implements TransactionSynchronization {
+        private final List<AuditLog> entries = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (MODE_OUTBOX.equals(mode) && !entries.isEmpty()) {
+                // Push pending entity inserts/deletes first so the audited asset rows are visible to the insert
+                entityManager.flush();
+                auditLogJdbcRepository.batchInsert(entries, batchSize);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (MODE_ASYNC.equals(mode) && !entries.isEmpty()) {
+                enqueue(entries);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AuditLogWriter.this);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.datasource.ReplicaRead;
+import com.inventory.system.dto.ExpiryCalendarDTO;
+import com.inventory.system.repository.ExpiryCalendarRepository;
+import com.inventory.system.service.ExpiryCalendarService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpiryCalendarServiceImpl implements ExpiryCalendarService {
+
+    private static final int MAX_DAYS_AHEAD = 730;
+    private static final int MAX_ENTRIES = 2000;
+
+    private final ExpiryCalendarRepository expiryCalendarRepository;
+
+    @Override
+    @ReplicaRead
+    public ExpiryCalendarDTO getUpcomingExpiries(int days, Set<String> kinds) {
+        if (days < 0 || days > MAX_DAYS_AHEAD) {
+            throw new IllegalArgumentException("days must be between 0 and " + MAX_DAYS_AHEAD);
+        }
+        List<String> selectedKinds = resolveKinds(kinds);
+        LocalDate from = LocalDate.now();
+        LocalDate to = from.plusDays(days);
+        log.info("Fetching expiries of {} between {} and {}", selectedKinds, from, to);
+
+        // Weeks come from the complete counts; entries are capped so a long window stays bounded
+        Map<LocalDate, ExpiryCalendarDTO.ExpiryWeekDTO> weeks = new TreeMap<>();
+        long total = 0;
+        for (ExpiryCalendarRepository.WeeklyCount count : expiryCalendarRepository.countByWeek(from, to, selectedKinds)) {
+            ExpiryCalendarDTO.ExpiryWeekDTO week = weeks.computeIfAbsent(count.weekStart(), this::emptyWeek);
+            week.getCountByKind().put(count.kind(), count.count());
+            week.setTotalCount(week.getTotalCount() + count.count());
+            total += count.count();
+        }
+
+        List<ExpiryCalendarRepository.Entry> entries =
+            expiryCalendarRepository.findEntries(from, to, selectedKinds, MAX_ENTRIES);
+        for (ExpiryCalendarRepository.Entry entry : entries) {
+            LocalDate weekStart = entry.expiryDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weeks.computeIfAbsent(weekStart, this::emptyWeek).getEntries().add(ExpiryCalendarDTO.ExpiryEntryDTO.builder()
+                .expiryDate(entry.expiryDate())
+                .kind(entry.kind())
+                .assetId(entry.assetId())
+                .assetName(entry.assetName())
+                .serialNumber(entry.serialNumber())
+                .poId(entry.poId())
+                .poNumber(entry.poNumber())
+                .build());
+        }
+
+        return ExpiryCalendarDTO.builder()
+            .from(from)
+            .to(to)
+            .totalCount(total)
+            .truncated(total > entries.size())
+            .weeks(new ArrayList<>(weeks.values()))
+            .build();
+    }
+
+    /**
+     * Status buckets depend on the current date, so roll them forward shortly after midnight
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${expiry.status.refresh-cron:0 1 0 * * *}")
+    public int refreshStatusBuckets() {
+        long start = System.nanoTime();
+        int updated = expiryCalendarRepository.refreshStatusBuckets(LocalDate.now());
+        log.info("Refreshed warranty/licence status buckets of {} assets in {} ms",
+            updated, (System.nanoTime() - start) / 1_000_000);
+        return updated;
+    }
+
+    private List<String> resolveKinds(Set<String> kinds) {
+        if (kinds == null || kinds.isEmpty()) {
+            return ExpiryCalendarRepository.KINDS;
+        }
+        List<String> resolved = kinds.stream()
+            .map(kind -> kind.trim().toUpperCase(Locale.ROOT))
+            .distinct()
+            .collect(Collectors.toList());
+        for (String kind : resolved) {
+            if (!ExpiryCalendarRepository.KINDS.contains(kind)) {
+                throw new IllegalArgumentException("Unknown expiry kind '" + kind + "'. Allowed: " + ExpiryCalendarRepository.KINDS);
+            }
+        }
+        return resolved;
+    }
+
+    private ExpiryCalendarDTO.ExpiryWeekDTO emptyWeek(LocalDate weekStart) {
+        return ExpiryCalendarDTO.ExpiryWeekDTO.builder()
+            .weekStart(weekStart)
+            .weekEnd(weekStart.plusDays(6))
+            .totalCount(0)
+            .countByKind(new LinkedHashMap<>())
+            .entries(new ArrayList<>())
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.repository.HistoryPartitionRepository;
+import com.inventory.system.repository.HistoryPartitionRepository.Partition;
+import com.inventory.system.repository.HistoryPartitionRepository.PartitionedTable;
+import com.inventory.system.service.HistoryPartitionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly partitions of audit_log, asset_status_history and asset_assignment_history (V28)
+ * ahead of the clock and, when history.retention.months is set (0, the default, keeps everything), enforces retention.
+ *
+ * Months older than history.retention.months are written to {@code <archive-dir>/<partition>.csv.gz}
+ * and then detached and dropped in the same transaction, so a failed export never loses rows.
+ * Dropping a month is a catalog operation: no row deletes, no vacuum debt and no index bloat left behind.
+ */
+@Slf4j
+@Service
+public class HistoryPartitionServiceImpl implements HistoryPartitionService {
+
+    private final HistoryPartitionRepository historyPartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archiveEnabled;
+    private final Path archiveDir;
+
+    public HistoryPartitionServiceImpl(HistoryPartitionRepository historyPartitionRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${history.partition.months-ahead:3}") int monthsAhead,
+                                       @Value("${history.retention.months:0}") int retentionMonths,
+                                       @Value("${history.retention.archive-enabled:true}") boolean archiveEnabled,
+                                       @Value("${history.retention.archive-dir:archive/history}") String archiveDir) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("history.partition.months-ahead must be at least 1");
+        }
+        this.historyPartitionRepository = historyPartitionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveEnabled = archiveEnabled;
+        this.archiveDir = Paths.get(archiveDir);
+    }
+
+    /**
+     * Create missing partitions at startup too, so an instance that was down over a month boundary
+     * does not file new rows in the DEFAULT partition until the nightly run
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            createUpcomingPartitions();
+        } catch (Exception e) {
+            log.error("Failed to create history partitions at startup: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${history.partition.maintenance-cron:0 30 1 * * *}")
+    public void maintainPartitions() {
+        createUpcomingPartitions();
+        applyRetention();
+    }
+
+    @Override
+    public int createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (PartitionedTable table : HistoryPartitionRepository.TABLES) {
+            Integer count = transactionTemplate.execute(status ->
+                historyPartitionRepository.createMonthlyPartitions(table, current, current.plusMonths(monthsAhead)));
+            created += count != null ? count : 0;
+        }
+        if (created > 0) {
+            log.info("Created {} history partitions through {}", created, current.plusMonths(monthsAhead));
+        }
+        return created;
+    }
+
+    @Override
+    public int applyRetention() {
+        if (retentionMonths <= 0) {
+            log.debug("History retention disabled");
+            return 0;
+        }
+
+        YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+        int dropped = 0;
+        for (PartitionedTable table : HistoryPartitionRepository.TABLES) {
+            for (Partition partition : historyPartitionRepository.findMonthlyPartitions(table)) {
+                if (!partition.month().isBefore(oldestKept)) {
+                    break;
+                }
+                if (historyPartitionRepository.hasRetainedRows(partition)) {
+                    log.warn("Keeping {} past retention: it still holds rows matching {}",
+                        partition.name(), table.retainWhere());
+                    continue;
+                }
+                try {
+                    archiveAndDrop(partition);
+                    dropped++;
+                } catch (Exception e) {
+                    log.error("Failed to archive {}: {}", partition.name(), e.getMessage(), e);
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.info("Retention dropped {} history partitions older than {}", dropped, oldestKept);
+        }
+        return dropped;
+    }
+
+    private void archiveAndDrop(Partition partition) throws IOException {
+        if (archiveEnabled) {
+            Files.createDirectories(archiveDir);
+        }
+        Path archive = archiveDir.resolve(partition.name() + ".csv.gz");
+        Path temp = archiveDir.resolve(partition.name() + ".csv.gz.tmp");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (archiveEnabled) {
+                long rows;
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                    rows = historyPartitionRepository.exportCsv(partition, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                try {
+                    if (rows == 0) {
+                        Files.delete(temp);
+                    } else {
+                        Files.move(temp, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                log.info("Archived {} rows of {} to {}", rows, partition.name(), rows == 0 ? "(empty, no file)" : archive);
+            }
+            historyPartitionRepository.detachAndDrop(partition);
+        });
+    }
+}
@@ -0,0 +1,126 @@
+package com.inventory.system.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.system.dto.JobDTO;
+import com.inventory.system.enums.JobStatus;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.exception.ResourceNotFoundException;
+import com.inventory.system.jobs.JobHandler;
+import com.inventory.system.jobs.JobRunner;
+import com.inventory.system.model.AsyncJob;
+import com.inventory.system.repository.AsyncJobRepository;
+import com.inventory.system.service.JobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobServiceImpl implements JobService {
+
+    private final AsyncJobRepository asyncJobRepository;
+    private final JobRunner jobRunner;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional
+    public JobDTO submit(JobType type, Object payload) {
+        JobHandler<Object> handler = jobRunner.getHandler(type);
+        // Round-trip through JSON so the handler validates exactly what the worker will see
+        Object request = objectMapper.convertValue(payload, handler.getPayloadType());
+        handler.validate(request);
+
+        AsyncJob job = new AsyncJob();
+        job.setJobType(type);
+        try {
+            job.setPayload(objectMapper.writeValueAsString(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Job request cannot be serialized: " + e.getOriginalMessage(), e);
+        }
+        job.setTotalItems(handler.countItems(request));
+        AsyncJob saved = asyncJobRepository.save(job);
+        log.info("Queued job {} ({}) with {} items", saved.getId(), type, saved.getTotalItems());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobRunner.dispatch();
+            }
+        });
+        return toDTO(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public JobDTO getJob(Long jobId) {
+        return toDTO(findJob(jobId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Resource getResult(Long jobId) {
+        AsyncJob job = findJob(jobId);
+        if (job.getFinishedAt() == null) {
+            throw new IllegalStateException("Job " + jobId + " has not finished yet");
+        }
+        Path file = jobRunner.resultFile(jobId);
+        if (!Files.exists(file)) {
+            throw new ResourceNotFoundException("Result of job " + jobId + " is no longer available");
+        }
+        return new FileSystemResource(file);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getResultContentType(Long jobId) {
+        return jobRunner.getHandler(findJob(jobId).getJobType()).getResultContentType();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getResultFilename(Long jobId) {
+        AsyncJob job = findJob(jobId);
+        return "job-" + jobId + "." + jobRunner.getHandler(job.getJobType()).getResultExtension();
+    }
+
+    private AsyncJob findJob(Long jobId) {
+        return asyncJobRepository.findById(jobId)
+            .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
+    }
+
+    private JobDTO toDTO(AsyncJob job) {
+        int progressPercent;
+        if (job.getStatus() == JobStatus.SUCCEEDED) {
+            progressPercent = 100;
+        } else if (job.getTotalItems() > 0) {
+            progressPercent = (int) Math.min(99, job.getProcessedItems() * 100 / job.getTotalItems());
+        } else {
+            progressPercent = 0;
+        }
+        return JobDTO.builder()
+            .id(job.getId())
+            .type(job.getJobType())
+            .status(job.getStatus())
+            .totalItems(job.getTotalItems())
+            .processedItems(job.getProcessedItems())
+            .succeededItems(job.getSucceededItems())
+            .failedItems(job.getFailedItems())
+            .progressPercent(progressPercent)
+            .errorMessage(job.getErrorMessage())
+            .createdAt(job.getCreatedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .resultUrl(job.getFinishedAt() != null ? "/api/jobs/" + job.getId() + "/result" : null)
+            .build();
+    }
+}
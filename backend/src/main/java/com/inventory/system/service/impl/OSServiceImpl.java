@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.OSDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class OSServiceImpl implements OSService {
     private final OSRepository osRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -23,6 +27,7 @@ public class OSServiceImpl implements OSService {
         OS os = new OS();
         updateOSFromDTO(os, osDTO);
         OS savedOS = osRepository.save(os);
+        resourceVersions.bump(ResourceVersions.OS);
         return convertToDTO(savedOS);
     }
 
@@ -33,6 +38,8 @@ public class OSServiceImpl implements OSService {
             .orElseThrow(() -> new ResourceNotFoundException("OS", "id", id));
         updateOSFromDTO(os, osDTO);
         OS updatedOS = osRepository.save(os);
+        referenceDataCache.evictOs(id);
+        resourceVersions.bump(ResourceVersions.OS);
         return convertToDTO(updatedOS);
     }
 
@@ -56,6 +63,8 @@ public class OSServiceImpl implements OSService {
             throw new ResourceNotFoundException("OS", "id", id);
         }
         osRepository.deleteById(id);
+        referenceDataCache.evictOs(id);
+        resourceVersions.bump(ResourceVersions.OS);
     }
 
     @Override
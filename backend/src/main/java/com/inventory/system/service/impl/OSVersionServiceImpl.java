@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.OSVersionDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
@@ -22,6 +24,8 @@ import java.util.stream.Collectors;
 public class OSVersionServiceImpl implements OSVersionService {
     private final OSVersionRepository osVersionRepository;
     private final OSRepository osRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -29,6 +33,7 @@ public class OSVersionServiceImpl implements OSVersionService {
         OSVersion osVersion = new OSVersion();
         updateOSVersionFromDTO(osVersion, osVersionDTO);
         OSVersion savedOSVersion = osVersionRepository.save(osVersion);
+        resourceVersions.bump(ResourceVersions.OS_VERSIONS);
         return convertToDTO(savedOSVersion);
     }
 
@@ -39,6 +44,8 @@ public class OSVersionServiceImpl implements OSVersionService {
             .orElseThrow(() -> new ResourceNotFoundException("OSVersion", "id", id));
         updateOSVersionFromDTO(osVersion, osVersionDTO);
         OSVersion updatedOSVersion = osVersionRepository.save(osVersion);
+        referenceDataCache.evictOsVersion(id);
+        resourceVersions.bump(ResourceVersions.OS_VERSIONS);
         return convertToDTO(updatedOSVersion);
     }
 
@@ -75,6 +82,8 @@ public class OSVersionServiceImpl implements OSVersionService {
             throw new ResourceNotFoundException("OSVersion", "id", id);
         }
         osVersionRepository.deleteById(id);
+        referenceDataCache.evictOsVersion(id);
+        resourceVersions.bump(ResourceVersions.OS_VERSIONS);
     }
 
     @Override
@@ -0,0 +1,118 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.datasource.ReplicaRead;
+import com.inventory.system.dto.SearchSuggestionDTO;
+import com.inventory.system.repository.AssetRepository;
+import com.inventory.system.repository.SearchHit;
+import com.inventory.system.repository.UserRepository;
+import com.inventory.system.repository.VendorRepository;
+import com.inventory.system.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ReplicaRead
+public class SearchServiceImpl implements SearchService {
+
+    public static final int MAX_LIMIT = 50;
+
+    // Trigram indexes need at least three characters to narrow the search; shorter terms use the prefix path only
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private final AssetRepository assetRepository;
+    private final UserRepository userRepository;
+    private final VendorRepository vendorRepository;
+
+    @Override
+    public List<SearchSuggestionDTO> suggestAssets(String query, int limit) {
+        return suggest(query, limit, assetRepository::suggestByPrefix,
+            (term, contains, max) -> assetRepository.suggestBySimilarity(term, contains, max));
+    }
+
+    @Override
+    public List<SearchSuggestionDTO> suggestUsers(String query, int limit) {
+        return suggest(query, limit, userRepository::suggestByPrefix,
+            (term, contains, max) -> userRepository.suggestBySimilarity(term, contains, max));
+    }
+
+    @Override
+    public List<SearchSuggestionDTO> suggestVendors(String query, int limit) {
+        return suggest(query, limit, vendorRepository::suggestByPrefix,
+            (term, contains, max) -> vendorRepository.suggestBySimilarity(term, contains, max));
+    }
+
+    private List<SearchSuggestionDTO> suggest(String query, int limit,
+                                              BiFunction<String, Integer, List<SearchHit>> prefixSearch,
+                                              SimilaritySearch similaritySearch) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        String escaped = escapeLike(term);
+
+        List<SearchSuggestionDTO> results = new ArrayList<>(max);
+        Set<Long> seen = new HashSet<>();
+
+        // Fast path: B-tree prefix range scan
+        for (SearchHit hit : prefixSearch.apply(escaped + "%", max)) {
+            if (seen.add(hit.getId())) {
+                results.add(toSuggestion(hit, "PREFIX"));
+            }
+        }
+
+        // Fill the remainder with ranked substring matches
+        if (results.size() < max && term.length() >= MIN_TRIGRAM_LENGTH) {
+            // Over-fetch by the prefix hits already shown, since they match the substring query too
+            for (SearchHit hit : similaritySearch.search(term, "%" + escaped + "%", max + results.size())) {
+                if (results.size() >= max) {
+                    break;
+                }
+                if (seen.add(hit.getId())) {
+                    results.add(toSuggestion(hit, "FUZZY"));
+                }
+            }
+        }
+
+        log.debug("Typeahead '{}' returned {} suggestions", term, results.size());
+        return results;
+    }
+
+    private SearchSuggestionDTO toSuggestion(SearchHit hit, String matchType) {
+        return SearchSuggestionDTO.builder()
+            .id(hit.getId())
+            .label(hit.getLabel())
+            .detail(hit.getDetail())
+            .matchType(matchType)
+            .score(hit.getScore())
+            .build();
+    }
+
+    // User input is matched literally: escape LIKE wildcards with PostgreSQL's default escape character
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '%' || c == '_') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    @FunctionalInterface
+    private interface SimilaritySearch {
+        List<SearchHit> search(String term, String contains, int limit);
+    }
+}
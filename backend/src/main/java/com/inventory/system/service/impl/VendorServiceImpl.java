@@ -1,5 +1,7 @@
 package com.inventory.system.service.impl;
 
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.cache.ResourceVersions;
 import com.inventory.system.dto.VendorDTO;
 import com.inventory.system.dto.PageResponse;
 import com.inventory.system.exception.ResourceNotFoundException;
@@ -22,6 +24,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class VendorServiceImpl implements VendorService {
     private final VendorRepository vendorRepository;
+    private final ReferenceDataCache referenceDataCache;
+    private final ResourceVersions resourceVersions;
 
     @Override
     @Transactional
@@ -32,6 +36,7 @@ public class VendorServiceImpl implements VendorService {
         updateVendorFromDTO(vendor, vendorDTO);
         
         Vendor savedVendor = vendorRepository.save(vendor);
+        resourceVersions.bump(ResourceVersions.VENDORS);
         log.info("Vendor created successfully with ID: {} and name: {}", savedVendor.getId(), savedVendor.getName());
         
         return convertToDTO(savedVendor);
@@ -63,6 +68,8 @@ public class VendorServiceImpl implements VendorService {
         try {
             // Save changes
             Vendor updatedVendor = vendorRepository.save(existingVendor);
+            referenceDataCache.evictVendor(id);
+            resourceVersions.bump(ResourceVersions.VENDORS);
             log.info("Vendor updated successfully with ID: {} - Final state: name={}, contactInfo={}, status={}", 
                     updatedVendor.getId(), updatedVendor.getName(), 
                     updatedVendor.getContactInfo(), updatedVendor.getStatus());
@@ -102,7 +109,7 @@ public class VendorServiceImpl implements VendorService {
     @Override
     public PageResponse<VendorDTO> searchVendors(String searchTerm, Pageable pageable) {
         log.debug("Searching vendors with term: {} (all statuses)", searchTerm);
-        Page<Vendor> vendorPage = vendorRepository.findByNameContainingIgnoreCaseOrContactInfoContainingIgnoreCase(searchTerm, searchTerm, pageable);
+        Page<Vendor> vendorPage = vendorRepository.searchVendors(searchTerm, pageable);
         return createPageResponse(vendorPage);
     }
 
@@ -112,10 +119,9 @@ public class VendorServiceImpl implements VendorService {
         Page<Vendor> vendorPage;
         
         if (status != null && !status.trim().isEmpty()) {
-            vendorPage = vendorRepository.findByStatusAndNameContainingIgnoreCaseOrStatusAndContactInfoContainingIgnoreCase(
-                    status, searchTerm, status, searchTerm, pageable);
+            vendorPage = vendorRepository.searchVendorsByStatus(searchTerm, status, pageable);
         } else {
-            vendorPage = vendorRepository.findByNameContainingIgnoreCaseOrContactInfoContainingIgnoreCase(searchTerm, searchTerm, pageable);
+            vendorPage = vendorRepository.searchVendors(searchTerm, pageable);
         }
         
         return createPageResponse(vendorPage);
@@ -138,7 +144,9 @@ public class VendorServiceImpl implements VendorService {
         
         try {
             // Check for foreign key constraints by attempting the delete
-        vendorRepository.deleteById(id);
+            vendorRepository.deleteById(id);
+            referenceDataCache.evictVendor(id);
+            resourceVersions.bump(ResourceVersions.VENDORS);
             log.info("Vendor deleted successfully with ID: {}", id);
             
         } catch (DataIntegrityViolationException e) {
@@ -189,6 +197,8 @@ public class VendorServiceImpl implements VendorService {
         log.debug("Current vendor status: {}", vendor.getStatus());
         vendor.setStatus("Inactive");
         vendorRepository.save(vendor);
+        referenceDataCache.evictVendor(id);
+        resourceVersions.bump(ResourceVersions.VENDORS);
         
         log.info("Vendor deactivated successfully with ID: {}", id);
     }
@@ -207,6 +217,8 @@ public class VendorServiceImpl implements VendorService {
         log.debug("Current vendor status: {}", vendor.getStatus());
         vendor.setStatus("Active");
         vendorRepository.save(vendor);
+        referenceDataCache.evictVendor(id);
+        resourceVersions.bump(ResourceVersions.VENDORS);
         
         log.info("Vendor activated successfully with ID: {}", id);
     }
@@ -0,0 +1,319 @@
+package com.inventory.system.validation;
+
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.model.*;
+import com.inventory.system.repository.*;
+import com.inventory.system.validation.AssetValidationService.AssetValidationContext;
+import com.inventory.system.validation.AssetValidationService.AssetValidationResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Set-based counterpart of {@link AssetValidationService} for bulk imports.
+ * Resolves every referenced ID for a whole batch with a handful of IN queries instead of
+ * per-row lookups, then applies the same business rules per row. Keys repeated within the batch
+ * are rejected here; keys already held by stored assets are left to the unique indexes, which
+ * the bulk insert reports per row (see AssetJdbcRepository#batchInsertSkippingConflicts).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AssetBatchValidationService {
+
+    // Keeps IN lists well below the PostgreSQL bind parameter limit
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final AssetPORepository assetPORepository;
+    private final AssetTypeRepository assetTypeRepository;
+    private final AssetMakeRepository assetMakeRepository;
+    private final AssetModelRepository assetModelRepository;
+    private final UserRepository userRepository;
+    private final OSRepository osRepository;
+    private final OSVersionRepository osVersionRepository;
+    private final VendorRepository vendorRepository;
+
+    /**
+     * Validate all rows of a bulk request. Keys of the given map are the row indexes of the
+     * original request list; the result carries one validation result per key.
+     */
+    public BatchValidationResult validateBatch(Map<Integer, AssetRequestDTO> requests) {
+        BatchReferenceData references = loadReferenceData(requests.values());
+
+        Map<Integer, AssetValidationResult> results = new LinkedHashMap<>();
+        Set<String> batchSerialNumbers = new HashSet<>();
+        Set<String> batchItAssetCodes = new HashSet<>();
+        Set<String> batchMacAddresses = new HashSet<>();
+
+        for (Map.Entry<Integer, AssetRequestDTO> entry : requests.entrySet()) {
+            AssetRequestDTO request = entry.getValue();
+            List<String> errors = new ArrayList<>();
+            AssetValidationContext context = new AssetValidationContext();
+
+            try {
+                // 1. Case-insensitive duplicate checks against earlier rows of the batch
+                validateDuplicates(request, batchSerialNumbers, batchItAssetCodes, batchMacAddresses, errors);
+
+                // 2. PO lookup and vendor resolution
+                resolvePOAndVendor(request, references, context, errors);
+
+                // 3. OS Version to OS resolution
+                resolveOSFromOSVersion(request, references, context, errors);
+
+                // 4. Model to Make and Type resolution
+                resolveModelHierarchy(request, references, context, errors);
+
+                // 5. Foreign key validations
+                validateForeignKeys(request, references, errors);
+
+            } catch (Exception e) {
+                log.error("Unexpected error during batch validation for asset[{}]: {}", entry.getKey(), e.getMessage(), e);
+                errors.add("Unexpected validation error: " + e.getMessage());
+            }
+
+            results.put(entry.getKey(), new AssetValidationResult(errors.isEmpty(), errors, context));
+        }
+
+        return new BatchValidationResult(results, references);
+    }
+
+    private BatchReferenceData loadReferenceData(Collection<AssetRequestDTO> requests) {
+        BatchReferenceData references = new BatchReferenceData();
+
+        Set<String> poNumbers = new HashSet<>();
+        Set<Long> osVersionIds = new HashSet<>();
+        Set<Long> modelIds = new HashSet<>();
+        Set<Long> typeIds = new HashSet<>();
+        Set<Long> makeIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> osIds = new HashSet<>();
+        Set<Long> vendorIds = new HashSet<>();
+
+        for (AssetRequestDTO request : requests) {
+            if (StringUtils.hasText(request.getPoNumber())) poNumbers.add(request.getPoNumber());
+            addIfPresent(osVersionIds, request.getOsVersionId());
+            addIfPresent(modelIds, request.getModelId());
+            addIfPresent(typeIds, request.getAssetTypeId());
+            addIfPresent(makeIds, request.getMakeId());
+            addIfPresent(userIds, request.getCurrentUserId());
+            addIfPresent(osIds, request.getOsId());
+            addIfPresent(vendorIds, request.getVendorId());
+            addIfPresent(vendorIds, request.getExtendedWarrantyVendorId());
+        }
+
+        // First pass: entities whose relations feed the resolved IDs
+        loadInChunks(poNumbers, assetPORepository::findByPoNumberIn)
+            .forEach(po -> references.purchaseOrders.put(po.getPoNumber(), po));
+        loadInChunks(osVersionIds, osVersionRepository::findAllById)
+            .forEach(osVersion -> references.osVersions.put(osVersion.getId(), osVersion));
+        loadInChunks(modelIds, assetModelRepository::findAllById)
+            .forEach(model -> references.models.put(model.getId(), model));
+
+        // Second pass: include IDs resolved through the PO, OS version and model hierarchy
+        references.purchaseOrders.values().forEach(po -> addIfPresent(vendorIds, po.getVendorId()));
+        references.osVersions.values().forEach(osVersion -> {
+            if (osVersion.getOs() != null) osIds.add(osVersion.getOs().getId());
+        });
+        references.models.values().forEach(model -> {
+            if (model.getMake() != null) {
+                makeIds.add(model.getMake().getId());
+                if (model.getMake().getAssetType() != null) typeIds.add(model.getMake().getAssetType().getId());
+            }
+        });
+
+        loadInChunks(typeIds, assetTypeRepository::findAllById)
+            .forEach(type -> references.assetTypes.put(type.getId(), type));
+        loadInChunks(makeIds, assetMakeRepository::findAllById)
+            .forEach(make -> references.makes.put(make.getId(), make));
+        loadInChunks(userIds, userRepository::findAllById)
+            .forEach(user -> references.users.put(user.getId(), user));
+        loadInChunks(osIds, osRepository::findAllById)
+            .forEach(os -> references.operatingSystems.put(os.getId(), os));
+        loadInChunks(vendorIds, vendorRepository::findAllById)
+            .forEach(vendor -> references.vendors.put(vendor.getId(), vendor));
+
+        log.debug("Loaded batch reference data for {} requests: {} POs, {} models, {} OS versions, {} users, {} vendors",
+            requests.size(), references.purchaseOrders.size(), references.models.size(),
+            references.osVersions.size(), references.users.size(), references.vendors.size());
+
+        return references;
+    }
+
+    private void validateDuplicates(AssetRequestDTO request, Set<String> batchSerialNumbers, Set<String> batchItAssetCodes,
+                                    Set<String> batchMacAddresses, List<String> errors) {
+        // Serial Number - case-insensitive check
+        if (StringUtils.hasText(request.getSerialNumber())) {
+            String key = request.getSerialNumber().toLowerCase();
+            if (!batchSerialNumbers.add(key)) {
+                errors.add("Serial number is duplicated within the batch (case-insensitive): " + request.getSerialNumber());
+            }
+        }
+
+        // IT Asset Code - case-insensitive check
+        if (StringUtils.hasText(request.getItAssetCode())) {
+            String key = request.getItAssetCode().toLowerCase();
+            if (!batchItAssetCodes.add(key)) {
+                errors.add("IT Asset Code is duplicated within the batch (case-insensitive): " + request.getItAssetCode());
+            }
+        }
+
+        // MAC Address - case-insensitive check
+        if (StringUtils.hasText(request.getMacAddress())) {
+            String key = request.getMacAddress().toLowerCase();
+            if (!batchMacAddresses.add(key)) {
+                errors.add("MAC Address is duplicated within the batch (case-insensitive): " + request.getMacAddress());
+            }
+        }
+    }
+
+    private void resolvePOAndVendor(AssetRequestDTO request, BatchReferenceData references,
+                                    AssetValidationContext context, List<String> errors) {
+        String poNumber = request.getPoNumber();
+
+        if (StringUtils.hasText(poNumber)) {
+            AssetPO assetPO = references.purchaseOrders.get(poNumber);
+
+            if (assetPO != null) {
+                context.setAssetPO(assetPO);
+
+                // Set vendorId from PO
+                if (assetPO.getVendorId() != null) {
+                    context.setResolvedVendorId(assetPO.getVendorId());
+                    context.setResolvedExtendedWarrantyVendorId(assetPO.getVendorId()); // Same vendor for both
+                } else {
+                    log.warn("PO {} exists but has no vendorId", poNumber);
+                }
+            } else {
+                errors.add("Purchase Order not found: " + poNumber);
+            }
+        }
+    }
+
+    private void resolveOSFromOSVersion(AssetRequestDTO request, BatchReferenceData references,
+                                        AssetValidationContext context, List<String> errors) {
+        if (request.getOsVersionId() != null) {
+            OSVersion osVersion = references.osVersions.get(request.getOsVersionId());
+
+            if (osVersion != null) {
+                context.setOsVersion(osVersion);
+
+                if (osVersion.getOs() != null) {
+                    context.setResolvedOsId(osVersion.getOs().getId());
+                } else {
+                    errors.add("OS Version ID " + request.getOsVersionId() + " has no associated OS");
+                }
+            } else {
+                errors.add("OS Version ID " + request.getOsVersionId() + " does not exist");
+            }
+        }
+    }
+
+    private void resolveModelHierarchy(AssetRequestDTO request, BatchReferenceData references,
+                                       AssetValidationContext context, List<String> errors) {
+        if (request.getModelId() != null) {
+            AssetModel model = references.models.get(request.getModelId());
+
+            if (model != null) {
+                context.setAssetModel(model);
+
+                if (model.getMake() != null) {
+                    AssetMake make = model.getMake();
+                    context.setResolvedMakeId(make.getId());
+
+                    if (make.getAssetType() != null) {
+                        context.setResolvedTypeId(make.getAssetType().getId());
+                    } else {
+                        errors.add("Asset Make ID " + make.getId() + " has no associated Asset Type");
+                    }
+                } else {
+                    errors.add("Asset Model ID " + request.getModelId() + " has no associated Make");
+                }
+            } else {
+                errors.add("Asset Model ID " + request.getModelId() + " does not exist");
+            }
+        }
+    }
+
+    private void validateForeignKeys(AssetRequestDTO request, BatchReferenceData references, List<String> errors) {
+        if (request.getAssetTypeId() != null && !references.assetTypes.containsKey(request.getAssetTypeId())) {
+            errors.add("Asset Type ID " + request.getAssetTypeId() + " does not exist");
+        }
+
+        if (request.getMakeId() != null && !references.makes.containsKey(request.getMakeId())) {
+            errors.add("Asset Make ID " + request.getMakeId() + " does not exist");
+        }
+
+        if (request.getCurrentUserId() != null && !references.users.containsKey(request.getCurrentUserId())) {
+            errors.add("Current User ID " + request.getCurrentUserId() + " does not exist");
+        }
+
+        if (request.getOsId() != null && !references.operatingSystems.containsKey(request.getOsId())) {
+            errors.add("OS ID " + request.getOsId() + " does not exist");
+        }
+
+        if (request.getVendorId() != null && !references.vendors.containsKey(request.getVendorId())) {
+            errors.add("Vendor ID " + request.getVendorId() + " does not exist");
+        }
+
+        if (request.getExtendedWarrantyVendorId() != null && !references.vendors.containsKey(request.getExtendedWarrantyVendorId())) {
+            errors.add("Extended Warranty Vendor ID " + request.getExtendedWarrantyVendorId() + " does not exist");
+        }
+    }
+
+    private static <K, T> List<T> loadInChunks(Collection<K> keys, Function<List<K>, List<T>> loader) {
+        List<T> loaded = new ArrayList<>();
+        if (keys.isEmpty()) {
+            return loaded;
+        }
+
+        List<K> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(from + LOOKUP_CHUNK_SIZE, keyList.size());
+            loaded.addAll(loader.apply(keyList.subList(from, to)));
+        }
+        return loaded;
+    }
+
+    private static void addIfPresent(Set<Long> target, Long value) {
+        if (value != null) {
+            target.add(value);
+        }
+    }
+
+    // Inner classes for batch results and pre-loaded reference data
+    public static class BatchValidationResult {
+        private final Map<Integer, AssetValidationResult> results;
+        private final BatchReferenceData references;
+
+        public BatchValidationResult(Map<Integer, AssetValidationResult> results, BatchReferenceData references) {
+            this.results = results;
+            this.references = references;
+        }
+
+        public AssetValidationResult getResult(int index) { return results.get(index); }
+        public BatchReferenceData getReferences() { return references; }
+    }
+
+    public static class BatchReferenceData {
+        private final Map<String, AssetPO> purchaseOrders = new HashMap<>();
+        private final Map<Long, OSVersion> osVersions = new HashMap<>();
+        private final Map<Long, AssetModel> models = new HashMap<>();
+        private final Map<Long, AssetType> assetTypes = new HashMap<>();
+        private final Map<Long, AssetMake> makes = new HashMap<>();
+        private final Map<Long, User> users = new HashMap<>();
+        private final Map<Long, OS> operatingSystems = new HashMap<>();
+        private final Map<Long, Vendor> vendors = new HashMap<>();
+
+        public AssetType getAssetType(Long id) { return assetTypes.get(id); }
+        public AssetMake getMake(Long id) { return makes.get(id); }
+        public AssetModel getModel(Long id) { return models.get(id); }
+        public User getUser(Long id) { return users.get(id); }
+        public OS getOs(Long id) { return operatingSystems.get(id); }
+        public OSVersion getOsVersion(Long id) { return osVersions.get(id); }
+        public Vendor getVendor(Long id) { return vendors.get(id); }
+    }
+}
@@ -1,5 +1,6 @@
 package com.inventory.system.validation;
 
+import com.inventory.system.cache.ReferenceDataCache;
 import com.inventory.system.dto.AssetRequestDTO;
 import com.inventory.system.model.*;
 import com.inventory.system.repository.*;
@@ -19,13 +20,8 @@ public class AssetValidationService {
     
     private final AssetRepository assetRepository;
     private final AssetPORepository assetPORepository;
-    private final AssetTypeRepository assetTypeRepository;
-    private final AssetMakeRepository assetMakeRepository;
-    private final AssetModelRepository assetModelRepository;
     private final UserRepository userRepository;
-    private final OSRepository osRepository;
-    private final OSVersionRepository osVersionRepository;
-    private final VendorRepository vendorRepository;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * Comprehensive validation for asset creation including all business rules
@@ -107,10 +103,9 @@ public class AssetValidationService {
     
     private void resolveOSFromOSVersion(AssetRequestDTO request, AssetValidationContext context, List<String> errors) {
         if (request.getOsVersionId() != null) {
-            Optional<OSVersion> osVersionOptional = osVersionRepository.findById(request.getOsVersionId());
+            OSVersion osVersion = referenceDataCache.getOsVersion(request.getOsVersionId());
             
-            if (osVersionOptional.isPresent()) {
-                OSVersion osVersion = osVersionOptional.get();
+            if (osVersion != null) {
                 context.setOsVersion(osVersion);
                 
                 if (osVersion.getOs() != null) {
@@ -126,10 +121,10 @@ public class AssetValidationService {
     
     private void resolveModelHierarchy(AssetRequestDTO request, AssetValidationContext context, List<String> errors) {
         if (request.getModelId() != null) {
-            Optional<AssetModel> modelOptional = assetModelRepository.findById(request.getModelId());
+            // Served from memory once cached; the model is loaded with its make and type
+            AssetModel model = referenceDataCache.getAssetModel(request.getModelId());
             
-            if (modelOptional.isPresent()) {
-                AssetModel model = modelOptional.get();
+            if (model != null) {
                 context.setAssetModel(model);
                 
                 if (model.getMake() != null) {
@@ -152,12 +147,12 @@ public class AssetValidationService {
     
     private void validateForeignKeys(AssetRequestDTO request, List<String> errors) {
         // Validate Asset Type (if provided and not resolved from model hierarchy)
-        if (request.getAssetTypeId() != null && !assetTypeRepository.existsById(request.getAssetTypeId())) {
+        if (request.getAssetTypeId() != null && referenceDataCache.getAssetType(request.getAssetTypeId()) == null) {
             errors.add("Asset Type ID " + request.getAssetTypeId() + " does not exist");
         }
         
         // Validate Asset Make (if provided and not resolved from model hierarchy)
-        if (request.getMakeId() != null && !assetMakeRepository.existsById(request.getMakeId())) {
+        if (request.getMakeId() != null && referenceDataCache.getAssetMake(request.getMakeId()) == null) {
             errors.add("Asset Make ID " + request.getMakeId() + " does not exist");
         }
         
@@ -167,17 +162,17 @@ public class AssetValidationService {
         }
         
         // Validate OS (if provided directly)
-        if (request.getOsId() != null && !osRepository.existsById(request.getOsId())) {
+        if (request.getOsId() != null && referenceDataCache.getOs(request.getOsId()) == null) {
             errors.add("OS ID " + request.getOsId() + " does not exist");
         }
         
         // Validate Vendor (if provided directly)
-        if (request.getVendorId() != null && !vendorRepository.existsById(request.getVendorId())) {
+        if (request.getVendorId() != null && referenceDataCache.getVendor(request.getVendorId()) == null) {
             errors.add("Vendor ID " + request.getVendorId() + " does not exist");
         }
         
         // Validate Extended Warranty Vendor (if provided directly)
-        if (request.getExtendedWarrantyVendorId() != null && !vendorRepository.existsById(request.getExtendedWarrantyVendorId())) {
+        if (request.getExtendedWarrantyVendorId() != null && referenceDataCache.getVendor(request.getExtendedWarrantyVendorId()) == null) {
             errors.add("Extended Warranty Vendor ID " + request.getExtendedWarrantyVendorId() + " does not exist");
         }
     }
@@ -0,0 +1,9 @@
+-- Composite (sort key, asset_id) indexes over active assets for keyset pagination.
+-- Each cursor page becomes an index range scan regardless of how deep the client has paged.
+CREATE INDEX IF NOT EXISTS idx_asset_active_id ON asset (asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_name_id ON asset (name, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_status_id ON asset (status, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_serial_id ON asset (serial_number, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_it_code_id ON asset (it_asset_code, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_created_id ON asset (created_at, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_updated_id ON asset (updated_at, asset_id) WHERE deleted = false;
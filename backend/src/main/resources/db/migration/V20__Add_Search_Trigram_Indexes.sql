@@ -0,0 +1,32 @@
+-- Index-backed search for assets, users and vendors.
+-- GIN trigram indexes on LOWER(col) serve the existing "LOWER(col) LIKE '%term%'" predicates
+-- (one bitmap index scan per OR branch instead of a sequential scan), and text_pattern_ops
+-- B-tree indexes serve the typeahead prefix path "LOWER(col) LIKE 'term%'".
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Assets: name, serial number, IT asset code (active rows only - every search filters deleted = false)
+CREATE INDEX IF NOT EXISTS idx_asset_name_trgm ON asset USING gin (LOWER(name) gin_trgm_ops) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_serial_trgm ON asset USING gin (LOWER(serial_number) gin_trgm_ops) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_it_code_trgm ON asset USING gin (LOWER(it_asset_code) gin_trgm_ops) WHERE deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_asset_name_prefix ON asset (LOWER(name) text_pattern_ops) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_serial_prefix ON asset (LOWER(serial_number) text_pattern_ops) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_it_code_prefix ON asset (LOWER(it_asset_code) text_pattern_ops) WHERE deleted = false;
+
+-- Users: every column searched by UserRepository.searchUsers
+CREATE INDEX IF NOT EXISTS idx_user_email_trgm ON "user" USING gin (LOWER(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_fullname_trgm ON "user" USING gin (LOWER(fullname_or_officename) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_employee_code_trgm ON "user" USING gin (LOWER(employee_code) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_department_trgm ON "user" USING gin (LOWER(department) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_location_trgm ON "user" USING gin (LOWER(location) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_city_trgm ON "user" USING gin (LOWER(city) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_country_trgm ON "user" USING gin (LOWER(country) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_user_fullname_prefix ON "user" (LOWER(fullname_or_officename) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_user_email_prefix ON "user" (LOWER(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_user_employee_code_prefix ON "user" (LOWER(employee_code) text_pattern_ops);
+
+-- Vendors: name and contact info
+CREATE INDEX IF NOT EXISTS idx_vendor_name_trgm ON vendor USING gin (LOWER(vendor_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendor_contact_trgm ON vendor USING gin (LOWER(contact_info) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_vendor_name_prefix ON vendor (LOWER(vendor_name) text_pattern_ops);
@@ -0,0 +1,22 @@
+-- Let PO number renames cascade to asset.po_number inside the database, so a rename is a single
+-- UPDATE of the asset_po row instead of an application-side loop over every linked asset.
+DO $$
+DECLARE
+    had_fk BOOLEAN;
+BEGIN
+    SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'asset_po_number_fk') INTO had_fk;
+    IF had_fk THEN
+        ALTER TABLE asset DROP CONSTRAINT asset_po_number_fk;
+    END IF;
+
+    -- NOT VALID skips the full-table check while holding the lock; existing rows were already
+    -- checked by the previous constraint, and new and updated rows are always checked
+    ALTER TABLE asset ADD CONSTRAINT asset_po_number_fk
+        FOREIGN KEY (po_number) REFERENCES asset_po (po_number) ON UPDATE CASCADE NOT VALID;
+    IF had_fk THEN
+        ALTER TABLE asset VALIDATE CONSTRAINT asset_po_number_fk;
+    END IF;
+END $$;
+
+-- Serves the cascade itself and the chunked per-PO asset updates
+CREATE INDEX IF NOT EXISTS idx_asset_po_number_asset_id ON asset (po_number, asset_id);
@@ -0,0 +1,36 @@
+-- Switch entity IDs from IDENTITY to pooled sequence generators (allocationSize = 50) so Hibernate
+-- can assign IDs in memory and batch INSERTs. Each nextval now reserves the block (value - 49 .. value).
+-- Sequences are first moved past the highest existing ID so no block overlaps existing rows.
+-- The column defaults stay in place for raw SQL inserts; every value they hand out is also a block end,
+-- so they can never collide with a block in use by the application.
+DO $$
+DECLARE
+    target RECORD;
+    max_id BIGINT;
+    last_id BIGINT;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('asset', 'asset_id', 'asset_asset_id_seq'),
+            ('asset_assignment_history', 'assignment_id', 'asset_assignment_history_assignment_id_seq'),
+            ('asset_make', 'make_id', 'asset_make_make_id_seq'),
+            ('asset_model', 'model_id', 'asset_model_model_id_seq'),
+            ('asset_po', 'po_id', 'asset_po_po_id_seq'),
+            ('asset_status_history', 'history_id', 'asset_status_history_history_id_seq'),
+            ('asset_tag', 'tag_id', 'asset_tag_tag_id_seq'),
+            ('asset_type', 'type_id', 'asset_type_asset_type_id_seq'),
+            ('audit_log', 'log_id', 'audit_log_log_id_seq'),
+            ('os', 'os_id', 'os_os_id_seq'),
+            ('os_version', 'os_version_id', 'os_version_os_version_id_seq'),
+            ('user', 'user_id', 'user_user_id_seq'),
+            ('vendor', 'vendor_id', 'vendor_vendor_id_seq')
+        ) AS t(table_name, column_name, sequence_name)
+    LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I OWNED BY %I.%I',
+            target.sequence_name, target.table_name, target.column_name);
+        EXECUTE format('SELECT COALESCE(MAX(%I), 0) FROM %I', target.column_name, target.table_name) INTO max_id;
+        EXECUTE format('SELECT last_value FROM %I', target.sequence_name) INTO last_id;
+        PERFORM setval(target.sequence_name, GREATEST(max_id, last_id, 1), true);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', target.sequence_name);
+    END LOOP;
+END $$;
@@ -0,0 +1,119 @@
+-- Per-PO fulfilment ledger: how many assets reference each purchase order (linked) and how many of
+-- those are not soft-deleted (active). Remaining devices are total_devices - active_count.
+--
+-- The counts are maintained by statement-level triggers on asset, so every write path (JPA, JDBC
+-- batches, set-based cascades, ad-hoc SQL) updates them in the same transaction, and a multi-row
+-- statement touches each affected ledger row once. Rows are keyed by po_id so a PO number rename,
+-- which cascades to asset.po_number, leaves the counts where they are.
+CREATE TABLE IF NOT EXISTS asset_po_ledger (
+    po_id INTEGER PRIMARY KEY REFERENCES asset_po (po_id) ON DELETE CASCADE,
+    linked_count INTEGER NOT NULL DEFAULT 0,
+    active_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Backfill
+INSERT INTO asset_po_ledger (po_id, linked_count, active_count)
+SELECT p.po_id, COUNT(a.asset_id), COUNT(a.asset_id) FILTER (WHERE a.deleted = false)
+FROM asset_po p
+LEFT JOIN asset a ON a.po_number = p.po_number
+GROUP BY p.po_id
+ON CONFLICT (po_id) DO NOTHING;
+
+-- Every PO gets a ledger row when it is created
+CREATE OR REPLACE FUNCTION asset_po_ledger_init() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO asset_po_ledger (po_id)
+    SELECT po_id FROM new_pos
+    ON CONFLICT (po_id) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS asset_po_ledger_init ON asset_po;
+CREATE TRIGGER asset_po_ledger_init
+    AFTER INSERT ON asset_po
+    REFERENCING NEW TABLE AS new_pos
+    FOR EACH STATEMENT EXECUTE FUNCTION asset_po_ledger_init();
+
+-- Apply the net per-PO change of one asset statement
+CREATE OR REPLACE FUNCTION asset_po_ledger_apply() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        WITH deltas AS (
+            SELECT p.po_id, COUNT(*) AS linked, COUNT(*) FILTER (WHERE NOT n.deleted) AS active
+            FROM new_assets n
+            JOIN asset_po p ON p.po_number = n.po_number
+            GROUP BY p.po_id
+        )
+        UPDATE asset_po_ledger l
+        SET linked_count = l.linked_count + d.linked, active_count = l.active_count + d.active, updated_at = now()
+        FROM deltas d
+        WHERE l.po_id = d.po_id;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        WITH deltas AS (
+            SELECT p.po_id, COUNT(*) AS linked, COUNT(*) FILTER (WHERE NOT o.deleted) AS active
+            FROM old_assets o
+            JOIN asset_po p ON p.po_number = o.po_number
+            GROUP BY p.po_id
+        )
+        UPDATE asset_po_ledger l
+        SET linked_count = l.linked_count - d.linked, active_count = l.active_count - d.active, updated_at = now()
+        FROM deltas d
+        WHERE l.po_id = d.po_id;
+
+    ELSE
+        -- Only rows whose PO or deleted flag changed matter. An old PO number that no longer
+        -- resolves means the PO itself was renamed (ON UPDATE CASCADE), so both sides are the same PO.
+        WITH changed AS (
+            SELECT op.po_id AS old_po_id, o.deleted AS old_deleted,
+                   np.po_id AS new_po_id, n.deleted AS new_deleted,
+                   o.po_number IS NOT NULL AND op.po_id IS NULL AS renamed
+            FROM old_assets o
+            JOIN new_assets n ON n.asset_id = o.asset_id
+            LEFT JOIN asset_po op ON op.po_number = o.po_number
+            LEFT JOIN asset_po np ON np.po_number = n.po_number
+            WHERE o.po_number IS DISTINCT FROM n.po_number OR o.deleted IS DISTINCT FROM n.deleted
+        ),
+        moves AS (
+            SELECT CASE WHEN renamed THEN new_po_id ELSE old_po_id END AS po_id,
+                   -1 AS linked, CASE WHEN old_deleted THEN 0 ELSE -1 END AS active
+            FROM changed
+            UNION ALL
+            SELECT new_po_id, 1, CASE WHEN new_deleted THEN 0 ELSE 1 END
+            FROM changed
+        ),
+        deltas AS (
+            SELECT po_id, SUM(linked) AS linked, SUM(active) AS active
+            FROM moves
+            WHERE po_id IS NOT NULL
+            GROUP BY po_id
+            HAVING SUM(linked) <> 0 OR SUM(active) <> 0
+        )
+        UPDATE asset_po_ledger l
+        SET linked_count = l.linked_count + d.linked, active_count = l.active_count + d.active, updated_at = now()
+        FROM deltas d
+        WHERE l.po_id = d.po_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS asset_po_ledger_insert ON asset;
+CREATE TRIGGER asset_po_ledger_insert
+    AFTER INSERT ON asset
+    REFERENCING NEW TABLE AS new_assets
+    FOR EACH STATEMENT EXECUTE FUNCTION asset_po_ledger_apply();
+
+DROP TRIGGER IF EXISTS asset_po_ledger_update ON asset;
+CREATE TRIGGER asset_po_ledger_update
+    AFTER UPDATE ON asset
+    REFERENCING OLD TABLE AS old_assets NEW TABLE AS new_assets
+    FOR EACH STATEMENT EXECUTE FUNCTION asset_po_ledger_apply();
+
+DROP TRIGGER IF EXISTS asset_po_ledger_delete ON asset;
+CREATE TRIGGER asset_po_ledger_delete
+    AFTER DELETE ON asset
+    REFERENCING OLD TABLE AS old_assets
+    FOR EACH STATEMENT EXECUTE FUNCTION asset_po_ledger_apply();
@@ -0,0 +1,3 @@
+-- Tag-to-asset postings: the primary key (asset_id, tag_id) serves "tags of an asset", this index serves
+-- "assets with a tag" in asset order, both for paged tag listings and the INTERSECT/EXCEPT tag queries.
+CREATE INDEX IF NOT EXISTS idx_asset_tag_assignment_tag_asset ON asset_tag_assignment (tag_id, asset_id);
@@ -0,0 +1,4 @@
+-- Bulk reassignment and offboarding select a user's active assets and close their open assignment rows
+-- with set-based statements; both lookups were sequential scans without these.
+CREATE INDEX IF NOT EXISTS idx_asset_current_user ON asset (current_user_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_assignment_history_open ON asset_assignment_history (asset_id) WHERE unassigned_date IS NULL;
@@ -0,0 +1,165 @@
+-- Expiry calendar: one row per upcoming expiry date of an active asset (warranty, extended warranty,
+-- software licence, lease end) or a rented PO (lease end), kept in date order by idx_expiry_calendar_date
+-- so "what expires between X and Y" is a single index range scan instead of a scan of asset and asset_po.
+-- Rows are maintained by statement-level triggers, so every write path keeps the calendar current.
+CREATE TABLE IF NOT EXISTS expiry_calendar (
+    expiry_date DATE NOT NULL,
+    kind VARCHAR(32) NOT NULL,
+    asset_id INTEGER REFERENCES asset (asset_id) ON DELETE CASCADE,
+    po_id INTEGER REFERENCES asset_po (po_id) ON DELETE CASCADE,
+    CONSTRAINT chk_expiry_calendar_source CHECK ((asset_id IS NULL) <> (po_id IS NULL))
+);
+
+CREATE INDEX IF NOT EXISTS idx_expiry_calendar_date ON expiry_calendar (expiry_date, kind);
+CREATE UNIQUE INDEX IF NOT EXISTS uq_expiry_calendar_asset ON expiry_calendar (asset_id, kind) WHERE asset_id IS NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_expiry_calendar_po ON expiry_calendar (po_id, kind) WHERE po_id IS NOT NULL;
+
+-- Status buckets, same thresholds as Asset.getWarrantyStatus / getLicenseStatus
+CREATE OR REPLACE FUNCTION asset_warranty_status(expiry DATE, on_date DATE) RETURNS VARCHAR AS $$
+    SELECT CASE
+        WHEN expiry IS NULL THEN 'NO_WARRANTY'
+        WHEN on_date > expiry THEN 'EXPIRED'
+        WHEN on_date > CAST(expiry - INTERVAL '3 months' AS DATE) THEN 'WARNING'
+        ELSE 'ACTIVE'
+    END;
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION asset_license_status(category VARCHAR, validity DATE, on_date DATE) RETURNS VARCHAR AS $$
+    SELECT CASE
+        WHEN UPPER(category) IS DISTINCT FROM 'SOFTWARE' OR validity IS NULL THEN 'NOT_APPLICABLE'
+        WHEN on_date > validity THEN 'EXPIRED'
+        WHEN on_date > CAST(validity - INTERVAL '1 month' AS DATE) THEN 'WARNING'
+        ELSE 'ACTIVE'
+    END;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Persisted buckets for server-side filtering; set on write and rolled forward by the nightly job
+ALTER TABLE asset ADD COLUMN IF NOT EXISTS warranty_status VARCHAR(20);
+ALTER TABLE asset ADD COLUMN IF NOT EXISTS license_status VARCHAR(20);
+
+UPDATE asset
+SET warranty_status = asset_warranty_status(warranty_expiry, CURRENT_DATE),
+    license_status = asset_license_status(asset_category, license_validity_period, CURRENT_DATE);
+
+CREATE INDEX IF NOT EXISTS idx_asset_warranty_status ON asset (warranty_status) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_license_status ON asset (license_status) WHERE deleted = false;
+
+CREATE OR REPLACE FUNCTION asset_expiry_status_refresh() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.warranty_status := asset_warranty_status(NEW.warranty_expiry, CURRENT_DATE);
+    NEW.license_status := asset_license_status(NEW.asset_category, NEW.license_validity_period, CURRENT_DATE);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS asset_expiry_status_refresh ON asset;
+CREATE TRIGGER asset_expiry_status_refresh
+    BEFORE INSERT OR UPDATE OF warranty_expiry, license_validity_period, asset_category ON asset
+    FOR EACH ROW EXECUTE FUNCTION asset_expiry_status_refresh();
+
+-- Calendar entries of one asset row; licences only count for software assets, as in getLicenseStatus
+CREATE OR REPLACE FUNCTION expiry_calendar_entries(warranty_expiry DATE, extended_warranty_expiry DATE,
+                                                   asset_category VARCHAR, license_validity_period DATE,
+                                                   lease_end_date DATE)
+RETURNS TABLE (expiry_date DATE, kind VARCHAR) AS $$
+    SELECT e.expiry_date, e.kind
+    FROM (VALUES
+        (warranty_expiry, 'WARRANTY'),
+        (extended_warranty_expiry, 'EXTENDED_WARRANTY'),
+        (CASE WHEN UPPER(asset_category) = 'SOFTWARE' THEN license_validity_period END, 'LICENSE'),
+        (lease_end_date, 'LEASE')
+    ) AS e(expiry_date, kind)
+    WHERE e.expiry_date IS NOT NULL;
+$$ LANGUAGE sql IMMUTABLE;
+
+-- Backfill
+INSERT INTO expiry_calendar (expiry_date, kind, asset_id)
+SELECT e.expiry_date, e.kind, a.asset_id
+FROM asset a
+CROSS JOIN LATERAL expiry_calendar_entries(a.warranty_expiry, a.extended_warranty_expiry, a.asset_category,
+                                           a.license_validity_period, a.lease_end_date) e
+WHERE a.deleted = false;
+
+INSERT INTO expiry_calendar (expiry_date, kind, po_id)
+SELECT lease_end_date, 'LEASE', po_id
+FROM asset_po
+WHERE acquisition_type = 'Rented' AND lease_end_date IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION expiry_calendar_insert_assets() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO expiry_calendar (expiry_date, kind, asset_id)
+    SELECT e.expiry_date, e.kind, n.asset_id
+    FROM new_assets n
+    CROSS JOIN LATERAL expiry_calendar_entries(n.warranty_expiry, n.extended_warranty_expiry, n.asset_category,
+                                               n.license_validity_period, n.lease_end_date) e
+    WHERE n.deleted = false;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rebuild the entries of rows whose dates, category or deleted flag changed; status-only or
+-- assignment-only updates leave the calendar untouched
+CREATE OR REPLACE FUNCTION expiry_calendar_update_assets() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM expiry_calendar c
+    USING new_assets n
+    JOIN old_assets o ON o.asset_id = n.asset_id
+    WHERE c.asset_id = n.asset_id
+      AND (o.warranty_expiry, o.extended_warranty_expiry, o.license_validity_period, o.lease_end_date, o.asset_category, o.deleted)
+          IS DISTINCT FROM
+          (n.warranty_expiry, n.extended_warranty_expiry, n.license_validity_period, n.lease_end_date, n.asset_category, n.deleted);
+
+    INSERT INTO expiry_calendar (expiry_date, kind, asset_id)
+    SELECT e.expiry_date, e.kind, n.asset_id
+    FROM new_assets n
+    JOIN old_assets o ON o.asset_id = n.asset_id
+    CROSS JOIN LATERAL expiry_calendar_entries(n.warranty_expiry, n.extended_warranty_expiry, n.asset_category,
+                                               n.license_validity_period, n.lease_end_date) e
+    WHERE n.deleted = false
+      AND (o.warranty_expiry, o.extended_warranty_expiry, o.license_validity_period, o.lease_end_date, o.asset_category, o.deleted)
+          IS DISTINCT FROM
+          (n.warranty_expiry, n.extended_warranty_expiry, n.license_validity_period, n.lease_end_date, n.asset_category, n.deleted);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS expiry_calendar_asset_insert ON asset;
+CREATE TRIGGER expiry_calendar_asset_insert
+    AFTER INSERT ON asset
+    REFERENCING NEW TABLE AS new_assets
+    FOR EACH STATEMENT EXECUTE FUNCTION expiry_calendar_insert_assets();
+
+DROP TRIGGER IF EXISTS expiry_calendar_asset_update ON asset;
+CREATE TRIGGER expiry_calendar_asset_update
+    AFTER UPDATE ON asset
+    REFERENCING OLD TABLE AS old_assets NEW TABLE AS new_assets
+    FOR EACH STATEMENT EXECUTE FUNCTION expiry_calendar_update_assets();
+
+-- Rented PO lease ends; rows cascade away when the PO is deleted
+CREATE OR REPLACE FUNCTION expiry_calendar_apply_pos() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        DELETE FROM expiry_calendar c
+        USING new_pos n
+        WHERE c.po_id = n.po_id AND c.kind = 'LEASE';
+    END IF;
+
+    INSERT INTO expiry_calendar (expiry_date, kind, po_id)
+    SELECT n.lease_end_date, 'LEASE', n.po_id
+    FROM new_pos n
+    WHERE n.acquisition_type = 'Rented' AND n.lease_end_date IS NOT NULL;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS expiry_calendar_po_insert ON asset_po;
+CREATE TRIGGER expiry_calendar_po_insert
+    AFTER INSERT ON asset_po
+    REFERENCING NEW TABLE AS new_pos
+    FOR EACH STATEMENT EXECUTE FUNCTION expiry_calendar_apply_pos();
+
+DROP TRIGGER IF EXISTS expiry_calendar_po_update ON asset_po;
+CREATE TRIGGER expiry_calendar_po_update
+    AFTER UPDATE ON asset_po
+    REFERENCING OLD TABLE AS old_pos NEW TABLE AS new_pos
+    FOR EACH STATEMENT EXECUTE FUNCTION expiry_calendar_apply_pos();
@@ -0,0 +1,19 @@
+-- Indexes for the server-side asset filter (GET /api/assets with filter criteria). Each is partial on
+-- active assets and ends in asset_id, so an equality or range filter is an index scan that also yields
+-- the default asset_id order. Status, PO number, current user and the warranty/licence buckets are
+-- covered by V19, V21, V25 and V26.
+CREATE INDEX IF NOT EXISTS idx_asset_active_type_id ON asset (asset_type_id, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_make_id ON asset (make_id, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_model_id ON asset (model_id, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_vendor_id ON asset (vendor_id, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_category_id ON asset (asset_category, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_location_id ON asset (inventory_location, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_acquisition_date ON asset (acquisition_date, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_warranty_expiry ON asset (warranty_expiry, asset_id) WHERE deleted = false;
+CREATE INDEX IF NOT EXISTS idx_asset_active_license_validity ON asset (license_validity_period, asset_id)
+    WHERE deleted = false AND license_validity_period IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_asset_active_lease_end ON asset (lease_end_date, asset_id)
+    WHERE deleted = false AND lease_end_date IS NOT NULL;
+
+-- Department filter joins asset.current_user_id to "user"
+CREATE INDEX IF NOT EXISTS idx_user_department ON "user" (department);
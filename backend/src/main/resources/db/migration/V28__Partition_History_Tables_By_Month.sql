@@ -0,0 +1,119 @@
+-- Monthly range partitioning for the append-only history tables: audit_log by action_date,
+-- asset_status_history by change_date and asset_assignment_history by assigned_date.
+--
+-- Each month is its own table named <table>_pYYYY_MM, so date-bounded queries prune to the months
+-- they touch, autovacuum and index maintenance work on one month at a time, and retention
+-- (HistoryPartitionServiceImpl) archives and drops whole months instead of deleting rows.
+-- A DEFAULT partition catches rows outside the months created so far.
+
+-- Create the monthly partitions of parent for every month in [from_month, to_month] that does not
+-- exist yet. Rows that already landed in the DEFAULT partition for such a month are moved into the new
+-- partition, since PostgreSQL refuses to add a partition that overlaps rows in the default one.
+CREATE OR REPLACE FUNCTION create_monthly_partitions(parent TEXT, key_column TEXT, from_month DATE, to_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    month_end DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_month LOOP
+        month_end := (month_start + interval '1 month')::date;
+        partition_name := format('%s_p%s', parent, to_char(month_start, 'YYYY_MM'));
+
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name, parent);
+            IF to_regclass(parent || '_default') IS NOT NULL THEN
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved',
+                               parent || '_default', key_column, month_start, key_column, month_end, partition_name);
+            END IF;
+            EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           parent, partition_name, month_start, month_end);
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rebuild each table as a partitioned table and copy its rows across. The ID sequences are detached
+-- first so dropping the old table keeps them, and reattached to the new table afterwards.
+DO $$
+DECLARE
+    target RECORD;
+    old_table TEXT;
+    first_month DATE;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('audit_log', 'log_id', 'action_date', 'audit_log_log_id_seq'),
+            ('asset_status_history', 'history_id', 'change_date', 'asset_status_history_history_id_seq'),
+            ('asset_assignment_history', 'assignment_id', 'assigned_date', 'asset_assignment_history_assignment_id_seq')
+        ) AS t(table_name, id_column, key_column, sequence_name)
+    LOOP
+        IF EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(target.table_name)) THEN
+            CONTINUE;
+        END IF;
+
+        old_table := target.table_name || '_unpartitioned';
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', target.table_name, old_table);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY NONE', target.sequence_name);
+
+        -- The partition key becomes part of the primary key, so it must be set. The application always
+        -- fills it; any legacy row without one is filed under the oldest month present.
+        EXECUTE format('UPDATE %1$I SET %2$I = COALESCE((SELECT MIN(%2$I) FROM %1$I), now()) WHERE %2$I IS NULL',
+                       old_table, target.key_column);
+
+        EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS) PARTITION BY RANGE (%I)',
+                       target.table_name, old_table, target.key_column);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I SET NOT NULL', target.table_name, target.key_column);
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I DEFAULT', target.table_name || '_default', target.table_name);
+
+        EXECUTE format('SELECT date_trunc(''month'', MIN(%I))::date FROM %I', target.key_column, old_table) INTO first_month;
+        PERFORM create_monthly_partitions(target.table_name, target.key_column,
+            COALESCE(first_month, date_trunc('month', now())::date),
+            (date_trunc('month', now()) + interval '3 months')::date);
+
+        EXECUTE format('INSERT INTO %I SELECT * FROM %I', target.table_name, old_table);
+        EXECUTE format('DROP TABLE %I', old_table);
+
+        EXECUTE format('ALTER TABLE %I ADD PRIMARY KEY (%I, %I)', target.table_name, target.id_column, target.key_column);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.%I', target.sequence_name, target.table_name, target.id_column);
+    END LOOP;
+END $$;
+
+-- Constraints and indexes dropped with the old tables. Indexes on the parent are created on every
+-- partition, including the ones added later.
+ALTER TABLE audit_log DROP CONSTRAINT IF EXISTS audit_log_asset_id_fkey;
+ALTER TABLE audit_log ADD CONSTRAINT audit_log_asset_id_fkey
+    FOREIGN KEY (asset_id) REFERENCES asset (asset_id) ON DELETE CASCADE;
+ALTER TABLE audit_log DROP CONSTRAINT IF EXISTS audit_log_user_id_fkey;
+ALTER TABLE audit_log ADD CONSTRAINT audit_log_user_id_fkey
+    FOREIGN KEY (user_id) REFERENCES "user" (user_id);
+
+ALTER TABLE asset_status_history DROP CONSTRAINT IF EXISTS asset_status_history_asset_id_fkey;
+ALTER TABLE asset_status_history ADD CONSTRAINT asset_status_history_asset_id_fkey
+    FOREIGN KEY (asset_id) REFERENCES asset (asset_id) ON DELETE CASCADE;
+ALTER TABLE asset_status_history DROP CONSTRAINT IF EXISTS asset_status_history_changed_by_fkey;
+ALTER TABLE asset_status_history ADD CONSTRAINT asset_status_history_changed_by_fkey
+    FOREIGN KEY (changed_by) REFERENCES "user" (user_id);
+
+ALTER TABLE asset_assignment_history DROP CONSTRAINT IF EXISTS asset_assignment_history_asset_id_fkey;
+ALTER TABLE asset_assignment_history ADD CONSTRAINT asset_assignment_history_asset_id_fkey
+    FOREIGN KEY (asset_id) REFERENCES asset (asset_id) ON DELETE CASCADE;
+ALTER TABLE asset_assignment_history DROP CONSTRAINT IF EXISTS asset_assignment_history_user_id_fkey;
+ALTER TABLE asset_assignment_history ADD CONSTRAINT asset_assignment_history_user_id_fkey
+    FOREIGN KEY (user_id) REFERENCES "user" (user_id);
+
+-- Per-asset history (newest first) and the asset delete cascade probe every partition by asset_id
+CREATE INDEX IF NOT EXISTS idx_audit_log_asset_date ON audit_log (asset_id, action_date);
+CREATE INDEX IF NOT EXISTS idx_audit_log_user ON audit_log (user_id);
+CREATE INDEX IF NOT EXISTS idx_asset_status_history_asset_date ON asset_status_history (asset_id, change_date);
+CREATE INDEX IF NOT EXISTS idx_asset_status_history_changed_by ON asset_status_history (changed_by);
+CREATE INDEX IF NOT EXISTS idx_asset_assignment_history_asset_date ON asset_assignment_history (asset_id, assigned_date);
+CREATE INDEX IF NOT EXISTS idx_asset_assignment_history_user ON asset_assignment_history (user_id);
+-- From V25
+CREATE INDEX IF NOT EXISTS idx_asset_assignment_history_open ON asset_assignment_history (asset_id) WHERE unassigned_date IS NULL;
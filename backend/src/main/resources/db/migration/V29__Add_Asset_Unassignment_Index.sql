@@ -0,0 +1,5 @@
+-- The asset timeline reads each history source in (asset_id, timestamp) order and merges them.
+-- audit_log, asset_status_history and assigned_date are covered by the V28 indexes; this one serves
+-- the unassignment events, ordered by unassigned_date.
+CREATE INDEX IF NOT EXISTS idx_asset_assignment_history_asset_unassigned
+    ON asset_assignment_history (asset_id, unassigned_date) WHERE unassigned_date IS NOT NULL;
@@ -0,0 +1,61 @@
+-- Case-insensitive uniqueness of serial number, IT asset code and MAC address among active assets,
+-- enforced by unique partial indexes on LOWER(col). The "LOWER(col) = LOWER(?) AND deleted = false"
+-- duplicate checks become index lookups, and the bulk create paths insert with ON CONFLICT DO NOTHING
+-- and report the rows that were skipped, so uniqueness holds under concurrent imports without
+-- checking every key first. Soft-deleted assets keep their keys without blocking new assets.
+
+-- Blank keys carry no identity and must not collide with each other; Asset and AssetJdbcRepository
+-- store them as NULL from now on
+UPDATE asset SET serial_number = NULL WHERE btrim(serial_number) = '';
+UPDATE asset SET it_asset_code = NULL WHERE btrim(it_asset_code) = '';
+UPDATE asset SET mac_address = NULL WHERE btrim(mac_address) = '';
+
+-- Existing duplicates would make the index builds fail with a bare error. List a few per key so they
+-- can be merged or soft-deleted before rerunning the migration.
+DO $$
+DECLARE
+    target RECORD;
+    examples TEXT;
+    problems TEXT := '';
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES ('serial_number'), ('it_asset_code'), ('mac_address')) AS t(column_name)
+    LOOP
+        EXECUTE format('SELECT string_agg(format(''%%s (asset_id %%s)'', k, ids), ''; '') FROM ('
+                       '  SELECT LOWER(%1$I) AS k, string_agg(asset_id::text, '','' ORDER BY asset_id) AS ids'
+                       '  FROM asset WHERE deleted = false AND %1$I IS NOT NULL'
+                       '  GROUP BY LOWER(%1$I) HAVING COUNT(*) > 1 ORDER BY LOWER(%1$I) LIMIT 10) d',
+                       target.column_name) INTO examples;
+        IF examples IS NOT NULL THEN
+            problems := problems || format(E'\n  %s: %s', target.column_name, examples);
+        END IF;
+    END LOOP;
+
+    IF problems <> '' THEN
+        RAISE EXCEPTION 'Active assets share case-insensitive unique keys; resolve them before applying V30:%', problems;
+    END IF;
+END $$;
+
+-- Case-sensitive unique constraints that schema generation may have created from @Column(unique = true)
+-- also cover soft-deleted rows, which contradicts the rule above
+DO $$
+DECLARE
+    legacy RECORD;
+BEGIN
+    FOR legacy IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.conrelid = 'asset'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname IN ('serial_number', 'it_asset_code', 'mac_address')
+    LOOP
+        EXECUTE format('ALTER TABLE asset DROP CONSTRAINT %I', legacy.conname);
+    END LOOP;
+END $$;
+
+-- Constraint names are mapped back to fields by AssetJdbcRepository.UniqueKey
+CREATE UNIQUE INDEX IF NOT EXISTS uq_asset_serial_number_active ON asset (LOWER(serial_number)) WHERE deleted = false;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_asset_it_asset_code_active ON asset (LOWER(it_asset_code)) WHERE deleted = false;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_asset_mac_address_active ON asset (LOWER(mac_address)) WHERE deleted = false;
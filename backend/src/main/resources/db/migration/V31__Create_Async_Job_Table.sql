@@ -0,0 +1,30 @@
+-- Background jobs for long-running bulk and export operations (JobRunner).
+--
+-- The request is stored as JSON and processed in chunks, each in its own transaction. A chunk's
+-- effects, its checkpoint (next item index, or last exported asset_id) and the committed length of
+-- the result file are committed together, so a job picked up again after a restart continues with
+-- the first chunk that did not commit. A worker owns a job while it keeps heartbeat_at fresh; a job
+-- whose heartbeat goes stale is claimed by the next poll, on this instance or another.
+CREATE TABLE IF NOT EXISTS async_job (
+    job_id BIGSERIAL PRIMARY KEY,
+    job_type VARCHAR(40) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    total_items BIGINT NOT NULL DEFAULT 0,
+    processed_items BIGINT NOT NULL DEFAULT 0,
+    succeeded_items BIGINT NOT NULL DEFAULT 0,
+    failed_items BIGINT NOT NULL DEFAULT 0,
+    checkpoint BIGINT NOT NULL DEFAULT 0,
+    result_bytes BIGINT NOT NULL DEFAULT 0,
+    error_message TEXT,
+    owner VARCHAR(100),
+    heartbeat_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- Poll for queued jobs and jobs whose worker stopped heartbeating
+CREATE INDEX IF NOT EXISTS idx_async_job_pending ON async_job (job_id) WHERE status IN ('QUEUED', 'RUNNING');
+-- Retention purge of finished jobs
+CREATE INDEX IF NOT EXISTS idx_async_job_finished ON async_job (finished_at) WHERE finished_at IS NOT NULL;
@@ -0,0 +1,42 @@
+package com.inventory.system.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Map-backed stand-in for a Spring Data repository interface, so services can be exercised
+ * without a database. Supports id lookups only: findById and the findByIdWith... fetch-join
+ * variants return the stored row, existsById checks for it. Anything else throws.
+ */
+public final class InMemoryRepository {
+
+    private InMemoryRepository() {
+    }
+
+    public static <R, T> R of(Class<R> repositoryType, Map<Long, T> rows) {
+        Map<Long, T> store = new HashMap<>(rows);
+        Object proxy = Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[] {repositoryType},
+            (instance, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("findById") && args != null && args.length == 1) {
+                    return Optional.ofNullable(store.get((Long) args[0]));
+                }
+                if (name.equals("existsById")) {
+                    return store.containsKey((Long) args[0]);
+                }
+                if (name.equals("toString")) {
+                    return "InMemoryRepository(" + repositoryType.getSimpleName() + ")";
+                }
+                if (name.equals("hashCode")) {
+                    return System.identityHashCode(instance);
+                }
+                if (name.equals("equals")) {
+                    return instance == args[0];
+                }
+                throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + name + " is not stubbed");
+            });
+        return repositoryType.cast(proxy);
+    }
+}
@@ -0,0 +1,90 @@
+package com.inventory.system.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Minimal throughput/allocation harness for per-row hot paths. Each benchmark runs a number of
+ * timed warmup iterations followed by measured iterations on the calling thread; the result of
+ * every invocation is folded into a sink so the JIT cannot eliminate the work.
+ *
+ * Allocation is read from the HotSpot per-thread allocation counter, so bytes/op is exact for
+ * the benchmark thread and excludes allocations made by other threads.
+ */
+public class MicroBenchmark {
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final List<Result> results = new ArrayList<>();
+
+    private int sink;
+
+    public MicroBenchmark(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    public Result run(String name, Supplier<?> operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(operation);
+        }
+
+        long operations = 0;
+        long elapsedNanos = 0;
+        long allocatedBytes = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            operations += iterate(operation);
+            elapsedNanos += System.nanoTime() - start;
+            allocatedBytes += allocatedBytes() - allocatedBefore;
+        }
+
+        Result result = new Result(name,
+            operations * 1_000_000_000.0 / elapsedNanos,
+            operations == 0 ? 0 : (double) allocatedBytes / operations,
+            allocatedBytes * 1_000_000_000.0 / elapsedNanos / (1024 * 1024));
+        results.add(result);
+        return result;
+    }
+
+    public List<Result> results() {
+        return results;
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder(String.format("%-40s %15s %12s %12s%n", "Benchmark", "ops/s", "B/op", "MB/s alloc"));
+        for (Result result : results) {
+            report.append(String.format("%-40s %15.0f %12.1f %12.1f%n",
+                result.name(), result.opsPerSecond(), result.bytesPerOp(), result.allocationMbPerSecond()));
+        }
+        return report.toString();
+    }
+
+    private long iterate(Supplier<?> operation) {
+        long deadline = System.nanoTime() + iterationNanos;
+        long operations = 0;
+        int local = 0;
+        do {
+            // Check the clock every 256 calls so timing does not dominate very cheap operations
+            for (int i = 0; i < 256; i++) {
+                Object value = operation.get();
+                local += value != null ? System.identityHashCode(value) : 1;
+            }
+            operations += 256;
+        } while (System.nanoTime() < deadline);
+        sink += local;
+        return operations;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    public record Result(String name, double opsPerSecond, double bytesPerOp, double allocationMbPerSecond) {
+    }
+}
@@ -0,0 +1,188 @@
+package com.inventory.system.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.JobDTO;
+import com.inventory.system.enums.JobStatus;
+import com.inventory.system.enums.JobType;
+import com.inventory.system.model.AssetModel;
+import com.inventory.system.model.AsyncJob;
+import com.inventory.system.repository.AssetRepository;
+import com.inventory.system.repository.AsyncJobRepository;
+import com.inventory.system.service.JobService;
+import com.inventory.system.support.AssetFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the resume path of the job runner: a job handed back between chunks continues after its last
+ * committed chunk, result bytes past the committed length are cut off, and a bulk job whose result file
+ * is gone on takeover fails instead of replaying committed chunks.
+ *
+ * Runs without a surrounding test transaction so every chunk really commits in the runner's own
+ * transactions; the rows created are deleted afterwards. The runner is driven directly: the scheduled
+ * poll is pushed out of the way and each job is claimed in the transaction that submits it, so neither
+ * the after-commit dispatch nor a poller finds it runnable; a handed-back job is reclaimed straight away.
+ */
+@SpringBootTest(properties = {"jobs.chunk-size=2", "jobs.poll-interval-ms=3600000"})
+@ActiveProfiles("test")
+public class JobRunnerResumeTest {
+
+    private static final int ASSET_COUNT = 5;
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private AsyncJobRepository asyncJobRepository;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetFixtures assetFixtures;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private String suffix;
+    private String poNumber;
+    private AssetModel model;
+    private Long jobId;
+
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        suffix = UUID.randomUUID().toString();
+        poNumber = "PO-JOB-" + suffix;
+        assetFixtures.createPO(poNumber);
+        model = assetFixtures.createModel("Job " + suffix);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (jobId != null) {
+            Files.deleteIfExists(jobRunner.resultFile(jobId));
+            transactionTemplate.executeWithoutResult(status -> asyncJobRepository.deleteJobs(List.of(jobId)));
+        }
+        assetFixtures.deletePOWithAssets(poNumber);
+        if (model != null) {
+            assetFixtures.deleteModel(model);
+        }
+    }
+
+    @Test
+    public void testHandedBackJobResumesAfterLastCommittedChunk() throws IOException {
+        jobId = submitAndClaimBulkCreate();
+        Path file = jobRunner.resultFile(jobId);
+
+        jobRunner.run(jobId, 1);
+
+        AsyncJob handedBack = reload(jobId);
+        assertEquals(JobStatus.QUEUED, handedBack.getStatus());
+        assertEquals(2, handedBack.getCheckpoint());
+        assertEquals(2, handedBack.getProcessedItems());
+        assertEquals(2, handedBack.getSucceededItems());
+        assertEquals(handedBack.getResultBytes(), Files.size(file));
+        assertEquals(2, Files.readAllLines(file).size());
+
+        // Output of a chunk that was written but never committed
+        Files.writeString(file, "{\"index\":2,", StandardOpenOption.APPEND);
+
+        assertTrue(jobRunner.claim(jobId, LocalDateTime.now()));
+        jobRunner.run(jobId, Integer.MAX_VALUE);
+
+        AsyncJob finished = reload(jobId);
+        assertEquals(JobStatus.SUCCEEDED, finished.getStatus());
+        assertEquals(ASSET_COUNT, finished.getTotalItems());
+        assertEquals(ASSET_COUNT, finished.getCheckpoint());
+        assertEquals(ASSET_COUNT, finished.getProcessedItems());
+        assertEquals(ASSET_COUNT, finished.getSucceededItems());
+        assertEquals(0, finished.getFailedItems());
+        assertNotNull(finished.getFinishedAt());
+        assertEquals(finished.getResultBytes(), Files.size(file));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(ASSET_COUNT, lines.size());
+        for (int i = 0; i < ASSET_COUNT; i++) {
+            JobItemResult line = objectMapper.readValue(lines.get(i), JobItemResult.class);
+            assertEquals(i, line.index());
+            assertEquals(JobItemResult.CREATED, line.status());
+            assertNotNull(line.assetId());
+        }
+        assertEquals(ASSET_COUNT, assetRepository.findByPoNumber(poNumber).size());
+
+        JobDTO status = jobService.getJob(jobId);
+        assertEquals(100, status.getProgressPercent());
+        assertEquals("/api/jobs/" + jobId + "/result", status.getResultUrl());
+    }
+
+    @Test
+    public void testBulkJobWithLostResultFileFailsOnTakeover() throws IOException {
+        jobId = submitAndClaimBulkCreate();
+
+        jobRunner.run(jobId, 1);
+
+        // Taken over by an instance that does not see the result file
+        Files.delete(jobRunner.resultFile(jobId));
+
+        assertTrue(jobRunner.claim(jobId, LocalDateTime.now()));
+        jobRunner.run(jobId, Integer.MAX_VALUE);
+
+        AsyncJob failed = reload(jobId);
+        assertEquals(JobStatus.FAILED, failed.getStatus());
+        assertTrue(failed.getErrorMessage().contains("jobs.result-dir"), failed.getErrorMessage());
+        // The committed chunk is not replayed
+        assertEquals(2, failed.getProcessedItems());
+        assertEquals(2, assetRepository.findByPoNumber(poNumber).size());
+    }
+
+    private Long submitAndClaimBulkCreate() {
+        List<AssetRequestDTO> requests = new ArrayList<>(ASSET_COUNT);
+        for (int i = 0; i < ASSET_COUNT; i++) {
+            AssetRequestDTO request = new AssetRequestDTO();
+            request.setName("Job Asset " + i);
+            request.setSerialNumber("JOB-SN-" + suffix + "-" + i);
+            request.setAssetCategory("HARDWARE");
+            request.setStatus("IN_STOCK");
+            request.setModelId(model.getId());
+            requests.add(request);
+        }
+
+        return transactionTemplate.execute(status -> {
+            JobDTO job = jobService.submit(JobType.ASSET_BULK_CREATE_BY_PO,
+                new AssetBulkCreateByPOJobHandler.Request(poNumber, requests));
+            assertEquals(JobStatus.QUEUED, job.getStatus());
+            assertTrue(jobRunner.claim(job.getId(), LocalDateTime.now()));
+            return job.getId();
+        });
+    }
+
+    private AsyncJob reload(Long id) {
+        return asyncJobRepository.findById(id).orElseThrow();
+    }
+}
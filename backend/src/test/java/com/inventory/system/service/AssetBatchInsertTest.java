@@ -0,0 +1,257 @@
+package com.inventory.system.service;
+
+import com.inventory.system.dto.AssetDTO;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.dto.BulkAssetByPOResponse;
+import com.inventory.system.repository.AssetRepository;
+import com.inventory.system.support.AssetFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards JDBC insert batching on the bulk create path: IDs come from one sequence block reservation
+ * and the INSERTs are sent as JDBC batches, so a PO import executes one batch per
+ * {@code BULK_INSERT_BATCH_SIZE} assets and no single-row INSERTs. Statements are counted on the
+ * DataSource, where both Hibernate and JdbcTemplate traffic is visible. Rows whose keys are already
+ * taken are skipped by ON CONFLICT and reported.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class AssetBatchInsertTest {
+
+    private static final int ASSET_COUNT = 1000;
+
+    // AssetServiceImpl.BULK_INSERT_BATCH_SIZE
+    private static final int BULK_INSERT_BATCH_SIZE = 500;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetFixtures assetFixtures;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String suffix;
+
+    @BeforeEach
+    public void setUp() {
+        suffix = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void testCreateAssetsByPOBatchesInserts() {
+        String poNumber = "PO-BATCH-" + suffix;
+        Long modelId = assetFixtures.createModel("Batch " + suffix).getId();
+        assetFixtures.createPO(poNumber);
+
+        List<AssetRequestDTO> requests = new ArrayList<>(ASSET_COUNT);
+        for (int i = 0; i < ASSET_COUNT; i++) {
+            AssetRequestDTO request = new AssetRequestDTO();
+            request.setName("Batch Asset " + i);
+            request.setSerialNumber("BATCH-SN-" + suffix + "-" + i);
+            request.setAssetCategory("HARDWARE");
+            request.setStatus("IN_STOCK");
+            request.setModelId(modelId);
+            requests.add(request);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        StatementCountingDataSource statements = dataSource.unwrap(StatementCountingDataSource.class);
+        statements.reset();
+
+        BulkAssetByPOResponse response = assetService.createAssetsByPO(poNumber, requests);
+
+        assertEquals(ASSET_COUNT, response.getCreatedCount());
+        assertEquals(0, response.getFailedCount());
+        assertEquals(ASSET_COUNT, assetRepository.findByPoNumber(poNumber).size());
+        assertEquals(ASSET_COUNT, response.getCreatedAssets().stream().map(AssetDTO::getAssetId).distinct().count());
+
+        // The asset and audit INSERTs each go out as ASSET_COUNT / BULK_INSERT_BATCH_SIZE JDBC batches;
+        // an INSERT executed per row would show up as thousands of executeUpdate calls
+        int batches = ASSET_COUNT / BULK_INSERT_BATCH_SIZE;
+        assertEquals(batches, statements.batches("INSERT INTO asset "), statements.toString());
+        assertEquals(batches, statements.batches("INSERT INTO audit_log "), statements.toString());
+        assertEquals(0, statements.updates("INSERT INTO asset "), statements.toString());
+        assertEquals(0, statements.updates("INSERT INTO audit_log "), statements.toString());
+        assertTrue(statements.totalUpdates() < ASSET_COUNT / 10, statements.toString());
+    }
+
+    @Test
+    public void testCreateAssetsByPOReportsExistingKeys() {
+        String poNumber = "PO-CONFLICT-" + suffix;
+        Long modelId = assetFixtures.createModel("Batch " + suffix).getId();
+        assetFixtures.createPO(poNumber);
+
+        assetService.createAssetsByPO(poNumber, List.of(request("Existing", "CONFLICT-SN-" + suffix, modelId)));
+
+        // Same serial number in another case, plus one new asset
+        BulkAssetByPOResponse response = assetService.createAssetsByPO(poNumber, List.of(
+            request("Duplicate", "conflict-sn-" + suffix, modelId),
+            request("Fresh", "FRESH-SN-" + suffix, modelId)));
+
+        assertEquals(1, response.getCreatedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals("Fresh", response.getCreatedAssets().get(0).getName());
+
+        BulkAssetByPOResponse.BulkAssetError error = response.getErrors().get(0);
+        assertEquals(0, error.getIndex());
+        assertEquals("duplicate", error.getField());
+        assertTrue(error.getMessage().startsWith("Serial number already exists"), error.getMessage());
+        assertEquals(2, assetRepository.findByPoNumber(poNumber).size());
+    }
+
+    private AssetRequestDTO request(String name, String serialNumber, Long modelId) {
+        AssetRequestDTO request = new AssetRequestDTO();
+        request.setName(name);
+        request.setSerialNumber(serialNumber);
+        request.setAssetCategory("HARDWARE");
+        request.setStatus("IN_STOCK");
+        request.setModelId(modelId);
+        return request;
+    }
+
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                    // Only the application-facing DataSource, so each statement is counted once
+                    return "dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        ? new StatementCountingDataSource(dataSource)
+                        : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Counts {@code executeBatch} and {@code executeUpdate} calls per SQL string on the prepared
+     * statements of every connection it hands out.
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private final Map<String, AtomicInteger> batches = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> updates = new ConcurrentHashMap<>();
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        void reset() {
+            batches.clear();
+            updates.clear();
+        }
+
+        int batches(String sqlPrefix) {
+            return count(batches, sqlPrefix);
+        }
+
+        int updates(String sqlPrefix) {
+            return count(updates, sqlPrefix);
+        }
+
+        int totalUpdates() {
+            return count(updates, "");
+        }
+
+        private static int count(Map<String, AtomicInteger> counts, String sqlPrefix) {
+            return counts.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(sqlPrefix))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return countingConnection(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return countingConnection(super.getConnection(username, password));
+        }
+
+        private Connection countingConnection(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return countingStatement(statement, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement countingStatement(PreparedStatement statement, String sql) {
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                switch (method.getName()) {
+                    case "executeBatch" -> batches.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+                    case "executeUpdate", "executeLargeUpdate" ->
+                        updates.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+                    default -> { }
+                }
+                return result;
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+                return handler.handle(method, args, result);
+            }));
+        }
+
+        @Override
+        public String toString() {
+            return "batches=" + batches + ", updates=" + updates;
+        }
+
+        @FunctionalInterface
+        private interface ResultHandler {
+            Object handle(Method method, Object[] args, Object result) throws SQLException;
+        }
+    }
+}
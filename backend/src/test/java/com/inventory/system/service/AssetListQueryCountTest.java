@@ -0,0 +1,190 @@
+package com.inventory.system.service;
+
+import com.inventory.system.dto.AssetDashboardDTO;
+import com.inventory.system.dto.PageResponse;
+import com.inventory.system.model.*;
+import com.inventory.system.repository.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the list and dashboard endpoints against N+1 lazy loading: the number of SQL statements
+ * for one page must not grow with the number of rows on it.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+public class AssetListQueryCountTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetAssignmentManagementService assignmentManagementService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetTypeRepository assetTypeRepository;
+
+    @Autowired
+    private AssetMakeRepository assetMakeRepository;
+
+    @Autowired
+    private AssetModelRepository assetModelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AssetTagRepository assetTagRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private String poNumber;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        poNumber = "PO-QC-" + UUID.randomUUID();
+    }
+
+    @Test
+    public void testDashboardPageStatementCountIsIndependentOfRowCount() {
+        createAssets(3);
+        long fewRows = countStatements(() -> assignmentManagementService.getAssetDashboard(firstPage()));
+
+        createAssets(20);
+        long manyRows = countStatements(() -> {
+            PageResponse<AssetDashboardDTO> page = assignmentManagementService.getAssetDashboard(firstPage());
+            assertFalse(page.getContent().isEmpty());
+        });
+
+        // rows + count + tags
+        assertTrue(manyRows <= 3, "Dashboard page issued " + manyRows + " statements");
+        assertEquals(fewRows, manyRows);
+    }
+
+    @Test
+    public void testDashboardCursorPageStatementCountIsIndependentOfRowCount() {
+        createAssets(3);
+        long fewRows = countStatements(() ->
+            assignmentManagementService.getAssetDashboardByCursor(null, null, firstPage(), false));
+
+        createAssets(20);
+        long manyRows = countStatements(() ->
+            assignmentManagementService.getAssetDashboardByCursor(null, null, firstPage(), false));
+
+        // keyset window + rows + tags
+        assertTrue(manyRows <= 3, "Dashboard cursor page issued " + manyRows + " statements");
+        assertEquals(fewRows, manyRows);
+    }
+
+    @Test
+    public void testAssetListPageStatementCountIsIndependentOfRowCount() {
+        createAssets(3);
+        long fewRows = countStatements(() -> assetService.getAllAssets(firstPage()));
+
+        createAssets(20);
+        long manyRows = countStatements(() -> assetService.getAllAssets(firstPage()));
+
+        // rows + count
+        assertTrue(manyRows <= 2, "Asset list page issued " + manyRows + " statements");
+        assertEquals(fewRows, manyRows);
+    }
+
+    @Test
+    public void testAssetsByPONumberLoadsTagsInOneBatch() {
+        createAssets(3);
+        long fewRows = countStatements(() -> assertEquals(3, assetService.getAssetsByPONumber(poNumber).size()));
+
+        createAssets(20);
+        long manyRows = countStatements(() -> {
+            var assets = assetService.getAssetsByPONumber(poNumber);
+            assertEquals(23, assets.size());
+            assertTrue(assets.stream().allMatch(asset -> asset.getAssignedTags() != null && !asset.getAssignedTags().isEmpty()));
+        });
+
+        assertEquals(fewRows, manyRows);
+    }
+
+    private PageRequest firstPage() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "assetId"));
+    }
+
+    /**
+     * Run the action against an empty persistence context and return the statements it prepared
+     */
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createAssets(int count) {
+        String suffix = UUID.randomUUID().toString();
+
+        AssetType type = new AssetType();
+        type.setName("QC Type " + suffix);
+        type.setAssetCategory("HARDWARE");
+        type = assetTypeRepository.save(type);
+
+        AssetMake make = new AssetMake();
+        make.setName("QC Make " + suffix);
+        make.setAssetType(type);
+        make = assetMakeRepository.save(make);
+
+        AssetModel model = new AssetModel();
+        model.setName("QC Model " + suffix);
+        model.setMake(make);
+        model = assetModelRepository.save(model);
+
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setFullNameOrOfficeName("QC User " + i);
+            user.setEmployeeCode("QC-" + suffix + "-" + i);
+            user.setDepartment("QC");
+            user = userRepository.save(user);
+
+            AssetTag tag = new AssetTag();
+            tag.setName("qc-" + suffix + "-" + i);
+            tag = assetTagRepository.save(tag);
+
+            Asset asset = new Asset();
+            asset.setName("QC Asset " + i);
+            asset.setSerialNumber("QC-SN-" + suffix + "-" + i);
+            asset.setStatus("IN_STOCK");
+            asset.setAssetCategory("HARDWARE");
+            asset.setPoNumber(poNumber);
+            asset.setAssetType(type);
+            asset.setMake(make);
+            asset.setModel(model);
+            asset.setCurrentUser(user);
+            asset.setAssignedTags(new HashSet<>());
+            asset.getAssignedTags().add(tag);
+            assetRepository.save(asset);
+        }
+    }
+}
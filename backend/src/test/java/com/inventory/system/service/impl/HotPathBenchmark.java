@@ -0,0 +1,250 @@
+package com.inventory.system.service.impl;
+
+import com.inventory.system.benchmark.InMemoryRepository;
+import com.inventory.system.benchmark.MicroBenchmark;
+import com.inventory.system.cache.ReferenceDataCache;
+import com.inventory.system.dto.AssetReportDTO;
+import com.inventory.system.dto.AssetRequestDTO;
+import com.inventory.system.mapper.AssetMapper;
+import com.inventory.system.model.*;
+import com.inventory.system.repository.*;
+import com.inventory.system.validation.AssetValidationService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput and allocation benchmarks for the per-row paths of list, import and export:
+ * entity/DTO mapping, status normalization, computed warranty/license status, report DTO
+ * conversion and CSV row encoding. Repositories are in-memory stubs, so no database is needed.
+ *
+ * Skipped unless -Dbenchmarks=true. Results are printed and written to target/benchmarks/hot-paths.properties;
+ * pass -Dbenchmarks.baseline=&lt;file&gt; with a previous results file to fail on throughput regressions
+ * larger than -Dbenchmarks.tolerance (default 0.25).
+ *
+ *   mvn test -Dtest=HotPathBenchmark -Dbenchmarks=true -Dbenchmarks.baseline=benchmarks/hot-paths.properties
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+public class HotPathBenchmark {
+
+    private static final int ROWS = 1024;
+    private static final int ROW_MASK = ROWS - 1;
+
+    @Test
+    public void benchmarkHotPaths() throws Exception {
+        AssetServiceImpl assetService = withNullDependencies(AssetServiceImpl.class);
+        AssetAnalyticsServiceImpl analyticsService = withNullDependencies(AssetAnalyticsServiceImpl.class);
+        AssetMapper assetMapper = stubbedMapper();
+
+        List<Asset> assets = new ArrayList<>(ROWS);
+        List<AssetRequestDTO> requests = new ArrayList<>(ROWS);
+        List<AssetReportDTO> reportRows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Asset asset = sampleAsset(i);
+            assets.add(asset);
+            requests.add(sampleRequest(i));
+            reportRows.add(analyticsService.convertToReportDTO(asset));
+        }
+        String[] statuses = {"In stock", "active", "IN_REPAIR", " Broken ", "ceased", "in_stock"};
+        AssetValidationService.AssetValidationContext context = new AssetValidationService.AssetValidationContext();
+        context.setResolvedTypeId(1L);
+        context.setResolvedMakeId(1L);
+        context.setResolvedOsId(1L);
+        context.setResolvedVendorId(1L);
+
+        MicroBenchmark benchmark = new MicroBenchmark(
+            Integer.getInteger("benchmarks.warmup", 3),
+            Integer.getInteger("benchmarks.iterations", 5),
+            Long.getLong("benchmarks.iteration-ms", 500));
+
+        int[] row = new int[1];
+        benchmark.run("AssetMapper.toDTO", () -> assetMapper.toDTO(assets.get(row[0]++ & ROW_MASK)));
+        benchmark.run("AssetMapper.toEntityWithContext", () -> assetMapper.toEntityWithContext(requests.get(row[0]++ & ROW_MASK), context));
+        benchmark.run("AssetServiceImpl.convertToDTO", () -> assetService.convertToDTO(assets.get(row[0]++ & ROW_MASK)));
+        benchmark.run("AssetServiceImpl.normalizeStatus", () -> assetService.normalizeStatus(statuses[row[0]++ % statuses.length]));
+        benchmark.run("Asset.getWarrantyStatus", () -> assets.get(row[0]++ & ROW_MASK).getWarrantyStatus());
+        benchmark.run("Asset.getLicenseStatus", () -> assets.get(row[0]++ & ROW_MASK).getLicenseStatus());
+        benchmark.run("AssetAnalyticsServiceImpl.convertToReportDTO", () -> analyticsService.convertToReportDTO(assets.get(row[0]++ & ROW_MASK)));
+
+        AssetCsvWriter csvWriter = new AssetCsvWriter(Writer.nullWriter());
+        benchmark.run("AssetCsvWriter.writeRow", () -> {
+            try {
+                csvWriter.writeRow(reportRows.get(row[0]++ & ROW_MASK));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return csvWriter;
+        });
+
+        System.out.println(benchmark.report());
+
+        Properties results = new Properties();
+        for (MicroBenchmark.Result result : benchmark.results()) {
+            results.setProperty(result.name(), String.format("%.0f", result.opsPerSecond()));
+        }
+        Path output = Path.of("target", "benchmarks", "hot-paths.properties");
+        Files.createDirectories(output.getParent());
+        try (Writer writer = Files.newBufferedWriter(output)) {
+            results.store(writer, "HotPathBenchmark ops/s");
+        }
+
+        String baselineFile = System.getProperty("benchmarks.baseline");
+        if (baselineFile != null) {
+            assertNoRegressions(benchmark.results(), Path.of(baselineFile),
+                Double.parseDouble(System.getProperty("benchmarks.tolerance", "0.25")));
+        }
+    }
+
+    private static void assertNoRegressions(List<MicroBenchmark.Result> results, Path baselineFile, double tolerance) throws IOException {
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselineFile)) {
+            baseline.load(in);
+        }
+
+        List<String> regressions = new ArrayList<>();
+        for (MicroBenchmark.Result result : results) {
+            String expected = baseline.getProperty(result.name());
+            if (expected != null && result.opsPerSecond() < Double.parseDouble(expected) * (1 - tolerance)) {
+                regressions.add(String.format("%s: %.0f ops/s vs baseline %s", result.name(), result.opsPerSecond(), expected));
+            }
+        }
+        assertTrue(regressions.isEmpty(), "Throughput regressions: " + regressions);
+    }
+
+    /**
+     * The benchmarked methods never touch the injected collaborators, so every constructor argument is null
+     */
+    private static <T> T withNullDependencies(Class<T> type) throws ReflectiveOperationException {
+        Constructor<?> constructor = type.getDeclaredConstructors()[0];
+        return type.cast(constructor.newInstance(new Object[constructor.getParameterCount()]));
+    }
+
+    private static AssetMapper stubbedMapper() {
+        AssetType type = new AssetType();
+        type.setId(1L);
+        type.setName("Laptop");
+        AssetMake make = new AssetMake();
+        make.setId(1L);
+        make.setName("Dell");
+        make.setAssetType(type);
+        AssetModel model = new AssetModel();
+        model.setId(1L);
+        model.setName("Latitude 5440");
+        model.setMake(make);
+        OS os = new OS();
+        os.setId(1L);
+        os.setOsType("Windows");
+        OSVersion osVersion = new OSVersion();
+        osVersion.setId(1L);
+        osVersion.setOs(os);
+        osVersion.setVersionNumber("11 23H2");
+        Vendor vendor = new Vendor();
+        vendor.setId(1L);
+        vendor.setName("Acme Supplies");
+        User user = new User();
+        user.setId(1L);
+        user.setFullNameOrOfficeName("Jordan Lee");
+        user.setDepartment("Finance");
+
+        ReferenceDataCache referenceDataCache = new ReferenceDataCache(
+            InMemoryRepository.of(AssetTypeRepository.class, Map.of(1L, type)),
+            InMemoryRepository.of(AssetMakeRepository.class, Map.of(1L, make)),
+            InMemoryRepository.of(AssetModelRepository.class, Map.of(1L, model)),
+            InMemoryRepository.of(OSRepository.class, Map.of(1L, os)),
+            InMemoryRepository.of(OSVersionRepository.class, Map.of(1L, osVersion)),
+            InMemoryRepository.of(VendorRepository.class, Map.of(1L, vendor)),
+            1000, 3600);
+        return new AssetMapper(InMemoryRepository.of(UserRepository.class, Map.of(1L, user)), referenceDataCache);
+    }
+
+    private static Asset sampleAsset(int i) {
+        AssetType type = new AssetType();
+        type.setId(1L);
+        type.setName("Laptop");
+        AssetMake make = new AssetMake();
+        make.setId(1L);
+        make.setName("Dell");
+        AssetModel model = new AssetModel();
+        model.setId(1L);
+        model.setName("Latitude 5440");
+        User user = new User();
+        user.setId((long) i);
+        user.setFullNameOrOfficeName("User " + i);
+        user.setDepartment(i % 2 == 0 ? "Finance" : "Engineering, Platform");
+        user.setDesignation("Analyst");
+        OS os = new OS();
+        os.setId(1L);
+        os.setOsType("Windows");
+        Vendor vendor = new Vendor();
+        vendor.setId(1L);
+        vendor.setName("Acme \"Global\" Supplies");
+        AssetTag tag = new AssetTag();
+        tag.setId((long) (i % 7));
+        tag.setName("floor-" + (i % 7));
+
+        Asset asset = new Asset();
+        asset.setAssetId((long) i);
+        asset.setName("Laptop " + i);
+        asset.setSerialNumber("SN-" + i);
+        asset.setItAssetCode("IT-" + i);
+        asset.setMacAddress("AA:BB:CC:DD:EE:" + String.format("%02X", i & 0xFF));
+        asset.setStatus(i % 3 == 0 ? "ACTIVE" : "IN_STOCK");
+        asset.setAssetCategory(i % 5 == 0 ? "SOFTWARE" : "HARDWARE");
+        asset.setOwnerType("Celcom");
+        asset.setAcquisitionType("Bought");
+        asset.setInventoryLocation("HQ");
+        asset.setPoNumber("PO-" + (i / 50));
+        asset.setInvoiceNumber("INV-" + i);
+        asset.setAcquisitionDate(LocalDate.now().minusDays(i));
+        asset.setWarrantyExpiry(i % 4 == 0 ? null : LocalDate.now().plusDays(i - ROWS / 2));
+        asset.setLicenseName(i % 5 == 0 ? "Office 365" : null);
+        asset.setLicenseValidityPeriod(i % 5 == 0 ? LocalDate.now().plusDays(i % 90) : null);
+        asset.setAcquisitionPrice(BigDecimal.valueOf(1200 + i));
+        asset.setCurrentPrice(BigDecimal.valueOf(800 + i));
+        asset.setAssetType(type);
+        asset.setMake(make);
+        asset.setModel(model);
+        asset.setCurrentUser(user);
+        asset.setOs(os);
+        asset.setVendor(vendor);
+        asset.getAssignedTags().add(tag);
+        asset.setCreatedAt(LocalDateTime.now());
+        asset.setUpdatedAt(LocalDateTime.now());
+        return asset;
+    }
+
+    private static AssetRequestDTO sampleRequest(int i) {
+        AssetRequestDTO request = new AssetRequestDTO();
+        request.setName("Laptop " + i);
+        request.setSerialNumber("SN-" + i);
+        request.setItAssetCode("IT-" + i);
+        request.setAssetCategory("HARDWARE");
+        request.setStatus(i % 2 == 0 ? "In stock" : "Active");
+        request.setOwnerType("Celcom");
+        request.setAcquisitionType("Bought");
+        request.setModelId(1L);
+        request.setOsVersionId(1L);
+        request.setCurrentUserId(1L);
+        request.setPoNumber("PO-" + (i / 50));
+        request.setAcquisitionDate(LocalDate.now().minusDays(i));
+        request.setAcquisitionPrice(BigDecimal.valueOf(1200 + i));
+        return request;
+    }
+}
@@ -0,0 +1,73 @@
+package com.inventory.system.support;
+
+import com.inventory.system.model.AssetMake;
+import com.inventory.system.model.AssetModel;
+import com.inventory.system.model.AssetPO;
+import com.inventory.system.model.AssetType;
+import com.inventory.system.repository.AssetMakeRepository;
+import com.inventory.system.repository.AssetModelRepository;
+import com.inventory.system.repository.AssetPORepository;
+import com.inventory.system.repository.AssetTypeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reference data that asset tests create before importing assets: a type, make and model, and a PO.
+ * Tests that run outside a rolled-back transaction remove what they created with the delete methods.
+ */
+@Component
+@RequiredArgsConstructor
+public class AssetFixtures {
+
+    private final AssetTypeRepository assetTypeRepository;
+    private final AssetMakeRepository assetMakeRepository;
+    private final AssetModelRepository assetModelRepository;
+    private final AssetPORepository assetPORepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create a hardware type with one make and one model, all named after {@code label}
+     */
+    public AssetModel createModel(String label) {
+        AssetType type = new AssetType();
+        type.setName(label + " Type");
+        type.setAssetCategory("HARDWARE");
+        type = assetTypeRepository.save(type);
+
+        AssetMake make = new AssetMake();
+        make.setName(label + " Make");
+        make.setAssetType(type);
+        make = assetMakeRepository.save(make);
+
+        AssetModel model = new AssetModel();
+        model.setName(label + " Model");
+        model.setMake(make);
+        return assetModelRepository.save(model);
+    }
+
+    public AssetPO createPO(String poNumber) {
+        return assetPORepository.save(AssetPO.builder()
+            .poNumber(poNumber)
+            .acquisitionType("BOUGHT")
+            .ownerType("Celcom")
+            .build());
+    }
+
+    /**
+     * Delete the PO and every asset on it; the assets' history rows go with them (ON DELETE CASCADE)
+     */
+    public void deletePOWithAssets(String poNumber) {
+        jdbcTemplate.update("DELETE FROM asset WHERE po_number = ?", poNumber);
+        jdbcTemplate.update("DELETE FROM asset_po WHERE po_number = ?", poNumber);
+    }
+
+    /**
+     * Delete a model created by {@link #createModel} together with its make and type
+     */
+    public void deleteModel(AssetModel model) {
+        // Deleting the make cascades to its models
+        jdbcTemplate.update("DELETE FROM asset_make WHERE make_id = ?", model.getMake().getId());
+        jdbcTemplate.update("DELETE FROM asset_type WHERE type_id = ?", model.getMake().getAssetType().getId());
+    }
+}
@@ -1,5 +1,6 @@
 package com.inventory.system.validation;
 
+import com.inventory.system.cache.ReferenceDataCache;
 import com.inventory.system.dto.AssetRequestDTO;
 import com.inventory.system.model.*;
 import com.inventory.system.repository.*;
@@ -25,26 +26,11 @@ class AssetValidationServiceTest {
     @Mock
     private AssetPORepository assetPORepository;
     
-    @Mock
-    private AssetTypeRepository assetTypeRepository;
-    
-    @Mock
-    private AssetMakeRepository assetMakeRepository;
-    
-    @Mock
-    private AssetModelRepository assetModelRepository;
-    
     @Mock
     private UserRepository userRepository;
     
     @Mock
-    private OSRepository osRepository;
-    
-    @Mock
-    private OSVersionRepository osVersionRepository;
-    
-    @Mock
-    private VendorRepository vendorRepository;
+    private ReferenceDataCache referenceDataCache;
 
     @InjectMocks
     private AssetValidationService validationService;
@@ -180,7 +166,7 @@ class AssetValidationServiceTest {
         mockOSVersion.setId(1L);
         mockOSVersion.setOs(mockOS);
         
-        when(osVersionRepository.findById(1L)).thenReturn(Optional.of(mockOSVersion));
+        when(referenceDataCache.getOsVersion(1L)).thenReturn(mockOSVersion);
         setupNonDuplicateMocks();
 
         // Execute validation
@@ -206,7 +192,7 @@ class AssetValidationServiceTest {
         mockModel.setId(1L);
         mockModel.setMake(mockMake);
         
-        when(assetModelRepository.findById(1L)).thenReturn(Optional.of(mockModel));
+        when(referenceDataCache.getAssetModel(1L)).thenReturn(mockModel);
         setupNonDuplicateMocks();
 
         // Execute validation
@@ -226,7 +212,7 @@ class AssetValidationServiceTest {
         mockModel.setId(1L);
         mockModel.setMake(null);
         
-        when(assetModelRepository.findById(1L)).thenReturn(Optional.of(mockModel));
+        when(referenceDataCache.getAssetModel(1L)).thenReturn(mockModel);
         setupNonDuplicateMocks();
 
         // Execute validation
@@ -246,7 +232,7 @@ class AssetValidationServiceTest {
         mockOSVersion.setId(1L);
         mockOSVersion.setOs(null);
         
-        when(osVersionRepository.findById(1L)).thenReturn(Optional.of(mockOSVersion));
+        when(referenceDataCache.getOsVersion(1L)).thenReturn(mockOSVersion);
         setupNonDuplicateMocks();
 
         // Execute validation
@@ -301,7 +287,7 @@ class AssetValidationServiceTest {
         mockOS.setId(3L);
         OSVersion mockOSVersion = new OSVersion();
         mockOSVersion.setOs(mockOS);
-        when(osVersionRepository.findById(1L)).thenReturn(Optional.of(mockOSVersion));
+        when(referenceDataCache.getOsVersion(1L)).thenReturn(mockOSVersion);
         
         // Valid Model hierarchy
         AssetType mockType = new AssetType();
@@ -311,7 +297,7 @@ class AssetValidationServiceTest {
         mockMake.setAssetType(mockType);
         AssetModel mockModel = new AssetModel();
         mockModel.setMake(mockMake);
-        when(assetModelRepository.findById(1L)).thenReturn(Optional.of(mockModel));
+        when(referenceDataCache.getAssetModel(1L)).thenReturn(mockModel);
     }
 
     private void setupNonDuplicateMocks() {